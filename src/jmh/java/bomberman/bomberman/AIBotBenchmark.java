@@ -0,0 +1,49 @@
+package bomberman.bomberman;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Prise de décision du bot du mode VS MACHINE (fuite des explosions et des bombes,
+ * recherche de direction, pose de bombe), sans la limite de fréquence de update()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AIBotBenchmark {
+
+    // Ticks joués avant chaque itération : le bot a bougé et posé des bombes
+    private static final int WARMUP_TICKS = 120;
+
+    private GameSimulation simulation;
+    private AIBot bot;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        simulation = new GameSimulation(false, true, true, null, BenchmarkFixtures.SEED);
+        simulation.newGame();
+        simulation.startLevel();
+        simulation.runTicks(WARMUP_TICKS);
+        bot = new AIBot(simulation, simulation.getPlayer2(), simulation.getPlayer(), new SplittableRandom(BenchmarkFixtures.SEED));
+    }
+
+    @Benchmark
+    public AIBot.Decision decide() {
+        return bot.decide();
+    }
+}
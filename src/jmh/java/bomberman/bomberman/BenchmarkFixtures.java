@@ -0,0 +1,69 @@
+package bomberman.bomberman;
+
+import java.util.Random;
+
+/**
+ * Scénarios communs aux benchmarks JMH.
+ *
+ * Tous les choix faits par les benchmarks (positions, portées, directions) sont tirés d'un
+ * générateur initialisé avec la même graine, qui sert aussi de graine aux grilles, aux
+ * simulations et au bot : deux exécutions mesurent exactement le même travail et leurs
+ * résultats sont comparables.
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Graine de tous les scénarios
+     */
+    static final long SEED = 20240517L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @return Un générateur initialisé avec la graine des benchmarks
+     */
+    static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Coupe les logs INFO : la génération de niveau et les explosions en écrivent à chaque appel
+     */
+    static void quietLogs() {
+        GameLog.setLevel(GameLog.Level.WARN);
+    }
+
+    /**
+     * Arène ouverte : grille du mode Battle (bordures et piliers, sans bloc solide aléatoire)
+     * dont tous les blocs destructibles ont été retirés. Sa disposition ne dépend d'aucun tirage.
+     * @return La grille
+     */
+    static Grid openArena() {
+        Grid grid = new Grid(GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS, 1, false, true,
+                GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y);
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getColumns(); col++) {
+                grid.destroyBlock(col, row);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @param grid La grille
+     * @return Les cases accessibles de la grille, encodées (ligne * colonnes + colonne), dans l'ordre de lecture
+     */
+    static int[] accessibleCells(Grid grid) {
+        int[] cells = new int[grid.getColumns() * grid.getRows()];
+        int count = 0;
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getColumns(); col++) {
+                if (grid.isAccessible(col, row)) {
+                    cells[count++] = row * grid.getColumns() + col;
+                }
+            }
+        }
+        return java.util.Arrays.copyOf(cells, count);
+    }
+}
@@ -0,0 +1,73 @@
+package bomberman.bomberman;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Opérations sur les bitboards dans une grille générée : zone atteignable depuis une case (parcours
+ * par couches jusqu'au point fixe) et longueurs des quatre branches d'une explosion (balayage de bits)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitboardBenchmark {
+
+    private static final int RANGE = 3;
+
+    private Grid grid;
+    private Bitboard walkable;
+    private Bitboard reached;
+    private Bitboard layer;
+    private int[] cells;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = new Grid(GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS, 1, false, false,
+                GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y, new SplittableRandom(BenchmarkFixtures.SEED));
+        walkable = new Bitboard(grid.getColumns(), grid.getRows());
+        reached = new Bitboard(grid.getColumns(), grid.getRows());
+        layer = new Bitboard(grid.getColumns(), grid.getRows());
+        grid.copyWalkableCells(walkable);
+        cells = BenchmarkFixtures.accessibleCells(grid);
+    }
+
+    @Benchmark
+    public int floodFill() {
+        int cell = cells[next++ % cells.length];
+        reached.clearAll();
+        reached.set(cell % grid.getColumns(), cell / grid.getColumns());
+        do {
+            layer.setNeighbours(reached, walkable);
+            layer.andNot(reached);
+            reached.or(layer);
+        } while (!layer.isEmpty());
+        return reached.count();
+    }
+
+    @Benchmark
+    public int blastArms() {
+        int cell = cells[next++ % cells.length];
+        int x = cell % grid.getColumns();
+        int y = cell / grid.getColumns();
+        int length = 0;
+        for (int direction = Explosion.UP; direction <= Explosion.RIGHT; direction++) {
+            length += grid.getBlastArmLength(x, y, direction, RANGE, null);
+        }
+        return length;
+    }
+}
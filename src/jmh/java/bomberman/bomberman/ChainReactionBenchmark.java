@@ -0,0 +1,116 @@
+package bomberman.bomberman;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Résolution d'une réaction en chaîne dans l'arène ouverte : bombCount bombes posées de
+ * proche en proche (chaque bombe dans les flammes d'une précédente), la première déclenchant
+ * toutes les autres
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainReactionBenchmark {
+
+    private static final int RANGE = 3;
+
+    @Param({"8", "32", "64"})
+    public int bombCount;
+
+    private Grid grid;
+    private ChainReactionResolver resolver;
+    private Bomb firstBomb;
+    private Bomb[] placedBombs;   // Bombes du scénario, indexées par case
+    private Bomb[] bombsByCell;   // Bombes encore posées pendant la résolution
+    private Explosion[] explosions;
+    private int explosionCount;
+
+    private final ChainReactionResolver.BombLookup lookup = this::takeBombAt;
+    private final ChainReactionResolver.Detonator detonator = this::detonate;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = BenchmarkFixtures.openArena();
+        resolver = new ChainReactionResolver(grid.getColumns(), grid.getRows());
+
+        GameClock clock = new GameClock.Manual(0);
+        int[] cells = BenchmarkFixtures.accessibleCells(grid);
+        Random random = BenchmarkFixtures.random();
+        placedBombs = new Bomb[grid.getColumns() * grid.getRows()];
+        bombsByCell = new Bomb[placedBombs.length];
+        explosions = new Explosion[bombCount];
+        for (int i = 0; i < bombCount; i++) {
+            explosions[i] = new Explosion(clock);
+        }
+
+        // Chaque nouvelle bombe est posée dans les flammes d'une bombe déjà posée :
+        // la chaîne complète fait exploser les bombCount bombes
+        Explosion reach = new Explosion(clock);
+        int[] candidates = new int[bombCount * (1 + 4 * RANGE)];
+        int candidateCount = 0;
+        int cell = cells[random.nextInt(cells.length)];
+        for (int placed = 0; placed < bombCount; placed++) {
+            Bomb bomb = new Bomb(cell % grid.getColumns(), cell / grid.getColumns(), true, clock);
+            if (firstBomb == null) {
+                firstBomb = bomb;
+            }
+            placedBombs[cell] = bomb;
+
+            reach.reset(bomb.getX(), bomb.getY(), RANGE, grid, null);
+            for (int i = 0; i < reach.getCellCount(); i++) {
+                candidates[candidateCount++] = reach.getCellY(i) * grid.getColumns() + reach.getCellX(i);
+            }
+
+            // Prochaine case : une case atteinte et encore libre (sinon la chaîne s'arrête là)
+            cell = -1;
+            while (candidateCount > 0 && cell < 0) {
+                int pick = random.nextInt(candidateCount);
+                int candidate = candidates[pick];
+                candidates[pick] = candidates[--candidateCount];
+                if (placedBombs[candidate] == null) {
+                    cell = candidate;
+                }
+            }
+            if (cell < 0) {
+                break;
+            }
+        }
+        placedBombs[firstBomb.getY() * grid.getColumns() + firstBomb.getX()] = null;
+    }
+
+    @Benchmark
+    public int resolve() {
+        System.arraycopy(placedBombs, 0, bombsByCell, 0, placedBombs.length);
+        explosionCount = 0;
+        return resolver.resolve(firstBomb, lookup, detonator).getFootprintSize();
+    }
+
+    private Bomb takeBombAt(int x, int y) {
+        int index = y * grid.getColumns() + x;
+        Bomb bomb = bombsByCell[index];
+        bombsByCell[index] = null;
+        return bomb;
+    }
+
+    private Explosion detonate(Bomb bomb) {
+        Explosion explosion = explosions[explosionCount++];
+        explosion.reset(bomb.getX(), bomb.getY(), RANGE, grid, null);
+        return explosion;
+    }
+}
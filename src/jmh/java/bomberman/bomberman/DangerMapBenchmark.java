@@ -0,0 +1,71 @@
+package bomberman.bomberman;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calcul de la carte des dangers dans l'arène ouverte : bombCount bombes posées à des instants
+ * différents sur des cases au hasard (chaînes comprises), calcul fait une fois par tick
+ * et partagé par tous les bots
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DangerMapBenchmark {
+
+    private static final int RANGE = 3;
+
+    @Param({"8", "32", "64"})
+    public int bombCount;
+
+    private Grid grid;
+    private DangerMap dangerMap;
+    private final List<Bomb> bombs = new ArrayList<>();
+    private final List<Bomb> noBombs = new ArrayList<>();
+    private final List<Explosion> noExplosions = new ArrayList<>();
+
+    private final DangerMap.RangeLookup ranges = bomb -> RANGE;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = BenchmarkFixtures.openArena();
+        dangerMap = new DangerMap(grid.getColumns(), grid.getRows());
+
+        // Bombes posées toutes les 25 ms : leurs délais restants sont tous différents
+        GameClock.Manual clock = new GameClock.Manual(0);
+        int[] cells = BenchmarkFixtures.accessibleCells(grid);
+        Random random = BenchmarkFixtures.random();
+        boolean[] used = new boolean[grid.getColumns() * grid.getRows()];
+        while (bombs.size() < bombCount) {
+            int cell = cells[random.nextInt(cells.length)];
+            if (!used[cell]) {
+                used[cell] = true;
+                bombs.add(new Bomb(cell % grid.getColumns(), cell / grid.getColumns(), true, clock));
+                clock.advance(25);
+            }
+        }
+    }
+
+    @Benchmark
+    public DangerMap compute() {
+        dangerMap.compute(grid, null, noExplosions, bombs, noBombs, ranges);
+        return dangerMap;
+    }
+}
@@ -0,0 +1,61 @@
+package bomberman.bomberman;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Champ de distances des poursuivants dans une grille générée : parcours complet quand la cible
+ * change de case, et lecture du prochain pas par chaque poursuivant (coût indépendant de leur nombre)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DistanceFieldBenchmark {
+
+    private Grid grid;
+    private OccupancyGrid occupancy;
+    private DistanceField field;
+    private int[] cells;
+    private final int[] sources = new int[1];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = new Grid(GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS, 1, false, false,
+                GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y, new SplittableRandom(BenchmarkFixtures.SEED));
+        occupancy = new OccupancyGrid(grid.getColumns(), grid.getRows());
+        field = new DistanceField(grid.getColumns(), grid.getRows());
+        cells = BenchmarkFixtures.accessibleCells(grid);
+        sources[0] = cells[0];
+        field.update(grid, occupancy, sources, 1);
+    }
+
+    @Benchmark
+    public DistanceField recompute() {
+        // Cible sur une nouvelle case à chaque appel : le parcours est refait
+        sources[0] = cells[next++ % cells.length];
+        field.update(grid, occupancy, sources, 1);
+        return field;
+    }
+
+    @Benchmark
+    public int nextStep() {
+        int cell = cells[next++ % cells.length];
+        field.update(grid, occupancy, sources, 1);
+        return field.nextStep(cell % grid.getColumns(), cell / grid.getColumns());
+    }
+}
@@ -0,0 +1,61 @@
+package bomberman.bomberman;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calcul de l'empreinte d'une explosion (propagation des quatre bras jusqu'aux obstacles)
+ * sur une suite fixe de centres et de portées
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExplosionFootprintBenchmark {
+
+    private static final int SCENARIO_COUNT = 1024;
+    private static final int MAX_RANGE = 6;
+
+    private Grid grid;
+    private Explosion explosion;
+    private int[] centers;
+    private int[] ranges;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = BenchmarkFixtures.openArena();
+        explosion = new Explosion(new GameClock.Manual(0));
+
+        int[] cells = BenchmarkFixtures.accessibleCells(grid);
+        Random random = BenchmarkFixtures.random();
+        centers = new int[SCENARIO_COUNT];
+        ranges = new int[SCENARIO_COUNT];
+        for (int i = 0; i < SCENARIO_COUNT; i++) {
+            centers[i] = cells[random.nextInt(cells.length)];
+            ranges[i] = 1 + random.nextInt(MAX_RANGE);
+        }
+    }
+
+    @Benchmark
+    public int footprint() {
+        int i = next;
+        next = (i + 1) & (SCENARIO_COUNT - 1);
+        int center = centers[i];
+        explosion.reset(center % grid.getColumns(), center / grid.getColumns(), ranges[i], grid, null);
+        return explosion.getCellCount();
+    }
+}
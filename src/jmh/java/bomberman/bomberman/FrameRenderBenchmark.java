@@ -0,0 +1,92 @@
+package bomberman.bomberman;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.input.KeyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Composition d'une frame complète par GridRenderer (plateau, entités, interface) sur un
+ * canvas hors écran, en mode normal et en mode Battle 4 joueurs avec des bombes posées, sur l'arène
+ * standard et sur une arène de 255x255 qui défile (seules les cases et entités visibles sont dessinées :
+ * le coût d'une frame doit rester du même ordre).
+ *
+ * Le rendu s'exécute sur le thread JavaFX : la mesure comprend le passage de relais
+ * vers ce thread, identique pour tous les scénarios.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameRenderBenchmark {
+
+    private static final int CANVAS_WIDTH = 816;
+    private static final int CANVAS_HEIGHT = 956;
+    private static final int SETUP_TICKS = 30;
+
+    // Touches de pose de bombe des quatre joueurs
+    private static final KeyCode[] BOMB_KEYS = {KeyCode.SPACE, KeyCode.SHIFT, KeyCode.SEMICOLON, KeyCode.ENTER};
+
+    @Param({"normal", "battle"})
+    public String mode;
+
+    @Param({"15x13", "255x255"})
+    public String arena;
+
+    private GameSimulation simulation;
+    private GridRenderer renderer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkFixtures.quietLogs();
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Toolkit déjà démarré par un autre benchmark du même fork
+        }
+
+        boolean battle = "battle".equals(mode);
+        int[] size = GameSimulation.parseArenaSize(arena);
+        simulation = new GameSimulation(false, battle, false, null, BenchmarkFixtures.SEED, size[0], size[1]);
+        simulation.newGame();
+        simulation.startLevel();
+        for (KeyCode key : BOMB_KEYS) {
+            simulation.keyPressed(key);
+        }
+        simulation.runTicks(SETUP_TICKS);
+
+        runOnFxThread(() -> renderer = new GridRenderer(new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT), simulation.getGrid()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        runOnFxThread(renderer::disposeAllDestructibleBlocks);
+    }
+
+    @Benchmark
+    public void renderFrame() throws Exception {
+        runOnFxThread(() -> renderer.render(simulation, 0, true));
+    }
+
+    private static void runOnFxThread(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+}
@@ -0,0 +1,45 @@
+package bomberman.bomberman;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction et génération d'une grille de niveau (motif de base, blocs solides
+ * aléatoires, blocs destructibles, power-ups cachés). Chaque appel repart de la même
+ * graine : toutes les invocations génèrent la même grille.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GridGenerationBenchmark {
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+    }
+
+    @Benchmark
+    public Grid normalLevel() {
+        return new Grid(GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS, 1, false, false,
+                GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y, new SplittableRandom(BenchmarkFixtures.SEED));
+    }
+
+    @Benchmark
+    public Grid battleLevel() {
+        return new Grid(GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS, 1, false, true,
+                GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y, new SplittableRandom(BenchmarkFixtures.SEED));
+    }
+}
@@ -0,0 +1,55 @@
+package bomberman.bomberman;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Décision du bot MCTS sur une partie VS MACHINE en cours, à nombre de rollouts fixé (sans budget
+ * de temps) : rollouts par seconde = PLAYOUTS / durée d'une décision, selon le nombre de threads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MctsBenchmark {
+
+    // Ticks joués avant la capture : les joueurs ont bougé et posé des bombes
+    private static final int WARMUP_TICKS = 300;
+    private static final int PLAYOUTS = 256;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private GameSnapshot snapshot;
+    private int botIndex;
+    private MctsPlanner planner;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        GameSimulation simulation = new GameSimulation(false, true, true, null, BenchmarkFixtures.SEED);
+        simulation.newGame();
+        simulation.startLevel();
+        simulation.runTicks(WARMUP_TICKS);
+        snapshot = GameSnapshot.capture(simulation);
+        botIndex = simulation.getPlayers().indexOf(simulation.getPlayer2());
+        planner = new MctsPlanner(new AIBot.Parameters(300, 0, AIBot.Difficulty.MCTS, threads, 0, PLAYOUTS));
+    }
+
+    @Benchmark
+    public AIBot.Decision plan() {
+        return planner.plan(snapshot, botIndex, MctsPlanner.LATENCY_TICKS, BenchmarkFixtures.SEED);
+    }
+}
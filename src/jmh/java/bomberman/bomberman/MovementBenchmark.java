@@ -0,0 +1,76 @@
+package bomberman.bomberman;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.input.KeyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Déplacement fluide d'un joueur (collisions avec la grille, les bombes et les autres joueurs,
+ * autocorrection dans les couloirs) : le joueur suit une suite fixe de directions, un tick
+ * de 60 Hz par appel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementBenchmark {
+
+    private static final int TICKS_PER_DIRECTION = 32;
+    private static final int DIRECTION_COUNT = 256;
+    private static final long TICK_MILLIS = GameSimulation.TICK_NANOS / 1_000_000L;
+    private static final KeyCode[] DIRECTIONS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+
+    private Grid grid;
+    private GameClock.Manual clock;
+    private FluidMovementPlayer player;
+    private FluidMovementPlayer opponent;
+    private KeyCode[] directions;
+    private int tick;
+
+    // Une bombe posée au centre de l'arène, un adversaire immobile dans le coin opposé
+    private final FluidMovementPlayer.BombCollisionChecker bombChecker =
+            (x, y, isPlayer) -> x == GameSimulation.GRID_COLUMNS / 2 && y == GameSimulation.GRID_ROWS / 2;
+    private final FluidMovementPlayer.PlayerCollisionChecker playerChecker =
+            (x, y, exclude) -> opponent != exclude && opponent.getX() == x && opponent.getY() == y;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        grid = BenchmarkFixtures.openArena();
+        clock = new GameClock.Manual(0);
+        player = new FluidMovementPlayer(GameSimulation.PLAYER_START_X, GameSimulation.PLAYER_START_Y, clock);
+        opponent = new FluidMovementPlayer(GameSimulation.PLAYER2_START_X, GameSimulation.PLAYER2_START_Y, clock);
+
+        Random random = BenchmarkFixtures.random();
+        directions = new KeyCode[DIRECTION_COUNT];
+        for (int i = 0; i < DIRECTION_COUNT; i++) {
+            directions[i] = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
+        player.onKeyPressed(directions[0]);
+    }
+
+    @Benchmark
+    public double updateMovement() {
+        tick++;
+        if (tick % TICKS_PER_DIRECTION == 0) {
+            int index = tick / TICKS_PER_DIRECTION;
+            player.onKeyReleased(directions[(index - 1) % DIRECTION_COUNT]);
+            player.onKeyPressed(directions[index % DIRECTION_COUNT]);
+        }
+        clock.advance(TICK_MILLIS);
+        player.updateMovement(grid, bombChecker, playerChecker);
+        return player.getPixelX() + player.getPixelY();
+    }
+}
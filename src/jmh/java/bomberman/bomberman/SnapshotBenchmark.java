@@ -0,0 +1,66 @@
+package bomberman.bomberman;
+
+import java.util.concurrent.TimeUnit;
+import javafx.scene.input.KeyCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Capture et restauration d'un instantané d'une partie Battle à 4 joueurs en cours
+ * (bombes posées, blocs détruits), et reprise de quelques ticks depuis l'instantané :
+ * le coût d'une remise à zéro entre deux mesures ou d'un retour en arrière
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    // Ticks joués avant la capture : les joueurs ont bougé et posé des bombes
+    private static final int WARMUP_TICKS = 600;
+    private static final int REPLAYED_TICKS = 60;
+
+    private GameSimulation simulation;
+    private GameSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.quietLogs();
+        simulation = new GameSimulation(false, true, false, null, BenchmarkFixtures.SEED);
+        simulation.newGame();
+        simulation.startLevel();
+        simulation.keyPressed(KeyCode.SPACE);
+        simulation.keyPressed(KeyCode.RIGHT);
+        simulation.runTicks(WARMUP_TICKS);
+        snapshot = GameSnapshot.capture(simulation);
+    }
+
+    @Benchmark
+    public GameSnapshot capture() {
+        return GameSnapshot.capture(simulation);
+    }
+
+    @Benchmark
+    public GameSimulation restore() {
+        snapshot.restore(simulation);
+        return simulation;
+    }
+
+    @Benchmark
+    public long restoreAndReplay() {
+        snapshot.restore(simulation);
+        simulation.runTicks(REPLAYED_TICKS);
+        return simulation.getTickCount();
+    }
+}
@@ -0,0 +1,840 @@
+package bomberman.bomberman;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import javafx.scene.input.KeyCode;
+
+/**
+ * Intelligence artificielle du mode VS MACHINE.
+ * Pilote un joueur (le bot) en simulant des touches de direction : fuite des explosions
+ * et des bombes, poursuite de la cible et pose de bombes tactiques.
+ * Le bot lit l'état de la partie via GameSimulation et y pose ses bombes.
+ */
+public class AIBot {
+    
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.AI;
+
+    /**
+     * Niveaux de difficulté du bot
+     */
+    public enum Difficulty {
+        NORMAL,  // Liste de priorités écrite à la main (decide())
+        MCTS     // Recherche Monte-Carlo sur des copies de la partie (MctsPlanner)
+    }
+
+    /**
+     * Réglages du comportement du bot, ajustables par le tournoi (TournamentRunner)
+     */
+    public static final class Parameters {
+
+        /**
+         * Réglages du mode VS MACHINE : une décision toutes les 300ms, 8% de bombes aléatoires
+         */
+        public static final Parameters DEFAULT = new Parameters(300, 0.08);
+
+        /**
+         * Bot MCTS du mode VS MACHINE : une décision toutes les 300ms, 100ms de recherche sur tous les cœurs libres
+         */
+        public static final Parameters MCTS = new Parameters(300, 0, Difficulty.MCTS,
+                MctsPlanner.defaultThreadCount(), 100, MctsPlanner.UNLIMITED_PLAYOUTS);
+
+        private final long decisionIntervalMillis;
+        private final double randomBombChance;
+        private final Difficulty difficulty;
+        private final int searchThreads;
+        private final long searchTimeMillis;
+        private final int searchPlayouts;
+
+        /**
+         * @param decisionIntervalMillis Temps de jeu minimal entre deux décisions, en ms
+         * @param randomBombChance Probabilité de poser une bombe sans raison tactique à chaque décision
+         */
+        public Parameters(long decisionIntervalMillis, double randomBombChance) {
+            this(decisionIntervalMillis, randomBombChance, Difficulty.NORMAL, 1, 0, 0);
+        }
+
+        /**
+         * @param decisionIntervalMillis Temps de jeu minimal entre deux décisions, en ms
+         * @param randomBombChance Probabilité de poser une bombe sans raison tactique (difficulté NORMAL)
+         * @param difficulty Niveau de difficulté
+         * @param searchThreads Threads de la recherche MCTS (parallélisme à la racine)
+         * @param searchTimeMillis Budget de temps réel d'une décision MCTS, en ms (0 : pas de limite de temps)
+         * @param searchPlayouts Nombre maximal de rollouts d'une décision MCTS, tous threads confondus
+         */
+        public Parameters(long decisionIntervalMillis, double randomBombChance, Difficulty difficulty,
+                          int searchThreads, long searchTimeMillis, int searchPlayouts) {
+            this.decisionIntervalMillis = decisionIntervalMillis;
+            this.randomBombChance = randomBombChance;
+            this.difficulty = difficulty;
+            this.searchThreads = searchThreads;
+            this.searchTimeMillis = searchTimeMillis;
+            this.searchPlayouts = searchPlayouts;
+        }
+
+        public long getDecisionIntervalMillis() {
+            return decisionIntervalMillis;
+        }
+
+        public double getRandomBombChance() {
+            return randomBombChance;
+        }
+
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        public int getSearchThreads() {
+            return searchThreads;
+        }
+
+        public long getSearchTimeMillis() {
+            return searchTimeMillis;
+        }
+
+        public int getSearchPlayouts() {
+            return searchPlayouts;
+        }
+
+        @Override
+        public String toString() {
+            if (difficulty == Difficulty.MCTS) {
+                return "MCTS, intervalle " + decisionIntervalMillis + "ms, " + searchThreads + " thread(s), "
+                        + (searchTimeMillis > 0 ? searchTimeMillis + "ms" : "sans limite de temps") + ", "
+                        + (searchPlayouts != MctsPlanner.UNLIMITED_PLAYOUTS ? searchPlayouts + " rollouts" : "rollouts illimités");
+            }
+            return "intervalle " + decisionIntervalMillis + "ms, bombes aléatoires " + Math.round(randomBombChance * 100) + "%";
+        }
+    }
+
+    /**
+     * Résultat d'une décision : direction choisie et pose d'une bombe, appliqué tel quel au bot
+     * (immédiatement par update(), ou quelques ticks plus tard par l'AIScheduler)
+     */
+    public static final class Decision {
+        private final KeyCode desiredKey;
+        private final boolean bombPlaced;
+
+        public Decision(KeyCode desiredKey, boolean bombPlaced) {
+            this.desiredKey = desiredKey;
+            this.bombPlaced = bombPlaced;
+        }
+
+        public KeyCode getDesiredKey() {
+            return desiredKey;
+        }
+
+        public boolean isBombPlaced() {
+            return bombPlaced;
+        }
+    }
+
+    // Touches correspondant aux directions de DistanceField.nextStep (UP, DOWN, LEFT, RIGHT)
+    private static final KeyCode[] STEP_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+
+    private final GameSimulation sim;
+    private final FluidMovementPlayer bot;     // Joueur contrôlé par l'IA
+    private final FluidMovementPlayer target;  // Joueur poursuivi
+    private final RandomGenerator random;     // Flux des choix aléatoires du bot
+    private final Parameters parameters;
+
+    private long lastAIDecisionTime = 0;
+
+    // Mémorisation de la dernière bombe posée par le bot (pour l'esquive)
+    private int botLastBombX = -1;
+    private int botLastBombY = -1;
+
+    private int botStuckCounter = 0; // compteur pour détecter si l'IA est bloquée
+    private int botLastX = -1, botLastY = -1; // dernière position connue
+
+    // Cases libres (accessibles, sans bombe ni ennemi) et rayon de fuite parcouru par décalages de bitboard
+    private final Bitboard freeCells;
+    private final Bitboard escapeRay;
+
+    /**
+     * Constructeur du bot
+     * @param sim La simulation dans laquelle joue le bot
+     * @param bot Le joueur contrôlé par l'IA
+     * @param target Le joueur adverse à poursuivre
+     */
+    public AIBot(GameSimulation sim, FluidMovementPlayer bot, FluidMovementPlayer target) {
+        this(sim, bot, target, new SplittableRandom());
+    }
+
+    /**
+     * Constructeur du bot avec flux pseudo-aléatoire
+     * @param sim La simulation dans laquelle joue le bot
+     * @param bot Le joueur contrôlé par l'IA
+     * @param target Le joueur adverse à poursuivre
+     * @param random Flux des choix aléatoires (GameRandom.Stream.AI de la partie)
+     */
+    public AIBot(GameSimulation sim, FluidMovementPlayer bot, FluidMovementPlayer target, RandomGenerator random) {
+        this(sim, bot, target, Parameters.DEFAULT, random);
+    }
+
+    /**
+     * Constructeur du bot avec réglages et flux pseudo-aléatoire
+     * @param sim La simulation dans laquelle joue le bot
+     * @param bot Le joueur contrôlé par l'IA
+     * @param target Le joueur adverse à poursuivre
+     * @param parameters Réglages du comportement
+     * @param random Flux des choix aléatoires
+     */
+    public AIBot(GameSimulation sim, FluidMovementPlayer bot, FluidMovementPlayer target, Parameters parameters,
+                 RandomGenerator random) {
+        this.sim = sim;
+        this.bot = bot;
+        this.target = target;
+        this.parameters = parameters;
+        this.random = random;
+        this.freeCells = new Bitboard(sim.getColumns(), sim.getRows());
+        this.escapeRay = new Bitboard(sim.getColumns(), sim.getRows());
+    }
+
+    /**
+     * Met à jour les décisions du bot (au plus une décision par intervalle de décision, 300ms de jeu par défaut)
+     */
+    public void update() {
+        if (isDecisionDue()) {
+            think();
+        }
+    }
+
+    /**
+     * @return true si l'intervalle de décision est écoulé depuis la dernière décision
+     */
+    public boolean isDecisionDue() {
+        return sim.getClock().currentTimeMillis() - lastAIDecisionTime >= parameters.getDecisionIntervalMillis();
+    }
+
+    /**
+     * Prend la décision due : mémorise l'instant de décision puis décide
+     * @return La décision, déjà appliquée au joueur de la simulation du bot
+     */
+    Decision think() {
+        markDecided();
+        return decide();
+    }
+
+    /**
+     * Mémorise l'instant de décision sans décider (décision prise par le MctsPlanner)
+     */
+    void markDecided() {
+        lastAIDecisionTime = sim.getClock().currentTimeMillis();
+    }
+
+    /**
+     * Applique au bot une décision prise sur une copie de la partie (AIScheduler) :
+     * touches de direction, puis bombe si la copie en a posé une
+     * @param decision La décision prise sur la copie
+     */
+    void apply(Decision decision) {
+        pressOnly(decision.getDesiredKey());
+        if (decision.isBombPlaced()) {
+            sim.tryPlaceBomb(bot);
+        }
+    }
+
+    /**
+     * Prend une décision immédiatement, sans limite de fréquence : choix de la direction
+     * et éventuelle pose de bombe (utilisé par update() et par les benchmarks)
+     * @return La décision prise
+     */
+    Decision decide() {
+        // Détecter si l'IA est bloquée (même position)
+        int currentX = bot.getX();
+        int currentY = bot.getY();
+        
+        if (botLastX == currentX && botLastY == currentY) {
+            botStuckCounter++;
+        } else {
+            botStuckCounter = 0;
+            botLastX = currentX;
+            botLastY = currentY;
+        }
+
+        // Déterminer la touche de mouvement souhaitée
+        KeyCode desiredKey = null;
+
+        // PRIORITÉ 1 : Fuir les explosions actives
+        if (sim.isInExplosion(bot.getX(), bot.getY())) {
+            desiredKey = getEscapeFromExplosion();
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🔥 IA fuit explosion active !");
+            }
+        }
+        
+        // PRIORITÉ 2 : Fuir toutes les bombes dangereuses (pas seulement la sienne)
+        if (desiredKey == null) {
+            desiredKey = getEscapeFromBombs();
+        }
+
+        // PRIORITÉ 3 : Dernier recours - bouger vers n'importe quelle case libre si en danger
+        if (desiredKey == null && isInDangerFromBombs()) {
+            desiredKey = getAnyFreeDirection();
+            if (desiredKey != null) {
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "🆘 IA utilise direction de dernier recours : " + desiredKey);
+                }
+            }
+        }
+
+        // PRIORITÉ 4 : Si bloquée depuis trop longtemps, choisir une direction aléatoire
+        if (desiredKey == null && botStuckCounter > 3) { // Réduire le seuil de 5 à 3
+            desiredKey = getRandomFreeDirection();
+            if (desiredKey != null) {
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "🔄 IA bloquée, direction aléatoire : " + desiredKey);
+                }
+                botStuckCounter = 0; // Reset le compteur
+            }
+        }
+
+        // PRIORITÉ 5 : Se rapprocher du joueur 1 par le plus court chemin (comportement normal)
+        if (desiredKey == null) {
+            int step = sim.getDistanceFieldTo(target).nextStep(bot.getX(), bot.getY());
+            if (step != DistanceField.NO_STEP) {
+                desiredKey = STEP_KEYS[step];
+            }
+        }
+
+        // Cible inaccessible (murée par des blocs) : s'en rapprocher en ligne droite pour dégager le passage à la bombe
+        if (desiredKey == null) {
+            int dx = target.getX() - bot.getX();
+            int dy = target.getY() - bot.getY();
+
+            if (Math.abs(dx) > Math.abs(dy)) {
+                // Priorité horizontale
+                desiredKey = dx > 0 ? KeyCode.RIGHT : KeyCode.LEFT;
+            } else if (dy != 0) {
+                desiredKey = dy > 0 ? KeyCode.DOWN : KeyCode.UP;
+            }
+        }
+
+        // PRIORITÉ 6 : Si vraiment aucune direction n'est trouvée, forcer un mouvement
+        if (desiredKey == null) {
+            // Essayer toutes les directions même si elles semblent bloquées
+            KeyCode[] allDirections = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+            desiredKey = allDirections[random.nextInt(4)];
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🚨 IA force un mouvement : " + desiredKey);
+            }
+        }
+
+        // Décider de poser une bombe : si bloc destructible adjacent OU proche du joueur OU chance aléatoire
+        // Mais seulement si on n'est pas en train de fuir
+        boolean bombPlaced = false;
+        if (!isInDangerFromBombs()) {
+            boolean adjacentDestructible =
+                    sim.getGrid().isDestructible(bot.getX() + 1, bot.getY()) ||
+                    sim.getGrid().isDestructible(bot.getX() - 1, bot.getY()) ||
+                    sim.getGrid().isDestructible(bot.getX(), bot.getY() + 1) ||
+                    sim.getGrid().isDestructible(bot.getX(), bot.getY() - 1);
+
+            // Calculer la distance au joueur 1
+            int distanceToPlayer = Math.abs(target.getX() - bot.getX()) + Math.abs(target.getY() - bot.getY());
+            boolean closeToPlayer = distanceToPlayer <= 3; // Dans un rayon de 3 cases
+            
+            // Si l'IA est bloquée depuis longtemps, elle doit prendre des risques pour se libérer
+            boolean shouldTakeRisk = botStuckCounter > 10;
+
+            if (adjacentDestructible || closeToPlayer || shouldTakeRisk || random.nextDouble() < parameters.getRandomBombChance()) {
+                // Vérifier si on peut s'échapper avant de poser la bombe
+                if (canEscapeFromPosition(bot.getX(), bot.getY())) {
+                    if (sim.tryPlaceBomb(bot)) {
+                        bombPlaced = true;
+                        botLastBombX = bot.getX();
+                        botLastBombY = bot.getY();
+                        if (closeToPlayer) {
+                            if (GameLog.DEBUG_ENABLED) {
+                                GameLog.debug(LOG_CATEGORY, "💣 IA pose une bombe tactique près du joueur à (" + botLastBombX + ", " + botLastBombY + ")");
+                            }
+                        } else if (adjacentDestructible) {
+                            if (GameLog.DEBUG_ENABLED) {
+                                GameLog.debug(LOG_CATEGORY, "💣 IA pose une bombe pour détruire des blocs à (" + botLastBombX + ", " + botLastBombY + ")");
+                            }
+                        } else {
+                            if (GameLog.DEBUG_ENABLED) {
+                                GameLog.debug(LOG_CATEGORY, "💣 IA pose une bombe aléatoire à (" + botLastBombX + ", " + botLastBombY + ")");
+                            }
+                        }
+                    }
+                } else if ((closeToPlayer && random.nextDouble() < 0.3) || (shouldTakeRisk && adjacentDestructible)) {
+                    // Si très proche du joueur OU bloquée avec des blocs destructibles, prendre le risque
+                    if (sim.tryPlaceBomb(bot)) {
+                        bombPlaced = true;
+                        botLastBombX = bot.getX();
+                        botLastBombY = bot.getY();
+                        if (shouldTakeRisk) {
+                            if (GameLog.DEBUG_ENABLED) {
+                                GameLog.debug(LOG_CATEGORY, "💣 IA BLOQUÉE - Pose une bombe de libération à (" + botLastBombX + ", " + botLastBombY + ")");
+                            }
+                        } else {
+                            if (GameLog.DEBUG_ENABLED) {
+                                GameLog.debug(LOG_CATEGORY, "💣 IA prend un risque tactique près du joueur à (" + botLastBombX + ", " + botLastBombY + ")");
+                            }
+                        }
+                    }
+                } else {
+                    if (GameLog.DEBUG_ENABLED) {
+                        GameLog.debug(LOG_CATEGORY, "🚫 IA évite de poser une bombe - Pas d'évasion sûre (bloquée: " + botStuckCounter + ")");
+                    }
+                }
+            }
+        }
+
+        pressOnly(desiredKey);
+        return new Decision(desiredKey, bombPlaced);
+    }
+
+    /**
+     * Met à jour l'état des touches : relâcher celles qui ne sont pas désirées et presser la désirée
+     */
+    private void pressOnly(KeyCode desiredKey) {
+        KeyCode[] dirs = {KeyCode.LEFT, KeyCode.RIGHT, KeyCode.UP, KeyCode.DOWN};
+        for (KeyCode dir : dirs) {
+            if (dir == desiredKey) {
+                // S'assurer que la touche désirée est pressée
+                bot.onKeyPressed(dir);
+            } else {
+                bot.onKeyReleased(dir);
+            }
+        }
+    }
+
+    /**
+     * Trouve une direction pour fuir les explosions actives
+     */
+    private KeyCode getEscapeFromExplosion() {
+        KeyCode[] directions = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+        
+        for (KeyCode dir : directions) {
+            int newX = bot.getX();
+            int newY = bot.getY();
+            
+            switch (dir) {
+                case UP: newY--; break;
+                case DOWN: newY++; break;
+                case LEFT: newX--; break;
+                case RIGHT: newX++; break;
+            }
+            
+            if (isCellSafeFromExplosions(newX, newY)) {
+                return dir;
+            }
+        }
+        
+        return null; // Aucune direction sûre trouvée
+    }
+
+    /**
+     * Trouve une direction pour fuir toutes les bombes dangereuses
+     */
+    private KeyCode getEscapeFromBombs() {
+        if (!isInDangerFromBombs()) {
+            return null; // Pas en danger
+        }
+
+        int botX = bot.getX();
+        int botY = bot.getY();
+        
+        // Essayer de trouver la meilleure direction d'évasion
+        KeyCode bestDirection = findBestEscapeDirection(botX, botY);
+        
+        if (bestDirection != null) {
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🏃 IA fuit vers " + bestDirection + " pour éviter les bombes");
+            }
+            return bestDirection;
+        }
+        
+        // Si aucune direction optimale, essayer n'importe quelle direction libre
+        KeyCode[] directions = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+        for (KeyCode dir : directions) {
+            int newX = botX;
+            int newY = botY;
+            
+            switch (dir) {
+                case UP: newY--; break;
+                case DOWN: newY++; break;
+                case LEFT: newX--; break;
+                case RIGHT: newX++; break;
+            }
+            
+            if (isCellFree(newX, newY)) {
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "🆘 IA utilise direction d'urgence : " + dir);
+                }
+                return dir;
+            }
+        }
+        
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "⚠️ IA ne trouve aucune direction sûre !");
+        }
+        return null; // Aucune direction sûre trouvée
+    }
+    
+    /**
+     * Trouve la meilleure direction d'évasion en calculant les chemins possibles
+     */
+    private KeyCode findBestEscapeDirection(int startX, int startY) {
+        KeyCode[] directions = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+        KeyCode bestDirection = null;
+        int bestScore = -1;
+        
+        for (KeyCode dir : directions) {
+            int newX = startX;
+            int newY = startY;
+            
+            switch (dir) {
+                case UP: newY--; break;
+                case DOWN: newY++; break;
+                case LEFT: newX--; break;
+                case RIGHT: newX++; break;
+            }
+            
+            // Vérifier si la case est accessible
+            if (!isCellFree(newX, newY)) {
+                continue;
+            }
+            
+            // Calculer le score de cette direction
+            int score = calculateEscapeScore(newX, newY, dir);
+            
+            if (score > bestScore) {
+                bestScore = score;
+                bestDirection = dir;
+            }
+        }
+        
+        return bestDirection;
+    }
+    
+    /**
+     * Calcule un score pour une direction d'évasion (plus haut = meilleur)
+     */
+    private int calculateEscapeScore(int x, int y, KeyCode direction) {
+        int score = 0;
+        
+        // Bonus pour sortir de la zone des flammes à venir, sinon pour s'éloigner de la bombe qui la menace
+        DangerMap danger = sim.getDangerMap();
+        int origin = danger.getBlastOrigin(x, y);
+        if (origin < 0) {
+            score += 100; // Gros bonus pour sortir de la ligne de mire
+        } else {
+            int columns = sim.getGrid().getColumns();
+            score += (Math.abs(x - origin % columns) + Math.abs(y - origin / columns)) * 10;
+        }
+        
+        // Bonus pour avoir plus de cases libres dans cette direction (liberté de mouvement)
+        score += countFreeCellsInDirection(x, y, direction) * 5;
+        
+        // Malus si on se rapproche d'un mur (éviter les culs-de-sac)
+        if (isNearWall(x, y)) {
+            score -= 20;
+        }
+        
+        return score;
+    }
+    
+    /**
+     * Compte le nombre de cases libres dans une direction donnée
+     */
+    private int countFreeCellsInDirection(int startX, int startY, KeyCode direction) {
+        int count = 0;
+        int x = startX;
+        int y = startY;
+        
+        for (int i = 0; i < 5; i++) { // Regarder jusqu'à 5 cases
+            switch (direction) {
+                case UP: y--; break;
+                case DOWN: y++; break;
+                case LEFT: x--; break;
+                case RIGHT: x++; break;
+            }
+            
+            if (isCellFree(x, y)) {
+                count++;
+            } else {
+                break; // Arrêter dès qu'on trouve un obstacle
+            }
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Vérifie si une position est près d'un mur (potentiel cul-de-sac)
+     */
+    private boolean isNearWall(int x, int y) {
+        int freeDirections = 0;
+        
+        if (isCellFree(x, y - 1)) freeDirections++; // UP
+        if (isCellFree(x, y + 1)) freeDirections++; // DOWN
+        if (isCellFree(x - 1, y)) freeDirections++; // LEFT
+        if (isCellFree(x + 1, y)) freeDirections++; // RIGHT
+        
+        return freeDirections <= 1; // Cul-de-sac si 1 direction libre ou moins
+    }
+
+    /**
+     * Vérifie si l'IA est en danger à cause des bombes (carte des dangers : chaînes et Bomb Rain comprises)
+     */
+    private boolean isInDangerFromBombs() {
+        int botX = bot.getX();
+        int botY = bot.getY();
+        DangerMap danger = sim.getDangerMap();
+
+        long timeLeft = danger.getTimeUntilBlast(botX, botY);
+        if (timeLeft == DangerMap.SAFE) {
+            return false;
+        }
+
+        // Vérifier le timing - est-ce qu'on a assez de temps pour s'échapper ?
+        int distanceToSafety = getDistanceToSafety(botX, botY, danger);
+
+        // Si la flamme vient de la bombe de l'IA, être plus strict sur le timing
+        boolean isOwnBomb = danger.isBlastFrom(botX, botY, botLastBombX, botLastBombY);
+        long timeNeeded;
+
+        if (isOwnBomb) {
+            // Pour sa propre bombe, être plus optimiste mais plus strict sur la sécurité
+            timeNeeded = distanceToSafety * 300 + 100; // 300ms par case + marge réduite
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "⚠️ IA en danger de SA PROPRE bombe ! Distance: " + distanceToSafety + ", Temps restant: " + timeLeft + "ms, temps nécessaire: " + timeNeeded + "ms");
+            }
+        } else {
+            // Pour les autres bombes, estimation normale
+            timeNeeded = distanceToSafety * 400 + 150; // 400ms par case + marge
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "⚠️ IA en danger d'une autre bombe ! Temps restant: " + timeLeft + "ms, temps nécessaire: " + timeNeeded + "ms");
+            }
+        }
+
+        return timeLeft < timeNeeded;
+    }
+
+    /**
+     * Calcule la distance minimale (en ligne droite) jusqu'à une case qu'aucune flamme n'atteindra :
+     * le rayon de chaque direction avance d'une case par décalage, limité aux cases libres
+     */
+    private int getDistanceToSafety(int botX, int botY, DangerMap danger) {
+        int best = bot.getRange() + 2;
+        sim.copyFreeCells(freeCells);
+        Bitboard threatened = danger.getThreatenedCells();
+
+        for (int direction = 0; direction < STEP_KEYS.length; direction++) {
+            escapeRay.clearAll();
+            escapeRay.set(botX, botY);
+            for (int steps = 1; steps < best; steps++) {
+                escapeRay.shift(direction);
+                escapeRay.and(freeCells);
+                if (escapeRay.isEmpty()) {
+                    break; // Chemin bloqué
+                }
+                if (!escapeRay.intersects(threatened)) {
+                    best = steps;
+                    break;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Vérifie si l'IA peut s'échapper d'une position donnée si elle pose une bombe
+     * Version améliorée qui garantit une voie d'évasion sûre
+     */
+    private boolean canEscapeFromPosition(int x, int y) {
+        int safeDistance = bot.getRange() + 1;
+        sim.copyFreeCells(freeCells);
+        
+        // Vérifier les 4 directions pour trouver une voie d'évasion
+        for (int direction = 0; direction < STEP_KEYS.length; direction++) {
+            if (hasSecureEscapePath(x, y, direction, safeDistance)) {
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "✅ IA a trouvé une voie d'évasion sûre vers " + STEP_KEYS[direction]);
+                }
+                return true;
+            }
+        }
+        
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "❌ IA ne peut pas s'échapper de la position (" + x + ", " + y + ")");
+        }
+        return false;
+    }
+    
+    /**
+     * Vérifie si une direction offre un chemin d'évasion sécurisé : le rayon avance d'une case par
+     * décalage du bitboard, limité aux cases libres (freeCells, rempli par l'appelant)
+     */
+    private boolean hasSecureEscapePath(int bombX, int bombY, int direction, int safeDistance) {
+        escapeRay.clearAll();
+        escapeRay.set(bombX, bombY);
+        
+        // Parcourir dans la direction donnée jusqu'à atteindre la sécurité (+1 pour être vraiment sûr)
+        for (int steps = 1; steps <= safeDistance + 2; steps++) {
+            escapeRay.shift(direction);
+            escapeRay.and(freeCells);
+            if (escapeRay.isEmpty()) {
+                return false; // Chemin bloqué
+            }
+            
+            // En ligne droite, la case reste sur la croix de la bombe tant qu'on n'a pas fait safeDistance+1 pas
+            if (steps >= safeDistance + 1) {
+                // Vérifier qu'on a assez de temps pour atteindre cette position
+                long timeNeeded = steps * 350 + 300; // 350ms par case + marge de sécurité
+                if (timeNeeded < 1800) { // Laisser 200ms de marge sur les 2000ms
+                    int bit = escapeRay.nextSetBit(0);
+                    int currentX = escapeRay.bitColumn(bit);
+                    int currentY = escapeRay.bitRow(bit);
+                    // Vérifier qu'il n'y a pas d'autres bombes qui menacent cette position
+                    if (isCellSafeFromAllBombs(currentX, currentY)) {
+                        if (GameLog.DEBUG_ENABLED) {
+                            GameLog.debug(LOG_CATEGORY, "✅ Position sûre trouvée à (" + currentX + ", " + currentY + ") en " + steps + " pas (" + timeNeeded + "ms)");
+                        }
+                        return true;
+                    }
+                }
+            }
+        }
+        
+        return false; // Aucune position sûre trouvée dans cette direction
+    }
+    
+    /**
+     * Vérifie si une position est sûre par rapport à toutes les bombes existantes
+     * (la bombe qu'on va poser n'existe pas encore : elle n'est pas dans la carte des dangers)
+     */
+    private boolean isCellSafeFromAllBombs(int x, int y) {
+        long timeLeft = sim.getDangerMap().getTimeUntilBlast(x, y);
+        if (timeLeft == DangerMap.SAFE) {
+            return true;
+        }
+
+        // Vérifier le timing
+        int distanceFromBot = Math.abs(x - bot.getX()) + Math.abs(y - bot.getY());
+        long timeToReach = distanceFromBot * 350 + 200;
+
+        if (timeLeft < timeToReach) {
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "⚠️ Position (" + x + ", " + y + ") menacée par une bombe existante");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Vérifie si une case est sûre par rapport aux explosions actives
+     */
+    private boolean isCellSafeFromExplosions(int x, int y) {
+        if (!isCellFree(x, y)) {
+            return false; // Case non accessible
+        }
+
+        // Vérifier si la case est dans une explosion active
+        return !sim.getDangerMap().isBurning(x, y);
+    }
+
+    /**
+     * Trouve n'importe quelle direction libre (dernier recours)
+     */
+    private KeyCode getAnyFreeDirection() {
+        KeyCode[] directions = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+        
+        for (KeyCode dir : directions) {
+            int newX = bot.getX();
+            int newY = bot.getY();
+            
+            switch (dir) {
+                case UP: newY--; break;
+                case DOWN: newY++; break;
+                case LEFT: newX--; break;
+                case RIGHT: newX++; break;
+            }
+            
+            if (isCellFree(newX, newY)) {
+                return dir;
+            }
+        }
+        
+        return null; // Aucune direction libre trouvée
+    }
+
+    /**
+     * Trouve une direction libre aléatoire (pour éviter les blocages)
+     */
+    private KeyCode getRandomFreeDirection() {
+        KeyCode[] directions = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+        
+        // Mélanger les directions pour un choix aléatoire
+        for (int i = directions.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            KeyCode temp = directions[i];
+            directions[i] = directions[j];
+            directions[j] = temp;
+        }
+        
+        for (KeyCode dir : directions) {
+            int newX = bot.getX();
+            int newY = bot.getY();
+            
+            switch (dir) {
+                case UP: newY--; break;
+                case DOWN: newY++; break;
+                case LEFT: newX--; break;
+                case RIGHT: newX++; break;
+            }
+            
+            if (isCellFree(newX, newY)) {
+                return dir;
+            }
+        }
+        
+        return null; // Aucune direction libre trouvée
+    }
+
+    // Vérifie si la case est accessible et sans bombe/ennemi
+    private boolean isCellFree(int x, int y) {
+        // Vérifier les limites de la grille
+        if (x < 0 || x >= sim.getGrid().getColumns() || y < 0 || y >= sim.getGrid().getRows()) {
+            return false;
+        }
+        
+        if (!sim.getGrid().isAccessible(x, y)) return false;
+        if (sim.isBombAt(x, y)) return false;
+        return !sim.isEnemyAt(x, y, null);
+    }
+
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+
+    /**
+     * Écrit la mémoire du bot (dernière décision, dernière bombe, détection de blocage)
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putLong(lastAIDecisionTime);
+        GameSnapshot.putCoordinate(buffer, botLastBombX);
+        GameSnapshot.putCoordinate(buffer, botLastBombY);
+        GameSnapshot.putCoordinate(buffer, botLastX);
+        GameSnapshot.putCoordinate(buffer, botLastY);
+        buffer.putInt(botStuckCounter);
+    }
+
+    /**
+     * Rétablit l'état écrit par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état du bot
+     */
+    void readState(ByteBuffer buffer) {
+        lastAIDecisionTime = buffer.getLong();
+        botLastBombX = GameSnapshot.getCoordinate(buffer);
+        botLastBombY = GameSnapshot.getCoordinate(buffer);
+        botLastX = GameSnapshot.getCoordinate(buffer);
+        botLastY = GameSnapshot.getCoordinate(buffer);
+        botStuckCounter = buffer.getInt();
+    }
+}
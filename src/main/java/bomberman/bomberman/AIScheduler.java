@@ -0,0 +1,283 @@
+package bomberman.bomberman;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.scene.input.KeyCode;
+
+/**
+ * Planificateur des décisions du bot : sort la réflexion de l'IA du tick de simulation.
+ *
+ * Quand une décision est due, le tick se contente de capturer un instantané de la partie
+ * (GameSnapshot, quelques microsecondes) ; la décision est prise sur une copie restaurée de cet
+ * instantané, sur un thread de travail, puis appliquée au vrai bot LATENCY_TICKS ticks plus tard.
+ * La réflexion dispose ainsi de tout ce délai sans jamais allonger une frame.
+ *
+ * La décision ne dépend que de l'instantané : elle est identique qu'elle soit calculée sur le
+ * thread de travail ou sur le thread de simulation (sans exécuteur, pour les outils sans affichage),
+ * et elle est toujours appliquée au même tick. Les replays et le tournoi restent donc déterministes.
+ * Si le thread de travail n'a pas fini au tick d'application, le tick l'attend (compté dans
+ * getLateResults()) plutôt que d'appliquer une décision à un autre tick.
+ *
+ * La mémoire du bot (GameSnapshot) et l'état du flux aléatoire de l'IA, avancés sur la copie,
+ * sont recopiés dans la vraie partie avec la décision.
+ *
+ * Le bot de difficulté MCTS décide avec un MctsPlanner, qui dispose de MctsPlanner.LATENCY_TICKS
+ * ticks au lieu de LATENCY_TICKS. Ses décisions dépendant de son budget de temps, chaque décision
+ * appliquée est aussi transmise à l'enregistreur du replay (avec son tick). Rien n'oblige donc à
+ * l'appliquer à un tick fixe : une décision MCTS en retard n'est jamais attendue, elle est appliquée
+ * au premier tick où elle est prête (la recherche et sa prévision ne bloquent jamais la frame).
+ */
+public class AIScheduler {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.AI;
+
+    /**
+     * Ticks entre la capture de l'instantané et l'application de la décision (≈32 ms de réflexion)
+     */
+    public static final int LATENCY_TICKS = 2;
+
+    // Budget du thread de simulation par tick pour le bot (capture + application), au-delà on le signale
+    private static final long FRAME_BUDGET_NANOS = 500_000L;
+
+    // Touches de direction d'une décision, écrites par leur index dans les instantanés
+    private static final KeyCode[] DIRECTION_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+
+    // Thread de travail partagé par les parties affichées (démon : ne retient pas la fermeture du jeu)
+    private static ExecutorService sharedWorker;
+
+    /**
+     * Décision prise sur la copie, avec la mémoire du bot et l'état du flux de l'IA qui en résultent
+     */
+    private static final class PlannedDecision {
+        private final AIBot.Decision decision;
+        private final byte[] botMemory;
+        private final long aiStreamState;
+
+        private PlannedDecision(AIBot.Decision decision, byte[] botMemory, long aiStreamState) {
+            this.decision = decision;
+            this.botMemory = botMemory;
+            this.aiStreamState = aiStreamState;
+        }
+    }
+
+    private final GameSimulation simulation;
+    private ExecutorService executor;
+
+    // Copie de la partie sur laquelle le bot réfléchit (utilisée par une seule réflexion à la fois)
+    private GameSimulation copy;
+    // Recherche du bot MCTS, créée à sa première décision avec les réglages du bot
+    private volatile MctsPlanner mctsPlanner;
+    private AIBot.Parameters mctsParameters;
+
+    private CompletableFuture<PlannedDecision> pending;
+    private long applyTick;
+    private boolean pendingIsMcts; // ✨ **NOUVEAU** : décision MCTS, jamais attendue par le thread de simulation
+
+    // Statistiques
+    private int decisionCount;
+    private int lateResults;
+    private long maxTickNanos;
+    private int overBudgetTicks;
+
+    /**
+     * Constructeur du planificateur
+     * @param simulation La partie du bot
+     * @param executor Exécuteur de la réflexion, ou null pour réfléchir sur le thread de simulation
+     */
+    public AIScheduler(GameSimulation simulation, ExecutorService executor) {
+        this.simulation = simulation;
+        this.executor = executor;
+    }
+
+    /**
+     * Change l'exécuteur des prochaines réflexions (la décision en attente est conservée)
+     * @param executor Exécuteur de la réflexion, ou null pour réfléchir sur le thread de simulation
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return Le thread de travail partagé des parties affichées, créé au premier appel
+     */
+    public static synchronized ExecutorService sharedWorker() {
+        if (sharedWorker == null) {
+            sharedWorker = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "bomberman-ai");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sharedWorker;
+    }
+
+    /**
+     * Fait avancer le bot d'un tick : applique la décision arrivée à échéance, puis lance la
+     * réflexion suivante si une décision est due (appelé en fin de tick, bot vivant)
+     * @param bot Le bot de la partie
+     */
+    void tick(AIBot bot) {
+        long start = System.nanoTime();
+        long tickCount = simulation.getTickCount();
+
+        if (pending != null && tickCount >= applyTick && !pending.isDone() && pendingIsMcts) {
+            // ✨ **NOUVEAU** : Une décision MCTS dépend déjà du temps de calcul (et est enregistrée dans les replays) :
+            // plutôt que de bloquer le thread de simulation, elle est appliquée au premier tick où elle est prête
+            if (tickCount == applyTick) {
+                lateResults++;
+                GameLog.warn(LOG_CATEGORY, "Décision MCTS en retard : appliquée dès qu'elle sera prête");
+            }
+        } else if (pending != null && tickCount >= applyTick) {
+            if (!pending.isDone()) {
+                lateResults++;
+                GameLog.warn(LOG_CATEGORY, "Décision du bot en retard : attente du thread de réflexion");
+            }
+            PlannedDecision planned = pending.join();
+            pending = null;
+            bot.readState(ByteBuffer.wrap(planned.botMemory));
+            simulation.getRandomStream(GameRandom.Stream.AI).setState(planned.aiStreamState);
+            bot.apply(planned.decision);
+            simulation.botDecisionApplied(planned.decision);
+            decisionCount++;
+        }
+
+        if (pending == null && bot.isDecisionDue()) {
+            GameSnapshot snapshot = GameSnapshot.capture(simulation);
+            AIBot.Parameters parameters = simulation.getBotParameters();
+            pendingIsMcts = parameters.getDifficulty() == AIBot.Difficulty.MCTS;
+            applyTick = tickCount + (pendingIsMcts ? MctsPlanner.LATENCY_TICKS : LATENCY_TICKS);
+            pending = executor != null
+                    ? CompletableFuture.supplyAsync(() -> plan(snapshot, parameters), executor)
+                    : CompletableFuture.completedFuture(plan(snapshot, parameters));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        maxTickNanos = Math.max(maxTickNanos, elapsed);
+        if (elapsed > FRAME_BUDGET_NANOS) {
+            overBudgetTicks++;
+        }
+    }
+
+    /**
+     * Réfléchit sur une copie de la partie restaurée depuis l'instantané
+     */
+    private synchronized PlannedDecision plan(GameSnapshot snapshot, AIBot.Parameters parameters) {
+        if (copy == null) {
+            copy = snapshot.newSimulation(null);
+        }
+        copy.setBotParameters(parameters);
+        snapshot.restore(copy);
+        AIBot copyBot = copy.getBot();
+        AIBot.Decision decision;
+        if (parameters.getDifficulty() == AIBot.Difficulty.MCTS) {
+            copyBot.markDecided();
+            long seed = copy.getRandomStream(GameRandom.Stream.AI).nextLong();
+            int botIndex = copy.getPlayers().indexOf(copy.getPlayer2());
+            decision = getMctsPlanner(parameters).plan(snapshot, botIndex, MctsPlanner.LATENCY_TICKS, seed);
+        } else {
+            decision = copyBot.think();
+        }
+
+        ByteBuffer memory = ByteBuffer.allocate(64);
+        copyBot.writeState(memory);
+        return new PlannedDecision(decision, Arrays.copyOf(memory.array(), memory.position()),
+                copy.getRandomStream(GameRandom.Stream.AI).getState());
+    }
+
+    private MctsPlanner getMctsPlanner(AIBot.Parameters parameters) {
+        if (mctsPlanner == null || mctsParameters != parameters) {
+            mctsPlanner = new MctsPlanner(parameters);
+            mctsParameters = parameters;
+        }
+        return mctsPlanner;
+    }
+
+    /**
+     * @return La recherche du bot MCTS (débit en rollouts par seconde), ou null s'il n'a pas encore décidé
+     */
+    public MctsPlanner getMctsPlanner() {
+        return mctsPlanner;
+    }
+
+    /**
+     * Abandonne la décision en cours (nouvelle partie, nouveau niveau)
+     */
+    void cancel() {
+        pending = null;
+    }
+
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+
+    /**
+     * Écrit la décision en attente : une partie restaurée l'applique au même tick.
+     * ✨ **NOUVEAU** : Une décision MCTS encore en cours de recherche n'est pas attendue (sauvegarde depuis le menu
+     * pause, capture sur le thread d'affichage) ; elle est omise et la partie restaurée, dont le bot n'a pas encore
+     * décidé, en relance une. Les décisions des autres bots, quasi immédiates, sont attendues comme au tick.
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        boolean written = pending != null && (pending.isDone() || !pendingIsMcts);
+        buffer.put((byte) (written ? 1 : 0));
+        if (written) {
+            PlannedDecision planned = pending.join();
+            buffer.putLong(applyTick);
+            buffer.put((byte) Arrays.asList(DIRECTION_KEYS).indexOf(planned.decision.getDesiredKey()));
+            buffer.put((byte) (planned.decision.isBombPlaced() ? 1 : 0));
+            buffer.put((byte) planned.botMemory.length).put(planned.botMemory);
+            buffer.putLong(planned.aiStreamState);
+        }
+    }
+
+    /**
+     * Rétablit la décision en attente écrite par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état du planificateur
+     */
+    void readState(ByteBuffer buffer) {
+        pending = null;
+        if (buffer.get() != 0) {
+            applyTick = buffer.getLong();
+            int keyIndex = buffer.get();
+            boolean bombPlaced = buffer.get() != 0;
+            byte[] botMemory = new byte[buffer.get()];
+            buffer.get(botMemory);
+            long aiStreamState = buffer.getLong();
+            AIBot.Decision decision = new AIBot.Decision(keyIndex >= 0 ? DIRECTION_KEYS[keyIndex] : null, bombPlaced);
+            pending = CompletableFuture.completedFuture(new PlannedDecision(decision, botMemory, aiStreamState));
+            pendingIsMcts = simulation.getBotParameters().getDifficulty() == AIBot.Difficulty.MCTS;
+        }
+    }
+
+    // ========== STATISTIQUES ==========
+
+    /**
+     * @return Nombre de décisions appliquées
+     */
+    public int getDecisionCount() {
+        return decisionCount;
+    }
+
+    /**
+     * @return Nombre de décisions pas encore prêtes à leur tick d'application
+     *         (attendues, ou appliquées plus tard pour le bot MCTS)
+     */
+    public int getLateResults() {
+        return lateResults;
+    }
+
+    /**
+     * @return Plus long temps passé par le planificateur dans un tick, en nanosecondes
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * @return Nombre de ticks où le planificateur a dépassé son budget de frame
+     */
+    public int getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+}
@@ -0,0 +1,155 @@
+package bomberman.bomberman;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Horloge d'animation unique partagée par tous les animateurs (blocs destructibles, porte,
+ * bonus, ennemis, Bomberman, explosions).
+ *
+ * Au lieu d'une Timeline JavaFX par objet animé, la boucle de jeu fait avancer cette horloge
+ * à chaque frame ; chaque animateur calcule son index de frame à partir du temps écoulé depuis
+ * le début de son animation. Toutes les animations restent donc synchronisées entre elles,
+ * et mettre l'horloge en pause gèle toutes les animations au même instant.
+ *
+ * Les animations non bouclantes qui doivent prévenir le jeu à leur fin (mort, victoire)
+ * programment une tâche, exécutée par advance() quand le temps d'animation l'atteint.
+ */
+public class AnimationScheduler implements GameClock {
+
+    private static final AnimationScheduler INSTANCE = new AnimationScheduler();
+
+    /**
+     * Tâche programmée à un instant du temps d'animation
+     */
+    public static class ScheduledTask {
+        private final long dueTimeMillis;
+        private final Runnable action;
+        private boolean cancelled;
+
+        private ScheduledTask(long dueTimeMillis, Runnable action) {
+            this.dueTimeMillis = dueTimeMillis;
+            this.action = action;
+        }
+
+        /**
+         * Annule la tâche si elle n'a pas encore été exécutée
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    // Temps d'animation en nanosecondes (n'avance pas pendant la pause)
+    private long timeNanos;
+    private boolean paused;
+
+    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
+
+    /**
+     * @return L'horloge d'animation du jeu
+     */
+    public static AnimationScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Fait avancer le temps d'animation (appelé une fois par frame par la boucle de jeu)
+     * et exécute les tâches arrivées à échéance
+     * @param elapsedNanos Temps réel écoulé depuis la frame précédente en nanosecondes
+     */
+    public void advance(long elapsedNanos) {
+        if (paused || elapsedNanos <= 0) {
+            return;
+        }
+        timeNanos += elapsedNanos;
+
+        // Extraire d'abord les tâches dues : une tâche peut en programmer d'autres
+        long now = currentTimeMillis();
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            ScheduledTask task = tasks.get(i);
+            if (task.cancelled) {
+                tasks.remove(i);
+            } else if (task.dueTimeMillis <= now) {
+                tasks.remove(i);
+                dueTasks.add(task);
+            }
+        }
+        for (int i = dueTasks.size() - 1; i >= 0; i--) {
+            ScheduledTask task = dueTasks.get(i);
+            if (!task.cancelled) {
+                task.action.run();
+            }
+        }
+        dueTasks.clear();
+    }
+
+    /**
+     * Met en pause ou relance toutes les animations
+     * @param paused true pour geler le temps d'animation
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * @return true si les animations sont gelées
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return timeNanos / 1_000_000;
+    }
+
+    /**
+     * @param startTimeMillis Début de l'animation (temps d'animation)
+     * @return Temps d'animation écoulé depuis ce début, en millisecondes
+     */
+    public long elapsedSince(long startTimeMillis) {
+        return currentTimeMillis() - startTimeMillis;
+    }
+
+    /**
+     * Programme une action après un délai exprimé en temps d'animation
+     * @param delayMillis Délai avant l'exécution en millisecondes
+     * @param action L'action à exécuter
+     * @return La tâche programmée (pour l'annuler)
+     */
+    public ScheduledTask schedule(long delayMillis, Runnable action) {
+        ScheduledTask task = new ScheduledTask(currentTimeMillis() + delayMillis, action);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Calcule l'index de frame d'une animation en boucle
+     * @param elapsedMillis Temps écoulé depuis le début de l'animation
+     * @param frameDurationMs Durée d'une frame en millisecondes
+     * @param frameCount Nombre de frames de la boucle
+     * @return Index de la frame courante (0 à frameCount - 1)
+     */
+    public static int loopingFrame(long elapsedMillis, double frameDurationMs, int frameCount) {
+        if (elapsedMillis <= 0) {
+            return 0;
+        }
+        return (int) ((long) (elapsedMillis / frameDurationMs) % frameCount);
+    }
+
+    /**
+     * Calcule l'index de frame d'une séquence à durées variables
+     * @param elapsedMillis Temps écoulé depuis le début de la séquence
+     * @param startTimes Instant de début de chaque frame, croissant, le premier valant 0
+     * @return Index de la dernière frame commencée
+     */
+    public static int sequenceFrame(long elapsedMillis, double[] startTimes) {
+        int frame = 0;
+        while (frame + 1 < startTimes.length && startTimes[frame + 1] <= elapsedMillis) {
+            frame++;
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,404 @@
+package bomberman.bomberman;
+
+import java.util.Arrays;
+
+/**
+ * Ensemble de cases de la grille stocké sur quelques entiers 64 bits (une case par bit).
+ *
+ * Chaque ligne de la grille occupe un couloir de bits (bit = ligne * largeur du couloir + colonne) dont
+ * la largeur est la plus petite puissance de deux strictement supérieure au nombre de colonnes : 16 bits
+ * pour l'arène 15 x 13, soit quatre lignes par long et quatre longs en tout ; les grandes arènes ont des
+ * couloirs de 64 bits ou plus, alignés sur les longs. Le dernier bit de chaque couloir reste toujours
+ * vide et sert de garde : un décalage d'un bit vers la droite ou la gauche ne fait jamais passer une
+ * case d'une ligne à l'autre, et un décalage d'un couloir passe à la ligne voisine.
+ *
+ * Les opérations sur des ensembles entiers (union, intersection, voisins de toutes les cases à la fois)
+ * se font ainsi en quelques opérations par long au lieu d'une boucle par case : parcours en largeur
+ * par couches (DistanceField), rayons de fuite du bot, couches d'occupation et de danger.
+ *
+ * Les directions suivent l'ordre des branches d'explosion : Explosion.UP, DOWN, LEFT, RIGHT.
+ */
+public class Bitboard {
+
+    /**
+     * Nombre maximal de colonnes (un couloir de 256 bits, garde comprise)
+     */
+    public static final int MAX_COLUMNS = 255;
+
+    /**
+     * Nombre maximal de colonnes pour lire une ligne entière dans un int (getRow)
+     */
+    public static final int MAX_ROW_COLUMNS = Integer.SIZE - 1;
+
+    private final int columns;
+    private final int rows;
+    private final long[] words;
+
+    // Largeur d'un couloir en bits (puissance de deux) et son logarithme
+    private final int laneBits;
+    private final int laneShift;
+
+    // Bits des cases de la grille (gardes et lignes au-delà de la dernière exclues)
+    private final long[] valid;
+
+    /**
+     * Constructeur d'un ensemble vide
+     * @param columns Nombre de colonnes de la grille (au plus MAX_COLUMNS)
+     * @param rows Nombre de lignes de la grille
+     */
+    public Bitboard(int columns, int rows) {
+        if (!fits(columns, rows)) {
+            throw new IllegalArgumentException("Grille trop large pour un bitboard : " + columns + "x" + rows
+                    + " (au plus " + MAX_COLUMNS + " colonnes)");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.laneShift = Math.max(4, Integer.SIZE - Integer.numberOfLeadingZeros(columns));
+        this.laneBits = 1 << laneShift;
+        this.words = new long[(rows * laneBits + Long.SIZE - 1) / Long.SIZE];
+        this.valid = new long[words.length];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int bit = bitOf(column, row);
+                valid[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    /**
+     * @param columns Nombre de colonnes
+     * @param rows Nombre de lignes
+     * @return true si une grille de ces dimensions peut être représentée
+     */
+    public static boolean fits(int columns, int rows) {
+        return columns > 0 && rows > 0 && columns <= MAX_COLUMNS;
+    }
+
+    // ========== CASES ==========
+
+    /**
+     * Ajoute une case à l'ensemble
+     * @param x Position en colonne
+     * @param y Position en ligne
+     */
+    public void set(int x, int y) {
+        checkInside(x, y);
+        int bit = bitOf(x, y);
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    /**
+     * Retire une case de l'ensemble
+     * @param x Position en colonne
+     * @param y Position en ligne
+     */
+    public void clear(int x, int y) {
+        checkInside(x, y);
+        int bit = bitOf(x, y);
+        words[bit >>> 6] &= ~(1L << bit);
+    }
+
+    /**
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return true si la case appartient à l'ensemble (false hors de la grille)
+     */
+    public boolean get(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return false;
+        }
+        int bit = bitOf(x, y);
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * @param y Ligne
+     * @return Les cases de la ligne, bit x pour la colonne x (grille d'au plus MAX_ROW_COLUMNS colonnes)
+     */
+    public int getRow(int y) {
+        if (columns > MAX_ROW_COLUMNS) {
+            throw new IllegalStateException("Ligne trop large pour un int : " + columns + " colonnes");
+        }
+        int bit = bitOf(0, y);
+        return (int) ((words[bit >>> 6] >>> bit) & ((1L << laneBits) - 1));
+    }
+
+    private int bitOf(int x, int y) {
+        return (y << laneShift) + x;
+    }
+
+    private void checkInside(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            throw new IllegalArgumentException("Position hors limites : [" + x + ", " + y + "]");
+        }
+    }
+
+    // ========== ENSEMBLES ==========
+
+    /**
+     * Vide l'ensemble
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Remplace l'ensemble par toutes les cases de la grille
+     */
+    public void fill() {
+        System.arraycopy(valid, 0, words, 0, words.length);
+    }
+
+    /**
+     * Remplace l'ensemble par une copie d'un autre ensemble de mêmes dimensions
+     * @param other L'ensemble copié
+     */
+    public void copyFrom(Bitboard other) {
+        checkSameSize(other);
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Ajoute les cases d'un autre ensemble (union)
+     * @param other L'autre ensemble
+     */
+    public void or(Bitboard other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Ne garde que les cases présentes dans un autre ensemble (intersection)
+     * @param other L'autre ensemble
+     */
+    public void and(Bitboard other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Retire les cases présentes dans un autre ensemble (différence)
+     * @param other L'autre ensemble
+     */
+    public void andNot(Bitboard other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * @param other L'autre ensemble
+     * @return true si les deux ensembles ont au moins une case en commun
+     */
+    public boolean intersects(Bitboard other) {
+        checkSameSize(other);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true si l'ensemble ne contient aucune case
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Nombre de cases de l'ensemble
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private void checkSameSize(Bitboard other) {
+        if (other.columns != columns || other.rows != rows) {
+            throw new IllegalArgumentException("Bitboards de dimensions différentes : " + columns + "x" + rows
+                    + " et " + other.columns + "x" + other.rows);
+        }
+    }
+
+    // ========== DÉCALAGES ==========
+
+    /**
+     * Déplace toutes les cases d'un pas dans une direction (les cases qui sortent de la grille sont perdues)
+     * @param direction Explosion.UP, DOWN, LEFT ou RIGHT
+     */
+    public void shift(int direction) {
+        switch (direction) {
+            case Explosion.UP:
+                shiftTowardsLowBits(words, laneBits);
+                break;
+            case Explosion.DOWN:
+                shiftTowardsHighBits(words, laneBits);
+                break;
+            case Explosion.LEFT:
+                shiftTowardsLowBits(words, 1);
+                break;
+            case Explosion.RIGHT:
+                shiftTowardsHighBits(words, 1);
+                break;
+            default:
+                throw new IllegalArgumentException("Direction inconnue : " + direction);
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= valid[i];
+        }
+    }
+
+    /**
+     * Remplace l'ensemble par les voisines (haut, bas, gauche, droite) des cases d'un autre ensemble,
+     * limitées aux cases d'un masque : une couche de parcours en largeur en quelques opérations par long
+     * @param source Les cases dont on prend les voisines (ne doit pas être cet ensemble)
+     * @param within Le masque des cases autorisées
+     */
+    public void setNeighbours(Bitboard source, Bitboard within) {
+        checkSameSize(source);
+        checkSameSize(within);
+        if (source == this) {
+            throw new IllegalArgumentException("Le bitboard source doit être distinct de la destination");
+        }
+        long[] cells = source.words;
+        int last = words.length - 1;
+        if (laneBits < Long.SIZE) {
+            // Plusieurs lignes par long : les voisines verticales viennent aussi des longs adjacents
+            int carry = Long.SIZE - laneBits;
+            for (int i = 0; i <= last; i++) {
+                long word = cells[i];
+                long neighbours = (word << 1) | (word >>> 1) | (word << laneBits) | (word >>> laneBits);
+                if (i > 0) {
+                    neighbours |= cells[i - 1] >>> carry;
+                }
+                if (i < last) {
+                    neighbours |= cells[i + 1] << carry;
+                }
+                words[i] = neighbours & valid[i] & within.words[i];
+            }
+            return;
+        }
+        // Couloirs alignés sur les longs : une ligne voisine est à laneWords longs de distance
+        int laneWords = laneBits / Long.SIZE;
+        for (int i = 0; i <= last; i++) {
+            long word = cells[i];
+            long neighbours = (word << 1) | (word >>> 1);
+            if (i > 0) {
+                neighbours |= cells[i - 1] >>> (Long.SIZE - 1);
+            }
+            if (i < last) {
+                neighbours |= cells[i + 1] << (Long.SIZE - 1);
+            }
+            if (i >= laneWords) {
+                neighbours |= cells[i - laneWords];
+            }
+            if (i + laneWords <= last) {
+                neighbours |= cells[i + laneWords];
+            }
+            words[i] = neighbours & valid[i] & within.words[i];
+        }
+    }
+
+    /**
+     * Décale tous les bits d'un tableau vers les index faibles (décalage à droite sur plusieurs longs)
+     */
+    private static void shiftTowardsLowBits(long[] words, int bits) {
+        int wordShift = bits >>> 6;
+        int bitShift = bits & (Long.SIZE - 1);
+        for (int i = 0; i < words.length; i++) {
+            int from = i + wordShift;
+            long low = from < words.length ? words[from] : 0L;
+            long high = from + 1 < words.length ? words[from + 1] : 0L;
+            words[i] = bitShift == 0 ? low : (low >>> bitShift) | (high << (Long.SIZE - bitShift));
+        }
+    }
+
+    /**
+     * Décale tous les bits d'un tableau vers les index forts (décalage à gauche sur plusieurs longs)
+     */
+    private static void shiftTowardsHighBits(long[] words, int bits) {
+        int wordShift = bits >>> 6;
+        int bitShift = bits & (Long.SIZE - 1);
+        for (int i = words.length - 1; i >= 0; i--) {
+            int from = i - wordShift;
+            long high = from >= 0 ? words[from] : 0L;
+            long low = from - 1 >= 0 ? words[from - 1] : 0L;
+            words[i] = bitShift == 0 ? high : (high << bitShift) | (low >>> (Long.SIZE - bitShift));
+        }
+    }
+
+    // ========== PARCOURS ==========
+
+    /**
+     * Prochaine case de l'ensemble dans l'ordre de lecture, à la manière de BitSet.nextSetBit
+     * @param fromBit Index de bit de départ (inclus), 0 pour la première case
+     * @return Index de bit de la case (voir bitColumn, bitRow), ou -1 s'il n'y en a plus
+     */
+    public int nextSetBit(int fromBit) {
+        int i = fromBit / Long.SIZE;
+        if (i >= words.length) {
+            return -1;
+        }
+        long word = words[i] & (-1L << fromBit);
+        while (word == 0) {
+            if (++i == words.length) {
+                return -1;
+            }
+            word = words[i];
+        }
+        return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @param bit Index de bit renvoyé par nextSetBit
+     * @return Colonne de la case
+     */
+    public int bitColumn(int bit) {
+        return bit & (laneBits - 1);
+    }
+
+    /**
+     * @param bit Index de bit renvoyé par nextSetBit
+     * @return Ligne de la case
+     */
+    public int bitRow(int bit) {
+        return bit >>> laneShift;
+    }
+
+    /**
+     * Distance de la position au premier bit à 1 d'une ligne vers les positions croissantes
+     * @param row Ligne (getRow)
+     * @param position Position de départ, exclue
+     * @return Nombre de pas jusqu'au premier bit à 1, 0 s'il n'y en a aucun
+     */
+    public static int distanceToNext(int row, int position) {
+        int ahead = row >>> (position + 1);
+        return ahead == 0 ? 0 : Integer.numberOfTrailingZeros(ahead) + 1;
+    }
+
+    /**
+     * Distance de la position au premier bit à 1 d'une ligne vers les positions décroissantes
+     * @param row Ligne (getRow)
+     * @param position Position de départ, exclue
+     * @return Nombre de pas jusqu'au premier bit à 1, 0 s'il n'y en a aucun
+     */
+    public static int distanceToPrevious(int row, int position) {
+        int behind = row & ((1 << position) - 1);
+        return behind == 0 ? 0 : position - (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(behind));
+    }
+}
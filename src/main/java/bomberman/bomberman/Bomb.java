@@ -1,5 +1,8 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
 /**
  * Classe représentant une bombe dans le jeu Bomberman.
  * Gère la position, le timer d'explosion, l'état de la bombe et l'animation des sprites.
@@ -16,9 +19,11 @@ package bomberman.bomberman;
  */
 public class Bomb {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     // Position de la bombe sur la grille
-    private final int x;  // Colonne
-    private final int y;  // Ligne
+    private int x;  // Colonne
+    private int y;  // Ligne
     
     // État de la bombe
     private boolean activeState;
@@ -26,7 +31,7 @@ public class Bomb {
     
     // Timer pour l'explosion (en millisecondes)
     private static final long EXPLOSION_DELAY = 2000; // 2 secondes
-    private final long startTime;
+    private long startTime;
     
     // ✨ **NOUVEAU** : Système d'animation
     private static final long FRAME_DURATION = 250; // 250ms par frame (8 frames en 2 secondes)
@@ -43,6 +48,9 @@ public class Bomb {
     // ✨ **NOUVEAU** : Référence au joueur qui a posé la bombe (mode coopération)
     private FluidMovementPlayer owner;    // Le joueur qui a posé cette bombe (null pour les bombes rain)
     
+    // Horloge du jeu (temps de simulation)
+    private final GameClock clock;
+    
     /**
      * Constructeur de la bombe avec propriétaire spécifique (mode coopération)
      * @param x Position en colonne
@@ -50,12 +58,44 @@ public class Bomb {
      * @param owner Le joueur qui pose la bombe (null pour bombes rain/ennemi)
      */
     public Bomb(int x, int y, FluidMovementPlayer owner) {
+        this(x, y, owner, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur de la bombe avec propriétaire et horloge de jeu
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param owner Le joueur qui pose la bombe (null pour bombes rain/ennemi)
+     * @param clock L'horloge de la simulation
+     */
+    public Bomb(int x, int y, FluidMovementPlayer owner, GameClock clock) {
+        this.clock = clock;
+        reset(x, y, owner);
+    }
+    
+    /**
+     * Constructeur d'une bombe inactive destinée à un pool (voir reset)
+     * @param clock L'horloge de la simulation
+     */
+    public Bomb(GameClock clock) {
+        this.clock = clock;
+        this.activeState = false;
+        this.hasExploded = true;
+    }
+    
+    /**
+     * Réinitialise la bombe pour la réutiliser (pool) : même effet que le constructeur
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param owner Le joueur qui pose la bombe (null pour bombes rain/ennemi)
+     */
+    public void reset(int x, int y, FluidMovementPlayer owner) {
         this.x = x;
         this.y = y;
         this.owner = owner;
         this.activeState = true;
         this.hasExploded = false;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = clock.currentTimeMillis();
         this.currentFrame = 0; // Commencer à la frame 0 (sprite 2)
         
         // La logique de traversabilité ne s'applique qu'aux bombes du joueur
@@ -75,16 +115,37 @@ public class Bomb {
      * @param placedByPlayer True si la bombe est posée par le joueur (et donc initialement traversable)
      */
     public Bomb(int x, int y, boolean placedByPlayer) {
-        this(x, y, null); // Appel du nouveau constructeur avec owner null
+        this(x, y, placedByPlayer, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur de la bombe sans propriétaire avec horloge de jeu (Bomb Rain)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param placedByPlayer True si la bombe est initialement traversable
+     * @param clock L'horloge de la simulation
+     */
+    public Bomb(int x, int y, boolean placedByPlayer, GameClock clock) {
+        this(x, y, null, clock); // Appel du nouveau constructeur avec owner null
         
         // Ajuster la traversabilité selon l'ancien système
-        if (placedByPlayer) {
-        this.isPlayerStillOnBomb = true;
-        this.canPlayerTraverse = true;
-        } else {
-            this.isPlayerStillOnBomb = false;
-            this.canPlayerTraverse = false;
-        }
+        setTraversable(placedByPlayer);
+    }
+    
+    /**
+     * Réinitialise une bombe sans propriétaire pour la réutiliser (pool, Bomb Rain)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param placedByPlayer True si la bombe est initialement traversable
+     */
+    public void reset(int x, int y, boolean placedByPlayer) {
+        reset(x, y, null);
+        setTraversable(placedByPlayer);
+    }
+    
+    private void setTraversable(boolean traversable) {
+        this.isPlayerStillOnBomb = traversable;
+        this.canPlayerTraverse = traversable;
     }
     
     /**
@@ -104,7 +165,7 @@ public class Bomb {
             return false;
         }
         
-        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elapsedTime = clock.currentTimeMillis() - startTime;
         
         // Mettre à jour l'animation
         updateAnimationFrame(elapsedTime);
@@ -155,7 +216,7 @@ public class Bomb {
             return 0;
         }
         
-        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elapsedTime = clock.currentTimeMillis() - startTime;
         long timeLeft = EXPLOSION_DELAY - elapsedTime;
         return Math.max(0, timeLeft);
     }
@@ -169,7 +230,7 @@ public class Bomb {
             return 1.0;
         }
         
-        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elapsedTime = clock.currentTimeMillis() - startTime;
         return Math.min(1.0, (double) elapsedTime / EXPLOSION_DELAY);
     }
     
@@ -201,7 +262,9 @@ public class Bomb {
             if (noOverlap) {
             isPlayerStillOnBomb = false;
             canPlayerTraverse = false;
-                System.out.println("Bombe à (" + x + ", " + y + ") devient solide - Hitbox du joueur a quitté la case.");
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "Bombe à (" + x + ", " + y + ") devient solide - Hitbox du joueur a quitté la case.");
+                }
             }
         }
     }
@@ -310,4 +373,42 @@ public class Bomb {
     public FluidMovementPlayer getOwner() {
         return owner;
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit l'état de la bombe ; le propriétaire est enregistré par son index dans la liste des joueurs
+     * @param buffer Tampon de l'instantané
+     * @param players Joueurs de la partie (GameSimulation.getPlayers())
+     */
+    void writeState(ByteBuffer buffer, List<FluidMovementPlayer> players) {
+        GameSnapshot.putCoordinate(buffer, x);
+        GameSnapshot.putCoordinate(buffer, y);
+        buffer.put((byte) ((activeState ? 1 : 0)
+                | (hasExploded ? 1 << 1 : 0)
+                | (isPlayerStillOnBomb ? 1 << 2 : 0)
+                | (canPlayerTraverse ? 1 << 3 : 0)));
+        buffer.putLong(startTime);
+        buffer.put((byte) currentFrame);
+        buffer.put((byte) (owner != null ? players.indexOf(owner) : -1));
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState (bombe issue du pool)
+     * @param buffer Tampon de l'instantané, positionné sur l'état de la bombe
+     * @param players Joueurs de la partie restaurée, dans le même ordre qu'à l'écriture
+     */
+    void readState(ByteBuffer buffer, List<FluidMovementPlayer> players) {
+        x = GameSnapshot.getCoordinate(buffer);
+        y = GameSnapshot.getCoordinate(buffer);
+        int states = buffer.get();
+        activeState = (states & 1) != 0;
+        hasExploded = (states & 1 << 1) != 0;
+        isPlayerStillOnBomb = (states & 1 << 2) != 0;
+        canPlayerTraverse = (states & 1 << 3) != 0;
+        startTime = buffer.getLong();
+        currentFrame = buffer.get();
+        int ownerIndex = buffer.get();
+        owner = ownerIndex >= 0 ? players.get(ownerIndex) : null;
+    }
+}
@@ -1,10 +1,7 @@
 package bomberman.bomberman;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.image.Image;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.util.Duration;
 
 /**
  * Classe responsable de l'animation du personnage Bomberman avec ses sprites de marche et de mort.
@@ -22,9 +19,14 @@ import javafx.util.Duration;
  * Frames 0-7: Bomberman_dies_1.png à Bomberman_dies_8.png
  * 
  * États supportés : ALIVE_IDLE, ALIVE_WALKING, DYING
+ * 
+ * Les frames sont calculées à partir du temps écoulé sur l'horloge d'animation partagée
+ * (AnimationScheduler) : aucune Timeline par personnage, et la pause gèle l'animation.
  */
 public class BombermanAnimator {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Énumération des états d'animation
     public enum AnimationState {
         ALIVE_IDLE,     // Vivant et immobile (sprite fixe)
@@ -69,6 +71,38 @@ public class BombermanAnimator {
         0   // Frame 9 (9x3) : téléportation finale absolue (ajusté de -1 à 0)
     };
     
+    /**
+     * Séquence de frames non bouclante à durées variables (mort, victoire)
+     */
+    private static final class FrameSequence {
+        private final int[] frames;
+        private final double[] startTimes;
+        private final long durationMillis;
+        
+        private FrameSequence(int[] frames, double[] startTimes, long durationMillis) {
+            this.frames = frames;
+            this.startTimes = startTimes;
+            this.durationMillis = durationMillis;
+        }
+        
+        private int frameAt(long elapsedMillis) {
+            return frames[AnimationScheduler.sequenceFrame(elapsedMillis, startTimes)];
+        }
+    }
+    
+    // Cycle de marche : fixe, marche1, fixe, marche2, fixe (durées différenciées)
+    private static final double[] WALK_FRAME_START_TIMES = {
+        0,
+        FIXE_DURATION_MS,
+        FIXE_DURATION_MS + MARCHE_DURATION_MS,
+        2 * FIXE_DURATION_MS + MARCHE_DURATION_MS,
+        2 * FIXE_DURATION_MS + 2 * MARCHE_DURATION_MS
+    };
+    private static final long WALK_CYCLE_MS = (long) (3 * FIXE_DURATION_MS + 2 * MARCHE_DURATION_MS);
+    
+    private static final FrameSequence DEATH_SEQUENCE = buildDeathSequence();
+    private static final FrameSequence WIN_SEQUENCE = buildWinSequence();
+    
     // Offset horizontal constant (centré)
     private static final int DEATH_HORIZONTAL_OFFSET = 0;
     
@@ -108,10 +142,9 @@ public class BombermanAnimator {
     private double renderX;
     private double renderY;
     
-    // Animation
-    private Timeline walkingAnimation;
-    private Timeline deathAnimation;
-    private Timeline winAnimation;
+    // Animation : temps d'animation au début de l'état courant (marche, mort, victoire)
+    private long animationStartTime;
+    private AnimationScheduler.ScheduledTask completionTask; // Fin de la mort ou de la victoire
     
     // Cache pour éviter les recalculs répétés
     private Image currentSprite;
@@ -137,9 +170,6 @@ public class BombermanAnimator {
         this.isWalking = false;
         this.currentFrame = 0; // Commencer sur le sprite fixe
         this.needsRecalculation = true;
-        
-        // Initialiser l'animation de marche
-        initializeWalkingAnimation();
     }
     
     /**
@@ -179,21 +209,21 @@ public class BombermanAnimator {
                         spritesWin[i] = currentSprites.playerWin[i];
                     }
                     
-                    System.out.println("Sprites joueur chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
-                    System.out.println("- Fixe Haut: " + spriteFixeHaut.getWidth() + "x" + spriteFixeHaut.getHeight());
-                    System.out.println("- Fixe Bas: " + spriteFixeBas.getWidth() + "x" + spriteFixeBas.getHeight());
-                    System.out.println("- Marche Bas1: " + spriteMarcheBas1.getWidth() + "x" + spriteMarcheBas1.getHeight());
-                    System.out.println("- Marche Bas2: " + spriteMarcheBas2.getWidth() + "x" + spriteMarcheBas2.getHeight());
-                    System.out.println("Animation chargée pour toutes les directions (2 frames chacune)");
-                    System.out.println("- 8 sprites de mort chargés");
-                    System.out.println("- 9 sprites de victoire chargés");
+                    GameLog.info(LOG_CATEGORY, "Sprites joueur chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                    GameLog.info(LOG_CATEGORY, "- Fixe Haut: " + spriteFixeHaut.getWidth() + "x" + spriteFixeHaut.getHeight());
+                    GameLog.info(LOG_CATEGORY, "- Fixe Bas: " + spriteFixeBas.getWidth() + "x" + spriteFixeBas.getHeight());
+                    GameLog.info(LOG_CATEGORY, "- Marche Bas1: " + spriteMarcheBas1.getWidth() + "x" + spriteMarcheBas1.getHeight());
+                    GameLog.info(LOG_CATEGORY, "- Marche Bas2: " + spriteMarcheBas2.getWidth() + "x" + spriteMarcheBas2.getHeight());
+                    GameLog.info(LOG_CATEGORY, "Animation chargée pour toutes les directions (2 frames chacune)");
+                    GameLog.info(LOG_CATEGORY, "- 8 sprites de mort chargés");
+                    GameLog.info(LOG_CATEGORY, "- 9 sprites de victoire chargés");
                 } else {
                     // Fallback vers le chargement direct si le SpriteManager n'est pas disponible
                     loadAllSpritesFallback();
                 }
                 
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement des sprites depuis le SpriteManager : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des sprites depuis le SpriteManager : " + e.getMessage());
                 // Fallback final
                 loadAllSpritesFallback();
             }
@@ -237,66 +267,93 @@ public class BombermanAnimator {
                     spritesWin[i] = new Image(BombermanAnimator.class.getResourceAsStream("/sprites/perso/bomberman_win_" + (i + 1) + ".png"));
                 }
                 
-            System.out.println("Sprites joueur chargés en fallback (Bomberman par défaut)");
+            GameLog.info(LOG_CATEGORY, "Sprites joueur chargés en fallback (Bomberman par défaut)");
             
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des sprites en fallback : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des sprites en fallback : " + fallbackException.getMessage());
             fallbackException.printStackTrace();
         }
     }
     
     /**
-     * Initialise l'animation de marche avec Timeline à durée variable
+     * Construit la séquence de mort : 8 frames, boucle prolongée 7↔8, puis pause finale d'une seconde
      */
-    private void initializeWalkingAnimation() {
-        // On démarre avec la première frame qui est un sprite fixe
-        scheduleNextFrame();
+    private static FrameSequence buildDeathSequence() {
+        // 7 → 8 → 7 → 8 → ... (effet de "dernier souffle" prolongé), 6=Bomberman_dies_7, 7=Bomberman_dies_8
+        int[] loopSequence = {6, 7, 6, 7, 6, 7, 6, 7, 6, 7, 6, 7};
+        int frameCount = 8 + loopSequence.length + 1;
+        int[] frames = new int[frameCount];
+        double[] startTimes = new double[frameCount];
+        
+        double currentTime = 0;
+        int index = 0;
+        for (int i = 0; i < 8; i++) {
+            frames[index] = i;
+            startTimes[index++] = currentTime;
+            currentTime += DEATH_DURATION_MS;
+        }
+        for (int loopFrame : loopSequence) {
+            frames[index] = loopFrame;
+            startTimes[index++] = currentTime;
+            currentTime += DEATH_DURATION_MS * 0.6; // Boucle plus rapide (60% de la vitesse normale)
+        }
+        // Frame finale fixe sur Bomberman_dies_8 pendant 1 seconde
+        frames[index] = 7;
+        startTimes[index] = currentTime;
+        currentTime += 1000;
+        
+        return new FrameSequence(frames, startTimes, (long) currentTime);
     }
     
     /**
-     * Programme la prochaine frame avec la durée appropriée (seulement pour l'animation de marche)
+     * Construit la séquence de victoire : 9 frames de "téléportation", la dernière maintenue 0.5 seconde
      */
-    private void scheduleNextFrame() {
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
+    private static FrameSequence buildWinSequence() {
+        int frameCount = 9;
+        int[] frames = new int[frameCount];
+        double[] startTimes = new double[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = i;
+            startTimes[i] = i * WIN_DURATION_MS;
         }
-        
-        // Ne programmer la prochaine frame que si on est en état de marche
-        if (currentState != AnimationState.ALIVE_WALKING) {
-            return;
+        double duration = frameCount * WIN_DURATION_MS + 500; // Maintenir 0.5 seconde
+        return new FrameSequence(frames, startTimes, (long) duration);
+    }
+    
+    /**
+     * Synchronise la frame courante avec le temps écoulé sur l'horloge d'animation
+     */
+    private void updateAnimationFrame() {
+        long elapsed = AnimationScheduler.getInstance().elapsedSince(animationStartTime);
+        int frame;
+        switch (currentState) {
+            case ALIVE_WALKING:
+                frame = AnimationScheduler.sequenceFrame(elapsed % WALK_CYCLE_MS, WALK_FRAME_START_TIMES);
+                break;
+            case DYING:
+                frame = DEATH_SEQUENCE.frameAt(elapsed);
+                break;
+            case WINNING:
+                frame = WIN_SEQUENCE.frameAt(elapsed);
+                break;
+            default:
+                return;
         }
-        
-        // Déterminer la durée selon le type de frame actuel
-        double duration = isFixeFrame(currentFrame) ? FIXE_DURATION_MS : MARCHE_DURATION_MS;
-        
-        walkingAnimation = new Timeline(
-            new KeyFrame(Duration.millis(duration), e -> {
-                // Passer à la frame suivante seulement si on est toujours en marche
-                if (currentState == AnimationState.ALIVE_WALKING) {
-                    currentFrame = (currentFrame + 1) % 5;
-                    updateCurrentSprite();
-                    needsRecalculation = true;
-                    
-                    // Programmer la prochaine frame si on est toujours en train de marcher
-                    if (isWalking && currentState == AnimationState.ALIVE_WALKING) {
-                        scheduleNextFrame();
-                    }
-                }
-            })
-        );
-        
-        if (isWalking && currentState == AnimationState.ALIVE_WALKING) {
-            walkingAnimation.play();
+        if (frame != currentFrame) {
+            currentFrame = frame;
+            updateCurrentSprite();
+            needsRecalculation = true;
         }
     }
     
     /**
-     * Vérifie si une frame donnée correspond à un sprite fixe
-     * @param frame Index de la frame (0-4)
-     * @return true si c'est un sprite fixe
+     * Annule la notification de fin d'animation en attente (mort ou victoire)
      */
-    private boolean isFixeFrame(int frame) {
-        return frame == 0 || frame == 2 || frame == 4;
+    private void cancelCompletionTask() {
+        if (completionTask != null) {
+            completionTask.cancel();
+            completionTask = null;
+        }
     }
     
     /**
@@ -404,6 +461,7 @@ public class BombermanAnimator {
         if (!direction.equals(this.currentDirection)) {
             this.currentDirection = direction;
             this.currentFrame = 0; // Remettre à la première frame
+            this.animationStartTime = AnimationScheduler.getInstance().currentTimeMillis();
             updateCurrentSprite();
             this.needsRecalculation = true;
         }
@@ -417,8 +475,8 @@ public class BombermanAnimator {
             this.currentState = AnimationState.ALIVE_WALKING;
             this.isWalking = true;
             this.currentFrame = 0; // Commencer par le sprite fixe
+            this.animationStartTime = AnimationScheduler.getInstance().currentTimeMillis();
             updateCurrentSprite();
-            scheduleNextFrame(); // Démarrer le cycle avec durées variables
             this.needsRecalculation = true;
         }
     }
@@ -431,9 +489,6 @@ public class BombermanAnimator {
             this.currentState = AnimationState.ALIVE_IDLE;
             this.isWalking = false;
             this.currentFrame = 0; // Revenir au sprite fixe
-            if (walkingAnimation != null) {
-                walkingAnimation.stop();
-            }
             updateCurrentSprite(); // Revenir au sprite fixe
             this.needsRecalculation = true;
         }
@@ -543,8 +598,9 @@ public class BombermanAnimator {
      * @param gc Contexte graphique JavaFX
      */
     public void render(GraphicsContext gc) {
+        updateAnimationFrame();
         if (currentSprite == null) {
-            System.err.println("Aucun sprite chargé pour la direction : " + currentDirection);
+            GameLog.error(LOG_CATEGORY, "Aucun sprite chargé pour la direction : " + currentDirection);
             return;
         }
         
@@ -579,13 +635,14 @@ public class BombermanAnimator {
      * @param alpha Transparence du sprite (0.0 à 1.0)
      */
     public void renderWithEffects(GraphicsContext gc, boolean isInvincible, double alpha) {
+        updateAnimationFrame();
         if (currentSprite == null) {
             return;
         }
         
         // Effet de clignotement pour l'invincibilité
         if (isInvincible) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
             boolean shouldRender = (currentTime / 33) % 2 == 0; // Clignotement ultra rapide
             if (!shouldRender) {
                 return; // Ne pas dessiner (effet de clignotement)
@@ -639,6 +696,7 @@ public class BombermanAnimator {
      * @return La frame actuelle de l'animation (0 à 4)
      */
     public int getCurrentFrame() {
+        updateAnimationFrame();
         return currentFrame;
     }
     
@@ -689,6 +747,13 @@ public class BombermanAnimator {
         this.needsRecalculation = true;
     }
     
+    /**
+     * @return Durée de l'animation de mort en ms (délai entre la mort d'un joueur et sa résolution à l'écran)
+     */
+    public static long getDeathAnimationDuration() {
+        return DEATH_SEQUENCE.durationMillis;
+    }
+    
     /**
      * ✨ **NOUVEAU** : Force le rechargement des sprites (utile lors du changement de thème)
      */
@@ -713,25 +778,14 @@ public class BombermanAnimator {
         
         // Recharger tous les sprites
         loadAllSprites();
-        System.out.println("Sprites joueur rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Sprites joueur rechargés pour le nouveau thème");
     }
     
     /**
      * Libère les ressources d'animation
      */
     public void dispose() {
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
-            walkingAnimation = null;
-        }
-        if (deathAnimation != null) {
-            deathAnimation.stop();
-            deathAnimation = null;
-        }
-        if (winAnimation != null) {
-            winAnimation.stop();
-            winAnimation = null;
-        }
+        cancelCompletionTask();
         onDeathAnimationComplete = null;
         onWinAnimationComplete = null;
     }
@@ -742,12 +796,7 @@ public class BombermanAnimator {
      */
     public void startDeathAnimation(Runnable onComplete) {
         // Arrêter toute animation en cours
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
-        }
-        if (deathAnimation != null) {
-            deathAnimation.stop();
-        }
+        cancelCompletionTask();
         
         // Changer d'état et réinitialiser
         this.currentState = AnimationState.DYING;
@@ -757,80 +806,26 @@ public class BombermanAnimator {
         updateCurrentSprite();
         this.needsRecalculation = true;
         
-        // Créer et démarrer l'animation de mort
-        initializeDeathAnimation();
+        // Démarrer la séquence de mort et programmer sa fin
+        this.animationStartTime = AnimationScheduler.getInstance().currentTimeMillis();
+        this.completionTask = AnimationScheduler.getInstance().schedule(DEATH_SEQUENCE.durationMillis, this::finishDeathAnimation);
         
-        System.out.println("🎬 Animation de mort démarrée (8 frames + boucle prolongée 7↔8 + pause finale 1s)");
+        GameLog.info(LOG_CATEGORY, "🎬 Animation de mort démarrée (8 frames + boucle prolongée 7↔8 + pause finale 1s)");
     }
     
     /**
-     * Initialise l'animation de mort avec 8 frames + petite boucle finale (7↔8)
+     * Fin de la séquence de mort (frame finale maintenue)
      */
-    private void initializeDeathAnimation() {
-        if (deathAnimation != null) {
-            deathAnimation.stop();
-        }
-
-        deathAnimation = new Timeline();
-        // L'animation ne doit se jouer qu'une seule fois
-        deathAnimation.setCycleCount(1);
-
-        double currentTime = 0;
-
-        // Ajouter les frames principales de l'animation de mort (0 à 7)
-        for (int i = 0; i < spritesDeath.length; i++) {
-            final int frameIndex = i;
-            KeyFrame kf = new KeyFrame(Duration.millis(currentTime), e -> {
-                this.currentFrame = frameIndex;
-                updateCurrentSprite();
-                needsRecalculation = true;
-            });
-            deathAnimation.getKeyFrames().add(kf);
-            currentTime += DEATH_DURATION_MS;
-        }
-
-        // ✨ **NOUVEAU** : Ajouter la boucle prolongée entre frames 7 et 8
-        // 7 → 8 → 7 → 8 → 7 → 8 → 7 → 8 → 7 → 8 → 7 → 8 (effet de "dernier souffle" prolongé)
-        int[] loopSequence = {6, 7, 6, 7, 6, 7, 6, 7, 6, 7, 6, 7}; // Indices des frames (6=Bomberman_dies_7, 7=Bomberman_dies_8)
+    private void finishDeathAnimation() {
+        completionTask = null;
+        GameLog.info(LOG_CATEGORY, "💀 Animation de mort terminée avec boucle finale (onFinished)");
         
-        for (int loopFrame : loopSequence) {
-            final int frameIndex = loopFrame;
-            KeyFrame kf = new KeyFrame(Duration.millis(currentTime), e -> {
-                this.currentFrame = frameIndex;
-                updateCurrentSprite();
-                needsRecalculation = true;
-            });
-            deathAnimation.getKeyFrames().add(kf);
-            currentTime += DEATH_DURATION_MS * 0.6; // Boucle plus rapide (60% de la vitesse normale)
+        // Exécuter le callback pour notifier la fin de la séquence de mort
+        if (onDeathAnimationComplete != null) {
+            Runnable callback = onDeathAnimationComplete;
+            onDeathAnimationComplete = null; // N'exécuter qu'une seule fois
+            callback.run();
         }
-
-        // ✨ **NOUVEAU** : Frame finale fixe sur Bomberman_dies_8 pendant 1 seconde
-        KeyFrame finalFrame = new KeyFrame(Duration.millis(currentTime), e -> {
-            this.currentFrame = 7; // Frame 8 (Bomberman_dies_8.png)
-            updateCurrentSprite();
-            needsRecalculation = true;
-        });
-        deathAnimation.getKeyFrames().add(finalFrame);
-        currentTime += 1000; // Rester 1 seconde sur la frame finale
-
-        // KeyFrame finale pour maintenir la dernière image visible
-        deathAnimation.getKeyFrames().add(
-            new KeyFrame(Duration.millis(currentTime))
-        );
-
-        // Définir une action à exécuter lorsque l'animation est complètement terminée
-        deathAnimation.setOnFinished(e -> {
-            System.out.println("💀 Animation de mort terminée avec boucle finale (onFinished)");
-
-            // Exécuter le callback pour notifier la fin de la séquence de mort
-            if (onDeathAnimationComplete != null) {
-                onDeathAnimationComplete.run();
-                onDeathAnimationComplete = null; // N'exécuter qu'une seule fois
-            }
-        });
-
-        // Lancer l'animation
-        deathAnimation.play();
     }
     
     /**
@@ -838,9 +833,7 @@ public class BombermanAnimator {
      * @return true si l'animation de mort est active
      */
     public boolean isDeathAnimationPlaying() {
-        return currentState == AnimationState.DYING && 
-               deathAnimation != null && 
-               deathAnimation.getStatus() == Timeline.Status.RUNNING;
+        return currentState == AnimationState.DYING && completionTask != null;
     }
     
     /**
@@ -857,15 +850,7 @@ public class BombermanAnimator {
      */
     public void revive() {
         // Arrêter toute animation en cours
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
-        }
-        if (deathAnimation != null) {
-            deathAnimation.stop();
-        }
-        if (winAnimation != null) {
-            winAnimation.stop();
-        }
+        cancelCompletionTask();
         
         // Remettre en état vivant
         this.currentState = AnimationState.ALIVE_IDLE;
@@ -876,7 +861,7 @@ public class BombermanAnimator {
         updateCurrentSprite();
         this.needsRecalculation = true;
         
-        System.out.println("✨ Personnage remis en vie - État: ALIVE_IDLE");
+        GameLog.info(LOG_CATEGORY, "✨ Personnage remis en vie - État: ALIVE_IDLE");
     }
     
     /**
@@ -885,15 +870,7 @@ public class BombermanAnimator {
      */
     public void startWinAnimation(Runnable onComplete) {
         // Arrêter toute animation en cours
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
-        }
-        if (deathAnimation != null) {
-            deathAnimation.stop();
-        }
-        if (winAnimation != null) {
-            winAnimation.stop();
-        }
+        cancelCompletionTask();
         
         // Changer d'état et réinitialiser
         this.currentState = AnimationState.WINNING;
@@ -903,65 +880,26 @@ public class BombermanAnimator {
         updateCurrentSprite();
         this.needsRecalculation = true;
         
-        // Créer et démarrer l'animation de victoire
-        initializeWinAnimation();
+        // Démarrer la séquence de victoire et programmer sa fin
+        this.animationStartTime = AnimationScheduler.getInstance().currentTimeMillis();
+        this.completionTask = AnimationScheduler.getInstance().schedule(WIN_SEQUENCE.durationMillis, this::finishWinAnimation);
         
-        System.out.println("🎉 Animation de victoire démarrée (9 frames - téléportation vers le haut)");
+        GameLog.info(LOG_CATEGORY, "🎉 Animation de victoire démarrée (9 frames - téléportation vers le haut)");
     }
     
     /**
-     * Initialise l'animation de victoire avec 9 frames de "téléportation"
+     * Fin de la séquence de victoire (dernière frame maintenue)
      */
-    private void initializeWinAnimation() {
-        if (winAnimation != null) {
-            winAnimation.stop();
-        }
-
-        winAnimation = new Timeline();
-        // L'animation ne doit se jouer qu'une seule fois
-        winAnimation.setCycleCount(1);
-
-        double currentTime = 0;
-
-        // Ajouter toutes les frames de l'animation de victoire (0 à 8)
-        for (int i = 0; i < spritesWin.length; i++) {
-            final int frameIndex = i;
-            KeyFrame kf = new KeyFrame(Duration.millis(currentTime), e -> {
-                this.currentFrame = frameIndex;
-                updateCurrentSprite();
-                needsRecalculation = true;
-            });
-            winAnimation.getKeyFrames().add(kf);
-            currentTime += WIN_DURATION_MS;
+    private void finishWinAnimation() {
+        completionTask = null;
+        GameLog.info(LOG_CATEGORY, "🎉 Animation de victoire terminée (onFinished)");
+        
+        // Exécuter le callback pour notifier la fin de la séquence de victoire
+        if (onWinAnimationComplete != null) {
+            Runnable callback = onWinAnimationComplete;
+            onWinAnimationComplete = null; // N'exécuter qu'une seule fois
+            callback.run();
         }
-
-        // ✨ **NOUVEAU** : Frame finale maintenue pendant 0.5 seconde avant callback
-        KeyFrame finalFrame = new KeyFrame(Duration.millis(currentTime), e -> {
-            this.currentFrame = spritesWin.length - 1; // Dernière frame (complètement disparu)
-            updateCurrentSprite();
-            needsRecalculation = true;
-        });
-        winAnimation.getKeyFrames().add(finalFrame);
-        currentTime += 500; // Maintenir 0.5 seconde
-
-        // KeyFrame finale pour déclencher le callback
-        winAnimation.getKeyFrames().add(
-            new KeyFrame(Duration.millis(currentTime))
-        );
-
-        // Définir une action à exécuter lorsque l'animation est complètement terminée
-        winAnimation.setOnFinished(e -> {
-            System.out.println("🎉 Animation de victoire terminée (onFinished)");
-
-            // Exécuter le callback pour notifier la fin de la séquence de victoire
-            if (onWinAnimationComplete != null) {
-                onWinAnimationComplete.run();
-                onWinAnimationComplete = null; // N'exécuter qu'une seule fois
-            }
-        });
-
-        // Lancer l'animation
-        winAnimation.play();
     }
     
     /**
@@ -969,9 +907,7 @@ public class BombermanAnimator {
      * @return true si l'animation de victoire est active
      */
     public boolean isWinAnimationPlaying() {
-        return currentState == AnimationState.WINNING && 
-               winAnimation != null && 
-               winAnimation.getStatus() == Timeline.Status.RUNNING;
+        return currentState == AnimationState.WINNING && completionTask != null;
     }
     
     /**
@@ -10,6 +10,8 @@ import javafx.scene.canvas.GraphicsContext;
  */
 public class BombermanSprite {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Taille logique d'une case dans le jeu
     private static final int CELL_SIZE = 48;
     
@@ -59,18 +61,18 @@ public class BombermanSprite {
                     spriteGauche = currentSprites.playerFixeGauche;
                     spriteDroite = currentSprites.playerFixeDroite;
                 
-                    System.out.println("Sprites joueur fixes chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
-                System.out.println("- Haut: " + spriteHaut.getWidth() + "x" + spriteHaut.getHeight());
-                System.out.println("- Bas: " + spriteBas.getWidth() + "x" + spriteBas.getHeight());
-                System.out.println("- Gauche: " + spriteGauche.getWidth() + "x" + spriteGauche.getHeight());
-                System.out.println("- Droite: " + spriteDroite.getWidth() + "x" + spriteDroite.getHeight());
+                    GameLog.info(LOG_CATEGORY, "Sprites joueur fixes chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                GameLog.info(LOG_CATEGORY, "- Haut: " + spriteHaut.getWidth() + "x" + spriteHaut.getHeight());
+                GameLog.info(LOG_CATEGORY, "- Bas: " + spriteBas.getWidth() + "x" + spriteBas.getHeight());
+                GameLog.info(LOG_CATEGORY, "- Gauche: " + spriteGauche.getWidth() + "x" + spriteGauche.getHeight());
+                GameLog.info(LOG_CATEGORY, "- Droite: " + spriteDroite.getWidth() + "x" + spriteDroite.getHeight());
                 } else {
                     // Fallback vers le chargement direct si le SpriteManager n'est pas disponible
                     loadSpritesFallback();
                 }
                 
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement des sprites depuis le SpriteManager : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des sprites depuis le SpriteManager : " + e.getMessage());
                 // Fallback final
                 loadSpritesFallback();
             }
@@ -87,10 +89,10 @@ public class BombermanSprite {
             spriteGauche = new Image(BombermanSprite.class.getResourceAsStream("/sprites/perso/bomberman_fixe_gauche.png"));
             spriteDroite = new Image(BombermanSprite.class.getResourceAsStream("/sprites/perso/bomberman_fixe_droite.png"));
             
-            System.out.println("Sprites joueur fixes chargés en fallback (Bomberman par défaut)");
+            GameLog.info(LOG_CATEGORY, "Sprites joueur fixes chargés en fallback (Bomberman par défaut)");
             
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des sprites en fallback : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des sprites en fallback : " + fallbackException.getMessage());
             fallbackException.printStackTrace();
         }
     }
@@ -119,7 +121,7 @@ public class BombermanSprite {
                     this.currentSprite = spriteDroite;
                     break;
                 default:
-                    System.err.println("Direction inconnue : " + direction + ". Direction 'bas' utilisée par défaut.");
+                    GameLog.error(LOG_CATEGORY, "Direction inconnue : " + direction + ". Direction 'bas' utilisée par défaut.");
                     this.currentSprite = spriteBas;
                     this.currentDirection = "bas";
                     break;
@@ -185,7 +187,7 @@ public class BombermanSprite {
      */
     public void render(GraphicsContext gc) {
         if (currentSprite == null) {
-            System.err.println("Aucun sprite chargé pour la direction : " + currentDirection);
+            GameLog.error(LOG_CATEGORY, "Aucun sprite chargé pour la direction : " + currentDirection);
             return;
         }
         
@@ -321,7 +323,7 @@ public class BombermanSprite {
         
         // Recharger tous les sprites
         loadSprites();
-        System.out.println("Sprites joueur fixes rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Sprites joueur fixes rechargés pour le nouveau thème");
     }
     
     /**
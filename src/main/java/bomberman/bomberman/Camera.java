@@ -0,0 +1,176 @@
+package bomberman.bomberman;
+
+/**
+ * Caméra de la zone de jeu : fait correspondre les pixels du plateau aux pixels de l'écran.
+ *
+ * La zone de jeu à l'écran (viewport) a une taille fixe. Un plateau qui y tient entièrement est centré
+ * sans défilement, exactement comme l'arène standard de 15x13 ; un plateau plus grand défile pour suivre
+ * un point (les joueurs vivants), sans jamais montrer l'extérieur du plateau. Le renderer n'a plus qu'à
+ * dessiner les cases et entités visibles (getFirstVisibleColumn... , isCellVisible, isVisible) : le coût
+ * d'une frame dépend de la taille du viewport, plus de celle du plateau.
+ *
+ * Les décalages sont des pixels entiers pour que les sprites des cases restent alignés pendant le défilement.
+ */
+public class Camera {
+
+    private final int viewportX;
+    private final int viewportY;
+    private final int viewportWidth;
+    private final int viewportHeight;
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int worldWidth;
+    private final int worldHeight;
+
+    // Pixel du plateau affiché au bord gauche / haut du viewport (0 si le plateau tient sur cet axe)
+    private int scrollX;
+    private int scrollY;
+
+    /**
+     * Constructeur de la caméra
+     * @param viewportX Position X de la zone de jeu à l'écran
+     * @param viewportY Position Y de la zone de jeu à l'écran
+     * @param viewportWidth Largeur de la zone de jeu en pixels
+     * @param viewportHeight Hauteur de la zone de jeu en pixels
+     * @param columns Nombre de colonnes du plateau
+     * @param rows Nombre de lignes du plateau
+     * @param cellSize Taille d'une case en pixels
+     */
+    public Camera(int viewportX, int viewportY, int viewportWidth, int viewportHeight, int columns, int rows, int cellSize) {
+        this.viewportX = viewportX;
+        this.viewportY = viewportY;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.worldWidth = columns * cellSize;
+        this.worldHeight = rows * cellSize;
+    }
+
+    /**
+     * Centre la caméra sur un point du plateau, sans sortir du plateau
+     * @param focusX Position X du point suivi, en pixels du plateau
+     * @param focusY Position Y du point suivi, en pixels du plateau
+     */
+    public void follow(double focusX, double focusY) {
+        scrollX = clampScroll(focusX - viewportWidth / 2.0, worldWidth, viewportWidth);
+        scrollY = clampScroll(focusY - viewportHeight / 2.0, worldHeight, viewportHeight);
+    }
+
+    private static int clampScroll(double scroll, int worldSize, int viewportSize) {
+        if (worldSize <= viewportSize) {
+            return 0;
+        }
+        return (int) Math.max(0, Math.min(worldSize - viewportSize, Math.round(scroll)));
+    }
+
+    private static int centering(int worldSize, int viewportSize) {
+        return worldSize < viewportSize ? (viewportSize - worldSize) / 2 : 0;
+    }
+
+    // ========== CONVERSIONS ==========
+
+    /**
+     * @return Position X à l'écran du coin gauche du plateau (à ajouter aux positions en pixels du plateau)
+     */
+    public int getOriginX() {
+        return viewportX + centering(worldWidth, viewportWidth) - scrollX;
+    }
+
+    /**
+     * @return Position Y à l'écran du coin haut du plateau (à ajouter aux positions en pixels du plateau)
+     */
+    public int getOriginY() {
+        return viewportY + centering(worldHeight, viewportHeight) - scrollY;
+    }
+
+    /**
+     * @return true si le plateau dépasse le viewport sur au moins un axe (la caméra peut défiler)
+     */
+    public boolean isScrolling() {
+        return worldWidth > viewportWidth || worldHeight > viewportHeight;
+    }
+
+    // ========== VISIBILITÉ ==========
+
+    /**
+     * @return Première colonne au moins partiellement visible
+     */
+    public int getFirstVisibleColumn() {
+        return Math.max(0, Math.floorDiv(viewportX - getOriginX(), cellSize));
+    }
+
+    /**
+     * @return Dernière colonne au moins partiellement visible
+     */
+    public int getLastVisibleColumn() {
+        return Math.min(columns - 1, Math.floorDiv(viewportX + viewportWidth - 1 - getOriginX(), cellSize));
+    }
+
+    /**
+     * @return Première ligne au moins partiellement visible
+     */
+    public int getFirstVisibleRow() {
+        return Math.max(0, Math.floorDiv(viewportY - getOriginY(), cellSize));
+    }
+
+    /**
+     * @return Dernière ligne au moins partiellement visible
+     */
+    public int getLastVisibleRow() {
+        return Math.min(rows - 1, Math.floorDiv(viewportY + viewportHeight - 1 - getOriginY(), cellSize));
+    }
+
+    /**
+     * @param column Position en colonne
+     * @param row Position en ligne
+     * @return true si la case est au moins partiellement visible
+     */
+    public boolean isCellVisible(int column, int row) {
+        return isVisible(column * cellSize, row * cellSize, cellSize, cellSize);
+    }
+
+    /**
+     * @param worldX Position X du rectangle, en pixels du plateau
+     * @param worldY Position Y du rectangle, en pixels du plateau
+     * @param width Largeur du rectangle
+     * @param height Hauteur du rectangle
+     * @return true si le rectangle touche le viewport
+     */
+    public boolean isVisible(double worldX, double worldY, double width, double height) {
+        double screenX = worldX + getOriginX();
+        double screenY = worldY + getOriginY();
+        return screenX < viewportX + viewportWidth && screenX + width > viewportX
+            && screenY < viewportY + viewportHeight && screenY + height > viewportY;
+    }
+
+    /**
+     * @return Position X de la zone de jeu à l'écran
+     */
+    public int getViewportX() {
+        return viewportX;
+    }
+
+    /**
+     * @return Position Y de la zone de jeu à l'écran
+     */
+    public int getViewportY() {
+        return viewportY;
+    }
+
+    /**
+     * @return Largeur de la zone de jeu en pixels
+     */
+    public int getViewportWidth() {
+        return viewportWidth;
+    }
+
+    /**
+     * @return Hauteur de la zone de jeu en pixels
+     */
+    public int getViewportHeight() {
+        return viewportHeight;
+    }
+}
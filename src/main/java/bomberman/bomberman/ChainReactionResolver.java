@@ -0,0 +1,150 @@
+package bomberman.bomberman;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Résolution itérative des réactions en chaîne entre bombes.
+ *
+ * Au lieu de faire exploser chaque bombe touchée de façon récursive, le résolveur
+ * utilise une file de travail : chaque explosion consulte directement les cases qu'elle
+ * touche pour trouver les bombes à déclencher, qui sont ajoutées à la file dans l'ordre
+ * des cases (centre, haut, bas, gauche, droite). Toute la chaîne est résolue dans le même
+ * tick, dans un ordre déterministe, sans profondeur de pile liée à la longueur de la chaîne.
+ * Le résolveur réutilise ses structures d'un appel à l'autre : une résolution n'alloue rien.
+ */
+public class ChainReactionResolver {
+
+    /**
+     * Interface pour récupérer (et retirer du jeu) la bombe posée sur une case
+     */
+    @FunctionalInterface
+    public interface BombLookup {
+        /**
+         * @param x Position X de la case touchée
+         * @param y Position Y de la case touchée
+         * @return La bombe retirée du jeu, ou null s'il n'y a pas de bombe sur la case
+         */
+        Bomb takeBombAt(int x, int y);
+    }
+
+    /**
+     * Interface pour faire exploser une bombe (création de l'explosion et effets associés)
+     */
+    @FunctionalInterface
+    public interface Detonator {
+        /**
+         * @param bomb La bombe qui explose
+         * @return L'explosion créée
+         */
+        Explosion detonate(Bomb bomb);
+    }
+
+    /**
+     * Résultat de la dernière réaction en chaîne : empreinte fusionnée et métriques.
+     * L'instance est réutilisée par le résolveur : son contenu change à chaque résolution.
+     */
+    public static class ChainReaction {
+        private final int[] footprint;
+        private int footprintSize;
+        private int length;
+        private long resolutionNanos;
+
+        private ChainReaction(int cellCount) {
+            this.footprint = new int[cellCount];
+        }
+
+        /**
+         * @return Les cases touchées par au moins une explosion de la chaîne, sans doublon,
+         *         encodées (ligne * colonnes + colonne) ; copie du tableau interne
+         */
+        public int[] getFootprint() {
+            return Arrays.copyOf(footprint, footprintSize);
+        }
+
+        /**
+         * @return Nombre de cases touchées par la chaîne
+         */
+        public int getFootprintSize() {
+            return footprintSize;
+        }
+
+        /**
+         * @return Nombre de bombes ayant explosé dans la chaîne (1 = pas de réaction en chaîne)
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return Durée de la résolution en nanosecondes
+         */
+        public long getResolutionNanos() {
+            return resolutionNanos;
+        }
+    }
+
+    private final int columns;
+    private final ArrayDeque<Bomb> worklist = new ArrayDeque<>();
+
+    // Marquage des cases déjà dans l'empreinte : une case est marquée si sa valeur vaut la génération courante
+    private final int[] footprintMarks;
+    private int generation;
+
+    private final ChainReaction chainReaction;
+
+    /**
+     * Constructeur du résolveur
+     * @param columns Nombre de colonnes de la grille
+     * @param rows Nombre de lignes de la grille
+     */
+    public ChainReactionResolver(int columns, int rows) {
+        this.columns = columns;
+        this.footprintMarks = new int[columns * rows];
+        this.chainReaction = new ChainReaction(columns * rows);
+    }
+
+    /**
+     * Fait exploser une bombe et toutes celles qu'elle déclenche, directement ou en cascade
+     * @param firstBomb La bombe à l'origine de la chaîne (déjà retirée du jeu)
+     * @param bombLookup Accès aux bombes posées sur la grille
+     * @param detonator Création des explosions
+     * @return Le résultat de la chaîne (instance réutilisée, valable jusqu'à la prochaine résolution)
+     */
+    public ChainReaction resolve(Bomb firstBomb, BombLookup bombLookup, Detonator detonator) {
+        long start = System.nanoTime();
+        generation++;
+
+        int[] footprint = chainReaction.footprint;
+        int footprintSize = 0;
+        int length = 0;
+
+        worklist.clear();
+        worklist.add(firstBomb);
+        while (!worklist.isEmpty()) {
+            Explosion explosion = detonator.detonate(worklist.poll());
+            length++;
+
+            for (int i = 0; i < explosion.getCellCount(); i++) {
+                int x = explosion.getCellX(i);
+                int y = explosion.getCellY(i);
+                int index = y * columns + x;
+                if (footprintMarks[index] != generation) {
+                    footprintMarks[index] = generation;
+                    footprint[footprintSize++] = index;
+                }
+
+                // Une bombe retirée par la lookup ne peut plus être trouvée : chaque bombe n'explose qu'une fois
+                Bomb chained = bombLookup.takeBombAt(x, y);
+                if (chained != null) {
+                    worklist.add(chained);
+                }
+            }
+        }
+
+        chainReaction.footprintSize = footprintSize;
+        chainReaction.length = length;
+        chainReaction.resolutionNanos = System.nanoTime() - start;
+        return chainReaction;
+    }
+}
@@ -17,6 +17,8 @@ import java.util.ResourceBundle;
  */
 public class CommandsController implements Initializable {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     @FXML private Label commandsTitle;
     @FXML private VBox commandsList;
     @FXML private Button returnButton;
@@ -101,7 +103,7 @@ public class CommandsController implements Initializable {
     @FXML
     private void returnToPreviousMenu() {
         playSelectionSound();
-        System.out.println("Retour au menu précédent depuis l'écran des commandes");
+        GameLog.info(LOG_CATEGORY, "Retour au menu précédent depuis l'écran des commandes");
         
         if (commandsCallback != null) {
             commandsCallback.returnToPreviousMenu();
@@ -0,0 +1,261 @@
+package bomberman.bomberman;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carte des dangers de la grille : pour chaque case, le temps restant avant qu'une flamme ne la couvre.
+ *
+ * Calculée une seule fois par tick par la simulation (GameSimulation.getDangerMap()), à partir des
+ * explosions en cours et des bombes posées, réactions en chaîne comprises : une bombe touchée par la
+ * flamme d'une autre explose en même temps qu'elle. Les bombes sont traitées par ordre d'explosion
+ * (la plus proche d'abord), ce qui donne à chaque case l'instant de la première flamme qui l'atteint.
+ *
+ * Les questions des bots (suis-je en danger, cette case sera-t-elle sûre quand je l'atteindrai)
+ * deviennent des lectures de tableau, partagées par tous les bots de la partie. Les branches
+ * s'arrêtent comme celles des explosions (bloc solide, bloc destructible inclus, porte visible) ;
+ * les blocs qu'une chaîne détruirait avant qu'une autre bombe n'explose ne sont pas retirés.
+ * Les cases menacées et en feu sont aussi tenues en bitboards, pour les parcours par ensembles de cases.
+ */
+public class DangerMap {
+
+    /**
+     * Temps renvoyé pour une case qu'aucune flamme connue n'atteindra
+     */
+    public static final long SAFE = Long.MAX_VALUE;
+
+    private static final int NO_CELL = -1;
+    private static final int[] DIRECTION_DX = {0, 0, -1, 1};
+    private static final int[] DIRECTION_DY = {-1, 1, 0, 0};
+
+    /**
+     * Interface pour connaître la portée de l'explosion d'une bombe
+     */
+    @FunctionalInterface
+    public interface RangeLookup {
+        /**
+         * @param bomb La bombe
+         * @return Portée de son explosion en cases
+         */
+        int rangeOf(Bomb bomb);
+    }
+
+    private final int columns;
+    private final int rows;
+
+    // Temps avant la première flamme (0 = en feu) et case de la bombe qui a déclenché cette flamme
+    private final long[] blastTimes;
+    private final int[] blastOrigins;
+
+    // Mêmes informations en ensembles de cases : menacées (flamme présente ou à venir) et en feu
+    private final Bitboard threatenedCells;
+    private final Bitboard burningCells;
+
+    // Bombes en attente de traitement, avec leur instant d'explosion (éventuellement avancé par une chaîne)
+    private Bomb[] bombs = new Bomb[16];
+    private long[] detonationTimes = new long[16];
+    private int[] detonationOrigins = new int[16];
+    private int bombCount;
+    private final int[] bombIndexByCell;
+
+    /**
+     * Constructeur de la carte
+     * @param columns Nombre de colonnes de la grille
+     * @param rows Nombre de lignes de la grille
+     */
+    public DangerMap(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.blastTimes = new long[columns * rows];
+        this.blastOrigins = new int[columns * rows];
+        this.bombIndexByCell = new int[columns * rows];
+        this.threatenedCells = new Bitboard(columns, rows);
+        this.burningCells = new Bitboard(columns, rows);
+        Arrays.fill(blastTimes, SAFE);
+        Arrays.fill(blastOrigins, NO_CELL);
+        Arrays.fill(bombIndexByCell, NO_CELL);
+    }
+
+    /**
+     * Recalcule la carte pour l'instant courant de la simulation
+     * @param grid La grille (obstacles qui arrêtent les flammes)
+     * @param exitDoor La porte de sortie (arrête les flammes quand elle est visible), peut être null
+     * @param explosions Explosions en cours
+     * @param playerBombs Bombes des joueurs
+     * @param rainBombs Bombes de Bomb Rain
+     * @param ranges Portée de l'explosion de chaque bombe
+     */
+    public void compute(Grid grid, ExitDoor exitDoor, List<Explosion> explosions, List<Bomb> playerBombs,
+                        List<Bomb> rainBombs, RangeLookup ranges) {
+        Arrays.fill(blastTimes, SAFE);
+        Arrays.fill(blastOrigins, NO_CELL);
+        threatenedCells.clearAll();
+        burningCells.clearAll();
+
+        // Cases déjà en feu
+        for (Explosion explosion : explosions) {
+            if (explosion.isActive()) {
+                int origin = explosion.getCenterY() * columns + explosion.getCenterX();
+                for (int i = 0; i < explosion.getCellCount(); i++) {
+                    cover(explosion.getCellY(i) * columns + explosion.getCellX(i), 0, origin);
+                }
+            }
+        }
+
+        bombCount = 0;
+        addBombs(playerBombs);
+        addBombs(rainBombs);
+
+        // Bombe qui explose le plus tôt d'abord : ses flammes avancent l'explosion des bombes touchées
+        for (int processed = 0; processed < bombCount; processed++) {
+            int next = processed;
+            for (int i = processed + 1; i < bombCount; i++) {
+                if (detonationTimes[i] < detonationTimes[next]) {
+                    next = i;
+                }
+            }
+            swap(processed, next);
+            Bomb bomb = bombs[processed];
+            bombIndexByCell[bomb.getY() * columns + bomb.getX()] = NO_CELL;
+            coverBlast(bomb, ranges.rangeOf(bomb), detonationTimes[processed], detonationOrigins[processed], grid, exitDoor);
+        }
+
+        for (int i = 0; i < bombCount; i++) {
+            bombs[i] = null;
+        }
+    }
+
+    private void addBombs(List<Bomb> list) {
+        for (Bomb bomb : list) {
+            if (!bomb.isActive()) {
+                continue;
+            }
+            if (bombCount == bombs.length) {
+                bombs = Arrays.copyOf(bombs, bombCount * 2);
+                detonationTimes = Arrays.copyOf(detonationTimes, bombCount * 2);
+                detonationOrigins = Arrays.copyOf(detonationOrigins, bombCount * 2);
+            }
+            int cell = bomb.getY() * columns + bomb.getX();
+            bombs[bombCount] = bomb;
+            detonationTimes[bombCount] = bomb.getTimeUntilExplosion();
+            detonationOrigins[bombCount] = cell;
+            bombIndexByCell[cell] = bombCount;
+            bombCount++;
+        }
+    }
+
+    private void swap(int i, int j) {
+        if (i == j) {
+            return;
+        }
+        Bomb bomb = bombs[i];
+        bombs[i] = bombs[j];
+        bombs[j] = bomb;
+        long time = detonationTimes[i];
+        detonationTimes[i] = detonationTimes[j];
+        detonationTimes[j] = time;
+        int origin = detonationOrigins[i];
+        detonationOrigins[i] = detonationOrigins[j];
+        detonationOrigins[j] = origin;
+        bombIndexByCell[bombs[i].getY() * columns + bombs[i].getX()] = i;
+        bombIndexByCell[bombs[j].getY() * columns + bombs[j].getX()] = j;
+    }
+
+    /**
+     * Couvre la croix d'une bombe qui explose à l'instant time, et avance les bombes qu'elle touche
+     */
+    private void coverBlast(Bomb bomb, int range, long time, int origin, Grid grid, ExitDoor exitDoor) {
+        coverAndChain(bomb.getY() * columns + bomb.getX(), time, origin);
+        for (int direction = 0; direction < DIRECTION_DX.length; direction++) {
+            int length = grid.getBlastArmLength(bomb.getX(), bomb.getY(), direction, range, exitDoor);
+            int step = DIRECTION_DY[direction] * columns + DIRECTION_DX[direction];
+            int cell = bomb.getY() * columns + bomb.getX();
+            for (int i = 1; i <= length; i++) {
+                cell += step;
+                coverAndChain(cell, time, origin);
+            }
+        }
+    }
+
+    private void coverAndChain(int cell, long time, int origin) {
+        cover(cell, time, origin);
+        int index = bombIndexByCell[cell];
+        if (index != NO_CELL && time < detonationTimes[index]) {
+            // Réaction en chaîne : la bombe touchée explose avec celle qui la déclenche
+            detonationTimes[index] = time;
+            detonationOrigins[index] = origin;
+        }
+    }
+
+    private void cover(int cell, long time, int origin) {
+        if (time < blastTimes[cell]) {
+            blastTimes[cell] = time;
+            blastOrigins[cell] = origin;
+            threatenedCells.set(cell % columns, cell / columns);
+            if (time == 0) {
+                burningCells.set(cell % columns, cell / columns);
+            }
+        }
+    }
+
+    // ========== REQUÊTES ==========
+
+    /**
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return Temps en ms avant qu'une flamme ne couvre la case (0 si elle est en feu), SAFE si aucune ne l'atteindra
+     */
+    public long getTimeUntilBlast(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return SAFE;
+        }
+        return blastTimes[y * columns + x];
+    }
+
+    /**
+     * @return true si une flamme couvre la case en ce moment
+     */
+    public boolean isBurning(int x, int y) {
+        return getTimeUntilBlast(x, y) == 0;
+    }
+
+    /**
+     * @return true si une flamme, présente ou à venir, atteindra la case
+     */
+    public boolean isThreatened(int x, int y) {
+        return getTimeUntilBlast(x, y) != SAFE;
+    }
+
+    /**
+     * @return Les cases qu'une flamme, présente ou à venir, atteindra (à ne pas modifier)
+     */
+    public Bitboard getThreatenedCells() {
+        return threatenedCells;
+    }
+
+    /**
+     * @return Les cases couvertes par une flamme en ce moment (à ne pas modifier)
+     */
+    public Bitboard getBurningCells() {
+        return burningCells;
+    }
+
+    /**
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return true si la première flamme qui atteindra la case provient (directement ou par chaîne)
+     *         de la bombe posée sur la case (bombX, bombY)
+     */
+    public boolean isBlastFrom(int x, int y, int bombX, int bombY) {
+        return isThreatened(x, y) && blastOrigins[y * columns + x] == bombY * columns + bombX;
+    }
+
+    /**
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return Case (colonne, ligne) de la bombe à l'origine de la première flamme, encodée (ligne * colonnes + colonne), -1 si aucune
+     */
+    public int getBlastOrigin(int x, int y) {
+        return isThreatened(x, y) ? blastOrigins[y * columns + x] : NO_CELL;
+    }
+}
@@ -1,10 +1,6 @@
 package bomberman.bomberman;
 
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.image.Image;
-import javafx.util.Duration;
 
 /**
  * Classe gérant l'animation des blocs destructibles.
@@ -12,11 +8,14 @@ import javafx.util.Duration;
  * - Version 1 : bloc destructible sans bloc non destructible au-dessus
  * - Version 2 : bloc destructible avec bloc non destructible au-dessus
  * 
- * Chaque version possède 4 frames d'animation qui s'enchaînent en boucle continue.
+ * Chaque version possède 4 frames d'animation qui s'enchaînent en boucle continue,
+ * calculées depuis l'horloge d'animation partagée (tous les blocs restent synchronisés).
  * Les sprites sont automatiquement redimensionnés de 16x16 à 48x48 pixels.
  */
 public class DestructibleBlock {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Constantes d'animation
     private static final int FRAME_COUNT = 4;
     private static final double FRAME_DURATION_MS = 100.0; // 100ms par frame
@@ -28,9 +27,9 @@ public class DestructibleBlock {
     
     // État de l'animation
     private final String version;
-    private Timeline animationTimeline;
-    private int currentFrameIndex = 0;
-    private Image currentFrame;
+    private boolean animationRunning;
+    private long animationStartTime; // Temps d'animation correspondant à la frame 0 de la boucle
+    private int currentFrameIndex = 0; // Frame figée quand l'animation est arrêtée
     
     /**
      * Constructeur du bloc destructible animé
@@ -46,9 +45,6 @@ public class DestructibleBlock {
         // Charger les images si ce n'est pas déjà fait
         loadFrames();
         
-        // Initialiser l'animation
-        initializeAnimation();
-        
         // Démarrer l'animation
         startAnimation();
     }
@@ -70,17 +66,17 @@ public class DestructibleBlock {
                     v1Frames[i] = currentSprites.blocDestructibleV1[i];
                     v2Frames[i] = currentSprites.blocDestructibleV2[i];
                 }
-                System.out.println("Frames de blocs destructibles chargées depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Frames de blocs destructibles chargées depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
             } else {
                 // Fallback vers les images par défaut si le SpriteManager n'est pas disponible
                 loadFramesFallback();
             }
             
             framesLoaded = true;
-            System.out.println("Toutes les frames de blocs destructibles chargées avec succès");
+            GameLog.info(LOG_CATEGORY, "Toutes les frames de blocs destructibles chargées avec succès");
             
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des frames depuis le SpriteManager : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des frames depuis le SpriteManager : " + e.getMessage());
             // Fallback final
             loadFramesFallback();
         }
@@ -95,61 +91,43 @@ public class DestructibleBlock {
             for (int i = 0; i < FRAME_COUNT; i++) {
                 String imagePath = "/sprites/bloc_destructible_v1_" + (i + 1) + "_48x48.png";
                 v1Frames[i] = new Image(DestructibleBlock.class.getResourceAsStream(imagePath));
-                System.out.println("Frame v1_" + (i + 1) + " chargée en fallback : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Frame v1_" + (i + 1) + " chargée en fallback : " + imagePath);
             }
             
             // Charger les frames de la version 2
             for (int i = 0; i < FRAME_COUNT; i++) {
                 String imagePath = "/sprites/bloc_destructible_v2_" + (i + 1) + "_48x48.png";
                 v2Frames[i] = new Image(DestructibleBlock.class.getResourceAsStream(imagePath));
-                System.out.println("Frame v2_" + (i + 1) + " chargée en fallback : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Frame v2_" + (i + 1) + " chargée en fallback : " + imagePath);
             }
             
             framesLoaded = true;
             
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des frames en fallback : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des frames en fallback : " + fallbackException.getMessage());
             fallbackException.printStackTrace();
         }
     }
     
     /**
-     * Initialise l'animation Timeline
-     */
-    private void initializeAnimation() {
-        // Définir la frame initiale
-        updateCurrentFrame();
-        
-        // Créer la timeline pour l'animation
-        animationTimeline = new Timeline(
-            new KeyFrame(Duration.millis(FRAME_DURATION_MS), e -> {
-                // Passer à la frame suivante
-                currentFrameIndex = (currentFrameIndex + 1) % FRAME_COUNT;
-                updateCurrentFrame();
-            })
-        );
-        
-        // Configuration de l'animation en boucle infinie
-        animationTimeline.setCycleCount(Animation.INDEFINITE);
-    }
-    
-    /**
-     * Met à jour la frame courante selon la version et l'index
+     * Calcule l'index de la frame courante depuis l'horloge d'animation
      */
-    private void updateCurrentFrame() {
-        if (version.equals("v1")) {
-            currentFrame = v1Frames[currentFrameIndex];
-        } else {
-            currentFrame = v2Frames[currentFrameIndex];
+    private int getCurrentFrameIndex() {
+        if (!animationRunning) {
+            return currentFrameIndex;
         }
+        long elapsed = AnimationScheduler.getInstance().elapsedSince(animationStartTime);
+        return AnimationScheduler.loopingFrame(elapsed, FRAME_DURATION_MS, FRAME_COUNT);
     }
     
     /**
-     * Démarre l'animation
+     * Démarre l'animation (reprend à la frame où elle s'était arrêtée)
      */
     public void startAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.play();
+        if (!animationRunning) {
+            long now = AnimationScheduler.getInstance().currentTimeMillis();
+            animationStartTime = now - (long) (currentFrameIndex * FRAME_DURATION_MS);
+            animationRunning = true;
         }
     }
     
@@ -157,8 +135,9 @@ public class DestructibleBlock {
      * Arrête l'animation
      */
     public void stopAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.stop();
+        if (animationRunning) {
+            currentFrameIndex = getCurrentFrameIndex();
+            animationRunning = false;
         }
     }
     
@@ -166,18 +145,14 @@ public class DestructibleBlock {
      * Met en pause l'animation
      */
     public void pauseAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.pause();
-        }
+        stopAnimation();
     }
     
     /**
      * Reprend l'animation si elle était en pause
      */
     public void resumeAnimation() {
-        if (animationTimeline != null) {
-            animationTimeline.play();
-        }
+        startAnimation();
     }
     
     /**
@@ -185,7 +160,8 @@ public class DestructibleBlock {
      * @return Image de la frame courante à afficher
      */
     public Image getCurrentFrame() {
-        return currentFrame;
+        int frameIndex = getCurrentFrameIndex();
+        return version.equals("v1") ? v1Frames[frameIndex] : v2Frames[frameIndex];
     }
     
     /**
@@ -201,17 +177,14 @@ public class DestructibleBlock {
      * @return true si l'animation joue, false sinon
      */
     public boolean isAnimationRunning() {
-        return animationTimeline != null && animationTimeline.getStatus() == Animation.Status.RUNNING;
+        return animationRunning;
     }
     
     /**
      * Libère les ressources de l'animation
      */
     public void dispose() {
-        if (animationTimeline != null) {
-            animationTimeline.stop();
-            animationTimeline = null;
-        }
+        stopAnimation();
     }
     
     /**
@@ -220,7 +193,7 @@ public class DestructibleBlock {
     public static void reloadFrames() {
         framesLoaded = false; // Forcer le rechargement
         loadFrames();
-        System.out.println("Frames de blocs destructibles rechargées pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Frames de blocs destructibles rechargées pour le nouveau thème");
     }
     
     /**
@@ -0,0 +1,168 @@
+package bomberman.bomberman;
+
+import java.util.Arrays;
+
+/**
+ * Champ de distances vers une ou plusieurs cibles (joueurs), partagé par toutes les entités qui les poursuivent.
+ *
+ * Un parcours en largeur depuis les cases des cibles donne, pour chaque case, le nombre de pas du plus
+ * court chemin vers la cible la plus proche (cases accessibles, les bombes bloquent le passage comme pour
+ * les ennemis). Le parcours avance par couches de bitboards : chaque couche est obtenue d'un coup à partir
+ * de la précédente (voisines de toutes ses cases, moins les cases déjà atteintes), sans file de cases.
+ * Une entité qui poursuit lit la distance de ses cases voisines en temps constant (nextStep) : le coût
+ * ne dépend plus du nombre de poursuivants.
+ *
+ * Le parcours n'est refait que si quelque chose a changé depuis le précédent : une cible a changé de
+ * case, un bloc a été détruit (Grid.getVersion), une bombe a été posée ou retirée
+ * (OccupancyGrid.getBombVersion), ou la grille a été remplacée (nouveau niveau, instantané).
+ */
+public class DistanceField {
+
+    /**
+     * Distance d'une case d'où aucune cible n'est atteignable
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Aucun pas ne rapproche d'une cible (déjà sur une cible, ou aucune cible atteignable)
+     */
+    public static final int NO_STEP = -1;
+
+    // Ordre des directions de nextStep, identique à Enemy.Direction : UP, DOWN, LEFT, RIGHT
+    private static final int[] DIRECTION_DX = {0, 0, -1, 1};
+    private static final int[] DIRECTION_DY = {-1, 1, 0, 0};
+
+    private final int columns;
+    private final int rows;
+    private final int[] distances;
+
+    // Cases traversables, cases déjà atteintes, couche courante et couche suivante du parcours
+    private final Bitboard passable;
+    private final Bitboard reached;
+    private Bitboard frontier;
+    private Bitboard nextFrontier;
+
+    // Entrées du dernier parcours (un nouveau parcours n'est fait que si l'une d'elles change)
+    private Grid lastGrid;
+    private int lastGridVersion;
+    private int lastBombVersion;
+    private final int[] lastSources;
+    private int lastSourceCount = -1;
+
+    private int computeCount;
+
+    /**
+     * Constructeur du champ
+     * @param columns Nombre de colonnes de la grille
+     * @param rows Nombre de lignes de la grille
+     */
+    public DistanceField(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.distances = new int[columns * rows];
+        this.passable = new Bitboard(columns, rows);
+        this.reached = new Bitboard(columns, rows);
+        this.frontier = new Bitboard(columns, rows);
+        this.nextFrontier = new Bitboard(columns, rows);
+        this.lastSources = new int[columns * rows];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    /**
+     * Met le champ à jour pour les cibles données, en ne refaisant le parcours que si nécessaire
+     * @param grid La grille (cases accessibles)
+     * @param occupancy L'index d'occupation (bombes qui bloquent le passage)
+     * @param sources Cases des cibles, encodées (ligne * colonnes + colonne)
+     * @param sourceCount Nombre de cibles utilisées dans sources
+     * @return true si le parcours a été refait
+     */
+    public boolean update(Grid grid, OccupancyGrid occupancy, int[] sources, int sourceCount) {
+        if (grid == lastGrid && grid.getVersion() == lastGridVersion
+                && occupancy.getBombVersion() == lastBombVersion
+                && Arrays.equals(sources, 0, sourceCount, lastSources, 0, lastSourceCount)) {
+            return false;
+        }
+        lastGrid = grid;
+        lastGridVersion = grid.getVersion();
+        lastBombVersion = occupancy.getBombVersion();
+        System.arraycopy(sources, 0, lastSources, 0, sourceCount);
+        lastSourceCount = sourceCount;
+
+        compute(grid, occupancy, sources, sourceCount);
+        computeCount++;
+        return true;
+    }
+
+    /**
+     * Parcours en largeur depuis toutes les cibles à la fois, une couche de distance par itération
+     */
+    private void compute(Grid grid, OccupancyGrid occupancy, int[] sources, int sourceCount) {
+        Arrays.fill(distances, UNREACHABLE);
+        grid.copyWalkableCells(passable);
+        passable.andNot(occupancy.getBombCells());
+
+        frontier.clearAll();
+        for (int i = 0; i < sourceCount; i++) {
+            int cell = sources[i];
+            distances[cell] = 0;
+            frontier.set(cell % columns, cell / columns);
+        }
+        reached.copyFrom(frontier);
+
+        for (int distance = 1; ; distance++) {
+            nextFrontier.setNeighbours(frontier, passable);
+            nextFrontier.andNot(reached);
+            if (nextFrontier.isEmpty()) {
+                return;
+            }
+            for (int bit = nextFrontier.nextSetBit(0); bit >= 0; bit = nextFrontier.nextSetBit(bit + 1)) {
+                distances[nextFrontier.bitRow(bit) * columns + nextFrontier.bitColumn(bit)] = distance;
+            }
+            reached.or(nextFrontier);
+            Bitboard layer = frontier;
+            frontier = nextFrontier;
+            nextFrontier = layer;
+        }
+    }
+
+    // ========== REQUÊTES ==========
+
+    /**
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return Nombre de pas jusqu'à la cible la plus proche, UNREACHABLE si aucune n'est atteignable
+     */
+    public int getDistance(int x, int y) {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return UNREACHABLE;
+        }
+        return distances[y * columns + x];
+    }
+
+    /**
+     * Direction du pas qui rapproche le plus d'une cible depuis une case (la case de départ elle-même
+     * peut être bloquée, par exemple par la bombe que l'entité vient de poser)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return Index de la direction dans l'ordre UP, DOWN, LEFT, RIGHT (Enemy.Direction), ou NO_STEP
+     */
+    public int nextStep(int x, int y) {
+        int best = getDistance(x, y);
+        int bestDirection = NO_STEP;
+        for (int direction = 0; direction < DIRECTION_DX.length; direction++) {
+            int distance = getDistance(x + DIRECTION_DX[direction], y + DIRECTION_DY[direction]);
+            if (distance < best) {
+                best = distance;
+                bestDirection = direction;
+            }
+        }
+        return bestDirection;
+    }
+
+    /**
+     * @return Nombre de parcours effectués depuis la création (les autres appels à update() étaient gratuits)
+     */
+    public int getComputeCount() {
+        return computeCount;
+    }
+}
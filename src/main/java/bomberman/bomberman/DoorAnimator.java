@@ -1,8 +1,5 @@
 package bomberman.bomberman;
 
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
 import javafx.scene.image.Image;
 
 /**
@@ -11,13 +8,14 @@ import javafx.scene.image.Image;
  */
 public class DoorAnimator {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Images de la porte (2 frames d'animation)
     private static Image[] doorSprites = new Image[2];
     private static boolean spritesLoaded = false;
     
     // État de l'animation
-    private int currentFrame = 0;
-    private Timeline animation;
+    private long animationStartTime; // Temps d'animation au démarrage de la boucle
     
     // Durée d'un frame (80ms pour une animation très rapide)
     private static final double FRAME_DURATION_MS = 80.0;
@@ -42,10 +40,10 @@ public class DoorAnimator {
             doorSprites[1] = new Image(DoorAnimator.class.getResourceAsStream("/sprites/porte_2.png"));
             
             spritesLoaded = true;
-            System.out.println("✅ Sprites de porte chargés : porte_1.png, porte_2.png");
+            GameLog.info(LOG_CATEGORY, "✅ Sprites de porte chargés : porte_1.png, porte_2.png");
             
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des sprites de porte : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "❌ Erreur lors du chargement des sprites de porte : " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -54,22 +52,15 @@ public class DoorAnimator {
      * Démarre l'animation cyclique de la porte
      */
     private void startAnimation() {
-        if (animation != null) {
-            animation.stop();
-        }
-        
-        animation = new Timeline(
-            new KeyFrame(Duration.millis(FRAME_DURATION_MS), e -> nextFrame())
-        );
-        animation.setCycleCount(Timeline.INDEFINITE);
-        animation.play();
+        animationStartTime = AnimationScheduler.getInstance().currentTimeMillis();
     }
     
     /**
-     * Passe au frame suivant (0 → 1 → 0 → 1...)
+     * Calcule le frame courant à partir de l'horloge d'animation (0 → 1 → 0 → 1...)
      */
-    private void nextFrame() {
-        currentFrame = (currentFrame + 1) % 2; // Boucle entre 0 et 1
+    private int getCurrentFrameIndex() {
+        long elapsed = AnimationScheduler.getInstance().elapsedSince(animationStartTime);
+        return AnimationScheduler.loopingFrame(elapsed, FRAME_DURATION_MS, 2);
     }
     
     /**
@@ -77,6 +68,7 @@ public class DoorAnimator {
      * @return L'image du frame actuel
      */
     public Image getCurrentSprite() {
+        int currentFrame = getCurrentFrameIndex();
         if (!spritesLoaded || doorSprites[currentFrame] == null) {
             return null;
         }
@@ -84,13 +76,10 @@ public class DoorAnimator {
     }
     
     /**
-     * Arrête l'animation et libère les ressources
+     * Libère les ressources (aucune : le frame est calculé depuis l'horloge d'animation partagée)
      */
     public void dispose() {
-        if (animation != null) {
-            animation.stop();
-            animation = null;
-        }
+        // Plus de Timeline à arrêter
     }
     
     /**
@@ -1,14 +1,21 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Classe représentant un ennemi dans le jeu Bomberman.
  * L'ennemi se déplace automatiquement selon une IA simple :
  * - Mouvement toutes les 500ms
  * - Direction persistante jusqu'à rencontrer un obstacle
  * - Changement de direction aléatoire quand bloqué
+ * - Poursuite d'un joueur proche (champ de distances partagé, voir DistanceField)
  */
 public class Enemy {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     // Position de l'ennemi sur la grille
     private int x;
     private int y;
@@ -28,6 +35,19 @@ public class Enemy {
     private static final long MOVE_INTERVAL = 500; // millisecondes
     private long lastMoveTime;
     
+    // Distance (en pas) en dessous de laquelle l'ennemi poursuit le joueur le plus proche
+    private static final int CHASE_DISTANCE = 6;
+    
+    // Horloge du jeu (temps de simulation)
+    private final GameClock clock;
+    
+    // Flux pseudo-aléatoire des directions (partagé par les ennemis d'une même partie)
+    private final RandomGenerator random;
+
+    // ✨ **NOUVEAU** : Case où l'OccupancyGrid de la partie compte l'entité, valable pour son marqueur
+    private int occupancyCell = OccupancyGrid.NO_CELL;
+    private int occupancyStamp;
+    
     /**
      * Énumération des directions possibles
      */
@@ -41,11 +61,34 @@ public class Enemy {
      * @param startY Position initiale en ligne
      */
     public Enemy(int startX, int startY) {
+        this(startX, startY, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur de l'ennemi avec horloge de jeu
+     * @param startX Position initiale en colonne
+     * @param startY Position initiale en ligne
+     * @param clock L'horloge de la simulation
+     */
+    public Enemy(int startX, int startY, GameClock clock) {
+        this(startX, startY, clock, new SplittableRandom());
+    }
+    
+    /**
+     * Constructeur de l'ennemi avec horloge de jeu et flux pseudo-aléatoire
+     * @param startX Position initiale en colonne
+     * @param startY Position initiale en ligne
+     * @param clock L'horloge de la simulation
+     * @param random Flux des directions (GameRandom.Stream.ENEMIES de la partie)
+     */
+    public Enemy(int startX, int startY, GameClock clock, RandomGenerator random) {
+        this.clock = clock;
+        this.random = random;
         this.x = startX;
         this.y = startY;
         this.isAlive = true;
         this.currentDirection = getRandomDirection();
-        this.lastMoveTime = System.currentTimeMillis();
+        this.lastMoveTime = clock.currentTimeMillis();
         
         // Pas d'invincibilité par défaut (pour les ennemis créés normalement au début du niveau)
         this.isInvincible = false;
@@ -71,8 +114,8 @@ public class Enemy {
      */
     public void activateInvincibility() {
         this.isInvincible = true;
-        this.invincibilityStartTime = System.currentTimeMillis();
-        System.out.println("Ennemi spawn avec invincibilité (5s) à (" + x + ", " + y + ")");
+        this.invincibilityStartTime = clock.currentTimeMillis();
+        GameLog.info(LOG_CATEGORY, "Ennemi spawn avec invincibilité (5s) à (" + x + ", " + y + ")");
     }
     
     /**
@@ -83,6 +126,19 @@ public class Enemy {
      * @return true si l'ennemi a bougé, false sinon
      */
     public boolean update(Grid grid, BombCollisionChecker bombCollisionChecker, EnemyCollisionChecker enemyCollisionChecker) {
+        return update(grid, bombCollisionChecker, enemyCollisionChecker, null);
+    }
+    
+    /**
+     * Met à jour l'ennemi, en poursuivant le joueur le plus proche s'il est à portée
+     * @param grid La grille pour vérifier les collisions
+     * @param bombCollisionChecker Interface pour vérifier les collisions avec les bombes
+     * @param enemyCollisionChecker Interface pour vérifier les collisions avec d'autres ennemis
+     * @param chaseField Champ de distances vers les joueurs (GameSimulation.getEnemyDistanceField), null pour un mouvement aléatoire
+     * @return true si l'ennemi a bougé, false sinon
+     */
+    public boolean update(Grid grid, BombCollisionChecker bombCollisionChecker, EnemyCollisionChecker enemyCollisionChecker,
+                          DistanceField chaseField) {
         if (!isAlive) {
             return false;
         }
@@ -90,9 +146,13 @@ public class Enemy {
         // Mettre à jour l'invincibilité
         updateInvincibility();
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         if (currentTime - lastMoveTime >= MOVE_INTERVAL) {
             lastMoveTime = currentTime;
+            Direction chase = getChaseDirection(chaseField, x, y);
+            if (chase != null) {
+                currentDirection = chase;
+            }
             return move(grid, bombCollisionChecker, enemyCollisionChecker);
         }
         
@@ -104,10 +164,10 @@ public class Enemy {
      */
     private void updateInvincibility() {
         if (isInvincible) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.currentTimeMillis();
             if (currentTime - invincibilityStartTime >= INVINCIBILITY_DURATION) {
                 isInvincible = false;
-                System.out.println("Invincibilité terminée pour l'ennemi à (" + x + ", " + y + ")");
+                GameLog.info(LOG_CATEGORY, "Invincibilité terminée pour l'ennemi à (" + x + ", " + y + ")");
             }
         }
     }
@@ -161,13 +221,34 @@ public class Enemy {
         currentDirection = getRandomDirection();
     }
     
+    /**
+     * Direction qui rapproche du joueur le plus proche, si celui-ci est à moins de CHASE_DISTANCE pas
+     * @param chaseField Champ de distances vers les joueurs (peut être null)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return La direction de poursuite, ou null si aucun joueur n'est à portée
+     */
+    protected static Direction getChaseDirection(DistanceField chaseField, int x, int y) {
+        if (chaseField == null) {
+            return null;
+        }
+        int step = chaseField.nextStep(x, y);
+        if (step == DistanceField.NO_STEP) {
+            return null;
+        }
+        Direction direction = Direction.values()[step];
+        int nextX = x + (direction == Direction.LEFT ? -1 : direction == Direction.RIGHT ? 1 : 0);
+        int nextY = y + (direction == Direction.UP ? -1 : direction == Direction.DOWN ? 1 : 0);
+        return chaseField.getDistance(nextX, nextY) < CHASE_DISTANCE ? direction : null;
+    }
+    
     /**
      * Génère une direction aléatoire
      * @return Une direction aléatoire
      */
     private Direction getRandomDirection() {
         Direction[] directions = Direction.values();
-        int randomIndex = (int) (Math.random() * directions.length);
+        int randomIndex = random.nextInt(directions.length);
         return directions[randomIndex];
     }
     
@@ -230,6 +311,20 @@ public class Enemy {
         return isInvincible;
     }
     
+    /**
+     * @return L'horloge du jeu utilisée par cet ennemi
+     */
+    protected GameClock getClock() {
+        return clock;
+    }
+    
+    /**
+     * @return Le flux pseudo-aléatoire utilisé par cet ennemi
+     */
+    protected RandomGenerator getRandom() {
+        return random;
+    }
+    
     /**
      * @return Le temps de début d'invincibilité
      */
@@ -249,7 +344,7 @@ public class Enemy {
      */
     protected void deactivateInvincibility() {
         this.isInvincible = false;
-        System.out.println("Invincibilité terminée pour l'ennemi à (" + x + ", " + y + ")");
+        GameLog.info(LOG_CATEGORY, "Invincibilité terminée pour l'ennemi à (" + x + ", " + y + ")");
     }
     
     /**
@@ -284,4 +379,54 @@ public class Enemy {
          */
         boolean isEnemyAt(int x, int y, Enemy excludeEnemy);
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit l'état de l'ennemi (position, direction, invincibilité, timer de déplacement)
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        GameSnapshot.putCoordinate(buffer, x);
+        GameSnapshot.putCoordinate(buffer, y);
+        buffer.put((byte) currentDirection.ordinal());
+        buffer.put((byte) ((isAlive ? 1 : 0) | (isInvincible ? 1 << 1 : 0)));
+        buffer.putLong(invincibilityStartTime);
+        buffer.putLong(lastMoveTime);
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état de l'ennemi
+     */
+    void readState(ByteBuffer buffer) {
+        x = GameSnapshot.getCoordinate(buffer);
+        y = GameSnapshot.getCoordinate(buffer);
+        currentDirection = Direction.values()[buffer.get()];
+        int states = buffer.get();
+        isAlive = (states & 1) != 0;
+        isInvincible = (states & 1 << 1) != 0;
+        invincibilityStartTime = buffer.getLong();
+        lastMoveTime = buffer.getLong();
+    }
+
+    // ========== INDEX D'OCCUPATION ==========
+
+    /**
+     * ✨ **NOUVEAU** : @param stamp Marqueur courant de l'OccupancyGrid qui interroge
+     * @return Case où cet index a compté l'entité, OccupancyGrid.NO_CELL s'il ne l'a pas indexée
+     */
+    int getOccupancyCell(int stamp) {
+        return occupancyStamp == stamp ? occupancyCell : OccupancyGrid.NO_CELL;
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Enregistre la case où l'OccupancyGrid compte l'entité
+     * @param stamp Marqueur courant de l'index
+     * @param cell Case indexée, OccupancyGrid.NO_CELL si l'entité n'est plus comptée
+     */
+    void setOccupancyCell(int stamp, int cell) {
+        occupancyStamp = stamp;
+        occupancyCell = cell;
+    }
+}
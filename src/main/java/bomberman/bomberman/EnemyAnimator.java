@@ -1,14 +1,12 @@
 package bomberman.bomberman;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.image.Image;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.util.Duration;
 
 /**
  * Classe responsable de l'animation des ennemis avec leurs sprites de marche.
- * Gère l'animation fluide avec 4 frames par direction en cycle continu.
+ * Gère l'animation fluide avec 4 frames par direction en cycle continu,
+ * cadencée par l'horloge d'animation partagée (AnimationScheduler).
  * 
  * Pattern d'animation de marche (4 frames cycliques) :
  * Frame 0: Ennemis1_world1_direction_1.png
@@ -21,6 +19,8 @@ import javafx.util.Duration;
  */
 public class EnemyAnimator {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Énumération des états d'animation
     public enum AnimationState {
         IDLE,       // Immobile (utilise frame 0)
@@ -55,8 +55,8 @@ public class EnemyAnimator {
     private double renderX;
     private double renderY;
     
-    // Animation - Timeline simple et robuste
-    private Timeline walkingAnimation;
+    // Animation - temps d'animation au début de la marche
+    private long walkingStartTime;
     
     // Cache pour éviter les recalculs répétés
     private Image currentSprite;
@@ -76,9 +76,6 @@ public class EnemyAnimator {
         this.isWalking = false;
         this.currentFrame = 0; // Commencer sur la première frame
         this.needsRecalculation = true;
-        
-        // Initialiser l'animation de marche
-        initializeWalkingAnimation();
     }
     
     /**
@@ -100,18 +97,18 @@ public class EnemyAnimator {
                         spritesDroite[i] = currentSprites.enemyDroite[i];
                     }
                     
-                    System.out.println("Sprites ennemis chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
-                    System.out.println("- Haut: " + spritesHaut[0].getWidth() + "x" + spritesHaut[0].getHeight() + " (4 frames)");
-                    System.out.println("- Bas: " + spritesBas[0].getWidth() + "x" + spritesBas[0].getHeight() + " (4 frames)");
-                    System.out.println("- Gauche: " + spritesGauche[0].getWidth() + "x" + spritesGauche[0].getHeight() + " (4 frames)");
-                    System.out.println("- Droite: " + spritesDroite[0].getWidth() + "x" + spritesDroite[0].getHeight() + " (4 frames)");
+                    GameLog.info(LOG_CATEGORY, "Sprites ennemis chargés depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                    GameLog.info(LOG_CATEGORY, "- Haut: " + spritesHaut[0].getWidth() + "x" + spritesHaut[0].getHeight() + " (4 frames)");
+                    GameLog.info(LOG_CATEGORY, "- Bas: " + spritesBas[0].getWidth() + "x" + spritesBas[0].getHeight() + " (4 frames)");
+                    GameLog.info(LOG_CATEGORY, "- Gauche: " + spritesGauche[0].getWidth() + "x" + spritesGauche[0].getHeight() + " (4 frames)");
+                    GameLog.info(LOG_CATEGORY, "- Droite: " + spritesDroite[0].getWidth() + "x" + spritesDroite[0].getHeight() + " (4 frames)");
                 } else {
                     // Fallback vers les sprites Puropen si le SpriteManager échoue
                     loadAllSpritesFallback();
                 }
                 
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement des sprites d'ennemis depuis le SpriteManager : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des sprites d'ennemis depuis le SpriteManager : " + e.getMessage());
                 // Fallback vers les sprites Puropen
                 loadAllSpritesFallback();
             }
@@ -143,14 +140,14 @@ public class EnemyAnimator {
                     spritesDroite[i] = new Image(EnemyAnimator.class.getResourceAsStream("/sprites/ennemis/Puropen_droite_" + (i + 1) + ".png"));
                 }
                 
-            System.out.println("Sprites ennemis chargés en fallback (Puropen par défaut)");
-                System.out.println("- Haut: " + spritesHaut[0].getWidth() + "x" + spritesHaut[0].getHeight() + " (4 frames)");
-                System.out.println("- Bas: " + spritesBas[0].getWidth() + "x" + spritesBas[0].getHeight() + " (4 frames)");
-                System.out.println("- Gauche: " + spritesGauche[0].getWidth() + "x" + spritesGauche[0].getHeight() + " (4 frames)");
-                System.out.println("- Droite: " + spritesDroite[0].getWidth() + "x" + spritesDroite[0].getHeight() + " (4 frames)");
+            GameLog.info(LOG_CATEGORY, "Sprites ennemis chargés en fallback (Puropen par défaut)");
+                GameLog.info(LOG_CATEGORY, "- Haut: " + spritesHaut[0].getWidth() + "x" + spritesHaut[0].getHeight() + " (4 frames)");
+                GameLog.info(LOG_CATEGORY, "- Bas: " + spritesBas[0].getWidth() + "x" + spritesBas[0].getHeight() + " (4 frames)");
+                GameLog.info(LOG_CATEGORY, "- Gauche: " + spritesGauche[0].getWidth() + "x" + spritesGauche[0].getHeight() + " (4 frames)");
+                GameLog.info(LOG_CATEGORY, "- Droite: " + spritesDroite[0].getWidth() + "x" + spritesDroite[0].getHeight() + " (4 frames)");
                 
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des sprites ennemis en fallback : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des sprites ennemis en fallback : " + fallbackException.getMessage());
             fallbackException.printStackTrace();
             }
         }
@@ -167,25 +164,22 @@ public class EnemyAnimator {
         
         // Recharger tous les sprites
         loadAllSprites();
-        System.out.println("Sprites ennemis rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Sprites ennemis rechargés pour le nouveau thème");
     }
     
     /**
-     * Initialise l'animation de marche avec Timeline simple et robuste
+     * Synchronise la frame de marche avec l'horloge d'animation (cycle 0->1->2->3->0)
      */
-    private void initializeWalkingAnimation() {
-        // Créer une Timeline simple qui s'exécute indéfiniment
-        KeyFrame animationFrame = new KeyFrame(
-            Duration.millis(FRAME_DURATION_MS),
-            e -> {
-                // Passer à la frame suivante (cycle 0->1->2->3->0)
-                currentFrame = (currentFrame + 1) % 4;
-                updateCurrentSprite();
-            }
-        );
-        
-        walkingAnimation = new Timeline(animationFrame);
-        walkingAnimation.setCycleCount(Timeline.INDEFINITE);
+    private void updateWalkingFrame() {
+        if (!isWalking) {
+            return;
+        }
+        long elapsed = AnimationScheduler.getInstance().elapsedSince(walkingStartTime);
+        int frame = AnimationScheduler.loopingFrame(elapsed, FRAME_DURATION_MS, 4);
+        if (frame != currentFrame) {
+            currentFrame = frame;
+            updateCurrentSprite();
+        }
     }
     
     /**
@@ -234,11 +228,10 @@ public class EnemyAnimator {
         if (!isWalking) {
             this.isWalking = true;
             this.currentState = AnimationState.WALKING;
+            // Reprendre le cycle à la frame courante
+            long now = AnimationScheduler.getInstance().currentTimeMillis();
+            this.walkingStartTime = now - (long) (currentFrame * FRAME_DURATION_MS);
             updateCurrentSprite();
-            
-            if (walkingAnimation != null) {
-                walkingAnimation.play();
-            }
         }
     }
     
@@ -250,11 +243,6 @@ public class EnemyAnimator {
             this.isWalking = false;
             this.currentState = AnimationState.IDLE;
             this.currentFrame = 0; // Revenir à la première frame (idle)
-            
-            if (walkingAnimation != null) {
-                walkingAnimation.stop();
-            }
-            
             updateCurrentSprite();
         }
     }
@@ -324,6 +312,7 @@ public class EnemyAnimator {
      * @param alpha Transparence (0.0 à 1.0)
      */
     public void renderWithEffects(GraphicsContext gc, boolean isInvincible, double alpha) {
+        updateWalkingFrame();
         if (currentSprite == null) {
             updateCurrentSprite();
             if (currentSprite == null) {
@@ -339,7 +328,7 @@ public class EnemyAnimator {
         try {
             // Appliquer l'effet d'invincibilité (clignotement)
             if (isInvincible) {
-                long currentTime = System.currentTimeMillis();
+                long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
                 boolean shouldBlink = (currentTime / 200) % 2 == 0; // Clignotement toutes les 200ms
                 
                 if (shouldBlink) {
@@ -381,6 +370,7 @@ public class EnemyAnimator {
      * @return La frame actuelle (0-3)
      */
     public int getCurrentFrame() {
+        updateWalkingFrame();
         return currentFrame;
     }
     
@@ -427,9 +417,6 @@ public class EnemyAnimator {
      * Nettoie les ressources d'animation
      */
     public void dispose() {
-        if (walkingAnimation != null) {
-            walkingAnimation.stop();
-            walkingAnimation = null;
-        }
+        stopWalking();
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+
 /**
  * Représente une porte de sortie pour terminer le niveau.
  * La porte est initialement cachée dans un bloc destructible.
@@ -7,6 +9,8 @@ package bomberman.bomberman;
  * et utilisable seulement quand tous les ennemis sont morts.
  */
 public class ExitDoor {
+    
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
     private final int x;  // Position en colonne
     private final int y;  // Position en ligne
     private boolean visible;  // Si la porte est visible ou non
@@ -51,7 +55,7 @@ public class ExitDoor {
     public void reveal() {
         if (!visible) {
             visible = true;
-            System.out.println("Porte de sortie révélée à la position (" + x + ", " + y + ")");
+            GameLog.info(LOG_CATEGORY, "Porte de sortie révélée à la position (" + x + ", " + y + ")");
         }
     }
     
@@ -61,7 +65,7 @@ public class ExitDoor {
     public void activate() {
         if (!activated) {
             activated = true;
-            System.out.println("Porte de sortie activée à la position (" + x + ", " + y + ") - Utilisable !");
+            GameLog.info(LOG_CATEGORY, "Porte de sortie activée à la position (" + x + ", " + y + ") - Utilisable !");
         }
     }
     
@@ -71,7 +75,7 @@ public class ExitDoor {
     public void deactivate() {
         if (activated) {
             activated = false;
-            System.out.println("Porte de sortie désactivée à la position (" + x + ", " + y + ") - En attente...");
+            GameLog.info(LOG_CATEGORY, "Porte de sortie désactivée à la position (" + x + ", " + y + ") - En attente...");
         }
     }
     
@@ -101,4 +105,29 @@ public class ExitDoor {
     public boolean canUseToExit(int playerX, int playerY) {
         return activated && playerX == x && playerY == y;
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit la position et l'état de la porte
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        GameSnapshot.putCoordinate(buffer, x);
+        GameSnapshot.putCoordinate(buffer, y);
+        buffer.put((byte) ((visible ? 1 : 0) | (activated ? 1 << 1 : 0)));
+    }
+    
+    /**
+     * Recrée une porte à partir de l'état écrit par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état de la porte
+     * @return La porte restaurée
+     */
+    static ExitDoor readState(ByteBuffer buffer) {
+        ExitDoor door = new ExitDoor(GameSnapshot.getCoordinate(buffer), GameSnapshot.getCoordinate(buffer));
+        int states = buffer.get();
+        door.visible = (states & 1) != 0;
+        door.activated = (states & 1 << 1) != 0;
+        return door;
+    }
+}
@@ -1,59 +1,97 @@
 package bomberman.bomberman;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * Classe représentant une explosion dans le jeu Bomberman.
  * Gère le calcul des cases affectées par l'explosion en forme de croix,
  * la destruction des blocs destructibles et la durée d'affichage des flammes.
+ *
+ * L'empreinte de l'explosion est stockée de façon compacte : le centre et la longueur
+ * de chacune des quatre branches. Les cases sont énumérées par index (0 = centre, puis
+ * les branches haut, bas, gauche, droite) sans créer d'objet par case, et les tests
+ * d'appartenance ou d'extrémité de branche se font en temps constant.
  */
 public class Explosion {
     
+    // Directions des branches de l'explosion (CENTER pour la case centrale)
+    public static final int CENTER = -1;
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+    
+    private static final int[] DIRECTION_DX = {0, 0, -1, 1};
+    private static final int[] DIRECTION_DY = {-1, 1, 0, 0};
+    
     // Position centrale de l'explosion
-    private final int centerX;
-    private final int centerY;
+    private int centerX;
+    private int centerY;
     
-    // Cases affectées par l'explosion
-    private final List<ExplosionCell> affectedCells;
+    // Longueur de chaque branche (indexée par direction) et nombre total de cases
+    private final int[] armLengths = new int[4];
+    private int cellCount;
+    
+    // Incrémenté à chaque réutilisation (pool) pour distinguer les explosions successives d'une même instance
+    private int generation;
     
     // État de l'explosion
     private boolean isActive;
-    private final long startTime;
+    private long startTime;
+    private final GameClock clock;  // Horloge du jeu (temps de simulation)
     
     // Durée d'affichage des flammes (en millisecondes)
     private static final long FLAME_DURATION = 500; // 0.5 seconde
     
     /**
-     * Classe interne représentant une case affectée par l'explosion
+     * Constructeur de l'explosion
+     * @param centerX Position centrale en colonne
+     * @param centerY Position centrale en ligne
+     * @param range Portée de l'explosion
+     * @param grid Grille pour vérifier les obstacles et détruire les blocs
+     * @param exitDoor Porte de sortie pour vérifier si l'explosion doit s'arrêter
      */
-    public static class ExplosionCell {
-        private final int x;
-        private final int y;
-        
-        public ExplosionCell(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-        
-        public int getX() { return x; }
-        public int getY() { return y; }
+    public Explosion(int centerX, int centerY, int range, Grid grid, ExitDoor exitDoor) {
+        this(centerX, centerY, range, grid, exitDoor, GameClock.SYSTEM);
     }
     
     /**
-     * Constructeur de l'explosion
+     * Constructeur de l'explosion avec horloge de jeu
      * @param centerX Position centrale en colonne
      * @param centerY Position centrale en ligne
      * @param range Portée de l'explosion
      * @param grid Grille pour vérifier les obstacles et détruire les blocs
      * @param exitDoor Porte de sortie pour vérifier si l'explosion doit s'arrêter
+     * @param clock L'horloge de la simulation
      */
-    public Explosion(int centerX, int centerY, int range, Grid grid, ExitDoor exitDoor) {
+    public Explosion(int centerX, int centerY, int range, Grid grid, ExitDoor exitDoor, GameClock clock) {
+        this.clock = clock;
+        reset(centerX, centerY, range, grid, exitDoor);
+    }
+    
+    /**
+     * Constructeur d'une explosion inactive destinée à un pool (voir reset)
+     * @param clock L'horloge de la simulation
+     */
+    public Explosion(GameClock clock) {
+        this.clock = clock;
+        this.isActive = false;
+    }
+    
+    /**
+     * Réinitialise l'explosion pour la réutiliser (pool) : même effet que le constructeur
+     * @param centerX Position centrale en colonne
+     * @param centerY Position centrale en ligne
+     * @param range Portée de l'explosion
+     * @param grid Grille pour vérifier les obstacles et détruire les blocs
+     * @param exitDoor Porte de sortie pour vérifier si l'explosion doit s'arrêter
+     */
+    public void reset(int centerX, int centerY, int range, Grid grid, ExitDoor exitDoor) {
         this.centerX = centerX;
         this.centerY = centerY;
-        this.affectedCells = new ArrayList<>();
         this.isActive = true;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = clock.currentTimeMillis();
+        this.generation++;
         
         calculateAffectedCells(range, grid, exitDoor);
     }
@@ -66,135 +104,34 @@ public class Explosion {
      * @param exitDoor Porte de sortie pour vérifier si l'explosion doit s'arrêter
      */
     private void calculateAffectedCells(int range, Grid grid, ExitDoor exitDoor) {
-        // Ajouter le centre de l'explosion
-        affectedCells.add(new ExplosionCell(centerX, centerY));
-        
-        // Explosion vers le haut
-        for (int i = 1; i <= range; i++) {
-            int y = centerY - i;
-            if (y < 0) {
-                break; // Arrêter si hors limites
-            }
-            
-            // Vérifier le type de case
-            TileType tileType = grid.getTileType(centerX, y);
-            
-            if (tileType == TileType.SOLID) {
-                break; // Arrêter sur un bloc solide
-            } else if (tileType == TileType.DESTRUCTIBLE) {
-                // Détruire le bloc destructible et ajouter la case à l'explosion
-                grid.destroyBlock(centerX, y);
-                affectedCells.add(new ExplosionCell(centerX, y));
-                break; // Arrêter après avoir détruit un bloc
-            } else {
-                // Case vide, vérifier si la porte de sortie visible bloque l'explosion
-                if (isVisibleExitDoorAt(centerX, y, exitDoor)) {
-                    // Ajouter la case de la porte aux cellules affectées pour le respawn d'ennemis
-                    affectedCells.add(new ExplosionCell(centerX, y));
-                    break; // Arrêter sur la porte de sortie visible
-                }
-                // Case vide, continuer l'explosion
-                affectedCells.add(new ExplosionCell(centerX, y));
-            }
-        }
-        
-        // Explosion vers le bas
-        for (int i = 1; i <= range; i++) {
-            int y = centerY + i;
-            if (y >= grid.getRows()) {
-                break; // Arrêter si hors limites
-            }
-            
-            // Vérifier le type de case
-            TileType tileType = grid.getTileType(centerX, y);
-            
-            if (tileType == TileType.SOLID) {
-                break; // Arrêter sur un bloc solide
-            } else if (tileType == TileType.DESTRUCTIBLE) {
-                // Détruire le bloc destructible et ajouter la case à l'explosion
-                grid.destroyBlock(centerX, y);
-                affectedCells.add(new ExplosionCell(centerX, y));
-                break; // Arrêter après avoir détruit un bloc
-            } else {
-                // Case vide, vérifier si la porte de sortie visible bloque l'explosion
-                if (isVisibleExitDoorAt(centerX, y, exitDoor)) {
-                    // Ajouter la case de la porte aux cellules affectées pour le respawn d'ennemis
-                    affectedCells.add(new ExplosionCell(centerX, y));
-                    break; // Arrêter sur la porte de sortie visible
-                }
-                // Case vide, continuer l'explosion
-                affectedCells.add(new ExplosionCell(centerX, y));
-            }
-        }
-        
-        // Explosion vers la gauche
-        for (int i = 1; i <= range; i++) {
-            int x = centerX - i;
-            if (x < 0) {
-                break; // Arrêter si hors limites
-            }
-            
-            // Vérifier le type de case
-            TileType tileType = grid.getTileType(x, centerY);
-            
-            if (tileType == TileType.SOLID) {
-                break; // Arrêter sur un bloc solide
-            } else if (tileType == TileType.DESTRUCTIBLE) {
-                // Détruire le bloc destructible et ajouter la case à l'explosion
-                grid.destroyBlock(x, centerY);
-                affectedCells.add(new ExplosionCell(x, centerY));
-                break; // Arrêter après avoir détruit un bloc
-            } else {
-                // Case vide, vérifier si la porte de sortie visible bloque l'explosion
-                if (isVisibleExitDoorAt(x, centerY, exitDoor)) {
-                    // Ajouter la case de la porte aux cellules affectées pour le respawn d'ennemis
-                    affectedCells.add(new ExplosionCell(x, centerY));
-                    break; // Arrêter sur la porte de sortie visible
-                }
-                // Case vide, continuer l'explosion
-                affectedCells.add(new ExplosionCell(x, centerY));
-            }
-        }
-        
-        // Explosion vers la droite
-        for (int i = 1; i <= range; i++) {
-            int x = centerX + i;
-            if (x >= grid.getColumns()) {
-                break; // Arrêter si hors limites
-            }
-            
-            // Vérifier le type de case
-            TileType tileType = grid.getTileType(x, centerY);
-            
-            if (tileType == TileType.SOLID) {
-                break; // Arrêter sur un bloc solide
-            } else if (tileType == TileType.DESTRUCTIBLE) {
-                // Détruire le bloc destructible et ajouter la case à l'explosion
-                grid.destroyBlock(x, centerY);
-                affectedCells.add(new ExplosionCell(x, centerY));
-                break; // Arrêter après avoir détruit un bloc
-            } else {
-                // Case vide, vérifier si la porte de sortie visible bloque l'explosion
-                if (isVisibleExitDoorAt(x, centerY, exitDoor)) {
-                    // Ajouter la case de la porte aux cellules affectées pour le respawn d'ennemis
-                    affectedCells.add(new ExplosionCell(x, centerY));
-                    break; // Arrêter sur la porte de sortie visible
-                }
-                // Case vide, continuer l'explosion
-                affectedCells.add(new ExplosionCell(x, centerY));
-            }
+        // Le centre, puis les branches dans l'ordre haut, bas, gauche, droite
+        cellCount = 1;
+        for (int direction = UP; direction <= RIGHT; direction++) {
+            armLengths[direction] = calculateArmLength(direction, range, grid, exitDoor);
+            cellCount += armLengths[direction];
         }
     }
     
     /**
-     * Vérifie si la porte de sortie visible est à la position donnée
-     * @param x Position X
-     * @param y Position Y
-     * @param exitDoor Porte de sortie à vérifier
-     * @return true si la porte de sortie visible est à cette position
+     * Calcule la longueur d'une branche de l'explosion (bitboards de la grille) et détruit le bloc
+     * destructible qui l'arrête
+     * @param direction Direction de la branche (UP, DOWN, LEFT, RIGHT)
+     * @param range Portée de l'explosion
+     * @param grid Grille pour vérifier les obstacles et détruire les blocs
+     * @param exitDoor Porte de sortie pour vérifier si l'explosion doit s'arrêter
+     * @return Nombre de cases touchées dans cette direction
      */
-    private boolean isVisibleExitDoorAt(int x, int y, ExitDoor exitDoor) {
-        return exitDoor != null && exitDoor.isVisible() && exitDoor.getX() == x && exitDoor.getY() == y;
+    private int calculateArmLength(int direction, int range, Grid grid, ExitDoor exitDoor) {
+        int length = grid.getBlastArmLength(centerX, centerY, direction, range, exitDoor);
+        if (length > 0) {
+            // Un bloc destructible en bout de branche fait partie de l'explosion, qui le détruit
+            int x = centerX + DIRECTION_DX[direction] * length;
+            int y = centerY + DIRECTION_DY[direction] * length;
+            if ((grid.getCellFlags(x, y) & Grid.FLAG_DESTRUCTIBLE) != 0) {
+                grid.destroyBlock(x, y);
+            }
+        }
+        return length;
     }
     
     /**
@@ -206,7 +143,7 @@ public class Explosion {
             return true;
         }
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         if (currentTime - startTime >= FLAME_DURATION) {
             isActive = false;
             return true; // Explosion terminée
@@ -223,10 +160,108 @@ public class Explosion {
     }
     
     /**
-     * @return Liste des cases affectées par l'explosion
+     * @return Nombre de cases affectées par l'explosion (centre compris)
      */
-    public List<ExplosionCell> getAffectedCells() {
-        return affectedCells;
+    public int getCellCount() {
+        return cellCount;
+    }
+    
+    /**
+     * @param direction Direction de la branche (UP, DOWN, LEFT, RIGHT)
+     * @return Nombre de cases touchées dans cette direction
+     */
+    public int getArmLength(int direction) {
+        return armLengths[direction];
+    }
+    
+    /**
+     * Vérifie si une case fait partie de l'explosion (temps constant)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return true si la case est touchée par l'explosion
+     */
+    public boolean contains(int x, int y) {
+        if (x == centerX) {
+            return y >= centerY - armLengths[UP] && y <= centerY + armLengths[DOWN];
+        }
+        if (y == centerY) {
+            return x >= centerX - armLengths[LEFT] && x <= centerX + armLengths[RIGHT];
+        }
+        return false;
+    }
+    
+    /**
+     * @param index Index de la case (0 = centre, puis branches haut, bas, gauche, droite)
+     * @return Direction de la branche contenant la case, ou CENTER pour le centre
+     */
+    public int getCellDirection(int index) {
+        checkCellIndex(index);
+        if (index == 0) {
+            return CENTER;
+        }
+        int remaining = index - 1;
+        int direction = UP;
+        while (remaining >= armLengths[direction]) {
+            remaining -= armLengths[direction];
+            direction++;
+        }
+        return direction;
+    }
+    
+    /**
+     * @param index Index de la case
+     * @return Distance de la case au centre (0 pour le centre)
+     */
+    public int getCellDistance(int index) {
+        checkCellIndex(index);
+        int remaining = index - 1;
+        for (int direction = UP; direction <= RIGHT && remaining >= 0; direction++) {
+            if (remaining < armLengths[direction]) {
+                return remaining + 1;
+            }
+            remaining -= armLengths[direction];
+        }
+        return 0;
+    }
+    
+    /**
+     * @param index Index de la case
+     * @return Position en colonne de la case
+     */
+    public int getCellX(int index) {
+        int direction = getCellDirection(index);
+        return direction == CENTER ? centerX : centerX + DIRECTION_DX[direction] * getCellDistance(index);
+    }
+    
+    /**
+     * @param index Index de la case
+     * @return Position en ligne de la case
+     */
+    public int getCellY(int index) {
+        int direction = getCellDirection(index);
+        return direction == CENTER ? centerY : centerY + DIRECTION_DY[direction] * getCellDistance(index);
+    }
+    
+    /**
+     * @param index Index de la case
+     * @return true si la case est l'extrémité de sa branche
+     */
+    public boolean isArmEnd(int index) {
+        int direction = getCellDirection(index);
+        return direction != CENTER && getCellDistance(index) == armLengths[direction];
+    }
+    
+    private void checkCellIndex(int index) {
+        if (index < 0 || index >= cellCount) {
+            throw new IndexOutOfBoundsException("Case d'explosion inexistante : " + index + " (" + cellCount + " cases)");
+        }
+    }
+    
+    /**
+     * @return Numéro de réutilisation de l'instance (change à chaque reset)
+     */
+    public int getGeneration() {
+        return generation;
     }
     
     /**
@@ -249,4 +284,38 @@ public class Explosion {
     public static long getFlameDuration() {
         return FLAME_DURATION;
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit l'empreinte et le timer de l'explosion
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        GameSnapshot.putCoordinate(buffer, centerX);
+        GameSnapshot.putCoordinate(buffer, centerY);
+        for (int armLength : armLengths) {
+            GameSnapshot.putCoordinate(buffer, armLength);
+        }
+        buffer.put((byte) (isActive ? 1 : 0));
+        buffer.putLong(startTime);
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState (explosion issue du pool).
+     * Contrairement à reset(), l'empreinte est relue telle quelle : aucun bloc n'est détruit.
+     * @param buffer Tampon de l'instantané, positionné sur l'état de l'explosion
+     */
+    void readState(ByteBuffer buffer) {
+        centerX = GameSnapshot.getCoordinate(buffer);
+        centerY = GameSnapshot.getCoordinate(buffer);
+        cellCount = 1;
+        for (int direction = UP; direction <= RIGHT; direction++) {
+            armLengths[direction] = GameSnapshot.getCoordinate(buffer);
+            cellCount += armLengths[direction];
+        }
+        isActive = buffer.get() != 0;
+        startTime = buffer.getLong();
+        generation++;
+    }
+}
@@ -1,16 +1,12 @@
 package bomberman.bomberman;
 
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
 import javafx.scene.image.Image;
 import javafx.scene.canvas.GraphicsContext;
-import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Classe responsable de l'animation des explosions de bombes avec sprites.
- * Gère le chargement des sprites d'explosion et l'animation frame par frame.
+ * Gère le chargement des sprites d'explosion et l'animation frame par frame,
+ * cadencée par l'horloge d'animation partagée (AnimationScheduler).
  * 
  * Types de sprites supportés :
  * - explosion_milieu_* : Centre de l'explosion
@@ -23,6 +19,8 @@ import java.util.ArrayList;
  */
 public class ExplosionAnimator {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Animation configuration
     private static final int ANIMATION_FRAMES = 5;     // 5 frames d'animation (1 à 5)
     private static final long FRAME_DURATION = 100;    // 100ms par frame
@@ -30,7 +28,6 @@ public class ExplosionAnimator {
     
     // Constantes de rendu
     private static final int CELL_SIZE = 48;
-    private static final int GRID_VERTICAL_OFFSET = 100;
     
     // Sprites statiques (chargés une seule fois)
     private static Image[][] explosionSprites;  // [type][frame]
@@ -57,38 +54,26 @@ public class ExplosionAnimator {
         }
     }
     
-    // Instance d'animation
-    private Timeline animationTimeline;
+    // Type de sprite de chaque branche, indexé par direction (Explosion.UP, DOWN, LEFT, RIGHT)
+    private static final ExplosionType[] ARM_END_TYPES = {
+        ExplosionType.HAUT, ExplosionType.BAS, ExplosionType.GAUCHE, ExplosionType.DROITE
+    };
+    private static final ExplosionType[] ARM_BODY_TYPES = {
+        ExplosionType.VERTICALE, ExplosionType.VERTICALE, ExplosionType.HORIZONTALE, ExplosionType.HORIZONTALE
+    };
+    
+    // Instance d'animation (réutilisable : chaque startExplosion repart de la frame 0)
     private int currentFrame;
     private boolean isActive;
     private long startTime;
-    private List<ExplosionSegment> segments;
-    
-    /**
-     * Classe représentant un segment d'explosion avec sa position et son type
-     */
-    public static class ExplosionSegment {
-        private final int x;
-        private final int y;
-        private final ExplosionType type;
-        
-        public ExplosionSegment(int x, int y, ExplosionType type) {
-            this.x = x;
-            this.y = y;
-            this.type = type;
-        }
-        
-        public int getX() { return x; }
-        public int getY() { return y; }
-        public ExplosionType getType() { return type; }
-    }
+    private Explosion explosion; // Empreinte animée (null si aucune animation)
+    private int explosionGeneration; // Génération de l'explosion animée (les explosions sont recyclées)
     
     /**
      * Constructeur
      */
     public ExplosionAnimator() {
         loadSprites();
-        this.segments = new ArrayList<>();
         this.isActive = false;
         this.currentFrame = 0;
     }
@@ -101,7 +86,7 @@ public class ExplosionAnimator {
             return;
         }
         
-        System.out.println("Chargement des sprites d'explosion...");
+        GameLog.info(LOG_CATEGORY, "Chargement des sprites d'explosion...");
         
         explosionSprites = new Image[7][ANIMATION_FRAMES];
         String[] typeNames = {"milieu", "droite", "gauche", "haut", "bas", "horizontale", "verticale"};
@@ -112,16 +97,16 @@ public class ExplosionAnimator {
                 try {
                     explosionSprites[type][frame] = new Image(ExplosionAnimator.class.getResourceAsStream(filename));
                     if (explosionSprites[type][frame] == null) {
-                        System.err.println("Impossible de charger le sprite d'explosion : " + filename);
+                        GameLog.error(LOG_CATEGORY, "Impossible de charger le sprite d'explosion : " + filename);
                     }
                 } catch (Exception e) {
-                    System.err.println("Erreur lors du chargement du sprite d'explosion " + filename + " : " + e.getMessage());
+                    GameLog.error(LOG_CATEGORY, "Erreur lors du chargement du sprite d'explosion " + filename + " : " + e.getMessage());
                 }
             }
         }
         
         spritesLoaded = true;
-        System.out.println("Sprites d'explosion chargés avec succès !");
+        GameLog.info(LOG_CATEGORY, "Sprites d'explosion chargés avec succès !");
     }
     
     /**
@@ -134,138 +119,75 @@ public class ExplosionAnimator {
             stop(); // Arrêter l'animation précédente
         }
         
-        // Générer les segments d'explosion selon la géométrie
-        generateExplosionGeometry(explosion.getCenterX(), explosion.getCenterY(), explosion.getAffectedCells());
+        // Les segments sont lus directement dans l'empreinte de l'explosion
+        this.explosion = explosion;
+        this.explosionGeneration = explosion.getGeneration();
         
-        System.out.println("🎬 Animation explosion démarrée - " + segments.size() + " segments générés");
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "🎬 Animation explosion démarrée - " + explosion.getCellCount() + " segments");
+        }
         
         // Initialiser l'animation
         this.isActive = true;
         this.currentFrame = 0;
-        this.startTime = System.currentTimeMillis();
-        
-        // Créer et démarrer la timeline d'animation
-        animationTimeline = new Timeline();
-        animationTimeline.setCycleCount(ANIMATION_FRAMES);
-        
-        animationTimeline.getKeyFrames().add(
-            new KeyFrame(Duration.millis(FRAME_DURATION), e -> {
-                currentFrame++;
-                if (currentFrame >= ANIMATION_FRAMES) {
-                    stop();
-                }
-            })
-        );
-        
-        animationTimeline.play();
-    }
-    
-    /**
-     * Génère la géométrie d'explosion avec les types appropriés pour chaque segment
-     * @param centerX Position centrale X
-     * @param centerY Position centrale Y
-     * @param affectedCells Liste des cellules affectées
-     */
-    private void generateExplosionGeometry(int centerX, int centerY, List<Explosion.ExplosionCell> affectedCells) {
-        segments.clear();
-        
-        // Ajouter le centre
-        segments.add(new ExplosionSegment(centerX, centerY, ExplosionType.MILIEU));
-        
-        // Analyser chaque cellule pour déterminer son type
-        for (Explosion.ExplosionCell cell : affectedCells) {
-            int x = cell.getX();
-            int y = cell.getY();
-            
-            // Ignorer le centre (déjà ajouté)
-            if (x == centerX && y == centerY) {
-                continue;
-            }
-            
-            // Déterminer le type selon la position relative au centre
-            ExplosionType type = determineSegmentType(x, y, centerX, centerY, affectedCells);
-            segments.add(new ExplosionSegment(x, y, type));
-        }
+        this.startTime = AnimationScheduler.getInstance().currentTimeMillis();
     }
     
     /**
-     * Détermine le type d'un segment d'explosion selon sa position
-     * @param x Position X du segment
-     * @param y Position Y du segment
-     * @param centerX Position centrale X
-     * @param centerY Position centrale Y
-     * @param allCells Toutes les cellules affectées
+     * Détermine le type de sprite d'une case de l'explosion (temps constant)
+     * @param cellIndex Index de la case dans l'explosion
      * @return Le type approprié pour ce segment
      */
-    private ExplosionType determineSegmentType(int x, int y, int centerX, int centerY, List<Explosion.ExplosionCell> allCells) {
-        boolean isHorizontal = (y == centerY);
-        boolean isVertical = (x == centerX);
-        
-        if (isHorizontal) {
-            // Segment horizontal
-            if (x > centerX) {
-                // Côté droit - vérifier si c'est une extrémité
-                return isEndOfExplosion(x + 1, y, allCells) ? ExplosionType.DROITE : ExplosionType.HORIZONTALE;
-            } else {
-                // Côté gauche - vérifier si c'est une extrémité
-                return isEndOfExplosion(x - 1, y, allCells) ? ExplosionType.GAUCHE : ExplosionType.HORIZONTALE;
-            }
-        } else if (isVertical) {
-            // Segment vertical
-            if (y > centerY) {
-                // Côté bas - vérifier si c'est une extrémité
-                return isEndOfExplosion(x, y + 1, allCells) ? ExplosionType.BAS : ExplosionType.VERTICALE;
-            } else {
-                // Côté haut - vérifier si c'est une extrémité
-                return isEndOfExplosion(x, y - 1, allCells) ? ExplosionType.HAUT : ExplosionType.VERTICALE;
-            }
-        }
-        
-        // Ne devrait pas arriver dans une explosion en croix
-        return ExplosionType.MILIEU;
-    }
-    
-    /**
-     * Vérifie si une position marque la fin d'une branche d'explosion
-     * @param x Position X à vérifier
-     * @param y Position Y à vérifier
-     * @param allCells Toutes les cellules affectées
-     * @return true si cette position n'est pas dans l'explosion (donc fin de branche)
-     */
-    private boolean isEndOfExplosion(int x, int y, List<Explosion.ExplosionCell> allCells) {
-        for (Explosion.ExplosionCell cell : allCells) {
-            if (cell.getX() == x && cell.getY() == y) {
-                return false; // Position trouvée dans l'explosion
-            }
+    private ExplosionType getSegmentType(int cellIndex) {
+        int direction = explosion.getCellDirection(cellIndex);
+        if (direction == Explosion.CENTER) {
+            return ExplosionType.MILIEU;
         }
-        return true; // Position pas dans l'explosion = fin de branche
+        return explosion.isArmEnd(cellIndex) ? ARM_END_TYPES[direction] : ARM_BODY_TYPES[direction];
     }
     
     /**
      * Rend l'animation d'explosion sur le canvas
      * @param gc Le contexte graphique
-     * @param canvas Le canvas pour calculer les offsets
+     * @param camera La caméra de la zone de jeu (décalages, segments hors écran ignorés)
      */
-    public void render(GraphicsContext gc, javafx.scene.canvas.Canvas canvas) {
-        if (!isActive || segments.isEmpty()) {
-            System.out.println("⚠️ Render explosion skipped - Active: " + isActive + ", Segments: " + segments.size());
+    public void render(GraphicsContext gc, Camera camera) {
+        if (!isActive || explosion == null) {
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "⚠️ Render explosion skipped - Active: " + isActive);
+            }
             return;
         }
+        if (!isAnimating(explosion)) {
+            return; // L'explosion a été recyclée pour une autre bombe
+        }
+        if (update()) {
+            return; // Dernière frame dépassée
+        }
         
-        // Calculer l'offset horizontal pour centrer la grille
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        // Position à l'écran du coin du plateau
+        int originX = camera.getOriginX();
+        int originY = camera.getOriginY();
         
-        System.out.println("🎬 Rendering explosion frame " + currentFrame + " with " + segments.size() + " segments");
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "🎬 Rendering explosion frame " + currentFrame + " with " + explosion.getCellCount() + " segments");
+        }
         
         // Dessiner chaque segment avec le sprite approprié
-        for (ExplosionSegment segment : segments) {
-            Image sprite = getExplosionSprite(segment.getType(), currentFrame);
+        for (int i = 0; i < explosion.getCellCount(); i++) {
+            if (!camera.isCellVisible(explosion.getCellX(i), explosion.getCellY(i))) {
+                continue;
+            }
+            ExplosionType type = getSegmentType(i);
+            Image sprite = getExplosionSprite(type, currentFrame);
             if (sprite != null) {
-                int x = (int) (segment.getX() * CELL_SIZE + horizontalOffset);
-                int y = segment.getY() * CELL_SIZE + GRID_VERTICAL_OFFSET;
+                int x = explosion.getCellX(i) * CELL_SIZE + originX;
+                int y = explosion.getCellY(i) * CELL_SIZE + originY;
                 gc.drawImage(sprite, x, y, CELL_SIZE, CELL_SIZE);
             } else {
-                System.out.println("⚠️ Sprite null pour type " + segment.getType() + " frame " + currentFrame);
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "⚠️ Sprite null pour type " + type + " frame " + currentFrame);
+                }
             }
         }
     }
@@ -288,17 +210,23 @@ public class ExplosionAnimator {
      * Arrête l'animation
      */
     public void stop() {
-        if (animationTimeline != null) {
-            animationTimeline.stop();
-        }
         isActive = false;
-        segments.clear();
+        explosion = null;
+    }
+    
+    /**
+     * @param explosion Une explosion de la simulation
+     * @return true si cet animateur anime cette explosion (et non une utilisation précédente de la même instance)
+     */
+    public boolean isAnimating(Explosion explosion) {
+        return this.explosion == explosion && explosionGeneration == explosion.getGeneration();
     }
     
     /**
      * @return true si l'animation est active
      */
     public boolean isActive() {
+        update();
         return isActive;
     }
     
@@ -311,12 +239,13 @@ public class ExplosionAnimator {
             return true;
         }
         
-        long elapsed = System.currentTimeMillis() - startTime;
+        long elapsed = AnimationScheduler.getInstance().elapsedSince(startTime);
         if (elapsed >= TOTAL_DURATION) {
             stop();
             return true;
         }
         
+        currentFrame = (int) (elapsed / FRAME_DURATION);
         return false;
     }
     
@@ -18,6 +18,8 @@ public class FXMLMenuManager implements
     CommandsController.CommandsCallback,
     ProfileMenuController.ProfileMenuCallback {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     private Stage primaryStage;
     private Scene gameScene;
     private StackPane gameRoot;
@@ -42,10 +44,10 @@ public class FXMLMenuManager implements
             MainMenuController controller = loader.getController();
             controller.setNavigationCallback(this);
             
-            System.out.println("Menu principal FXML affiché");
+            GameLog.info(LOG_CATEGORY, "Menu principal FXML affiché");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage du menu principal : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage du menu principal : " + e.getMessage());
         }
     }
     
@@ -74,10 +76,10 @@ public class FXMLMenuManager implements
             // Ceci est crucial pour que les flèches fonctionnent sans avoir à cliquer d'abord
             controller.requestInitialFocus();
 
-            System.out.println("Menu de pause FXML affiché en overlay");
+            GameLog.info(LOG_CATEGORY, "Menu de pause FXML affiché en overlay");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage du menu de pause : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage du menu de pause : " + e.getMessage());
         }
     }
     
@@ -97,10 +99,10 @@ public class FXMLMenuManager implements
             controller.setPauseCallback(this);
             controller.resetSelection();
             
-            System.out.println("Menu de pause FXML affiché en plein écran");
+            GameLog.info(LOG_CATEGORY, "Menu de pause FXML affiché en plein écran");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage du menu de pause : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage du menu de pause : " + e.getMessage());
         }
     }
     
@@ -108,7 +110,7 @@ public class FXMLMenuManager implements
         if (pauseMenuOverlay != null && gameRoot != null) {
             gameRoot.getChildren().remove(pauseMenuOverlay);
             pauseMenuOverlay = null;
-            System.out.println("Menu de pause FXML masqué");
+            GameLog.info(LOG_CATEGORY, "Menu de pause FXML masqué");
         }
     }
     
@@ -127,10 +129,10 @@ public class FXMLMenuManager implements
                 controller.setThemeSelector(themeSelector);
             }
             
-            System.out.println("Menu des thèmes FXML affiché");
+            GameLog.info(LOG_CATEGORY, "Menu des thèmes FXML affiché");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage du menu des thèmes : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage du menu des thèmes : " + e.getMessage());
         }
     }
     
@@ -146,10 +148,10 @@ public class FXMLMenuManager implements
             ProfileMenuController controller = loader.getController();
             controller.setCallback(this);
             
-            System.out.println("Menu des profils FXML affiché");
+            GameLog.info(LOG_CATEGORY, "Menu des profils FXML affiché");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage du menu des profils : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage du menu des profils : " + e.getMessage());
         }
     }
     
@@ -165,10 +167,10 @@ public class FXMLMenuManager implements
             CommandsController controller = loader.getController();
             controller.setCommandsCallback(this);
             
-            System.out.println("Écran des commandes FXML affiché");
+            GameLog.info(LOG_CATEGORY, "Écran des commandes FXML affiché");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage de l'écran des commandes : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage de l'écran des commandes : " + e.getMessage());
         }
     }
     
@@ -201,10 +203,10 @@ public class FXMLMenuManager implements
             commandsOverlay.setFocusTraversable(true);
             commandsOverlay.requestFocus();
             
-            System.out.println("Commandes FXML affichées en overlay");
+            GameLog.info(LOG_CATEGORY, "Commandes FXML affichées en overlay");
             
         } catch (IOException e) {
-            System.err.println("Erreur lors de l'affichage des commandes en overlay : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'affichage des commandes en overlay : " + e.getMessage());
         }
     }
     
@@ -219,7 +221,7 @@ public class FXMLMenuManager implements
                 pauseMenuOverlay.requestFocus();
             }
             
-            System.out.println("Commandes FXML masquées");
+            GameLog.info(LOG_CATEGORY, "Commandes FXML masquées");
         }
     }
     
@@ -229,7 +231,7 @@ public class FXMLMenuManager implements
         
         if (gameScene != null) {
             primaryStage.setScene(gameScene);
-            System.out.println("Retour au jeu");
+            GameLog.info(LOG_CATEGORY, "Retour au jeu");
         }
     }
     
@@ -304,6 +306,20 @@ public class FXMLMenuManager implements
         }
     }
     
+    @Override
+    public void saveGame() {
+        if (gameController != null) {
+            gameController.saveGameFromFXML();
+        }
+    }
+    
+    @Override
+    public void loadGame() {
+        if (gameController != null) {
+            gameController.loadGameFromFXML();
+        }
+    }
+    
     @Override
     public void showCommands() {
         showCommandsOverlay();
@@ -321,7 +337,7 @@ public class FXMLMenuManager implements
     public void confirmThemeSelection(Theme selectedTheme) {
         if (themeSelector != null && selectedTheme != null) {
             themeSelector.setTheme(selectedTheme);
-            System.out.println("Thème appliqué : " + selectedTheme.getDisplayName());
+            GameLog.info(LOG_CATEGORY, "Thème appliqué : " + selectedTheme.getDisplayName());
         }
         showMainMenu();
     }
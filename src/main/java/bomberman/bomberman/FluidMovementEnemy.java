@@ -1,5 +1,9 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Extension d'Enemy avec mouvement fluide pixel par pixel
  * Implémente les mécaniques de mouvement de Super Bomberman pour les ennemis :
@@ -8,6 +12,7 @@ package bomberman.bomberman;
  * - Vitesse en pixels par seconde
  * - Collisions en temps réel
  * - Animation synchronisée avec le mouvement
+ * - Poursuite d'un joueur proche : changement de direction au centre d'une case
  */
 public class FluidMovementEnemy extends Enemy {
     
@@ -40,18 +45,42 @@ public class FluidMovementEnemy extends Enemy {
     private int blockedAttempts;
     private static final int MAX_BLOCKED_ATTEMPTS = 8; // Essayer 8 fois avant de changer de direction
     
+    // Écart maximal au centre d'une case pour tourner vers le joueur poursuivi (> déplacement d'un tick)
+    private static final double CHASE_ALIGN_TOLERANCE = 2.0;
+    
     /**
      * Constructeur de l'ennemi avec mouvement fluide
      * @param startX Position initiale en colonne (grille)
      * @param startY Position initiale en ligne (grille)
      */
     public FluidMovementEnemy(int startX, int startY) {
-        super(startX, startY);
+        this(startX, startY, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur de l'ennemi avec mouvement fluide et horloge de jeu
+     * @param startX Position initiale en colonne (grille)
+     * @param startY Position initiale en ligne (grille)
+     * @param clock L'horloge de la simulation
+     */
+    public FluidMovementEnemy(int startX, int startY, GameClock clock) {
+        this(startX, startY, clock, new SplittableRandom());
+    }
+    
+    /**
+     * Constructeur de l'ennemi avec mouvement fluide, horloge de jeu et flux pseudo-aléatoire
+     * @param startX Position initiale en colonne (grille)
+     * @param startY Position initiale en ligne (grille)
+     * @param clock L'horloge de la simulation
+     * @param random Flux des directions (GameRandom.Stream.ENEMIES de la partie)
+     */
+    public FluidMovementEnemy(int startX, int startY, GameClock clock, RandomGenerator random) {
+        super(startX, startY, clock, random);
         
         // Initialiser l'état de mouvement
         this.effectiveSpeedPixelsPerSecond = BASE_SPEED_PIXELS_PER_SECOND;
-        this.lastUpdateTime = System.currentTimeMillis();
-        this.lastDirectionChangeTime = System.currentTimeMillis();
+        this.lastUpdateTime = getClock().currentTimeMillis();
+        this.lastDirectionChangeTime = getClock().currentTimeMillis();
         
         // Initialiser la position en pixels (centré dans la case de départ)
         setPixelPosition(startX * CELL_SIZE + (CELL_SIZE / 2.0), startY * CELL_SIZE + (CELL_SIZE / 2.0));
@@ -71,7 +100,30 @@ public class FluidMovementEnemy extends Enemy {
      * @param withInvincibility true si l'ennemi doit avoir une invincibilité temporaire
      */
     public FluidMovementEnemy(int startX, int startY, boolean withInvincibility) {
-        this(startX, startY);
+        this(startX, startY, withInvincibility, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur avec invincibilité et horloge de jeu
+     * @param startX Position initiale en colonne
+     * @param startY Position initiale en ligne
+     * @param withInvincibility true si l'ennemi doit avoir une invincibilité temporaire
+     * @param clock L'horloge de la simulation
+     */
+    public FluidMovementEnemy(int startX, int startY, boolean withInvincibility, GameClock clock) {
+        this(startX, startY, withInvincibility, clock, new SplittableRandom());
+    }
+    
+    /**
+     * Constructeur avec invincibilité, horloge de jeu et flux pseudo-aléatoire
+     * @param startX Position initiale en colonne
+     * @param startY Position initiale en ligne
+     * @param withInvincibility true si l'ennemi doit avoir une invincibilité temporaire
+     * @param clock L'horloge de la simulation
+     * @param random Flux des directions (GameRandom.Stream.ENEMIES de la partie)
+     */
+    public FluidMovementEnemy(int startX, int startY, boolean withInvincibility, GameClock clock, RandomGenerator random) {
+        this(startX, startY, clock, random);
         
         if (withInvincibility) {
             activateInvincibility();
@@ -83,16 +135,18 @@ public class FluidMovementEnemy extends Enemy {
      * @param grid La grille pour vérifier les collisions
      * @param bombCollisionChecker Interface pour vérifier les collisions avec les bombes
      * @param enemyCollisionChecker Interface pour vérifier les collisions avec d'autres ennemis
+     * @param chaseField Champ de distances vers les joueurs, null pour un mouvement aléatoire
      * @return true si l'ennemi a bougé
      */
     @Override
-    public boolean update(Grid grid, BombCollisionChecker bombCollisionChecker, EnemyCollisionChecker enemyCollisionChecker) {
+    public boolean update(Grid grid, BombCollisionChecker bombCollisionChecker, EnemyCollisionChecker enemyCollisionChecker,
+                          DistanceField chaseField) {
         // Skip l'update si l'ennemi est mort
         if (!isAlive()) {
             return false;
         }
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = getClock().currentTimeMillis();
         
         // Mettre à jour l'invincibilité (du parent)
         if (isInvincible()) {
@@ -102,6 +156,18 @@ public class FluidMovementEnemy extends Enemy {
             }
         }
         
+        // Poursuivre le joueur le plus proche s'il est à portée (virage uniquement au centre d'une case)
+        Direction chase = isCenteredOnCell() ? getChaseDirection(chaseField, getX(), getY()) : null;
+        if (chase != null) {
+            if (chase != getCurrentDirection() || !isMoving()) {
+                pixelX = gridToPixel(getX());
+                pixelY = gridToPixel(getY());
+                setDirection(chase);
+                blockedAttempts = 0;
+            }
+            lastDirectionChangeTime = currentTime;
+        }
+        
         // Changer de direction périodiquement pour l'IA (seulement toutes les 4 secondes)
         if (currentTime - lastDirectionChangeTime >= DIRECTION_CHANGE_INTERVAL) {
             chooseRandomDirection();
@@ -121,7 +187,7 @@ public class FluidMovementEnemy extends Enemy {
      * @return true si l'ennemi a bougé
      */
     private boolean updateMovement(Grid grid, BombCollisionChecker bombCollisionChecker, EnemyCollisionChecker enemyCollisionChecker) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = getClock().currentTimeMillis();
         double deltaTime = (currentTime - lastUpdateTime) / 1000.0; // Delta en secondes
         this.lastUpdateTime = currentTime;
         
@@ -284,6 +350,14 @@ public class FluidMovementEnemy extends Enemy {
         return true;
     }
     
+    /**
+     * @return true si l'ennemi est assez près du centre de sa case pour changer d'axe sans accrocher un mur
+     */
+    private boolean isCenteredOnCell() {
+        return Math.abs(pixelX - gridToPixel(getX())) <= CHASE_ALIGN_TOLERANCE
+                && Math.abs(pixelY - gridToPixel(getY())) <= CHASE_ALIGN_TOLERANCE;
+    }
+    
     /**
      * Met à jour les coordonnées de grille selon la position en pixels
      */
@@ -298,7 +372,7 @@ public class FluidMovementEnemy extends Enemy {
      */
     private void chooseRandomDirection() {
         Direction[] directions = Direction.values();
-        Direction newDirection = directions[(int) (Math.random() * directions.length)];
+        Direction newDirection = directions[getRandom().nextInt(directions.length)];
         setDirection(newDirection);
     }
     
@@ -399,9 +473,9 @@ public class FluidMovementEnemy extends Enemy {
      * @param pixelY Position Y en pixels
      */
     public void setPixelPosition(double pixelX, double pixelY) {
-        // Vérifier les limites de la grille
-        double maxX = (CELL_SIZE * 15) - CELL_SIZE; // 15 colonnes
-        double maxY = (CELL_SIZE * 13) - CELL_SIZE; // 13 lignes
+        // Vérifier les limites de la plus grande arène possible
+        double maxX = (CELL_SIZE * GameSimulation.MAX_ARENA_SIZE) - CELL_SIZE;
+        double maxY = (CELL_SIZE * GameSimulation.MAX_ARENA_SIZE) - CELL_SIZE;
         
         this.pixelX = Math.max(CELL_SIZE / 2.0, Math.min(pixelX, maxX));
         this.pixelY = Math.max(CELL_SIZE / 2.0, Math.min(pixelY, maxY));
@@ -443,4 +517,47 @@ public class FluidMovementEnemy extends Enemy {
     }
     
     // Les méthodes pour accéder aux propriétés du parent sont maintenant disponibles via les méthodes protégées
-}
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit l'état de l'ennemi, puis la position en pixels et l'état de l'IA de déplacement
+     */
+    @Override
+    void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+        buffer.putDouble(pixelX).putDouble(pixelY);
+        buffer.put((byte) moveDirectionX).put((byte) moveDirectionY);
+        buffer.putLong(lastUpdateTime);
+        buffer.putDouble(effectiveSpeedPixelsPerSecond);
+        buffer.putLong(lastDirectionChangeTime);
+        buffer.put((byte) blockedAttempts);
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState
+     */
+    @Override
+    void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+        pixelX = buffer.getDouble();
+        pixelY = buffer.getDouble();
+        moveDirectionX = buffer.get();
+        moveDirectionY = buffer.get();
+        lastUpdateTime = buffer.getLong();
+        effectiveSpeedPixelsPerSecond = buffer.getDouble();
+        lastDirectionChangeTime = buffer.getLong();
+        blockedAttempts = buffer.get();
+        if (Math.abs(moveDirectionX) > 1 || Math.abs(moveDirectionY) > 1) {
+            throw new IllegalArgumentException("Direction de l'ennemi invalide : (" + moveDirectionX + ", " + moveDirectionY + ")");
+        }
+        if (lastUpdateTime > getClock().currentTimeMillis()) {
+            throw new IllegalArgumentException("Dernier déplacement de l'ennemi postérieur à l'horloge : " + lastUpdateTime);
+        }
+        // Comme pour le joueur, la case de l'ennemi est recalculée d'après les pixels à chaque déplacement
+        if (!(pixelX >= 0 && pixelY >= 0) || (int) (pixelX / CELL_SIZE) != getX() || (int) (pixelY / CELL_SIZE) != getY()) {
+            throw new IllegalArgumentException("Position en pixels de l'ennemi (" + pixelX + ", " + pixelY
+                    + ") hors de sa case (" + getX() + ", " + getY() + ")");
+        }
+    }
+}
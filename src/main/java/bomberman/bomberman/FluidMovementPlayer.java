@@ -1,6 +1,7 @@
 package bomberman.bomberman;
 
 import javafx.scene.input.KeyCode;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -14,6 +15,8 @@ import java.util.Set;
  */
 public class FluidMovementPlayer extends Player {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     // Constantes de mouvement fluide
     public static final int CELL_SIZE = 48; // Taille d'une case en pixels
     private static final double BASE_SPEED_PIXELS_PER_SECOND = 180.0; // Vitesse de base (3.75 cases/sec) - Légèrement réduit pour un meilleur feeling
@@ -68,13 +71,23 @@ public class FluidMovementPlayer extends Player {
      * @param startY Position initiale en ligne (grille)
      */
     public FluidMovementPlayer(int startX, int startY) {
-        super(startX, startY);
+        this(startX, startY, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur du joueur avec mouvement fluide et horloge de jeu
+     * @param startX Position initiale en colonne (grille)
+     * @param startY Position initiale en ligne (grille)
+     * @param clock L'horloge de la simulation
+     */
+    public FluidMovementPlayer(int startX, int startY, GameClock clock) {
+        super(startX, startY, clock);
         
         // Initialiser l'état de mouvement AVANT setPixelPosition
         this.pressedKeys = new HashSet<>();
         this.moveDirectionX = 0;
         this.moveDirectionY = 0;
-        this.lastUpdateTime = System.currentTimeMillis();
+        this.lastUpdateTime = getClock().currentTimeMillis();
         this.effectiveSpeedPixelsPerSecond = BASE_SPEED_PIXELS_PER_SECOND;
         this.isDying = false;
         this.isWinning = false;
@@ -96,7 +109,7 @@ public class FluidMovementPlayer extends Player {
             return;
         }
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = getClock().currentTimeMillis();
         double deltaTime = (currentTime - lastUpdateTime) / 1000.0; // Delta en secondes
         this.lastUpdateTime = currentTime;
         
@@ -257,7 +270,9 @@ public class FluidMovementPlayer extends Player {
                 if (!isValidPosition(cellX, cellY, grid, bombCollisionChecker, playerCollisionChecker)) {
                     // 🛡️ **COLLISION DÉTECTÉE** : Rester à la position actuelle
                     // Auto-correction supprimée car trop permissive (permettait de passer dans les blocs)
-                    System.out.println("Collision X détectée à (" + cellX + ", " + cellY + ") - Position maintenue : " + String.format("%.1f", pixelX));
+                    if (GameLog.DEBUG_ENABLED) {
+                        GameLog.debug(LOG_CATEGORY, "Collision X détectée à (" + cellX + ", " + cellY + ") - Position maintenue : " + String.format("%.1f", pixelX));
+                    }
                     return pixelX;
                 }
             }
@@ -300,7 +315,9 @@ public class FluidMovementPlayer extends Player {
                 if (!isValidPosition(cellX, cellY, grid, bombCollisionChecker, playerCollisionChecker)) {
                     // 🛡️ **COLLISION DÉTECTÉE** : Rester à la position actuelle
                     // Auto-correction supprimée car trop permissive (permettait de passer dans les blocs)
-                    System.out.println("Collision Y détectée à (" + cellX + ", " + cellY + ") - Position maintenue : " + String.format("%.1f", pixelY));
+                    if (GameLog.DEBUG_ENABLED) {
+                        GameLog.debug(LOG_CATEGORY, "Collision Y détectée à (" + cellX + ", " + cellY + ") - Position maintenue : " + String.format("%.1f", pixelY));
+                    }
                     return pixelY;
                 }
             }
@@ -426,11 +443,11 @@ public class FluidMovementPlayer extends Player {
      * ✨ **SÉCURITÉ** : Vérifie les limites avant de définir la position
      */
     public void setPixelPosition(double pixelX, double pixelY) {
-        // Limites de sécurité (basées sur CELL_SIZE = 48 et grille standard)
+        // Limites de sécurité (basées sur CELL_SIZE = 48 et la plus grande arène possible)
         double minX = CELL_SIZE / 2.0;
-        double maxX = 14 * CELL_SIZE + (CELL_SIZE / 2.0); // Case 14 (15 colonnes au total)
+        double maxX = (GameSimulation.MAX_ARENA_SIZE - 1) * CELL_SIZE + (CELL_SIZE / 2.0); // Dernière colonne
         double minY = CELL_SIZE / 2.0;
-        double maxY = 12 * CELL_SIZE + (CELL_SIZE / 2.0); // Case 12 (13 lignes au total)
+        double maxY = (GameSimulation.MAX_ARENA_SIZE - 1) * CELL_SIZE + (CELL_SIZE / 2.0); // Dernière ligne
         
         // Clamp dans les limites
         this.pixelX = Math.max(minX, Math.min(maxX, pixelX));
@@ -438,7 +455,9 @@ public class FluidMovementPlayer extends Player {
         
         updateGridPosition();
         
-        System.out.println("Position sécurisée : (" + String.format("%.1f", this.pixelX) + ", " + String.format("%.1f", this.pixelY) + ")");
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "Position sécurisée : (" + String.format("%.1f", this.pixelX) + ", " + String.format("%.1f", this.pixelY) + ")");
+        }
     }
     
     /**
@@ -521,9 +540,9 @@ public class FluidMovementPlayer extends Player {
             try {
                 SoundManager.playEffect("dies");
             } catch (Exception e) {
-                System.err.println("Erreur lors de la lecture du son de mort : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son de mort : " + e.getMessage());
             }
-            System.out.println("PLAYER IS DYING - Séquence de mort initiée");
+            GameLog.info(LOG_CATEGORY, "PLAYER IS DYING - Séquence de mort initiée");
         }
     }
     
@@ -536,7 +555,7 @@ public class FluidMovementPlayer extends Player {
         if (isDying()) {
             super.decrementLife(); // Appelle la méthode parente pour décrémenter la vie
             this.isDying = false;
-            System.out.println("Séquence de mort terminée. Vies restantes : " + getLives());
+            GameLog.info(LOG_CATEGORY, "Séquence de mort terminée. Vies restantes : " + getLives());
         }
     }
     
@@ -547,7 +566,7 @@ public class FluidMovementPlayer extends Player {
     public void win() {
         if (!isWinning() && isAlive()) {
             this.isWinning = true;
-            System.out.println("PLAYER IS WINNING - Séquence de victoire initiée");
+            GameLog.info(LOG_CATEGORY, "PLAYER IS WINNING - Séquence de victoire initiée");
         }
     }
     
@@ -557,7 +576,7 @@ public class FluidMovementPlayer extends Player {
     public void completeWinSequence() {
         if (isWinning()) {
             this.isWinning = false;
-            System.out.println("Séquence de victoire terminée");
+            GameLog.info(LOG_CATEGORY, "Séquence de victoire terminée");
         }
     }
     
@@ -606,8 +625,10 @@ public class FluidMovementPlayer extends Player {
             
             this.pixelX += correctionDirection * correctionAmount;
             
-            System.out.println("🔥 AUTOCORRECTION X : " + String.format("%.1f", offsetX) + "px → " + 
-                              String.format("%.1f", correctionDirection * correctionAmount) + "px (case " + targetCellX + ")");
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🔥 AUTOCORRECTION X : " + String.format("%.1f", offsetX) + "px → " + 
+                                  String.format("%.1f", correctionDirection * correctionAmount) + "px (case " + targetCellX + ")");
+            }
         }
         
         // Appliquer la correction Y (recentrage vertical pour virages horizontaux)
@@ -617,8 +638,10 @@ public class FluidMovementPlayer extends Player {
             
             this.pixelY += correctionDirection * correctionAmount;
             
-            System.out.println("🔥 AUTOCORRECTION Y : " + String.format("%.1f", offsetY) + "px → " + 
-                              String.format("%.1f", correctionDirection * correctionAmount) + "px (case " + targetCellY + ")");
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🔥 AUTOCORRECTION Y : " + String.format("%.1f", offsetY) + "px → " + 
+                                  String.format("%.1f", correctionDirection * correctionAmount) + "px (case " + targetCellY + ")");
+            }
         }
         
         // Mettre à jour les coordonnées de grille si correction appliquée
@@ -626,4 +649,61 @@ public class FluidMovementPlayer extends Player {
             updateGridPosition();
         }
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    private static final KeyCode[] MOVEMENT_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+    
+    /**
+     * Écrit l'état du joueur, puis la position en pixels, les touches pressées et l'état de mort/victoire
+     */
+    @Override
+    void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+        buffer.putDouble(pixelX).putDouble(pixelY);
+        int keys = 0;
+        for (int i = 0; i < MOVEMENT_KEYS.length; i++) {
+            if (pressedKeys.contains(MOVEMENT_KEYS[i])) {
+                keys |= 1 << i;
+            }
+        }
+        buffer.put((byte) (keys | (isDying ? 1 << 4 : 0) | (isWinning ? 1 << 5 : 0)));
+        buffer.putDouble(moveDirectionX).putDouble(moveDirectionY); // Normalisées en diagonale
+        buffer.putLong(lastUpdateTime);
+        buffer.putDouble(effectiveSpeedPixelsPerSecond);
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState
+     */
+    @Override
+    void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+        pixelX = buffer.getDouble();
+        pixelY = buffer.getDouble();
+        int keys = buffer.get();
+        pressedKeys.clear();
+        for (int i = 0; i < MOVEMENT_KEYS.length; i++) {
+            if ((keys & 1 << i) != 0) {
+                pressedKeys.add(MOVEMENT_KEYS[i]);
+            }
+        }
+        isDying = (keys & 1 << 4) != 0;
+        isWinning = (keys & 1 << 5) != 0;
+        moveDirectionX = buffer.getDouble();
+        moveDirectionY = buffer.getDouble();
+        lastUpdateTime = buffer.getLong();
+        effectiveSpeedPixelsPerSecond = buffer.getDouble();
+        if (!(Math.abs(moveDirectionX) <= 1 && Math.abs(moveDirectionY) <= 1)) {
+            throw new IllegalArgumentException("Direction du joueur invalide : (" + moveDirectionX + ", " + moveDirectionY + ")");
+        }
+        if (lastUpdateTime > getClock().currentTimeMillis()) {
+            throw new IllegalArgumentException("Dernier déplacement du joueur postérieur à l'horloge : " + lastUpdateTime);
+        }
+        // La case du joueur est recalculée d'après les pixels à chaque déplacement : ils doivent la désigner
+        if (!(pixelX >= 0 && pixelY >= 0) || (int) (pixelX / CELL_SIZE) != getX() || (int) (pixelY / CELL_SIZE) != getY()) {
+            throw new IllegalArgumentException("Position en pixels du joueur (" + pixelX + ", " + pixelY
+                    + ") hors de sa case (" + getX() + ", " + getY() + ")");
+        }
+    }
+}
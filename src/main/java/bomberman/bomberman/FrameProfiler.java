@@ -0,0 +1,311 @@
+package bomberman.bomberman;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Instrumentation du temps de frame : durée de chaque phase de la boucle de jeu
+ * (ticks de simulation et rendu), mesurée en nanosecondes.
+ *
+ * Chaque phase conserve ses dernières mesures dans un histogramme glissant d'où sont tirés
+ * p50, p99 et max. Les mesures ne sont prises que lorsque le profileur est activé (affichage
+ * de l'overlay) : désactivé, begin() et mark() se résument à un test de booléen.
+ *
+ * Utilisation, en chaînant les phases d'un même bloc :
+ * <pre>
+ * long t = profiler.begin();
+ * updateMovement();
+ * t = profiler.mark(FrameProfiler.Phase.MOVEMENT, t);
+ * updateEnemies();
+ * profiler.mark(FrameProfiler.Phase.ENEMIES, t);
+ * </pre>
+ *
+ * Les phases de simulation sont mesurées par tick (plusieurs mesures par frame si la
+ * simulation rattrape du retard), les phases de rendu par rendu.
+ */
+public class FrameProfiler {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.GAME;
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    /**
+     * Profileur jamais activé, pour les simulations qui ne font pas partie de la frame (prévisions du bot MCTS)
+     */
+    static final FrameProfiler DISABLED = new FrameProfiler();
+
+    // Nombre de mesures conservées par phase (≈10 secondes à 60 mesures par seconde)
+    private static final int WINDOW_SIZE = 600;
+    private static final String EXPORT_DIR = "profiling";
+    private static final DateTimeFormatter EXPORT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Phases mesurées
+     */
+    public enum Phase {
+        FRAME("Frame"),
+        SIMULATION("Simulation"),
+        MOVEMENT("  Mouvements"),
+        ENEMIES("  Ennemis"),
+        BOMBS("  Bombes"),
+        EXPLOSIONS("  Explosions"),
+        COLLISIONS("  Collisions"),
+        POWER_UPS("  Power-ups"),
+        AI("  IA"),
+        RENDER("Rendu"),
+        RENDER_BACKGROUND("  Fond"),
+        RENDER_ENTITIES("  Entités"),
+        RENDER_UI("  Interface");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return Libellé affiché dans l'overlay (indenté pour les sous-phases)
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Histogramme glissant : tampon circulaire des dernières mesures d'une phase.
+     * Les percentiles sont calculés sur une copie triée, réutilisée d'un calcul à l'autre.
+     */
+    public static class RollingHistogram {
+        private final long[] samples;
+        private final long[] sorted;
+        private int next;
+        private int count;
+        private long totalCount;
+        private boolean sortedValid;
+
+        private RollingHistogram(int windowSize) {
+            this.samples = new long[windowSize];
+            this.sorted = new long[windowSize];
+        }
+
+        private void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            totalCount++;
+            sortedValid = false;
+        }
+
+        private void sortIfNeeded() {
+            if (!sortedValid) {
+                System.arraycopy(samples, 0, sorted, 0, count);
+                Arrays.sort(sorted, 0, count);
+                sortedValid = true;
+            }
+        }
+
+        /**
+         * @param percentile Percentile voulu, entre 0 et 100
+         * @return Valeur du percentile sur la fenêtre en nanosecondes (0 sans mesure)
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            sortIfNeeded();
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+
+        /**
+         * @return Plus longue mesure de la fenêtre en nanosecondes
+         */
+        public long getMax() {
+            return getPercentile(100);
+        }
+
+        /**
+         * @return Durée moyenne sur la fenêtre en nanosecondes
+         */
+        public long getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += samples[i];
+            }
+            return sum / count;
+        }
+
+        /**
+         * @return Nombre de mesures dans la fenêtre
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return Nombre total de mesures depuis la dernière remise à zéro
+         */
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        private void clear() {
+            next = 0;
+            count = 0;
+            totalCount = 0;
+            sortedValid = false;
+        }
+    }
+
+    private final RollingHistogram[] histograms = new RollingHistogram[Phase.values().length];
+    private boolean enabled;
+    private boolean overlayVisible;
+
+    private FrameProfiler() {
+        for (Phase phase : Phase.values()) {
+            histograms[phase.ordinal()] = new RollingHistogram(WINDOW_SIZE);
+        }
+    }
+
+    /**
+     * @return Le profileur de frame du jeu
+     */
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    // ========== MESURE ==========
+
+    /**
+     * Active ou désactive les mesures
+     * @param enabled true pour mesurer les phases
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true si les phases sont mesurées
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return Instant de début d'une phase en nanosecondes (0 si le profileur est désactivé)
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Enregistre la durée d'une phase commencée à startNanos
+     * @param phase La phase qui se termine
+     * @param startNanos Valeur renvoyée par begin() ou par le mark() précédent
+     * @return Instant de fin, à utiliser comme début de la phase suivante
+     */
+    public long mark(Phase phase, long startNanos) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - startNanos);
+        return now;
+    }
+
+    /**
+     * @param phase La phase
+     * @return L'histogramme glissant de la phase
+     */
+    public RollingHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Efface toutes les mesures
+     */
+    public void reset() {
+        for (RollingHistogram histogram : histograms) {
+            histogram.clear();
+        }
+    }
+
+    // ========== OVERLAY ==========
+
+    /**
+     * Affiche ou masque l'overlay de performance ; les mesures suivent l'overlay
+     */
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        if (overlayVisible) {
+            reset();
+        }
+        setEnabled(overlayVisible);
+        GameLog.info(LOG_CATEGORY, "Overlay de performance " + (overlayVisible ? "affiché" : "masqué"));
+    }
+
+    /**
+     * @return true si l'overlay de performance doit être dessiné
+     */
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    // ========== EXPORT ==========
+
+    /**
+     * Exporte les statistiques de chaque phase au format CSV (durées en millisecondes)
+     * @param file Fichier de destination
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public void exportCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("phase,samples,total_samples,mean_ms,p50_ms,p99_ms,max_ms");
+            for (Phase phase : Phase.values()) {
+                RollingHistogram histogram = getHistogram(phase);
+                writer.println(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%.4f,%.4f",
+                        phase.name(), histogram.getCount(), histogram.getTotalCount(),
+                        toMillis(histogram.getMean()), toMillis(histogram.getPercentile(50)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+            }
+        }
+    }
+
+    /**
+     * Exporte les statistiques dans le répertoire profiling/, sous un nom horodaté
+     * @return Le fichier écrit, ou null en cas d'erreur
+     */
+    public Path exportCsv() {
+        Path file = Paths.get(EXPORT_DIR, "frame-profile-" + LocalDateTime.now().format(EXPORT_NAME_FORMAT) + ".csv");
+        try {
+            exportCsv(file);
+            GameLog.info(LOG_CATEGORY, "Profil de frame exporté : " + file);
+            return file;
+        } catch (IOException e) {
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'export du profil de frame : " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param nanos Durée en nanosecondes
+     * @return Durée en millisecondes
+     */
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,91 @@
+package bomberman.bomberman;
+
+/**
+ * Horloge du jeu utilisée par toutes les entités (bombes, explosions, ennemis,
+ * joueurs, power-ups) à la place de System.currentTimeMillis().
+ *
+ * La simulation échantillonne sa source de temps une seule fois par tick et transmet
+ * aux entités une horloge figée sur cette valeur : toutes les lectures d'un même tick
+ * voient le même "maintenant", et le temps de jeu peut avancer plus vite que le temps réel.
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /**
+     * Horloge temps réel (comportement historique du jeu)
+     */
+    GameClock SYSTEM = System::currentTimeMillis;
+
+    /**
+     * @return Le temps courant de l'horloge en millisecondes
+     */
+    long currentTimeMillis();
+
+    /**
+     * Horloge manuelle : le temps n'avance que lorsqu'on le demande.
+     * Sert d'horloge figée par tick dans la simulation, et d'horloge déterministe pour les tests.
+     */
+    class Manual implements GameClock {
+        private long timeMillis;
+
+        public Manual(long startTimeMillis) {
+            this.timeMillis = startTimeMillis;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return timeMillis;
+        }
+
+        /**
+         * Fixe le temps courant
+         * @param timeMillis Nouveau temps en millisecondes
+         */
+        public void setTime(long timeMillis) {
+            this.timeMillis = timeMillis;
+        }
+
+        /**
+         * Fait avancer le temps
+         * @param deltaMillis Durée à ajouter en millisecondes
+         */
+        public void advance(long deltaMillis) {
+            this.timeMillis += deltaMillis;
+        }
+    }
+
+    /**
+     * Horloge accélérée (ou ralentie) : le temps réel écoulé depuis sa création
+     * est multiplié par un facteur, par exemple x100 pour les tests d'endurance.
+     */
+    class Scaled implements GameClock {
+        private final GameClock source;
+        private final double speedFactor;
+        private final long sourceStart;
+
+        /**
+         * @param speedFactor Facteur de vitesse (1.0 = temps réel, 100.0 = cent fois plus vite)
+         */
+        public Scaled(double speedFactor) {
+            this(SYSTEM, speedFactor);
+        }
+
+        /**
+         * @param source Horloge de référence
+         * @param speedFactor Facteur de vitesse appliqué au temps écoulé sur la source
+         */
+        public Scaled(GameClock source, double speedFactor) {
+            if (speedFactor <= 0) {
+                throw new IllegalArgumentException("Le facteur de vitesse doit être positif : " + speedFactor);
+            }
+            this.source = source;
+            this.speedFactor = speedFactor;
+            this.sourceStart = source.currentTimeMillis();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return (long) ((source.currentTimeMillis() - sourceStart) * speedFactor);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package bomberman.bomberman;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Journal du jeu, asynchrone et structuré (niveau, catégorie, thread, horodatage).
+ *
+ * Les appels de log ne font aucune entrée/sortie : ils déposent une entrée dans un tampon
+ * circulaire sans verrou, vidé vers la console par un thread dédié. La boucle de jeu
+ * (thread JavaFX) n'est donc jamais bloquée par l'écriture sur System.out.
+ *
+ * Les logs DEBUG des chemins critiques (par frame, par collision) s'écrivent sous garde :
+ * <pre>
+ * if (GameLog.DEBUG_ENABLED) {
+ *     GameLog.debug(GameLog.Category.SIMULATION, "Mise à jour de " + count + " bombes");
+ * }
+ * </pre>
+ * DEBUG_ENABLED étant une constante de compilation, le bloc entier (concaténation comprise)
+ * disparaît du bytecode quand elle vaut false.
+ *
+ * Le niveau minimal des autres messages se règle au lancement avec la propriété système
+ * bomberman.log.level (DEBUG, INFO, WARN, ERROR ; INFO par défaut), ou par catégorie à l'exécution.
+ */
+public final class GameLog {
+
+    /**
+     * Niveaux de log, du plus verbeux au plus grave
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    /**
+     * Sous-systèmes du jeu
+     */
+    public enum Category {
+        GAME,        // Boucle de jeu, états, navigation entre niveaux
+        SIMULATION,  // Règles du jeu : grille, joueurs, bombes, ennemis, power-ups
+        AI,          // Bots du mode battle
+        RENDER,      // Rendu et animations
+        AUDIO,       // Musiques et effets sonores
+        RESOURCES,   // Sprites et thèmes
+        UI,          // Menus et contrôleurs FXML
+        PROFILE      // Profils et sauvegardes
+    }
+
+    /**
+     * Active les logs DEBUG. Constante de compilation : à false, les blocs gardés par
+     * {@code if (GameLog.DEBUG_ENABLED)} sont supprimés à la compilation.
+     */
+    public static final boolean DEBUG_ENABLED = false;
+
+    // Capacité du tampon (puissance de 2) : au-delà, les messages sont comptés puis abandonnés
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = 2_000_000; // 2ms entre deux vidages quand le tampon est vide
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static final Level[] categoryLevels = new Level[Category.values().length];
+    private static final RingBuffer buffer = new RingBuffer(BUFFER_CAPACITY);
+    private static final AtomicLong droppedCount = new AtomicLong();
+    private static final Thread writerThread;
+
+    // Threads dont les messages sont ignorés (simulations de prévision du bot MCTS, qui jouent des milliers de ticks)
+    private static final ThreadLocal<Boolean> threadMuted = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    static {
+        setLevel(parseLevel(System.getProperty("bomberman.log.level"), Level.INFO));
+
+        writerThread = new Thread(GameLog::drainLoop, "bomberman-log");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        // Vider les derniers messages à la fermeture du jeu
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::flush, "bomberman-log-flush"));
+    }
+
+    private GameLog() {
+    }
+
+    /**
+     * Entrée du journal (immuable, publiée par le producteur puis lue par le thread d'écriture)
+     */
+    private static final class Entry {
+        private final long timeMillis;
+        private final Level level;
+        private final Category category;
+        private final String threadName;
+        private final String message;
+        private final Throwable error;
+
+        private Entry(Level level, Category category, String message, Throwable error) {
+            this.timeMillis = System.currentTimeMillis();
+            this.level = level;
+            this.category = category;
+            this.threadName = Thread.currentThread().getName();
+            this.message = message;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Tampon circulaire borné multi-producteurs / consommateur unique, sans verrou.
+     * Un producteur réserve une séquence par CAS puis publie son entrée dans la case
+     * correspondante ; le consommateur lit les cases dans l'ordre des séquences, vide
+     * chaque case puis avance sa séquence de lecture.
+     */
+    private static final class RingBuffer {
+        private final AtomicReferenceArray<Entry> slots;
+        private final int mask;
+        private final AtomicLong writeSequence = new AtomicLong();
+        private volatile long readSequence;
+
+        private RingBuffer(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * @return false si le tampon est plein
+         */
+        private boolean offer(Entry entry) {
+            while (true) {
+                long sequence = writeSequence.get();
+                if (sequence - readSequence >= slots.length()) {
+                    return false;
+                }
+                if (writeSequence.compareAndSet(sequence, sequence + 1)) {
+                    slots.set((int) (sequence & mask), entry);
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * @return L'entrée suivante, ou null si aucune n'est encore publiée (consommateur uniquement)
+         */
+        private Entry poll() {
+            long sequence = readSequence;
+            int index = (int) (sequence & mask);
+            Entry entry = slots.get(index);
+            if (entry == null) {
+                return null;
+            }
+            slots.set(index, null);
+            readSequence = sequence + 1;
+            return entry;
+        }
+
+        private boolean isDrained() {
+            return readSequence == writeSequence.get();
+        }
+    }
+
+    // ========== CONFIGURATION ==========
+
+    /**
+     * Fixe le niveau minimal de toutes les catégories
+     * @param level Niveau minimal des messages écrits
+     */
+    public static void setLevel(Level level) {
+        for (Category category : Category.values()) {
+            categoryLevels[category.ordinal()] = level;
+        }
+    }
+
+    /**
+     * Fixe le niveau minimal d'une catégorie
+     * @param category La catégorie
+     * @param level Niveau minimal des messages écrits pour cette catégorie
+     */
+    public static void setLevel(Category category, Level level) {
+        categoryLevels[category.ordinal()] = level;
+    }
+
+    /**
+     * Ignore ou rétablit les messages du thread courant, quel que soit leur niveau
+     * @param muted true pour ignorer les messages du thread courant
+     */
+    public static void setThreadMuted(boolean muted) {
+        threadMuted.set(muted);
+    }
+
+    /**
+     * @return true si un message de ce niveau et de cette catégorie serait écrit
+     */
+    public static boolean isEnabled(Level level, Category category) {
+        if (level == Level.DEBUG && !DEBUG_ENABLED) {
+            return false;
+        }
+        return level.ordinal() >= categoryLevels[category.ordinal()].ordinal();
+    }
+
+    /**
+     * @return Nombre de messages abandonnés parce que le tampon était plein
+     */
+    public static long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    // ========== ÉCRITURE ==========
+
+    /**
+     * Message de diagnostic, à garder par {@code if (GameLog.DEBUG_ENABLED)} sur les chemins critiques
+     */
+    public static void debug(Category category, String message) {
+        if (DEBUG_ENABLED) {
+            log(Level.DEBUG, category, message, null);
+        }
+    }
+
+    /**
+     * Message d'information (événements de jeu, chargements)
+     */
+    public static void info(Category category, String message) {
+        log(Level.INFO, category, message, null);
+    }
+
+    /**
+     * Situation anormale mais récupérable
+     */
+    public static void warn(Category category, String message) {
+        log(Level.WARN, category, message, null);
+    }
+
+    /**
+     * Erreur
+     */
+    public static void error(Category category, String message) {
+        log(Level.ERROR, category, message, null);
+    }
+
+    /**
+     * Erreur avec l'exception qui l'a provoquée (pile d'appels écrite par le thread de log)
+     */
+    public static void error(Category category, String message, Throwable error) {
+        log(Level.ERROR, category, message, error);
+    }
+
+    private static void log(Level level, Category category, String message, Throwable error) {
+        if (!isEnabled(level, category) || threadMuted.get()) {
+            return;
+        }
+        if (!buffer.offer(new Entry(level, category, message, error))) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Attend que tous les messages déjà déposés soient écrits (au plus une seconde)
+     */
+    public static void flush() {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (!buffer.isDrained() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        System.out.flush();
+        System.err.flush();
+    }
+
+    // ========== THREAD D'ÉCRITURE ==========
+
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        long reportedDrops = 0;
+        while (true) {
+            boolean wroteSomething = false;
+            Entry entry;
+            while ((entry = buffer.poll()) != null) {
+                write(entry, line);
+                wroteSomething = true;
+            }
+
+            long drops = droppedCount.get();
+            if (drops != reportedDrops) {
+                System.err.println("[GameLog] " + (drops - reportedDrops) + " message(s) perdu(s) : tampon plein");
+                reportedDrops = drops;
+            }
+
+            if (wroteSomething) {
+                System.out.flush();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private static void write(Entry entry, StringBuilder line) {
+        line.setLength(0);
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(entry.timeMillis), ZoneId.systemDefault());
+        TIME_FORMAT.formatTo(time, line);
+        line.append(' ');
+        line.append(entry.level);
+        for (int i = entry.level.name().length(); i < 5; i++) {
+            line.append(' ');
+        }
+        line.append(" [").append(entry.category).append("] [").append(entry.threadName).append("] ");
+        line.append(entry.message);
+
+        PrintStream out = entry.level.ordinal() >= Level.WARN.ordinal() ? System.err : System.out;
+        out.println(line);
+        if (entry.error != null) {
+            entry.error.printStackTrace(out);
+        }
+    }
+
+    private static Level parseLevel(String value, Level defaultLevel) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
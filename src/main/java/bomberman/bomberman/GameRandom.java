@@ -0,0 +1,114 @@
+package bomberman.bomberman;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Générateur pseudo-aléatoire d'une partie, initialisé par une graine.
+ *
+ * Chaque sous-système (génération de niveau, ennemis, Bomb Rain, IA) tire ses valeurs de
+ * son propre flux, dérivé de la graine de la partie dans un ordre fixe. Une même graine
+ * rejoue donc exactement la même partie, et les tirages d'un sous-système ne décalent pas
+ * ceux des autres (ajouter un tirage dans l'IA ne change pas la génération des niveaux).
+ *
+ * Contrairement à Math.random(), aucun état n'est partagé entre parties : plusieurs
+ * simulations peuvent tourner en parallèle sans contention. Un flux ne doit être utilisé
+ * que par le thread de sa simulation.
+ *
+ * L'état de chaque flux tient dans un long (SplitMix64) : il est lu et rétabli par les
+ * instantanés de partie (GameSnapshot), ce que SplittableRandom ne permet pas.
+ */
+public class GameRandom {
+
+    /**
+     * Flux indépendants, un par sous-système
+     */
+    public enum Stream {
+        LEVEL,      // Grille : blocs solides aléatoires, blocs destructibles, power-ups cachés, porte de sortie
+        ENEMIES,    // Positions de départ et directions des ennemis
+        BOMB_RAIN,  // Positions des bombes de Bomb Rain
+        AI          // Décisions du bot du mode VS MACHINE
+    }
+
+    /**
+     * Flux SplitMix64 dont l'état courant peut être lu et rétabli
+     */
+    public static final class StreamRandom implements RandomGenerator {
+        private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+        private long state;
+
+        private StreamRandom(long state) {
+            this.state = state;
+        }
+
+        @Override
+        public long nextLong() {
+            long z = (state += GOLDEN_GAMMA);
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+
+        /**
+         * @return L'état courant du flux
+         */
+        public long getState() {
+            return state;
+        }
+
+        /**
+         * Rétablit un état lu par getState() : les tirages suivants sont ceux qui suivaient cet état
+         * @param state L'état du flux
+         */
+        public void setState(long state) {
+            this.state = state;
+        }
+
+        /**
+         * ✨ **NOUVEAU** : Copie indépendante du flux, qui produit les mêmes tirages que lui à partir de l'état courant
+         * (utilisable par un autre thread, par exemple pour préparer un niveau en arrière-plan)
+         * @return La copie
+         */
+        public StreamRandom copy() {
+            return new StreamRandom(state);
+        }
+    }
+
+    private final long seed;
+    private final StreamRandom[] streams = new StreamRandom[Stream.values().length];
+
+    /**
+     * Constructeur du générateur
+     * @param seed Graine de la partie
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        StreamRandom root = new StreamRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams[stream.ordinal()] = new StreamRandom(root.nextLong());
+        }
+    }
+
+    /**
+     * @return Une graine tirée au hasard, pour une nouvelle partie non rejouée
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * @return La graine de la partie
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param stream Le sous-système
+     * @return Le flux pseudo-aléatoire du sous-système
+     */
+    public StreamRandom stream(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+}
@@ -0,0 +1,2519 @@
+package bomberman.bomberman;
+
+import javafx.scene.input.KeyCode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+/**
+ * Moteur de simulation du jeu Bomberman, indépendant de JavaFX et du rendu.
+ * Contient tout l'état d'une partie (grille, joueurs, ennemis, bombes, explosions,
+ * power-ups, porte de sortie, timer global) et la logique qui le fait évoluer.
+ *
+ * La simulation avance par ticks de durée fixe (60 par seconde) via step(long),
+ * quel que soit le rythme d'affichage : le Launcher lui transmet le temps écoulé
+ * entre deux frames, un bot ou un test peut l'appeler en boucle sans fenêtre.
+ * Les événements destinés à la présentation (sons, notifications, animations)
+ * sont publiés via un SimulationListener.
+ */
+public class GameSimulation {
+    
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+
+    /**
+     * Issue de la résolution d'une mort de joueur (fin de l'animation de mort)
+     */
+    public enum DeathOutcome {
+        CONTINUE,    // La partie continue (respawn ou autres joueurs en vie)
+        GAME_OVER,   // Plus aucun joueur en vie
+        BATTLE_WON   // Mode battle : un seul joueur reste en vie
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Grille d'un niveau en construction en arrière-plan, avec ce qui la détermine : numéro du niveau,
+     * recueil et état du flux de génération au départ (elle n'est reprise que si la partie en est au même point)
+     */
+    private static final class PreparedLevel {
+        private final int levelNumber;
+        private final LevelPack levelPack;
+        private final long levelStreamStart;
+        // Copie du flux de génération, avancée par la construction (lue une fois la grille terminée)
+        private final GameRandom.StreamRandom levelStream;
+        private CompletableFuture<Grid> grid;
+
+        private PreparedLevel(int levelNumber, LevelPack levelPack, GameRandom.StreamRandom levelStream) {
+            this.levelNumber = levelNumber;
+            this.levelPack = levelPack;
+            this.levelStreamStart = levelStream.getState();
+            this.levelStream = levelStream;
+        }
+
+        private boolean matches(int levelNumber, LevelPack levelPack, long levelStreamState) {
+            return this.levelNumber == levelNumber && this.levelPack == levelPack && levelStreamStart == levelStreamState;
+        }
+    }
+
+    // Durée d'un tick de simulation (60 ticks par seconde)
+    public static final long TICK_NANOS = 16_666_667L;
+    public static final long TICK_MILLIS = TICK_NANOS / 1_000_000L;
+
+    // Nombre maximum de ticks rattrapés en un seul appel à step() (évite la spirale de rattrapage)
+    private static final int MAX_TICKS_PER_STEP = 5;
+
+    // Dimensions de l'arène standard (nombre de cases) - Surface jouable: 13x11
+    public static final int GRID_COLUMNS = 15;  // 720/48 = 15 cases en largeur (surface totale)
+    public static final int GRID_ROWS = 13;     // 624/48 = 13 cases en hauteur (surface totale)
+
+    // ✨ **NOUVEAU** : Limites des arènes personnalisées (dimensions impaires : les coins de départ restent libres)
+    public static final int MIN_ARENA_SIZE = 7;
+    public static final int MAX_ARENA_SIZE = 255;
+
+    // Positions de départ des joueurs dans l'arène standard (les arènes personnalisées partent de leurs quatre coins)
+    public static final int PLAYER_START_X = 1;
+    public static final int PLAYER_START_Y = 1;
+    public static final int PLAYER2_START_X = 13;  // Coin opposé pour le joueur 2
+    public static final int PLAYER2_START_Y = 11;
+    public static final int PLAYER3_START_X = 1;   // Coin inférieur gauche pour le joueur 3 (mode Battle 4 joueurs)
+    public static final int PLAYER3_START_Y = 11;
+    public static final int PLAYER4_START_X = 13;  // Coin supérieur droit pour le joueur 4 (mode Battle 4 joueurs)
+    public static final int PLAYER4_START_Y = 1;
+
+    // Nombre d'ennemis à créer
+    private static final int ENEMY_COUNT = 3;
+
+    // Limite maximale d'ennemis autorisée par niveau
+    private static final int MAX_ENEMIES = 8;
+
+    // Points attribués pour les actions
+    private static final int POINTS_ENEMY_KILLED = 100;
+    private static final int POINTS_BLOCK_DESTROYED = 10;
+    private static final int POINTS_POWERUP_COLLECTED = 50;
+
+    // Délai avant l'apparition d'un ennemi par la porte (après la fin des flammes)
+    private static final long ENEMY_SPAWN_DELAY = 1000;
+
+    // ⏱️ Timer global de 2min30s (150 000ms), compté sur l'horloge du jeu
+    private static final long GLOBAL_TIMER_DURATION = 150000;
+    private long globalTimerStartTime;
+    private boolean globalTimerActive;
+
+    // Mode de jeu
+    private final boolean isCooperationMode;
+    private final boolean isBattleMode;
+    private final boolean isVsMachineMode;
+
+    // Dimensions de l'arène et coin de départ du joueur 2 (zones protégées de la génération ; la case de départ
+    // de chaque joueur sur le niveau courant est donnée par Grid.getSpawnX / getSpawnY)
+    private final int columns;
+    private final int rows;
+    private final int player2StartX;
+    private final int player2StartY;
+
+    // Composants du jeu
+    private Grid grid;
+    private LevelPack levelPack; // ✨ **NOUVEAU** : Niveaux chargés, null pour la génération procédurale
+    private FluidMovementPlayer player;   // Joueur 1
+    private FluidMovementPlayer player2;  // Joueur 2 (coopération/battle/VS machine)
+    private FluidMovementPlayer player3;  // Joueur 3 (Battle 4 joueurs)
+    private FluidMovementPlayer player4;  // Joueur 4 (Battle 4 joueurs)
+    private final List<FluidMovementPlayer> players = new ArrayList<>();
+    private List<Enemy> enemies = new ArrayList<>();
+    private ExitDoor exitDoor;
+    private int currentLevel;
+
+    // Gestion des bombes, explosions et power-ups
+    private List<Bomb> activeBombs = new ArrayList<>();
+    private List<Bomb> rainBombs = new ArrayList<>();
+    private List<Explosion> activeExplosions = new ArrayList<>();
+    private List<PowerUp> powerUps = new ArrayList<>();
+
+    // Index d'occupation case par case (requêtes de collision en temps constant)
+    private final OccupancyGrid occupancy;
+
+    // Carte des dangers partagée par les bots, recalculée au plus une fois par tick (à la demande)
+    private final DangerMap dangerMap;
+    private final DangerMap.RangeLookup blastRanges = this::blastRangeOf;
+    private boolean dangerMapStale = true;
+
+    // Champs de distance vers les joueurs : un par joueur (poursuite par un bot), un vers tous les joueurs (ennemis)
+    private final DistanceField[] playerDistanceFields = new DistanceField[4];
+    private final DistanceField enemyDistanceField;
+    private final int[] distanceSources = new int[4];
+
+    // Pools des bombes et explosions, réutilisées d'un tick à l'autre
+    private final ObjectPool<Bomb> bombPool = new ObjectPool<>(() -> new Bomb(this.clock));
+    private final ObjectPool<Explosion> explosionPool = new ObjectPool<>(() -> new Explosion(this.clock));
+
+    // Callbacks créés une seule fois (une référence de méthode par tick allouerait un objet)
+    private final FluidMovementPlayer.BombCollisionChecker playerBombChecker = this::isBombBlockingMovement;
+    private final FluidMovementPlayer.PlayerCollisionChecker playerChecker = this::isPlayerAt;
+    private final Enemy.BombCollisionChecker enemyBombChecker = this::isBombBlockingMovement;
+    private final Enemy.EnemyCollisionChecker enemyChecker = this::isEnemyAt;
+    private final ChainReactionResolver.BombLookup chainedBombLookup = this::takeChainedBomb;
+    private final ChainReactionResolver.Detonator detonator = this::explode;
+    private final Grid.BlastRevealListener blastRevealListener = this::revealBlockContent;
+
+    // Réactions en chaîne : résolveur itératif et métriques de la dernière chaîne
+    // ✨ **NOUVEAU** : Mesure du temps passé dans chaque phase du tick (inactif tant que l'overlay est masqué)
+    private FrameProfiler profiler = FrameProfiler.getInstance();
+
+    private final ChainReactionResolver chainResolver;
+    private ChainReactionResolver.ChainReaction lastChainReaction;
+    private int longestChainLength;
+
+    // Vrai si l'explosion en cours de création révèle la porte cachée dans un bloc
+    private boolean blastRevealedDoor;
+
+    // Instants (horloge du jeu) des spawns d'ennemis programmés par la porte
+    private final List<Long> pendingEnemySpawns = new ArrayList<>();
+
+    // Suivi des animations de victoire en mode coopération
+    private boolean player1WinAnimationTriggered = false;
+    private boolean player2WinAnimationTriggered = false;
+
+    // Bot du mode VS MACHINE (pilote le joueur 2)
+    private AIBot bot;
+    private AIBot.Parameters botParameters = AIBot.Parameters.DEFAULT;
+    // Réflexion du bot hors du tick (sur le thread de simulation tant qu'aucun exécuteur n'est défini)
+    private final AIScheduler aiScheduler = new AIScheduler(this, null);
+    // Bot mis en sommeil : son joueur est piloté de l'extérieur (replay de ses décisions, prévisions MCTS)
+    private boolean botSuspended;
+
+    // ✨ **NOUVEAU** : Générateur pseudo-aléatoire de la partie (une même graine rejoue la même partie)
+    private long seed;
+    private GameRandom random;
+
+    // ✨ **NOUVEAU** : Grille du niveau suivant préparée en arrière-plan pendant le niveau courant
+    // (null tant qu'aucun exécuteur n'est défini : la grille est alors construite par nextLevel())
+    private static ExecutorService sharedLevelWorker;
+    private ExecutorService levelExecutor;
+    private PreparedLevel preparedLevel;
+
+    // Horloge de simulation
+    private long accumulatedNanos;
+    private long tickCount;
+    private long simulationTimeMillis;
+    
+    // Source de temps échantillonnée une fois par tick (null = temps de simulation)
+    private final GameClock timeSource;
+    // Horloge figée sur l'échantillon du tick courant, partagée par toutes les entités
+    private final GameClock.Manual clock = new GameClock.Manual(0);
+
+    // État de la partie vu par la simulation
+    private boolean playerDyingState;  // Équivalent de GameState.PLAYER_DYING
+    private boolean levelCompleted;
+    private boolean gameOver;
+    private FluidMovementPlayer battleWinner;
+
+    // Écoute des événements et résolution des morts
+    private SimulationListener listener = new SimulationListener() { };
+    private boolean autoResolveDeaths = true;
+
+    // Enregistrement des commandes reçues (null si la partie n'est pas enregistrée)
+    private ReplayRecorder replayRecorder;
+
+    /**
+     * Constructeur de la simulation
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     */
+    public GameSimulation(boolean cooperationMode, boolean battleMode, boolean vsMachineMode) {
+        this(cooperationMode, battleMode, vsMachineMode, null);
+    }
+    
+    /**
+     * Constructeur de la simulation avec source de temps explicite
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param timeSource Source de temps des entités (GameClock.SYSTEM pour le temps réel,
+     *                   GameClock.Scaled pour accélérer) ; null pour suivre les ticks de simulation
+     */
+    public GameSimulation(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, GameClock timeSource) {
+        this(cooperationMode, battleMode, vsMachineMode, timeSource, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructeur de la simulation avec source de temps et graine explicites
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param timeSource Source de temps des entités ; null pour suivre les ticks de simulation
+     * @param seed Graine de la partie : avec les mêmes entrées, une même graine rejoue la même partie
+     */
+    public GameSimulation(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, GameClock timeSource, long seed) {
+        this(cooperationMode, battleMode, vsMachineMode, timeSource, seed, GRID_COLUMNS, GRID_ROWS);
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Constructeur de la simulation sur une arène personnalisée
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param timeSource Source de temps des entités ; null pour suivre les ticks de simulation
+     * @param seed Graine de la partie : avec les mêmes entrées, une même graine rejoue la même partie
+     * @param columns Nombre de colonnes de l'arène (impair, entre MIN_ARENA_SIZE et MAX_ARENA_SIZE)
+     * @param rows Nombre de lignes de l'arène (impair, entre MIN_ARENA_SIZE et MAX_ARENA_SIZE)
+     * @throws IllegalArgumentException Si les dimensions de l'arène ne sont pas valides
+     */
+    public GameSimulation(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, GameClock timeSource, long seed,
+                          int columns, int rows) {
+        if (!isValidArenaSize(columns) || !isValidArenaSize(rows)) {
+            throw new IllegalArgumentException("Dimensions d'arène invalides : " + columns + "x" + rows
+                    + " (impaires, entre " + MIN_ARENA_SIZE + " et " + MAX_ARENA_SIZE + ")");
+        }
+        this.isCooperationMode = cooperationMode;
+        this.isBattleMode = battleMode;
+        this.isVsMachineMode = vsMachineMode;
+        this.timeSource = timeSource;
+        this.seed = seed;
+        this.columns = columns;
+        this.rows = rows;
+        this.player2StartX = columns - 2;  // Coin opposé
+        this.player2StartY = rows - 2;
+        this.occupancy = new OccupancyGrid(columns, rows);
+        this.dangerMap = new DangerMap(columns, rows);
+        this.enemyDistanceField = new DistanceField(columns, rows);
+        this.chainResolver = new ChainReactionResolver(columns, rows);
+        sampleClock();
+    }
+
+    /**
+     * @param size Nombre de colonnes ou de lignes
+     * @return true si une arène peut avoir cette dimension
+     */
+    public static boolean isValidArenaSize(int size) {
+        return size >= MIN_ARENA_SIZE && size <= MAX_ARENA_SIZE && size % 2 == 1;
+    }
+
+    /**
+     * Lit des dimensions d'arène écrites "colonnesxlignes" (option -Dbomberman.arena, --arena)
+     * @param value Dimensions, par exemple "63x63"
+     * @return {colonnes, lignes}
+     * @throws IllegalArgumentException Si le texte n'est pas de la forme attendue ou les dimensions invalides
+     */
+    public static int[] parseArenaSize(String value) {
+        int separator = value.toLowerCase().indexOf('x');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Arène invalide : " + value + " (attendu colonnesxlignes, par exemple 63x63)");
+        }
+        int columns;
+        int rows;
+        try {
+            columns = Integer.parseInt(value.substring(0, separator).trim());
+            rows = Integer.parseInt(value.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Arène invalide : " + value + " (attendu colonnesxlignes, par exemple 63x63)");
+        }
+        if (!isValidArenaSize(columns) || !isValidArenaSize(rows)) {
+            throw new IllegalArgumentException("Dimensions d'arène invalides : " + columns + "x" + rows
+                    + " (impaires, entre " + MIN_ARENA_SIZE + " et " + MAX_ARENA_SIZE + ")");
+        }
+        return new int[] {columns, rows};
+    }
+
+    /**
+     * Définit l'écouteur des événements de simulation
+     * @param listener L'écouteur (null pour ne plus rien écouter)
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener != null ? listener : new SimulationListener() { };
+    }
+
+    /**
+     * Active ou désactive la résolution immédiate des morts.
+     * Activée par défaut (mode sans affichage) ; le Launcher la désactive pour
+     * résoudre chaque mort à la fin de son animation.
+     * @param autoResolveDeaths true pour résoudre les morts dans le même tick
+     */
+    public void setAutoResolveDeaths(boolean autoResolveDeaths) {
+        this.autoResolveDeaths = autoResolveDeaths;
+    }
+
+    /**
+     * Définit les réglages du bot du mode VS MACHINE, appliqués au prochain newGame()
+     * @param botParameters Réglages du bot (AIBot.Parameters.DEFAULT par défaut)
+     */
+    public void setBotParameters(AIBot.Parameters botParameters) {
+        this.botParameters = botParameters;
+    }
+
+    /**
+     * Fait réfléchir le bot du mode VS MACHINE sur un thread de travail plutôt que dans le tick.
+     * Les décisions restent identiques (et appliquées aux mêmes ticks) : seul le thread qui les calcule change.
+     * @param executor Exécuteur de la réflexion (AIScheduler.sharedWorker() pour le jeu affiché),
+     *                 null pour réfléchir sur le thread de simulation
+     */
+    public void setAIExecutor(ExecutorService executor) {
+        aiScheduler.setExecutor(executor);
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Prépare la grille du niveau suivant sur un thread de travail pendant le niveau courant :
+     * nextLevel() n'a plus qu'à la reprendre. La grille préparée part d'une copie du flux de génération,
+     * elle est donc identique à celle que nextLevel() aurait construite (les replays restent valides).
+     * Si une partie est en cours, la préparation de son niveau suivant démarre aussitôt.
+     * @param executor Exécuteur de la préparation (levelWorker() pour le jeu affiché),
+     *                 null pour construire la grille dans nextLevel()
+     */
+    public void setLevelExecutor(ExecutorService executor) {
+        this.levelExecutor = executor;
+        if (grid != null) {
+            prepareNextLevel();
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : @return Le thread de préparation des niveaux des parties affichées, créé au premier appel
+     */
+    public static synchronized ExecutorService levelWorker() {
+        if (sharedLevelWorker == null) {
+            sharedLevelWorker = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "bomberman-level");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sharedLevelWorker;
+    }
+
+    /**
+     * Met le bot du mode VS MACHINE en sommeil : il ne décide plus et son joueur n'est plus piloté
+     * que de l'extérieur (décisions enregistrées d'un replay, actions d'une prévision du bot MCTS)
+     * @param botSuspended true pour que le bot ne décide plus
+     */
+    void setBotSuspended(boolean botSuspended) {
+        this.botSuspended = botSuspended;
+    }
+
+    /**
+     * Ne mesure plus les ticks de cette simulation dans le profileur de frame du jeu
+     * (simulations de prévision du bot MCTS, jouées sur d'autres threads que la frame)
+     */
+    void detachProfiler() {
+        profiler = FrameProfiler.DISABLED;
+    }
+
+    /**
+     * @return true si les morts sont résolues dans le tick où elles surviennent
+     */
+    public boolean isAutoResolveDeaths() {
+        return autoResolveDeaths;
+    }
+
+    /**
+     * Enregistre les commandes reçues par la simulation (touches, niveaux, fins de mort)
+     * pour pouvoir rejouer la partie. À appeler avant newGame().
+     * @param replayRecorder L'enregistreur (null pour ne plus enregistrer)
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Joue les niveaux d'un recueil plutôt que des niveaux générés, à partir du prochain
+     * newGame() ou nextLevel() (le recueil recommence au début une fois terminé).
+     * Les graines ne suffisant plus à rejouer la partie, ne pas l'enregistrer en replay.
+     * @param levelPack Le recueil, ou null pour revenir à la génération procédurale
+     * @throws IllegalArgumentException Si les niveaux n'ont pas les dimensions de l'arène
+     */
+    public void setLevelPack(LevelPack levelPack) {
+        if (levelPack != null && (levelPack.getColumns() != columns || levelPack.getRows() != rows)) {
+            throw new IllegalArgumentException("Niveaux de " + levelPack.getColumns() + "x" + levelPack.getRows()
+                    + " pour une arène de " + columns + "x" + rows);
+        }
+        this.levelPack = levelPack;
+        discardPreparedLevel();
+    }
+
+    // ========== CYCLE DE VIE DE LA PARTIE ==========
+
+    /**
+     * Initialise une nouvelle partie au niveau 1 (grille, joueurs, ennemis, porte)
+     */
+    public void newGame() {
+        currentLevel = 1;
+        sampleClock();
+
+        // Tous les tirages de la partie découlent de sa graine
+        random = new GameRandom(seed);
+        discardPreparedLevel();
+
+        // Initialisation du modèle de données de la grille avec le niveau actuel et support mode coopération/battle
+        Level level = loadedLevel(currentLevel);
+        grid = createGrid(currentLevel, level, random.stream(GameRandom.Stream.LEVEL));
+
+        createPlayers();
+        for (FluidMovementPlayer p : players) {
+            p.resetScore();
+        }
+
+        initializeLevel(level);
+    }
+
+    /**
+     * ✨ **NOUVEAU** : @param levelNumber Numéro du niveau
+     * @return Niveau du recueil à jouer pour ce numéro, null si les niveaux sont générés
+     */
+    private Level loadedLevel(int levelNumber) {
+        return levelPack != null ? levelPack.getLevelForNumber(levelNumber) : null;
+    }
+
+    /**
+     * Crée la grille d'un niveau : chargée depuis le niveau du recueil, ou générée.
+     * N'utilise que des champs immuables de la simulation (appelée aussi par le thread de préparation).
+     * @param levelNumber Numéro du niveau (adapte la génération)
+     * @param level Niveau chargé, null pour générer la grille
+     * @param levelStream Flux de génération (celui de la partie, ou sa copie pour une préparation)
+     */
+    private Grid createGrid(int levelNumber, Level level, RandomGenerator levelStream) {
+        if (level != null) {
+            return new Grid(level, levelStream);
+        }
+        return new Grid(columns, rows, levelNumber, isCooperationMode, isBattleMode, player2StartX, player2StartY,
+                levelStream);
+    }
+
+    // ========== PRÉPARATION DU NIVEAU SUIVANT ==========
+
+    /**
+     * ✨ **NOUVEAU** : Lance la construction de la grille du niveau suivant sur l'exécuteur des niveaux.
+     * Appelé une fois le niveau courant initialisé ou restauré : le flux de génération ne sert plus avant nextLevel().
+     * Une préparation déjà lancée pour le même point de la partie est conservée.
+     */
+    private void prepareNextLevel() {
+        if (levelExecutor == null) {
+            discardPreparedLevel();
+            return;
+        }
+        int levelNumber = currentLevel + 1;
+        GameRandom.StreamRandom levelStream = random.stream(GameRandom.Stream.LEVEL);
+        if (preparedLevel != null && preparedLevel.matches(levelNumber, levelPack, levelStream.getState())) {
+            return;
+        }
+        discardPreparedLevel();
+
+        PreparedLevel prepared = new PreparedLevel(levelNumber, levelPack, levelStream.copy());
+        Level level = loadedLevel(levelNumber);
+        prepared.grid = CompletableFuture.supplyAsync(() -> createGrid(levelNumber, level, prepared.levelStream), levelExecutor);
+        preparedLevel = prepared;
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Reprend la grille préparée pour le niveau courant, si elle correspond exactement à celle
+     * que le flux de génération de la partie construirait (même niveau, même recueil, même état du flux).
+     * Le flux de la partie est alors avancé comme si la grille venait d'être construite.
+     * @return La grille préparée, null si elle doit être construite maintenant
+     */
+    private Grid takePreparedGrid() {
+        PreparedLevel prepared = preparedLevel;
+        preparedLevel = null;
+        GameRandom.StreamRandom levelStream = random.stream(GameRandom.Stream.LEVEL);
+        if (prepared == null || !prepared.matches(currentLevel, levelPack, levelStream.getState())) {
+            if (prepared != null) {
+                prepared.grid.cancel(false);
+            }
+            return null;
+        }
+        if (!prepared.grid.isDone()) {
+            GameLog.warn(LOG_CATEGORY, "Niveau " + currentLevel + " pas encore prêt : attente du thread de préparation");
+        }
+        Grid preparedGrid;
+        try {
+            preparedGrid = prepared.grid.join();
+        } catch (CompletionException e) {
+            GameLog.error(LOG_CATEGORY, "Échec de la préparation du niveau " + currentLevel + " : " + e.getCause());
+            return null;
+        }
+        levelStream.setState(prepared.levelStream.getState());
+        return preparedGrid;
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Abandonne la grille en préparation (nouvelle partie, recueil changé, exécuteur retiré)
+     */
+    private void discardPreparedLevel() {
+        if (preparedLevel != null) {
+            preparedLevel.grid.cancel(false);
+            preparedLevel = null;
+        }
+    }
+
+    /**
+     * Crée les joueurs du mode de jeu à leur position de départ, ainsi que le bot du mode VS MACHINE
+     */
+    private void createPlayers() {
+        // Initialisation du joueur à une position de départ valide (avec mouvement fluide)
+        player = new FluidMovementPlayer(grid.getSpawnX(0), grid.getSpawnY(0), clock);
+
+        // Initialiser le joueur 2 en mode coopération ou battle
+        if (isCooperationMode || isBattleMode) {
+            player2 = new FluidMovementPlayer(grid.getSpawnX(1), grid.getSpawnY(1), clock);
+        } else {
+            player2 = null;
+        }
+
+        // Initialiser les joueurs 3 et 4 uniquement en mode Battle
+        if (isBattleMode && !isVsMachineMode) {
+            player3 = new FluidMovementPlayer(grid.getSpawnX(2), grid.getSpawnY(2), clock);
+            player4 = new FluidMovementPlayer(grid.getSpawnX(3), grid.getSpawnY(3), clock);
+        } else {
+            player3 = null;
+            player4 = null;
+        }
+
+        players.clear();
+        for (FluidMovementPlayer p : new FluidMovementPlayer[] {player, player2, player3, player4}) {
+            if (p != null) {
+                players.add(p);
+            }
+        }
+
+        bot = (isVsMachineMode && player2 != null)
+                ? new AIBot(this, player2, player, botParameters, random.stream(GameRandom.Stream.AI))
+                : null;
+        aiScheduler.cancel();
+    }
+
+    /**
+     * Passe au niveau suivant en conservant l'état des joueurs
+     */
+    public void nextLevel() {
+        if (replayRecorder != null) {
+            replayRecorder.nextLevel();
+        }
+        currentLevel++;
+        sampleClock();
+
+        // Reprendre la grille préparée en arrière-plan, sinon régénérer (ou charger) la grille du niveau suivant
+        Level level = loadedLevel(currentLevel);
+        Grid prepared = takePreparedGrid();
+        grid = prepared != null ? prepared : createGrid(currentLevel, level, random.stream(GameRandom.Stream.LEVEL));
+
+        // Remettre le(s) joueur(s) à leur position de départ (mais conserver leurs attributs)
+        FluidMovementPlayer[] startingPlayers = {player, player2, player3, player4};
+        for (int i = 0; i < startingPlayers.length; i++) {
+            if (startingPlayers[i] != null) {
+                startingPlayers[i].setPixelPosition(FluidMovementPlayer.gridToPixel(grid.getSpawnX(i)),
+                        FluidMovementPlayer.gridToPixel(grid.getSpawnY(i)));
+            }
+        }
+
+        initializeLevel(level);
+    }
+
+    /**
+     * Initialise le niveau courant : ennemis, listes vides, porte de sortie et timer global
+     * @param level Niveau chargé (ennemis et porte placés par le niveau), null si le niveau est généré
+     */
+    private void initializeLevel(Level level) {
+        occupancy.clear();
+        dangerMapStale = true;
+        aiScheduler.cancel();
+        enemies = new ArrayList<>();
+        createEnemiesForLevel(level);
+
+        powerUps = new ArrayList<>();
+        releaseAll(activeBombs, bombPool);
+        releaseAll(rainBombs, bombPool);
+        releaseAll(activeExplosions, explosionPool);
+        pendingEnemySpawns.clear();
+
+        player1WinAnimationTriggered = false;
+        player2WinAnimationTriggered = false;
+        playerDyingState = false;
+        levelCompleted = false;
+        gameOver = false;
+        battleWinner = null;
+        accumulatedNanos = 0;
+
+        // Générer la porte de sortie cachée dans un bloc destructible (démarre aussi le timer global)
+        generateExitDoor(level);
+
+        // Le flux de génération est maintenant figé jusqu'au niveau suivant : sa grille peut être préparée
+        prepareNextLevel();
+
+        GameLog.info(LOG_CATEGORY, "Niveau " + currentLevel + " initialisé - Nombre d'ennemis : " + enemies.size());
+    }
+
+    /**
+     * Démarre effectivement le niveau (fin de la musique d'introduction) :
+     * active l'invincibilité de départ de tous les joueurs
+     */
+    public void startLevel() {
+        if (replayRecorder != null) {
+            replayRecorder.levelStarted();
+        }
+        sampleClock();
+        for (FluidMovementPlayer p : players) {
+            p.respawn(p.getX(), p.getY());
+            occupancy.updatePlayer(p);
+        }
+    }
+
+    /**
+     * Crée les ennemis pour le niveau actuel avec difficulté progressive
+     * @param level Niveau chargé dont les ennemis sont repris tels quels, null pour les placer au hasard
+     */
+    private void createEnemiesForLevel(Level level) {
+        // ✨ **BATTLE / VS MACHINE** : Pas d'ennemis dans ces modes
+        if (isBattleMode) {
+            GameLog.info(LOG_CATEGORY, "Mode BATTLE : Aucun ennemi créé (mode 1v1 pur)");
+            return;
+        }
+
+        if (level != null) {
+            RandomGenerator enemyRandom = random.stream(GameRandom.Stream.ENEMIES);
+            for (int i = 0; i < level.getEnemyCount(); i++) {
+                FluidMovementEnemy enemy = new FluidMovementEnemy(level.getEnemyX(i), level.getEnemyY(i), clock, enemyRandom);
+                enemies.add(enemy);
+                occupancy.updateEnemy(enemy);
+            }
+            GameLog.info(LOG_CATEGORY, "Created " + enemies.size() + " enemies from the loaded level " + currentLevel);
+            return;
+        }
+
+        // Calculer le nombre d'ennemis en fonction du niveau (3 + 1 par niveau, max MAX_ENEMIES)
+        int enemyCount = getMaxEnemiesForLevel();
+
+        RandomGenerator enemyRandom = random.stream(GameRandom.Stream.ENEMIES);
+        int created = 0;
+        int attempts = 0;
+        int maxAttempts = 100; // Éviter les boucles infinies
+
+        while (created < enemyCount && attempts < maxAttempts) {
+            attempts++;
+
+            // Générer une position aléatoire
+            int x = 1 + enemyRandom.nextInt(columns - 2);
+            int y = 1 + enemyRandom.nextInt(rows - 2);
+
+            // Vérifier que la position est valide
+            if (isValidEnemyPosition(x, y)) {
+                FluidMovementEnemy enemy = new FluidMovementEnemy(x, y, clock, enemyRandom);
+                enemies.add(enemy);
+                occupancy.updateEnemy(enemy);
+                created++;
+                GameLog.info(LOG_CATEGORY, "Enemy " + created + " created at position (" + x + ", " + y + ")");
+            }
+        }
+
+        GameLog.info(LOG_CATEGORY, "Created " + created + " enemies out of " + enemyCount + " requested for level " + currentLevel);
+    }
+
+    /**
+     * @return Nombre maximum d'ennemis vivants pour le niveau actuel
+     */
+    private int getMaxEnemiesForLevel() {
+        return Math.min(ENEMY_COUNT + currentLevel - 1, MAX_ENEMIES);
+    }
+
+    /**
+     * Vérifie si une position est valide pour placer un ennemi
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return true si la position est valide
+     */
+    private boolean isValidEnemyPosition(int x, int y) {
+        // Vérifier que la case est accessible
+        if (!grid.isAccessible(x, y)) {
+            return false;
+        }
+
+        // Vérifier qu'on est assez loin du joueur (zone 3x3 autour du joueur)
+        if (Math.abs(x - player.getX()) <= 1 && Math.abs(y - player.getY()) <= 1) {
+            return false;
+        }
+
+        // Vérifier qu'il n'y a pas déjà un ennemi à cette position
+        for (Enemy enemy : enemies) {
+            if (enemy.getX() == x && enemy.getY() == y) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Génère une porte de sortie cachée dans un bloc destructible
+     * Cherche une position aléatoire parmi les blocs destructibles disponibles
+     * @param level Niveau chargé qui peut placer la porte lui-même, null si le niveau est généré
+     */
+    private void generateExitDoor(Level level) {
+        // ✨ **BATTLE MODE** : Pas de porte de sortie en mode battle
+        // La victoire se fait uniquement par élimination de l'autre joueur
+        if (isBattleMode) {
+            exitDoor = null;
+            GameLog.info(LOG_CATEGORY, "Mode BATTLE : Aucune porte de sortie créée (victoire par élimination)");
+            // Démarrer quand même le timer global pour limiter la durée du combat
+            startGlobalTimer();
+            return;
+        }
+
+        if (level != null && level.hasExitDoor()) {
+            exitDoor = new ExitDoor(level.getExitDoorX(), level.getExitDoorY());
+            GameLog.info(LOG_CATEGORY, "Porte de sortie placée par le niveau en (" + exitDoor.getX() + ", " + exitDoor.getY() + ")");
+            startGlobalTimer();
+            return;
+        }
+
+        // Collecter toutes les positions de blocs destructibles (encodées colonne + ligne * largeur)
+        List<Integer> destructiblePositions = new ArrayList<>();
+        for (int row = 1; row < grid.getRows() - 1; row++) {
+            for (int col = 1; col < grid.getColumns() - 1; col++) {
+                if (grid.isDestructible(col, row)) {
+                    // Ne pas placer la porte trop près du joueur (minimum 3 cases)
+                    int distanceX = Math.abs(col - player.getX());
+                    int distanceY = Math.abs(row - player.getY());
+                    if (distanceX + distanceY >= 3) {
+                        destructiblePositions.add(col + row * grid.getColumns());
+                    }
+                }
+            }
+        }
+
+        // S'il n'y a pas de blocs destructibles, placer la porte dans un coin éloigné
+        if (destructiblePositions.isEmpty()) {
+            int x = grid.getColumns() - 2;
+            int y = grid.getRows() - 2;
+            exitDoor = new ExitDoor(x, y);
+            GameLog.info(LOG_CATEGORY, "Porte de sortie placée en position de secours (" + x + ", " + y + ")");
+            startGlobalTimer();
+            return;
+        }
+
+        // Choisir une position aléatoire parmi les blocs destructibles
+        int randomIndex = random.stream(GameRandom.Stream.LEVEL).nextInt(destructiblePositions.size());
+        int selectedPosition = destructiblePositions.get(randomIndex);
+
+        exitDoor = new ExitDoor(selectedPosition % grid.getColumns(), selectedPosition / grid.getColumns());
+        GameLog.info(LOG_CATEGORY, "Porte de sortie cachée en position (" + exitDoor.getX() + ", " + exitDoor.getY() + ")");
+
+        // ⏱️ Démarre le timer global de 2min30s
+        startGlobalTimer();
+    }
+
+    // ========== BOUCLE DE SIMULATION ==========
+
+    /**
+     * Fait avancer la simulation du temps écoulé, par ticks de durée fixe.
+     * Le reliquat inférieur à un tick est conservé pour l'appel suivant.
+     * @param elapsedNanos Temps écoulé depuis le dernier appel en nanosecondes
+     * @return Nombre de ticks exécutés
+     */
+    public int step(long elapsedNanos) {
+        if (!isTicking()) {
+            accumulatedNanos = 0;
+            return 0;
+        }
+
+        accumulatedNanos += Math.max(0, elapsedNanos);
+        int ticks = 0;
+        while (accumulatedNanos >= TICK_NANOS && ticks < MAX_TICKS_PER_STEP && isTicking()) {
+            accumulatedNanos -= TICK_NANOS;
+            tick();
+            ticks++;
+        }
+
+        // Abandonner le retard non rattrapable (pause longue, fenêtre déplacée...)
+        if (ticks == MAX_TICKS_PER_STEP) {
+            accumulatedNanos = Math.min(accumulatedNanos, TICK_NANOS);
+        }
+        return ticks;
+    }
+
+    /**
+     * Exécute un nombre donné de ticks sans tenir compte du temps réel (bots, tests, benchmarks)
+     * @param count Nombre de ticks à exécuter
+     * @return Nombre de ticks effectivement exécutés (moins si la partie s'arrête)
+     */
+    public int runTicks(int count) {
+        int ticks = 0;
+        while (ticks < count && isTicking()) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * @return true si la simulation doit avancer (ni gelée par une mort, ni terminée)
+     */
+    public boolean isTicking() {
+        if (grid == null || levelCompleted || gameOver || battleWinner != null) {
+            return false;
+        }
+        if (playerDyingState) {
+            // En coopération avec au moins un joueur vivant, ou en battle, le jeu continue
+            return (isCooperationMode && player2 != null && (player.isAlive() || player2.isAlive())) || isBattleMode;
+        }
+        return true;
+    }
+
+    /**
+     * Échantillonne la source de temps : toutes les entités verront cette valeur jusqu'au prochain échantillon
+     */
+    private void sampleClock() {
+        clock.setTime(timeSource != null ? timeSource.currentTimeMillis() : simulationTimeMillis);
+    }
+    
+    /**
+     * Exécute un tick de simulation : joueurs, ennemis, bombes, explosions,
+     * collisions, power-ups, fin de niveau et IA
+     */
+    private void tick() {
+        tickCount++;
+        simulationTimeMillis = tickCount * TICK_NANOS / 1_000_000L;
+        sampleClock();
+        dangerMapStale = true;
+
+        // Spawns d'ennemis programmés par la porte de sortie
+        processPendingEnemySpawns();
+
+        // ⏱️ Vérifier l'expiration du timer global avant tout le reste
+        if (checkGlobalTimerExpired()) {
+            return;
+        }
+
+        // Resynchroniser les joueurs repositionnés hors tick (changement de niveau, respawn)
+        for (FluidMovementPlayer p : players) {
+            occupancy.updatePlayer(p);
+        }
+
+        long phaseStart = profiler.begin();
+
+        // Collision entre joueurs en mode coopération/battle
+        FluidMovementPlayer.PlayerCollisionChecker playerCollisionChecker = players.size() > 1 ? playerChecker : null;
+
+        for (FluidMovementPlayer p : players) {
+            p.updateInvincibility();
+            p.updateTemporaryEffects();
+            p.updateWalkingState(); // Mise à jour de l'état de marche pour l'animation
+
+            // ✨ **MOUVEMENT FLUIDE** : Mise à jour continue de la position
+            if (!p.isDying()) {
+                p.updateMovement(grid, playerBombChecker, playerCollisionChecker);
+                occupancy.updatePlayer(p);
+            }
+
+            // Vérifier et traiter l'effet Bomb Rain
+            if (p.isBombRainActive()) {
+                handleBombRain();
+                p.deactivateBombRain();
+            }
+        }
+        phaseStart = profiler.mark(FrameProfiler.Phase.MOVEMENT, phaseStart);
+
+        // Mettre à jour les ennemis seulement si le joueur est vivant
+        if (player.isAlive() && !enemies.isEmpty()) {
+            DistanceField chaseField = getEnemyDistanceField();
+            for (Enemy enemy : enemies) {
+                enemy.update(grid, enemyBombChecker, enemyChecker, chaseField);
+                occupancy.updateEnemy(enemy);
+            }
+        }
+        phaseStart = profiler.mark(FrameProfiler.Phase.ENEMIES, phaseStart);
+
+        updateBombs();
+        phaseStart = profiler.mark(FrameProfiler.Phase.BOMBS, phaseStart);
+
+        // Mettre à jour les explosions actives et nettoyer les terminées
+        for (int i = activeExplosions.size() - 1; i >= 0; i--) {
+            Explosion explosion = activeExplosions.get(i);
+            if (explosion.update()) {
+                activeExplosions.remove(i);
+                occupancy.removeExplosion(explosion);
+                explosionPool.release(explosion);
+                GameLog.info(LOG_CATEGORY, "Explosion terminée");
+            }
+        }
+        phaseStart = profiler.mark(FrameProfiler.Phase.EXPLOSIONS, phaseStart);
+
+        // Vérifier les collisions si au moins un joueur est vivant
+        if (player.isAlive() || (player2 != null && player2.isAlive())) {
+            checkCollisions();
+            phaseStart = profiler.mark(FrameProfiler.Phase.COLLISIONS, phaseStart);
+
+            // Vérifier la collecte de power-ups
+            checkPowerUpCollection();
+            phaseStart = profiler.mark(FrameProfiler.Phase.POWER_UPS, phaseStart);
+
+            // Vérifier si le niveau est terminé (porte de sortie atteinte)
+            if (checkLevelCompleted()) {
+                if (!isCooperationMode) {
+                    player.win(); // Déclencher l'animation de victoire du joueur 1
+                }
+                levelCompleted = true;
+                GameLog.info(LOG_CATEGORY, "=== NIVEAU " + currentLevel + " TERMINÉ (simulation) ===");
+                listener.onLevelCompleted();
+                return;
+            }
+        } else if (!playerDyingState) {
+            // Le joueur vient de mourir complètement
+            gameOver = true;
+            listener.onGameOver();
+            return;
+        }
+
+        // ✨ **VS MACHINE** : Mettre à jour l'IA du bot (joueur 2)
+        if (bot != null && !botSuspended && player2.isAlive()) {
+            aiScheduler.tick(bot);
+            profiler.mark(FrameProfiler.Phase.AI, phaseStart);
+        }
+    }
+
+    /**
+     * Met à jour les bombes des joueurs et de Bomb Rain, et déclenche les explosions
+     */
+    private void updateBombs() {
+        if (!activeBombs.isEmpty()) {
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🔄 DEBUG: Updating " + activeBombs.size() + " active bombs");
+            }
+        }
+
+        for (int i = activeBombs.size() - 1; i >= 0; i--) {
+            // Une réaction en chaîne peut avoir vidé la liste pendant le parcours
+            if (i >= activeBombs.size()) {
+                continue;
+            }
+            Bomb bomb = activeBombs.get(i);
+
+            // ✨ **CORRECTION** : Nettoyer les bombes mortes avant tout
+            if (!bomb.isActive()) {
+                activeBombs.remove(i);
+                occupancy.removeBomb(bomb);
+                bombPool.release(bomb);
+                continue;
+            }
+
+            // Mettre à jour la traversabilité avec le propriétaire de la bombe
+            FluidMovementPlayer owner = bomb.getOwner();
+            if (owner != null) {
+                updateTraversability(bomb, owner);
+            }
+
+            if (bomb.update()) {
+                // La bombe a explosé
+                activeBombs.remove(i);
+                occupancy.removeBomb(bomb);
+                createExplosion(bomb);
+
+                if (owner != null) {
+                    owner.decrementActiveBombs();
+                    GameLog.info(LOG_CATEGORY, getPlayerName(owner) + " - Bombe explosée - Bombes restantes: " + owner.getCurrentBombs() + "/" + owner.getMaxBombs());
+                } else {
+                    GameLog.info(LOG_CATEGORY, "Bombe sans propriétaire explosée (probablement rain/ennemi)");
+                }
+            }
+        }
+
+        // Mettre à jour les bombes de Bomb Rain (ne comptent pas dans la limite)
+        for (int i = rainBombs.size() - 1; i >= 0; i--) {
+            if (i >= rainBombs.size()) {
+                continue;
+            }
+            Bomb bomb = rainBombs.get(i);
+
+            // Pour les bombes rain, utiliser le joueur 1 par défaut
+            FluidMovementPlayer owner = bomb.getOwner();
+            updateTraversability(bomb, owner != null ? owner : player);
+
+            if (bomb.update()) {
+                rainBombs.remove(i);
+                occupancy.removeBomb(bomb);
+                createExplosion(bomb);
+                GameLog.info(LOG_CATEGORY, "Bombe Rain explosée (ne compte pas dans la limite joueur)");
+            }
+        }
+    }
+
+    /**
+     * Met à jour la traversabilité d'une bombe et répercute son passage à l'état solide dans l'index
+     * @param bomb La bombe à mettre à jour
+     * @param walker Le joueur dont on suit la sortie de la case
+     */
+    private void updateTraversability(Bomb bomb, FluidMovementPlayer walker) {
+        boolean wasTraversable = bomb.canPlayerTraverse();
+        bomb.updateTraversability(walker);
+        if (wasTraversable && !bomb.canPlayerTraverse()) {
+            occupancy.markBombSolid(bomb);
+        }
+    }
+
+    // ========== COLLISIONS ==========
+
+    /**
+     * Vérifie toutes les collisions du jeu (mode coopération/battle supporté)
+     */
+    private void checkCollisions() {
+        // En mode normal : ne pas vérifier si le joueur est en train de mourir
+        if (!isCooperationMode && !isBattleMode && player.isDying()) {
+            return;
+        }
+
+        // Vérifier s'il y a des collisions mortelles pour au moins un joueur
+        boolean playerDeath = false;
+        for (FluidMovementPlayer p : players) {
+            if (p.isAlive() && !p.isInvincible() && !p.isDying() && isPlayerHit(p)) {
+                playerDeath = true;
+                break;
+            }
+        }
+
+        // Si au moins un joueur doit mourir, déclencher la séquence de mort
+        if (playerDeath) {
+            handlePlayerDeath();
+            return;
+        }
+
+        // === COLLISIONS AVEC EXPLOSIONS - AUTRES ÉLÉMENTS ===
+        for (Explosion explosion : activeExplosions) {
+            if (explosion.isActive()) {
+
+                // Vérifier si des ennemis sont touchés par l'explosion (ignorer les ennemis invincibles)
+                for (Enemy enemy : enemies) {
+                    if (enemy.isAlive() && !enemy.isInvincible() && isInExplosion(enemy.getX(), enemy.getY())) {
+                        enemy.kill();
+                        occupancy.updateEnemy(enemy);
+                        player.addScore(POINTS_ENEMY_KILLED);  // +100 points pour ennemi tué
+                        GameLog.info(LOG_CATEGORY, "ENEMY DIED - Explosion at (" + enemy.getX() + ", " + enemy.getY() + ")");
+                    } else if (enemy.isAlive() && enemy.isInvincible() && isInExplosion(enemy.getX(), enemy.getY())) {
+                        GameLog.info(LOG_CATEGORY, "EXPLOSION BLOQUÉE PAR L'INVINCIBILITÉ ENNEMI à (" + enemy.getX() + ", " + enemy.getY() + ")");
+                    }
+                }
+
+                // Vérifier si des power-ups visibles sont détruits par l'explosion
+                checkPowerUpDestruction();
+            }
+        }
+    }
+
+    /**
+     * Vérifie si un joueur est touché par un ennemi ou une explosion
+     * @param p Le joueur à vérifier
+     * @return true si le joueur doit mourir
+     */
+    private boolean isPlayerHit(FluidMovementPlayer p) {
+        // Collision avec ennemis
+        for (Enemy enemy : enemies) {
+            if (enemy.isAlive() && isPlayerEnemyCollision(p, enemy)) {
+                return true;
+            }
+        }
+
+        // Collision avec explosions
+        boolean inExplosion = isInExplosion(p.getX(), p.getY());
+        if (!p.isProtectedFromExplosions() && inExplosion) {
+            return true;
+        } else if (p.hasShield() && inExplosion) {
+            GameLog.info(LOG_CATEGORY, "EXPLOSION BLOQUÉE PAR LE BOUCLIER (" + getPlayerName(p) + ") !");
+        }
+
+        // === BATTLE MODE : les bombes des adversaires sont mortelles ===
+        if (isBattleMode && inExplosion) {
+            for (Explosion explosion : activeExplosions) {
+                if (explosion.isActive() && isBombFromOpponent(explosion, p)) {
+                    GameLog.info(LOG_CATEGORY, "BATTLE MODE: " + getPlayerName(p) + " touché par une explosion !");
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * ✨ **BATTLE MODE** : Vérifie si une explosion provient d'une bombe d'un adversaire
+     * @param explosion L'explosion à vérifier
+     * @param target Le joueur touché
+     * @return true si l'explosion peut tuer ce joueur
+     */
+    private boolean isBombFromOpponent(Explosion explosion, FluidMovementPlayer target) {
+        // Pour l'instant, on considère que toutes les explosions peuvent tuer en mode battle
+        // Cette méthode pourrait être étendue pour traquer l'origine des bombes
+        return true;
+    }
+
+    /**
+     * Vérifie la collision entre le joueur et un ennemi avec détection pixel-perfect
+     * @param p Le joueur
+     * @param enemy L'ennemi
+     * @return true s'il y a collision
+     */
+    private boolean isPlayerEnemyCollision(FluidMovementPlayer p, Enemy enemy) {
+        // Si l'ennemi est fluide, utiliser la détection pixel-perfect
+        if (enemy instanceof FluidMovementEnemy) {
+            FluidMovementEnemy fluidEnemy = (FluidMovementEnemy) enemy;
+
+            double deltaX = Math.abs(p.getPixelX() - fluidEnemy.getPixelX());
+            double deltaY = Math.abs(p.getPixelY() - fluidEnemy.getPixelY());
+
+            // Seuil de collision (environ 3/4 de la taille d'une cellule)
+            double collisionThreshold = FluidMovementPlayer.CELL_SIZE * 0.75;
+
+            return (deltaX < collisionThreshold && deltaY < collisionThreshold);
+        } else {
+            // Fallback : collision par grille classique
+            return (enemy.getX() == p.getX() && enemy.getY() == p.getY());
+        }
+    }
+
+    /**
+     * Retire les power-ups visibles touchés par une explosion
+     * IMPORTANT: Les power-ups révélés par l'explosion actuelle ne sont PAS détruits
+     */
+    private void checkPowerUpDestruction() {
+        for (int i = powerUps.size() - 1; i >= 0; i--) {
+            PowerUp powerUp = powerUps.get(i);
+
+            // Seulement vérifier les power-ups visibles (révélés) ET existants depuis un certain temps
+            if (powerUp.isVisible() && powerUp.canBeDestroyed() && isInExplosion(powerUp.getX(), powerUp.getY())) {
+                powerUps.remove(i);
+                GameLog.info(LOG_CATEGORY, "💥 Power-up " + powerUp.getType() + " détruit par explosion à (" +
+                                 powerUp.getX() + ", " + powerUp.getY() + ")");
+            }
+        }
+    }
+
+    // ========== MORT DES JOUEURS ==========
+
+    /**
+     * Gère la séquence de mort de tous les joueurs touchés pendant ce tick
+     */
+    private void handlePlayerDeath() {
+        // Détecter TOUS les joueurs qui doivent mourir, pas juste le premier
+        List<FluidMovementPlayer> dyingPlayers = new ArrayList<>();
+        for (FluidMovementPlayer p : players) {
+            if (p.isAlive() && !p.isInvincible() && !p.isDying() && shouldPlayerDie(p)) {
+                dyingPlayers.add(p);
+            }
+        }
+
+        // Si aucun joueur ne doit mourir, ne rien faire
+        if (dyingPlayers.isEmpty()) {
+            return;
+        }
+
+        GameLog.info(LOG_CATEGORY, "🚨 " + dyingPlayers.size() + " joueur(s) mourant(s) détecté(s) simultanément");
+        for (FluidMovementPlayer dyingPlayer : dyingPlayers) {
+            dyingPlayer.kill(); // Ceci met isDying à true et joue le son
+            GameLog.info(LOG_CATEGORY, "💀 Initialisation de la mort pour " + getPlayerName(dyingPlayer));
+        }
+
+        // Geler le jeu : toujours en mode normal/battle, seulement si tous les joueurs meurent en coopération
+        boolean shouldFreezeGame = true;
+        if (isCooperationMode) {
+            for (FluidMovementPlayer p : players) {
+                if (p.isAlive() && !dyingPlayers.contains(p)) {
+                    shouldFreezeGame = false;
+                }
+            }
+        }
+        if (shouldFreezeGame) {
+            playerDyingState = true;
+        }
+
+        listener.onPlayersDying(Collections.unmodifiableList(dyingPlayers), shouldFreezeGame);
+
+        if (autoResolveDeaths) {
+            for (FluidMovementPlayer dyingPlayer : dyingPlayers) {
+                if (applyDeath(dyingPlayer) != DeathOutcome.CONTINUE) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Vérifie si un joueur doit mourir (ennemi ou explosion, hors protection)
+     * @param p Le joueur à vérifier
+     * @return true si le joueur doit mourir
+     */
+    private boolean shouldPlayerDie(FluidMovementPlayer p) {
+        for (Enemy enemy : enemies) {
+            if (enemy.isAlive() && isPlayerEnemyCollision(p, enemy)) {
+                return true;
+            }
+        }
+        return !p.isProtectedFromExplosions() && isInExplosion(p.getX(), p.getY());
+    }
+
+    /**
+     * Termine la séquence de mort d'un joueur (fin de l'animation) et décide de la suite de la partie
+     * @param dyingPlayer Le joueur dont l'animation de mort est terminée
+     * @return L'issue de cette mort pour la partie
+     */
+    public DeathOutcome resolveDeath(FluidMovementPlayer dyingPlayer) {
+        if (replayRecorder != null) {
+            replayRecorder.deathResolved(dyingPlayer);
+        }
+        return applyDeath(dyingPlayer);
+    }
+
+    /**
+     * Résolution d'une mort, commune à la fin d'animation et à la résolution automatique
+     * (cette dernière n'est pas une commande et n'est donc pas enregistrée)
+     */
+    private DeathOutcome applyDeath(FluidMovementPlayer dyingPlayer) {
+        DeathOutcome outcome = completeDeath(dyingPlayer);
+        // La vie perdue ou le respawn ont pu libérer ou déplacer la case du joueur
+        occupancy.updatePlayer(dyingPlayer);
+        return outcome;
+    }
+
+    private DeathOutcome completeDeath(FluidMovementPlayer dyingPlayer) {
+        // Terminer la séquence de mort (décrémenter la vie)
+        dyingPlayer.completeDeathSequence();
+        GameLog.info(LOG_CATEGORY, "✅ Séquence de mort terminée pour " + getPlayerName(dyingPlayer));
+
+        if (isCooperationMode) {
+            // Mode coopération : game over seulement si les DEUX joueurs sont morts
+            boolean bothPlayersDead = !player.isAlive() && (player2 == null || !player2.isAlive());
+            if (bothPlayersDead) {
+                gameOver = true;
+                GameLog.info(LOG_CATEGORY, "=== GAME OVER COOPÉRATION - Les deux joueurs sont morts ===");
+                return DeathOutcome.GAME_OVER;
+            }
+
+            if (dyingPlayer.isAlive()) {
+                // Le joueur qui est mort a encore des vies : respawn
+                int respawnX = grid.getSpawnX(dyingPlayer == player ? 0 : 1);
+                int respawnY = grid.getSpawnY(dyingPlayer == player ? 0 : 1);
+                dyingPlayer.respawn(respawnX, respawnY);
+                GameLog.info(LOG_CATEGORY, getPlayerName(dyingPlayer) + " respawn avec " + dyingPlayer.getLives() + " vies restantes");
+            }
+            playerDyingState = false;
+            return DeathOutcome.CONTINUE;
+        }
+
+        if (isBattleMode) {
+            // Mode battle : vérifier combien de joueurs sont encore en vie
+            int alivePlayers = 0;
+            for (FluidMovementPlayer p : players) {
+                if (p.isAlive()) {
+                    alivePlayers++;
+                }
+            }
+
+            if (alivePlayers == 0) {
+                // Tous les joueurs sont morts : match nul -> Game Over
+                gameOver = true;
+                GameLog.info(LOG_CATEGORY, "=== GAME OVER BATTLE - MATCH NUL ===");
+                return DeathOutcome.GAME_OVER;
+            }
+
+            if (alivePlayers == 1) {
+                FluidMovementPlayer winner = determineBattleWinner();
+                if (winner != null) {
+                    winner.win();
+                    battleWinner = winner;
+                    GameLog.info(LOG_CATEGORY, "=== BATTLE MODE - " + getPlayerName(winner).toUpperCase() + " GAGNE ===");
+                    return DeathOutcome.BATTLE_WON;
+                }
+                GameLog.info(LOG_CATEGORY, "Mode battle : aucun gagnant déterminé, le jeu continue");
+            } else {
+                GameLog.info(LOG_CATEGORY, "Mode battle : le jeu continue (" + alivePlayers + " joueurs en vie)");
+            }
+            playerDyingState = false;
+            return DeathOutcome.CONTINUE;
+        }
+
+        // Mode normal : gestion classique
+        if (dyingPlayer.isAlive()) {
+            dyingPlayer.respawn(grid.getSpawnX(0), grid.getSpawnY(0));
+            resetGlobalTimer();
+            playerDyingState = false;
+            GameLog.info(LOG_CATEGORY, "Joueur respawn avec " + dyingPlayer.getLives() + " vies restantes");
+            return DeathOutcome.CONTINUE;
+        }
+
+        gameOver = true;
+        GameLog.info(LOG_CATEGORY, "=== GAME OVER ===");
+        return DeathOutcome.GAME_OVER;
+    }
+
+    /**
+     * Détermine le gagnant d'un duel (joueur 1 contre joueur 2)
+     * @return Le gagnant, ou null si aucun gagnant clair
+     */
+    private FluidMovementPlayer determineBattleWinner() {
+        if (player.isAlive() && (player2 == null || !player2.isAlive())) {
+            return player;
+        } else if (player2 != null && player2.isAlive() && !player.isAlive()) {
+            return player2;
+        }
+        return null;
+    }
+
+    // ========== BOMBES ET EXPLOSIONS ==========
+
+    /**
+     * Tente de placer une bombe à la position actuelle d'un joueur
+     * @param bomber Le joueur qui pose la bombe
+     * @return true si la bombe a été placée, false sinon
+     */
+    public boolean tryPlaceBomb(FluidMovementPlayer bomber) {
+        if (bomber == null) {
+            return false;
+        }
+
+        int x = bomber.getX();
+        int y = bomber.getY();
+        String playerName = getPlayerName(bomber);
+        if (GameLog.DEBUG_ENABLED) {
+            GameLog.debug(LOG_CATEGORY, "🔍 DEBUG: tryPlaceBomb() - " + playerName + " can place: " + bomber.canPlaceBomb() + ", Position: (" + x + ", " + y + ")");
+        }
+
+        // Vérifier si le joueur peut poser une bombe (système multi-bombes)
+        if (bomber.canPlaceBomb() && !isBombAt(x, y) && !isVisibleExitDoorAt(x, y)) {
+            Bomb newBomb = bombPool.acquire();
+            newBomb.reset(x, y, bomber);
+            activeBombs.add(newBomb);
+            occupancy.addBomb(newBomb);
+            dangerMapStale = true;
+            bomber.incrementActiveBombs();  // Incrémenter le compteur de bombes actives
+
+            listener.onBombPlaced(newBomb);
+
+            GameLog.info(LOG_CATEGORY, "✅ " + playerName + " - Bombe posée à (" + x + ", " + y + ") - Total: " + bomber.getCurrentBombs() + "/" + bomber.getMaxBombs() + " - Bombe active: " + newBomb.isActive());
+            return true;
+        }
+        GameLog.info(LOG_CATEGORY, "❌ " + playerName + " - Impossible de poser la bombe");
+        return false;
+    }
+
+    /**
+     * Gère l'effet Bomb Rain - pose automatiquement plusieurs bombes
+     * Note: Les bombes de Bomb Rain ne comptent PAS dans la limite du joueur
+     */
+    private void handleBombRain() {
+        GameLog.info(LOG_CATEGORY, "=== BOMB RAIN EN COURS ===");
+
+        // Poser jusqu'à 5 bombes dans des positions aléatoires accessibles
+        int bombsToPlace = 5;
+        int bombsPlaced = 0;
+        int attempts = 0;
+        int maxAttempts = 50; // Éviter les boucles infinies
+        RandomGenerator rainRandom = random.stream(GameRandom.Stream.BOMB_RAIN);
+
+        while (bombsPlaced < bombsToPlace && attempts < maxAttempts) {
+            attempts++;
+
+            // Générer une position aléatoire accessible
+            int x = 1 + rainRandom.nextInt(columns - 2);
+            int y = 1 + rainRandom.nextInt(rows - 2);
+
+            // Vérifier que la case est accessible et libre
+            if (grid.isAccessible(x, y) && !isBombAt(x, y) && !isPlayerAt(x, y, null)) {
+                // Créer une bombe de "Bomb Rain", non-traversable par défaut
+                Bomb rainBomb = bombPool.acquire();
+                rainBomb.reset(x, y, false);
+                rainBombs.add(rainBomb);
+                occupancy.addBomb(rainBomb);
+                dangerMapStale = true;
+                bombsPlaced++;
+
+                // Un seul signal pour toute la pluie (évite la cacophonie sonore)
+                if (bombsPlaced == 1) {
+                    listener.onBombPlaced(rainBomb);
+                }
+
+                GameLog.info(LOG_CATEGORY, "Bomb Rain - Bombe " + bombsPlaced + " placée à (" + x + ", " + y + ") - Explosion dans 2s");
+            }
+        }
+
+        GameLog.info(LOG_CATEGORY, "=== BOMB RAIN TERMINÉ - " + bombsPlaced + " bombes posées avec timers ===");
+    }
+
+    /**
+     * Fait exploser une bombe (déjà retirée du jeu) et résout toute la réaction en chaîne qu'elle déclenche
+     * @param bomb La bombe à l'origine de l'explosion
+     */
+    private void createExplosion(Bomb bomb) {
+        lastChainReaction = chainResolver.resolve(bomb, chainedBombLookup, detonator);
+
+        int chainLength = lastChainReaction.getLength();
+        if (chainLength > 1) {
+            longestChainLength = Math.max(longestChainLength, chainLength);
+            GameLog.info(LOG_CATEGORY, "🔗 Réaction en chaîne : " + chainLength + " bombes, " + lastChainReaction.getFootprintSize()
+                + " cases touchées, résolue en " + (lastChainReaction.getResolutionNanos() / 1000) + "µs");
+        }
+    }
+
+    /**
+     * Crée l'explosion d'une seule bombe : blocs détruits, power-ups révélés, porte de sortie
+     * @param bomb La bombe qui explose
+     * @return L'explosion créée
+     */
+    private Explosion explode(Bomb bomb) {
+        // Première étape : révéler les power-ups et la porte AVANT de créer l'explosion
+        // (car l'explosion va détruire les blocs et nous perdrons l'information)
+        // (même portée que l'explosion : celle du propriétaire de la bombe)
+        int range = blastRangeOf(bomb);
+        boolean willRevealDoor = revealPowerUpsBeforeExplosion(bomb, range);
+
+        // Deuxième étape : créer l'explosion qui va détruire les blocs
+        Explosion explosion = explosionPool.acquire();
+        explosion.reset(bomb.getX(), bomb.getY(), range, grid, exitDoor);
+        activeExplosions.add(explosion);
+        occupancy.addExplosion(explosion);
+        dangerMapStale = true;
+
+        listener.onBombExploded(explosion);
+
+        // Vérifier si l'explosion touche la porte de sortie et faire apparaître un ennemi
+        // (seulement si cette explosion ne révèle pas la porte)
+        if (!willRevealDoor) {
+            checkExplosionOnExitDoor(explosion);
+        }
+
+        // La bombe a fini son rôle : elle retourne au pool
+        bombPool.release(bomb);
+        return explosion;
+    }
+
+    /**
+     * Retire du jeu la bombe posée sur une case touchée par une explosion (réaction en chaîne)
+     * @param x Position X de la case touchée
+     * @param y Position Y de la case touchée
+     * @return La bombe retirée, ou null s'il n'y a pas de bombe sur la case
+     */
+    private Bomb takeChainedBomb(int x, int y) {
+        Bomb bomb = occupancy.getBombAt(x, y);
+        if (bomb == null) {
+            return null;
+        }
+        occupancy.removeBomb(bomb);
+
+        if (activeBombs.remove(bomb)) {
+            FluidMovementPlayer bombOwner = bomb.getOwner();
+            if (bombOwner != null) {
+                bombOwner.decrementActiveBombs();
+                GameLog.info(LOG_CATEGORY, "💥 " + getPlayerName(bombOwner) + " - Explosion immédiate - Bombes restantes: " + bombOwner.getCurrentBombs() + "/" + bombOwner.getMaxBombs());
+            } else {
+                GameLog.info(LOG_CATEGORY, "💥 Explosion immédiate bombe sans propriétaire");
+            }
+        } else if (rainBombs.remove(bomb)) {
+            GameLog.info(LOG_CATEGORY, "💥 Explosion immédiate bombe Rain");
+        }
+        bomb.explodeImmediately();
+        return bomb;
+    }
+
+    /**
+     * Vérifie si une explosion touche la porte de sortie et programme un spawn d'ennemi
+     * (appelée seulement si l'explosion ne révèle pas la porte)
+     * @param explosion L'explosion à vérifier
+     */
+    private void checkExplosionOnExitDoor(Explosion explosion) {
+        // ✨ **BATTLE MODE** : Pas de porte en mode battle
+        if (isBattleMode || exitDoor == null || !exitDoor.isVisible()) {
+            return;
+        }
+
+        // Vérifier si on a atteint la limite maximale d'ennemis pour ce niveau
+        int aliveEnemiesCount = countAliveEnemies();
+        int currentLevelMaxEnemies = getMaxEnemiesForLevel();
+        if (aliveEnemiesCount >= currentLevelMaxEnemies) {
+            GameLog.info(LOG_CATEGORY, "Limite d'ennemis atteinte pour le niveau " + currentLevel + " (" + aliveEnemiesCount + "/" + currentLevelMaxEnemies + ")");
+            return;
+        }
+
+        // Vérifier si la porte est dans la zone d'explosion
+        if (explosion.contains(exitDoor.getX(), exitDoor.getY())) {
+            // Programmer l'apparition de l'ennemi après la fin de l'explosion
+            // pour éviter qu'il meure immédiatement
+            pendingEnemySpawns.add(clock.currentTimeMillis() + ENEMY_SPAWN_DELAY);
+            GameLog.info(LOG_CATEGORY, "Explosion sur porte déjà révélée - Spawn d'ennemi programmé - Spawns en cours: " + pendingEnemySpawns.size());
+        }
+    }
+
+    /**
+     * Fait apparaître les ennemis programmés dont le délai est écoulé
+     */
+    private void processPendingEnemySpawns() {
+        for (int i = pendingEnemySpawns.size() - 1; i >= 0; i--) {
+            if (pendingEnemySpawns.get(i) > clock.currentTimeMillis()) {
+                continue;
+            }
+            pendingEnemySpawns.remove(i);
+
+            // Vérifier à nouveau la limite au moment du spawn (au cas où d'autres ennemis seraient morts)
+            if (exitDoor != null && countAliveEnemies() < getMaxEnemiesForLevel()) {
+                // ✨ **SÉCURITÉ** : Vérifier qu'il n'y a pas d'explosion active sur la position de spawn
+                if (isInExplosion(exitDoor.getX(), exitDoor.getY())) {
+                    GameLog.warn(LOG_CATEGORY, "⚠️ SPAWN ANNULÉ - Explosion encore active sur la position de spawn");
+                } else {
+                    FluidMovementEnemy spawned = new FluidMovementEnemy(exitDoor.getX(), exitDoor.getY(), true, clock,
+                            random.stream(GameRandom.Stream.ENEMIES)); // true = avec invincibilité
+                    enemies.add(spawned);
+                    occupancy.updateEnemy(spawned);
+                    GameLog.info(LOG_CATEGORY, "Ennemi spawn avec invincibilité (5s) à (" + exitDoor.getX() + ", " + exitDoor.getY() + ")");
+                }
+            }
+            GameLog.info(LOG_CATEGORY, "Spawn d'ennemi terminé - Spawns en cours: " + pendingEnemySpawns.size());
+        }
+    }
+
+    /**
+     * @return Nombre d'ennemis encore en vie
+     */
+    private int countAliveEnemies() {
+        int count = 0;
+        for (Enemy enemy : enemies) {
+            if (enemy.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Révèle les power-ups des blocs destructibles qui vont être détruits par l'explosion
+     * Cette méthode doit être appelée AVANT la création de l'explosion
+     * @param bomb La bombe qui explose
+     * @param range Portée de l'explosion (blastRangeOf)
+     * @return true si la porte de sortie était cachée dans l'un des blocs atteints
+     */
+    private boolean revealPowerUpsBeforeExplosion(Bomb bomb, int range) {
+        blastRevealedDoor = false;
+        grid.revealInFootprint(bomb.getX(), bomb.getY(), range, blastRevealListener);
+        return blastRevealedDoor;
+    }
+
+    /**
+     * Révèle le contenu d'un bloc destructible atteint par une explosion (power-up, porte de sortie)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param powerUpType Le power-up caché dans le bloc (déjà retiré de la grille), ou null
+     */
+    private void revealBlockContent(int x, int y, PowerUpType powerUpType) {
+        // +10 points pour bloc destructible détruit
+        player.addScore(POINTS_BLOCK_DESTROYED);
+
+        if (powerUpType != null) {
+            PowerUp newPowerUp = new PowerUp(x, y, powerUpType, clock);
+            newPowerUp.reveal();
+            powerUps.add(newPowerUp);
+
+            GameLog.info(LOG_CATEGORY, "Power-up " + powerUpType + " pré-révélé à (" + x + ", " + y + ")");
+        }
+
+        // Vérifier si la porte de sortie est à cette position et révéler si c'est le cas
+        if (exitDoor != null && exitDoor.getX() == x && exitDoor.getY() == y) {
+            blastRevealedDoor = true;
+            exitDoor.reveal();
+            GameLog.info(LOG_CATEGORY, "Bloc contenant la porte détruit à (" + x + ", " + y + ")");
+        }
+    }
+
+    // ========== POWER-UPS ET FIN DE NIVEAU ==========
+
+    /**
+     * Vérifie si un joueur collecte un power-up et applique l'effet
+     * En mode coopération, seul le joueur qui collecte reçoit le bonus
+     * @return true si un power-up a été collecté
+     */
+    private boolean checkPowerUpCollection() {
+        boolean collected = false;
+
+        for (int i = powerUps.size() - 1; i >= 0; i--) {
+            PowerUp powerUp = powerUps.get(i);
+            if (!powerUp.isVisible()) {
+                continue;
+            }
+
+            FluidMovementPlayer collector = null;
+            if (powerUp.isAtPosition(player.getX(), player.getY())) {
+                collector = player;
+            } else if (isCooperationMode && player2 != null && powerUp.isAtPosition(player2.getX(), player2.getY())) {
+                collector = player2;
+            }
+
+            if (collector != null) {
+                // +50 points pour power-up collecté
+                collector.addScore(POINTS_POWERUP_COLLECTED);
+
+                // ✨ **INDIVIDUEL** : Appliquer l'effet uniquement au joueur qui a collecté
+                powerUp.applyEffect(collector);
+                powerUps.remove(i);
+                collected = true;
+
+                GameLog.info(LOG_CATEGORY, "🎯 " + getPlayerName(collector) + " a collecté " + powerUp.getType());
+                listener.onPowerUpCollected(collector, powerUp);
+            }
+        }
+
+        return collected;
+    }
+
+    /**
+     * Vérifie si le niveau est terminé (tous les ennemis morts et porte atteinte)
+     * @return true si le niveau est terminé
+     */
+    private boolean checkLevelCompleted() {
+        // ✨ **BATTLE MODE** : La victoire se fait uniquement par élimination
+        if (isBattleMode) {
+            return false;
+        }
+
+        boolean allEnemiesDead = countAliveEnemies() == 0;
+        boolean hasPendingSpawns = !pendingEnemySpawns.isEmpty();
+
+        // Si tous les ennemis sont morts ET qu'il n'y a pas de spawns programmés, activer la porte
+        if (exitDoor != null && allEnemiesDead && !hasPendingSpawns && !exitDoor.isActivated()) {
+            exitDoor.activate();
+        }
+
+        // S'il y a des spawns programmés, désactiver la porte (au cas où elle était activée)
+        if (exitDoor != null && hasPendingSpawns && exitDoor.isActivated()) {
+            exitDoor.deactivate();
+            GameLog.info(LOG_CATEGORY, "Porte désactivée - Spawn d'ennemi en cours");
+        }
+
+        if (exitDoor == null) {
+            return false;
+        }
+
+        // ✨ **MODE COOPÉRATION** : Chaque joueur déclenche son animation quand il atteint la porte
+        if (isCooperationMode && player2 != null) {
+            if (!player1WinAnimationTriggered && player.isAlive() && exitDoor.canUseToExit(player.getX(), player.getY())) {
+                player1WinAnimationTriggered = true;
+                player.win();
+                GameLog.info(LOG_CATEGORY, "🎉 Joueur 1 a atteint la porte ! Animation de victoire déclenchée.");
+            }
+            if (!player2WinAnimationTriggered && player2.isAlive() && exitDoor.canUseToExit(player2.getX(), player2.getY())) {
+                player2WinAnimationTriggered = true;
+                player2.win();
+                GameLog.info(LOG_CATEGORY, "🎉 Joueur 2 a atteint la porte ! Animation de victoire déclenchée.");
+            }
+
+            // Le niveau se termine seulement quand les DEUX animations sont déclenchées
+            return player1WinAnimationTriggered && player2WinAnimationTriggered;
+        }
+
+        // Mode normal : seulement le joueur 1
+        return exitDoor.canUseToExit(player.getX(), player.getY());
+    }
+
+    // ========== TIMER GLOBAL ==========
+
+    /**
+     * ⏱️ Démarre le timer global de 2min30s
+     */
+    private void startGlobalTimer() {
+        globalTimerStartTime = clock.currentTimeMillis();
+        globalTimerActive = true;
+        GameLog.info(LOG_CATEGORY, "⏱️ Timer global démarré - 2min30s avant perte de vie automatique");
+    }
+
+    /**
+     * ⏱️ Réinitialise le timer global
+     */
+    private void resetGlobalTimer() {
+        globalTimerStartTime = clock.currentTimeMillis();
+        globalTimerActive = true;
+        GameLog.info(LOG_CATEGORY, "⏱️ Timer global réinitialisé");
+    }
+
+    /**
+     * ⏱️ Obtient le temps restant du timer global en millisecondes.
+     * Le timer suit l'horloge du jeu : il est naturellement figé pendant les pauses.
+     * @return temps restant (0 si expiré)
+     */
+    public long getGlobalTimeRemaining() {
+        if (!globalTimerActive) {
+            return GLOBAL_TIMER_DURATION;
+        }
+        long remaining = GLOBAL_TIMER_DURATION - (clock.currentTimeMillis() - globalTimerStartTime);
+        return Math.max(0, remaining);
+    }
+
+    /**
+     * ⏱️ Vérifie si le timer global a expiré et gère la perte de vie automatique
+     * @return true si le timer a expiré et une action a été prise
+     */
+    private boolean checkGlobalTimerExpired() {
+        if (!globalTimerActive || getGlobalTimeRemaining() > 0) {
+            return false;
+        }
+
+        // Timer expiré - le joueur perd une vie
+        GameLog.info(LOG_CATEGORY, "⏰ TIMER GLOBAL EXPIRÉ - Le joueur perd une vie automatiquement");
+        if (player.isAlive() && !player.isDying()) {
+            handlePlayerDeath();
+            return true;
+        }
+        return false;
+    }
+
+    // ========== ENTRÉES CLAVIER ==========
+
+    /**
+     * Transmet une touche pressée au joueur correspondant (flèches/ESPACE, ZQSD/SHIFT,
+     * YGHJ/POINT-VIRGULE, OKLM/ENTRÉE)
+     * @param keyCode Le code de la touche pressée
+     * @return true si une bombe a été posée
+     */
+    public boolean keyPressed(KeyCode keyCode) {
+        if (replayRecorder != null) {
+            replayRecorder.keyPressed(keyCode);
+        }
+
+        // Ignorer si tous les joueurs concernés sont morts
+        if (!player.isAlive() && (player2 == null || !player2.isAlive())) {
+            return false;
+        }
+
+        switch (keyCode) {
+            // ========== CONTRÔLES JOUEUR 1 (FLÈCHES + ESPACE) ==========
+            case UP:
+            case DOWN:
+            case LEFT:
+            case RIGHT:
+                if (player.isAlive() && !player.isDying()) {
+                    player.onKeyPressed(keyCode);
+                }
+                return false;
+            case SPACE:
+                return player.isAlive() && tryPlaceBomb(player);
+
+            // ========== CONTRÔLES JOUEUR 2 (Z/Q/S/D + SHIFT) - COOPÉRATION/BATTLE ==========
+            case Z:
+                return pressDirection(getHumanPlayer2(), KeyCode.UP);
+            case S:
+                return pressDirection(getHumanPlayer2(), KeyCode.DOWN);
+            case Q:
+                return pressDirection(getHumanPlayer2(), KeyCode.LEFT);
+            case D:
+                return pressDirection(getHumanPlayer2(), KeyCode.RIGHT);
+            case SHIFT:
+                return placeBombIfAlive(getHumanPlayer2());
+
+            // ========== CONTRÔLES JOUEUR 3 (Y/G/H/J + ;) - BATTLE UNIQUEMENT ==========
+            case Y:
+                return pressDirection(player3, KeyCode.UP);
+            case H:
+                return pressDirection(player3, KeyCode.DOWN);
+            case G:
+                return pressDirection(player3, KeyCode.LEFT);
+            case J:
+                return pressDirection(player3, KeyCode.RIGHT);
+            case SEMICOLON:
+                return placeBombIfAlive(player3);
+
+            // ========== CONTRÔLES JOUEUR 4 (O/K/L/M + ENTER) - BATTLE UNIQUEMENT ==========
+            case O:
+                return pressDirection(player4, KeyCode.UP);
+            case L:
+                return pressDirection(player4, KeyCode.DOWN);
+            case K:
+                return pressDirection(player4, KeyCode.LEFT);
+            case M:
+                return pressDirection(player4, KeyCode.RIGHT);
+            case ENTER:
+                return placeBombIfAlive(player4);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Transmet une touche relâchée au joueur correspondant (mouvement fluide)
+     * @param keyCode Le code de la touche relâchée
+     */
+    public void keyReleased(KeyCode keyCode) {
+        if (replayRecorder != null) {
+            replayRecorder.keyReleased(keyCode);
+        }
+
+        switch (keyCode) {
+            case UP:
+            case DOWN:
+            case LEFT:
+            case RIGHT:
+                if (!player.isDying()) {
+                    releaseDirection(player, keyCode);
+                }
+                break;
+            case Z:
+                releaseDirection(getHumanPlayer2(), KeyCode.UP);
+                break;
+            case S:
+                releaseDirection(getHumanPlayer2(), KeyCode.DOWN);
+                break;
+            case Q:
+                releaseDirection(getHumanPlayer2(), KeyCode.LEFT);
+                break;
+            case D:
+                releaseDirection(getHumanPlayer2(), KeyCode.RIGHT);
+                break;
+            case Y:
+                releaseDirection(player3, KeyCode.UP);
+                break;
+            case H:
+                releaseDirection(player3, KeyCode.DOWN);
+                break;
+            case G:
+                releaseDirection(player3, KeyCode.LEFT);
+                break;
+            case J:
+                releaseDirection(player3, KeyCode.RIGHT);
+                break;
+            case O:
+                releaseDirection(player4, KeyCode.UP);
+                break;
+            case L:
+                releaseDirection(player4, KeyCode.DOWN);
+                break;
+            case K:
+                releaseDirection(player4, KeyCode.LEFT);
+                break;
+            case M:
+                releaseDirection(player4, KeyCode.RIGHT);
+                break;
+            default:
+                // Ignorer les autres touches
+                break;
+        }
+    }
+
+    /**
+     * @return Le joueur 2 s'il est contrôlé au clavier (null en mode VS MACHINE)
+     */
+    private FluidMovementPlayer getHumanPlayer2() {
+        return isVsMachineMode ? null : player2;
+    }
+
+    private boolean pressDirection(FluidMovementPlayer p, KeyCode direction) {
+        if (p != null && p.isAlive()) {
+            p.onKeyPressed(direction);
+        }
+        return false;
+    }
+
+    private void releaseDirection(FluidMovementPlayer p, KeyCode direction) {
+        if (p != null && p.isAlive()) {
+            p.onKeyReleased(direction);
+        }
+    }
+
+    private boolean placeBombIfAlive(FluidMovementPlayer p) {
+        return p != null && p.isAlive() && tryPlaceBomb(p);
+    }
+
+    // ========== REQUÊTES SUR L'ÉTAT ==========
+
+    /**
+     * Vérifie si la porte de sortie visible est à la position donnée
+     */
+    private boolean isVisibleExitDoorAt(int x, int y) {
+        return exitDoor != null && exitDoor.isVisible() && exitDoor.getX() == x && exitDoor.getY() == y;
+    }
+
+    /**
+     * Portée de l'explosion d'une bombe : celle de son propriétaire, celle du joueur 1 pour les bombes sans propriétaire (Bomb Rain)
+     * @param bomb La bombe
+     * @return Portée en cases
+     */
+    private int blastRangeOf(Bomb bomb) {
+        FluidMovementPlayer bombOwner = bomb.getOwner();
+        return bombOwner != null ? bombOwner.getRange() : player.getRange();
+    }
+
+    /**
+     * Carte des dangers de l'instant courant (explosions en cours et à venir, chaînes comprises).
+     * Calculée au premier appel d'un tick puis partagée par tous les appelants jusqu'au prochain
+     * changement (tick, bombe posée, explosion) : plusieurs bots ne la recalculent pas chacun.
+     * @return La carte des dangers, valable jusqu'au prochain changement de la simulation
+     */
+    public DangerMap getDangerMap() {
+        if (dangerMapStale) {
+            dangerMap.compute(grid, exitDoor, activeExplosions, activeBombs, rainBombs, blastRanges);
+            dangerMapStale = false;
+        }
+        return dangerMap;
+    }
+
+    /**
+     * Champ de distances vers un joueur (poursuite par un bot), mis à jour seulement si le joueur a changé
+     * de case, si un bloc a été détruit ou si une bombe a été posée/retirée depuis le dernier appel
+     * @param target Le joueur poursuivi
+     * @return Le champ de distances vers ce joueur (tout inaccessible s'il est mort)
+     */
+    public DistanceField getDistanceFieldTo(FluidMovementPlayer target) {
+        int index = players.indexOf(target);
+        if (playerDistanceFields[index] == null) {
+            playerDistanceFields[index] = new DistanceField(columns, rows);
+        }
+        int sourceCount = 0;
+        if (target.isAlive()) {
+            distanceSources[sourceCount++] = target.getY() * columns + target.getX();
+        }
+        playerDistanceFields[index].update(grid, occupancy, distanceSources, sourceCount);
+        return playerDistanceFields[index];
+    }
+
+    /**
+     * Champ de distances vers le joueur vulnérable le plus proche, partagé par tous les ennemis
+     * (un joueur invincible n'attire pas les ennemis : ils ne campent pas sur son point de réapparition)
+     * @return Le champ de distances des ennemis
+     */
+    public DistanceField getEnemyDistanceField() {
+        int sourceCount = 0;
+        for (FluidMovementPlayer p : players) {
+            if (p.isAlive() && !p.isInvincible()) {
+                distanceSources[sourceCount++] = p.getY() * columns + p.getX();
+            }
+        }
+        enemyDistanceField.update(grid, occupancy, distanceSources, sourceCount);
+        return enemyDistanceField;
+    }
+
+    /**
+     * Remplit un bitboard avec les cases libres pour un bot : accessibles, sans bombe ni ennemi vivant
+     * (les mêmes cases que les tests isBombAt et isEnemyAt, en une opération par ensemble)
+     * @param destination Bitboard aux dimensions de la grille
+     */
+    public void copyFreeCells(Bitboard destination) {
+        grid.copyWalkableCells(destination);
+        destination.andNot(occupancy.getBombCells());
+        destination.andNot(occupancy.getEnemyCells());
+    }
+
+    /**
+     * Vérifie s'il y a une bombe à la position donnée (joueur ou rain)
+     * @param x Position X
+     * @param y Position Y
+     * @return true s'il y a une bombe
+     */
+    public boolean isBombAt(int x, int y) {
+        return occupancy.hasBomb(x, y);
+    }
+
+    /**
+     * Vérifie si une position est bloquée par des bombes pour une entité donnée
+     * @param x Position X à vérifier
+     * @param y Position Y à vérifier
+     * @param isPlayer True si l'entité est un joueur, false pour les ennemis
+     * @return true si la position est bloquée par une bombe, false sinon
+     */
+    public boolean isBombBlockingMovement(int x, int y, boolean isPlayer) {
+        return occupancy.isBlockedByBomb(x, y, isPlayer);
+    }
+
+    /**
+     * Vérifie si une position donnée est dans la zone d'une explosion active
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @return true si la position est affectée par une explosion
+     */
+    public boolean isInExplosion(int x, int y) {
+        return occupancy.isInExplosion(x, y);
+    }
+
+    /**
+     * Vérifie s'il y a un joueur vivant à une position (collisions entre joueurs)
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param excludePlayer Le joueur à exclure de la vérification (peut être null)
+     * @return true s'il y a un autre joueur à cette position
+     */
+    public boolean isPlayerAt(int x, int y, FluidMovementPlayer excludePlayer) {
+        return occupancy.hasPlayer(x, y, excludePlayer);
+    }
+
+    /**
+     * Vérifie si un autre ennemi vivant occupe la position
+     * @param x Position X à vérifier
+     * @param y Position Y à vérifier
+     * @param excludeEnemy L'ennemi à exclure de la vérification (peut être null)
+     * @return true si un autre ennemi vivant occupe cette position
+     */
+    public boolean isEnemyAt(int x, int y, Enemy excludeEnemy) {
+        return occupancy.hasEnemy(x, y, excludeEnemy);
+    }
+
+    /**
+     * @param p Un joueur de la partie
+     * @return Nom d'affichage du joueur ("Joueur 1" à "Joueur 4")
+     */
+    public String getPlayerName(FluidMovementPlayer p) {
+        if (p == player) return "Joueur 1";
+        if (p == player2) return "Joueur 2";
+        if (p == player3) return "Joueur 3";
+        if (p == player4) return "Joueur 4";
+        return "Joueur Inconnu";
+    }
+
+    // ========== ACCESSEURS ==========
+
+    public Grid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return Nombre de colonnes de l'arène
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return Nombre de lignes de l'arène
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    public FluidMovementPlayer getPlayer() {
+        return player;
+    }
+
+    public FluidMovementPlayer getPlayer2() {
+        return player2;
+    }
+
+    public FluidMovementPlayer getPlayer3() {
+        return player3;
+    }
+
+    public FluidMovementPlayer getPlayer4() {
+        return player4;
+    }
+
+    /**
+     * @return Les joueurs présents dans la partie (1 à 4 selon le mode)
+     */
+    public List<FluidMovementPlayer> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    public List<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public List<Bomb> getActiveBombs() {
+        return activeBombs;
+    }
+
+    public List<Bomb> getRainBombs() {
+        return rainBombs;
+    }
+
+    /**
+     * @return Toutes les bombes (joueurs + Bomb Rain) pour le rendu
+     */
+    public List<Bomb> getAllBombs() {
+        List<Bomb> allBombs = new ArrayList<>(activeBombs);
+        allBombs.addAll(rainBombs);
+        return allBombs;
+    }
+
+    public List<Explosion> getActiveExplosions() {
+        return activeExplosions;
+    }
+
+    public List<PowerUp> getPowerUps() {
+        return powerUps;
+    }
+
+    public ExitDoor getExitDoor() {
+        return exitDoor;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public boolean isCooperationMode() {
+        return isCooperationMode;
+    }
+
+    public boolean isBattleMode() {
+        return isBattleMode;
+    }
+
+    public boolean isVsMachineMode() {
+        return isVsMachineMode;
+    }
+
+    public boolean isLevelCompleted() {
+        return levelCompleted;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return Le gagnant du mode battle, ou null tant que le combat n'est pas terminé
+     */
+    public FluidMovementPlayer getBattleWinner() {
+        return battleWinner;
+    }
+
+    /**
+     * @return Le bot du mode VS MACHINE, ou null
+     */
+    AIBot getBot() {
+        return bot;
+    }
+
+    /**
+     * Appelé par l'AIScheduler quand une décision est appliquée au bot : elle est enregistrée dans le
+     * replay, dont la lecture la réapplique sans faire réfléchir le bot (décisions du bot MCTS
+     * dépendantes de son budget de temps)
+     * @param decision La décision appliquée
+     */
+    void botDecisionApplied(AIBot.Decision decision) {
+        if (replayRecorder != null) {
+            replayRecorder.botDecision(decision);
+        }
+    }
+
+    /**
+     * Applique au bot une décision enregistrée (lecture d'un replay, bot en sommeil)
+     * @param decision La décision enregistrée
+     */
+    void applyBotDecision(AIBot.Decision decision) {
+        if (bot != null) {
+            bot.apply(decision);
+        }
+    }
+
+    /**
+     * @return Les réglages du bot du mode VS MACHINE
+     */
+    public AIBot.Parameters getBotParameters() {
+        return botParameters;
+    }
+
+    /**
+     * @return Le planificateur de la réflexion du bot (statistiques de latence)
+     */
+    public AIScheduler getAIScheduler() {
+        return aiScheduler;
+    }
+
+    /**
+     * @param stream Le sous-système
+     * @return Le flux pseudo-aléatoire du sous-système dans la partie en cours
+     */
+    GameRandom.StreamRandom getRandomStream(GameRandom.Stream stream) {
+        return random.stream(stream);
+    }
+
+    /**
+     * @return Nombre de ticks exécutés depuis le début de la partie
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return Temps de simulation écoulé en millisecondes (nombre de ticks x durée d'un tick)
+     */
+    public long getSimulationTimeMillis() {
+        return simulationTimeMillis;
+    }
+
+    /**
+     * @return La graine de la partie
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Change la graine utilisée par la prochaine partie (prise en compte par newGame())
+     * @param seed Nouvelle graine
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+
+    /**
+     * Écrit l'état complet de la partie à la position courante du tampon : horloge, timers,
+     * flux aléatoires, grille, joueurs, ennemis, bombes, explosions, power-ups, porte, bot et sa décision en attente.
+     * Le mode de jeu est écrit par GameSnapshot.
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putLong(seed);
+        buffer.put((byte) currentLevel);
+        buffer.putLong(tickCount).putLong(simulationTimeMillis).putLong(accumulatedNanos);
+        buffer.putLong(globalTimerStartTime);
+        buffer.put((byte) ((globalTimerActive ? 1 : 0)
+                | (levelCompleted ? 1 << 1 : 0)
+                | (gameOver ? 1 << 2 : 0)
+                | (playerDyingState ? 1 << 3 : 0)
+                | (player1WinAnimationTriggered ? 1 << 4 : 0)
+                | (player2WinAnimationTriggered ? 1 << 5 : 0)));
+        buffer.put((byte) (battleWinner != null ? players.indexOf(battleWinner) : -1));
+        buffer.putShort((short) longestChainLength);
+        for (GameRandom.Stream stream : GameRandom.Stream.values()) {
+            buffer.putLong(random.stream(stream).getState());
+        }
+
+        grid.writeState(buffer);
+
+        buffer.put((byte) players.size());
+        for (FluidMovementPlayer p : players) {
+            p.writeState(buffer);
+        }
+        buffer.putShort((short) enemies.size());
+        for (Enemy enemy : enemies) {
+            enemy.writeState(buffer);
+        }
+        writeBombs(buffer, activeBombs);
+        writeBombs(buffer, rainBombs);
+        buffer.putShort((short) activeExplosions.size());
+        for (Explosion explosion : activeExplosions) {
+            explosion.writeState(buffer);
+        }
+        buffer.putShort((short) powerUps.size());
+        for (PowerUp powerUp : powerUps) {
+            powerUp.writeState(buffer);
+        }
+
+        buffer.put((byte) (exitDoor != null ? 1 : 0));
+        if (exitDoor != null) {
+            exitDoor.writeState(buffer);
+        }
+        buffer.put((byte) pendingEnemySpawns.size());
+        for (long spawnTime : pendingEnemySpawns) {
+            buffer.putLong(spawnTime);
+        }
+        buffer.put((byte) (bot != null ? 1 : 0));
+        if (bot != null) {
+            bot.writeState(buffer);
+        }
+        aiScheduler.writeState(buffer);
+    }
+
+    private void writeBombs(ByteBuffer buffer, List<Bomb> bombs) {
+        buffer.putShort((short) bombs.size());
+        for (Bomb bomb : bombs) {
+            bomb.writeState(buffer, players);
+        }
+    }
+
+    /**
+     * Remplace l'état de la partie par celui écrit par writeState (même mode de jeu).
+     * Les bombes et explosions courantes sont rendues aux pools, l'index d'occupation est reconstruit.
+     * Aucun événement n'est publié : la présentation doit se resynchroniser (nouvelle grille).
+     * @param buffer Tampon de l'instantané, positionné après le mode de jeu
+     * @throws IllegalArgumentException Si l'état relu est incohérent (GameSnapshot.fromByteArray refuse alors le fichier)
+     */
+    void readState(ByteBuffer buffer) {
+        seed = buffer.getLong();
+        random = new GameRandom(seed);
+        currentLevel = buffer.get();
+        tickCount = buffer.getLong();
+        simulationTimeMillis = buffer.getLong();
+        accumulatedNanos = buffer.getLong();
+        // L'horloge des ticks se déduit du nombre de ticks : une valeur incohérente ferait reculer le temps au tick suivant
+        if (tickCount < 0 || simulationTimeMillis != tickCount * TICK_NANOS / 1_000_000L || accumulatedNanos < 0) {
+            throw new IllegalArgumentException("Horloge incohérente : tick " + tickCount + " à " + simulationTimeMillis + " ms");
+        }
+        sampleClock();
+        globalTimerStartTime = buffer.getLong();
+        int states = buffer.get();
+        globalTimerActive = (states & 1) != 0;
+        levelCompleted = (states & 1 << 1) != 0;
+        gameOver = (states & 1 << 2) != 0;
+        playerDyingState = (states & 1 << 3) != 0;
+        player1WinAnimationTriggered = (states & 1 << 4) != 0;
+        player2WinAnimationTriggered = (states & 1 << 5) != 0;
+        int winnerIndex = buffer.get();
+        longestChainLength = buffer.getShort();
+        long[] streamStates = new long[GameRandom.Stream.values().length];
+        for (int i = 0; i < streamStates.length; i++) {
+            streamStates[i] = buffer.getLong();
+        }
+
+        grid = Grid.readState(buffer, columns, rows, random.stream(GameRandom.Stream.LEVEL));
+
+        createPlayers();
+        int playerCount = buffer.get();
+        if (playerCount != players.size()) {
+            throw new IllegalArgumentException("Instantané incompatible : " + playerCount + " joueurs pour " + players.size());
+        }
+        for (FluidMovementPlayer p : players) {
+            p.readState(buffer);
+        }
+        battleWinner = winnerIndex >= 0 ? players.get(winnerIndex) : null;
+
+        int enemyCount = buffer.getShort();
+        enemies = new ArrayList<>(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            FluidMovementEnemy enemy = new FluidMovementEnemy(0, 0, clock, random.stream(GameRandom.Stream.ENEMIES));
+            enemy.readState(buffer);
+            enemies.add(enemy);
+        }
+        readBombs(buffer, activeBombs);
+        readBombs(buffer, rainBombs);
+        releaseAll(activeExplosions, explosionPool);
+        int explosionCount = buffer.getShort();
+        for (int i = 0; i < explosionCount; i++) {
+            Explosion explosion = explosionPool.acquire();
+            explosion.readState(buffer);
+            activeExplosions.add(explosion);
+        }
+        int powerUpCount = buffer.getShort();
+        powerUps = new ArrayList<>(powerUpCount);
+        for (int i = 0; i < powerUpCount; i++) {
+            powerUps.add(PowerUp.readState(buffer, clock));
+        }
+
+        exitDoor = buffer.get() != 0 ? ExitDoor.readState(buffer) : null;
+        pendingEnemySpawns.clear();
+        int spawnCount = buffer.get();
+        for (int i = 0; i < spawnCount; i++) {
+            pendingEnemySpawns.add(buffer.getLong());
+        }
+        if (buffer.get() != 0 && bot != null) {
+            bot.readState(buffer);
+        }
+        aiScheduler.readState(buffer);
+
+        // Les flux en dernier : la création des ennemis ci-dessus a consommé des tirages
+        for (GameRandom.Stream stream : GameRandom.Stream.values()) {
+            random.stream(stream).setState(streamStates[stream.ordinal()]);
+        }
+        requireRestoredCells();
+        lastChainReaction = null;
+        rebuildOccupancy();
+        prepareNextLevel();
+    }
+
+    /**
+     * Vérifie les positions relues par readState avant de reconstruire l'index d'occupation :
+     * joueurs, ennemis et bombes hors des blocs solides, explosions, power-ups et porte dans la grille
+     * @throws IllegalArgumentException Pour la première position incohérente
+     */
+    private void requireRestoredCells() {
+        for (int i = 0; i < players.size(); i++) {
+            grid.requireOpenCell("Joueur " + (i + 1), players.get(i).getX(), players.get(i).getY());
+        }
+        for (Enemy enemy : enemies) {
+            grid.requireOpenCell("Ennemi", enemy.getX(), enemy.getY());
+        }
+        for (Bomb bomb : activeBombs) {
+            grid.requireOpenCell("Bombe", bomb.getX(), bomb.getY());
+        }
+        for (Bomb bomb : rainBombs) {
+            grid.requireOpenCell("Bombe de Bomb Rain", bomb.getX(), bomb.getY());
+        }
+        for (Explosion explosion : activeExplosions) {
+            for (int i = 0; i < explosion.getCellCount(); i++) {
+                grid.requireCell("Explosion", explosion.getCellX(i), explosion.getCellY(i));
+            }
+        }
+        for (PowerUp powerUp : powerUps) {
+            grid.requireCell("Power-up", powerUp.getX(), powerUp.getY());
+        }
+        if (exitDoor != null) {
+            grid.requireCell("Porte de sortie", exitDoor.getX(), exitDoor.getY());
+        }
+    }
+
+    private void readBombs(ByteBuffer buffer, List<Bomb> bombs) {
+        releaseAll(bombs, bombPool);
+        int count = buffer.getShort();
+        for (int i = 0; i < count; i++) {
+            Bomb bomb = bombPool.acquire();
+            bomb.readState(buffer, players);
+            bombs.add(bomb);
+        }
+    }
+
+    /**
+     * Réindexe toutes les entités de la partie dans l'index d'occupation
+     */
+    private void rebuildOccupancy() {
+        occupancy.clear();
+        dangerMapStale = true;
+        for (Bomb bomb : activeBombs) {
+            occupancy.addBomb(bomb);
+        }
+        for (Bomb bomb : rainBombs) {
+            occupancy.addBomb(bomb);
+        }
+        for (Explosion explosion : activeExplosions) {
+            occupancy.addExplosion(explosion);
+        }
+        for (FluidMovementPlayer p : players) {
+            occupancy.updatePlayer(p);
+        }
+        for (Enemy enemy : enemies) {
+            occupancy.updateEnemy(enemy);
+        }
+    }
+
+    /**
+     * Rend au pool tous les objets d'une liste, puis vide la liste
+     */
+    private static <T> void releaseAll(List<T> objects, ObjectPool<T> pool) {
+        for (T object : objects) {
+            pool.release(object);
+        }
+        objects.clear();
+    }
+
+    /**
+     * @return Nombre de bombes et d'explosions réellement instanciées depuis le début de la partie.
+     *         Se stabilise une fois les pools remplis : une hausse continue signale une fuite d'allocations.
+     */
+    public long getAllocationCount() {
+        return bombPool.getCreatedCount() + explosionPool.getCreatedCount();
+    }
+
+    /**
+     * @return Pool des bombes (compteurs d'allocation détaillés)
+     */
+    public ObjectPool<Bomb> getBombPool() {
+        return bombPool;
+    }
+
+    /**
+     * @return Pool des explosions (compteurs d'allocation détaillés)
+     */
+    public ObjectPool<Explosion> getExplosionPool() {
+        return explosionPool;
+    }
+
+    /**
+     * @return La dernière réaction en chaîne résolue (null si aucune bombe n'a encore explosé).
+     *         L'instance est réutilisée : elle reflète toujours la chaîne la plus récente.
+     */
+    public ChainReactionResolver.ChainReaction getLastChainReaction() {
+        return lastChainReaction;
+    }
+
+    /**
+     * @return Longueur de la plus longue réaction en chaîne depuis le début de la partie
+     */
+    public int getLongestChainLength() {
+        return longestChainLength;
+    }
+
+    /**
+     * @return L'horloge du jeu, figée sur l'échantillon du tick courant
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+}
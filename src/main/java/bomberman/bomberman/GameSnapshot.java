@@ -0,0 +1,245 @@
+package bomberman.bomberman;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Instantané binaire compact de l'état complet d'une partie.
+ *
+ * Contrairement au Replay, qui rejoue toutes les commandes depuis le début, un instantané
+ * rétablit directement une position de jeu : sauvegarde/reprise depuis le menu pause,
+ * remise à zéro instantanée d'un benchmark sur une partie avancée, retour en arrière.
+ *
+ * Chaque entité écrit ses champs primitifs dans un ByteBuffer (writeState/readState) :
+ * pas de sérialisation Java ni de réflexion, une partie tient en quelques Ko.
+ * Les références entre objets sont écrites sous forme d'index (propriétaire d'une bombe,
+ * vainqueur du mode Battle) et l'index d'occupation est reconstruit à la restauration.
+ *
+ * L'état des flux aléatoires et l'horloge des ticks étant inclus, une simulation avançant au
+ * pas fixe (sans horloge externe) reprend exactement la même suite de ticks après restore().
+ *
+ * Format : en-tête "BMSN" + version, options du mode de jeu, dimensions de l'arène, puis l'état de la simulation.
+ * Les coordonnées de cases sont écrites sur un octet non signé (putCoordinate) : jusqu'à 254,
+ * la valeur 255 codant -1 (aucune case).
+ */
+public class GameSnapshot {
+
+    private static final int MAGIC = 0x424D534E; // "BMSN"
+    private static final int VERSION = 4; // 4 : cases de départ des joueurs dans l'état de la grille
+    private static final int HEADER_SIZE = 8;
+
+    // Position des options et des dimensions de l'arène dans l'en-tête
+    private static final int FLAGS_OFFSET = 5;
+    private static final int COLUMNS_OFFSET = 6;
+    private static final int ROWS_OFFSET = 7;
+
+    // Octet d'une coordonnée absente (-1)
+    private static final int NO_COORDINATE = 0xFF;
+
+    private static final int FLAG_COOPERATION = 1;
+    private static final int FLAG_BATTLE = 1 << 1;
+    private static final int FLAG_VS_MACHINE = 1 << 2;
+
+    // Taille initiale du tampon de capture, doublée tant que l'état ne tient pas
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final byte[] data;
+
+    private GameSnapshot(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Capture l'état courant d'une simulation
+     * @param simulation La simulation (entre deux ticks)
+     * @return L'instantané
+     */
+    public static GameSnapshot capture(GameSimulation simulation) {
+        int capacity = INITIAL_CAPACITY;
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            try {
+                buffer.putInt(MAGIC);
+                buffer.put((byte) VERSION);
+                buffer.put((byte) ((simulation.isCooperationMode() ? FLAG_COOPERATION : 0)
+                        | (simulation.isBattleMode() ? FLAG_BATTLE : 0)
+                        | (simulation.isVsMachineMode() ? FLAG_VS_MACHINE : 0)));
+                buffer.put((byte) simulation.getColumns()).put((byte) simulation.getRows());
+                simulation.writeState(buffer);
+                return new GameSnapshot(Arrays.copyOf(buffer.array(), buffer.position()));
+            } catch (BufferOverflowException e) {
+                capacity *= 2;
+            }
+        }
+    }
+
+    /**
+     * Rétablit l'instantané dans une simulation du même mode de jeu et de la même arène
+     * @param simulation La simulation à restaurer
+     * @throws IllegalArgumentException Si le mode de jeu ou l'arène de la simulation diffère de celui de l'instantané
+     */
+    public void restore(GameSimulation simulation) {
+        if (simulation.isCooperationMode() != isCooperationMode()
+                || simulation.isBattleMode() != isBattleMode()
+                || simulation.isVsMachineMode() != isVsMachineMode()) {
+            throw new IllegalArgumentException("Mode de jeu de l'instantané différent de celui de la simulation");
+        }
+        if (simulation.getColumns() != getColumns() || simulation.getRows() != getRows()) {
+            throw new IllegalArgumentException("Arène de l'instantané (" + getColumns() + "x" + getRows()
+                    + ") différente de celle de la simulation (" + simulation.getColumns() + "x" + simulation.getRows() + ")");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.position(HEADER_SIZE);
+        simulation.readState(buffer);
+    }
+
+    /**
+     * Crée une nouvelle simulation du mode de jeu de l'instantané et y rétablit l'instantané
+     * @param timeSource Horloge externe de la simulation, ou null pour l'horloge des ticks
+     * @return La simulation restaurée
+     */
+    public GameSimulation createSimulation(GameClock timeSource) {
+        GameSimulation simulation = newSimulation(timeSource);
+        restore(simulation);
+        return simulation;
+    }
+
+    /**
+     * Crée une simulation vide du mode de jeu et de l'arène de l'instantané, sans le rétablir
+     * (copies de travail du bot, restaurées à chaque décision)
+     * @param timeSource Horloge externe de la simulation, ou null pour l'horloge des ticks
+     * @return La simulation, à restaurer avec restore()
+     */
+    public GameSimulation newSimulation(GameClock timeSource) {
+        return new GameSimulation(isCooperationMode(), isBattleMode(), isVsMachineMode(), timeSource,
+                GameRandom.newSeed(), getColumns(), getRows());
+    }
+
+    // ========== INFORMATIONS ==========
+
+    public boolean isCooperationMode() {
+        return (data[FLAGS_OFFSET] & FLAG_COOPERATION) != 0;
+    }
+
+    public boolean isBattleMode() {
+        return (data[FLAGS_OFFSET] & FLAG_BATTLE) != 0;
+    }
+
+    public boolean isVsMachineMode() {
+        return (data[FLAGS_OFFSET] & FLAG_VS_MACHINE) != 0;
+    }
+
+    /**
+     * @return Nombre de colonnes de l'arène
+     */
+    public int getColumns() {
+        return Byte.toUnsignedInt(data[COLUMNS_OFFSET]);
+    }
+
+    /**
+     * @return Nombre de lignes de l'arène
+     */
+    public int getRows() {
+        return Byte.toUnsignedInt(data[ROWS_OFFSET]);
+    }
+
+    /**
+     * @return Taille de l'instantané en octets
+     */
+    public int size() {
+        return data.length;
+    }
+
+    // ========== COORDONNÉES ==========
+
+    /**
+     * Écrit une coordonnée de case sur un octet non signé (-1 pour aucune case)
+     * @param buffer Tampon de l'instantané
+     * @param coordinate Colonne ou ligne (au plus GameSimulation.MAX_ARENA_SIZE - 1), ou -1
+     */
+    static void putCoordinate(ByteBuffer buffer, int coordinate) {
+        buffer.put((byte) (coordinate < 0 ? NO_COORDINATE : coordinate));
+    }
+
+    /**
+     * Relit une coordonnée écrite par putCoordinate
+     * @param buffer Tampon de l'instantané
+     * @return Colonne ou ligne, ou -1
+     */
+    static int getCoordinate(ByteBuffer buffer) {
+        int coordinate = Byte.toUnsignedInt(buffer.get());
+        return coordinate == NO_COORDINATE ? -1 : coordinate;
+    }
+
+    // ========== FICHIER ==========
+
+    /**
+     * @return Copie des octets de l'instantané
+     */
+    public byte[] toByteArray() {
+        return data.clone();
+    }
+
+    /**
+     * Relit un instantané écrit par toByteArray().
+     * L'état entier est décodé une fois dans une simulation de contrôle : un fichier tronqué ou corrompu
+     * est refusé ici, jamais au moment de le restaurer dans la partie en cours.
+     * @param bytes Octets de l'instantané
+     * @return L'instantané
+     * @throws IOException Si l'en-tête est invalide ou l'état tronqué ou incohérent
+     */
+    public static GameSnapshot fromByteArray(byte[] bytes) throws IOException {
+        GameSnapshot snapshot = new GameSnapshot(bytes.clone());
+        try {
+            ByteBuffer header = ByteBuffer.wrap(snapshot.data);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Fichier de sauvegarde invalide (signature inconnue)");
+            }
+            int version = header.get();
+            if (version != VERSION) {
+                throw new IOException("Version de sauvegarde non supportée : " + version);
+            }
+            if (snapshot.data.length < HEADER_SIZE) {
+                throw new IOException("Fichier de sauvegarde tronqué");
+            }
+            ByteBuffer state = ByteBuffer.wrap(snapshot.data);
+            state.position(HEADER_SIZE);
+            snapshot.newSimulation(null).readState(state);
+            if (state.hasRemaining()) {
+                throw new IOException("Fichier de sauvegarde invalide (" + state.remaining() + " octets en trop)");
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Fichier de sauvegarde tronqué");
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Fichier de sauvegarde corrompu : " + e.getMessage());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Écrit l'instantané dans un fichier (répertoires parents créés si besoin)
+     * @param file Fichier de destination
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, data);
+    }
+
+    /**
+     * Lit un instantané depuis un fichier
+     * @param file Fichier de sauvegarde
+     * @return L'instantané lu
+     * @throws IOException En cas d'erreur de lecture ou de fichier invalide
+     */
+    public static GameSnapshot load(Path file) throws IOException {
+        return fromByteArray(Files.readAllBytes(file));
+    }
+}
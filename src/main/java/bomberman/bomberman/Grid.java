@@ -1,7 +1,8 @@
 package bomberman.bomberman;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Modèle de données représentant la grille du jeu Bomberman.
@@ -11,16 +12,55 @@ import java.util.Map;
  * - Alternance intérieure : blocs solides toutes les deux cases
  * - Blocs destructibles répartis dans les cases vides disponibles
  * - Power-ups cachés dans certains blocs destructibles
+ *
+ * Les cases sont stockées par tronçons de 16 x 16 (CHUNK_SIZE) : les cases d'un tronçon sont contiguës
+ * en mémoire, et ce qui ne touche qu'une région de la carte (zone visible, branches d'explosion,
+ * voisinage d'une entité) ne lit que quelques tronçons, quelle que soit la taille de l'arène.
+ * L'arène standard 15 x 13 tient dans un seul tronçon.
  */
 public class Grid {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     private final int columns;
     private final int rows;
-    private final TileType[][] cells;
     
-    // Map pour stocker les power-ups cachés dans les blocs destructibles
-    // Clé : "x,y" (position), Valeur : PowerUpType
-    private final Map<String, PowerUpType> hiddenPowerUps;
+    /**
+     * Côté d'un tronçon de stockage, en cases
+     */
+    public static final int CHUNK_SIZE = 16;
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    // Nombre de tronçons par ligne de tronçons
+    private final int chunkColumns;
+    
+    // Stockage par tronçons : une case par octet, indexée par cellIndex (tronçon, puis ligne et colonne dans le tronçon)
+    // cells contient l'ordinal du TileType, flags les propriétés précalculées de la case
+    private final byte[] cells;
+    private final byte[] flags;
+    
+    // Compteur de modifications des cases (les champs de distance ne sont recalculés que s'il change)
+    private int version;
+    
+    // Blocs en bitboards (branches d'explosion, cases accessibles), null si la grille est trop grande
+    private final BlockBitboards blockBitboards;
+    
+    private static final TileType[] TILE_TYPES = TileType.values();
+    
+    // Masques de propriétés précalculées (voir getCellFlags)
+    public static final int FLAG_WALKABLE = 1;                   // Traversable par les joueurs et ennemis
+    public static final int FLAG_BLAST_TRANSPARENT = 1 << 1;     // Les explosions peuvent traverser
+    public static final int FLAG_DESTRUCTIBLE = 1 << 2;          // Bloc destructible
+    public static final int FLAG_SOLID_ABOVE = 1 << 3;           // Bloc solide juste au-dessus (ombre sur l'herbe)
+    public static final int FLAG_DESTRUCTIBLE_ABOVE = 1 << 4;    // Bloc destructible juste au-dessus (ombre sur l'herbe)
+    
+    // Power-ups cachés dans les blocs destructibles, indexés comme les cases (cellIndex)
+    // Valeur : 0 si aucun power-up, sinon ordinal du PowerUpType + 1
+    private final byte[] hiddenPowerUps;
+    private int hiddenPowerUpCount;
+    
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
     
     // Probabilité qu'un bloc destructible contienne un power-up (20% par défaut)
     private static final double POWER_UP_PROBABILITY = 0.2;
@@ -28,10 +68,16 @@ public class Grid {
     // ✨ **NOUVEAU** : Listener pour les notifications de destruction de blocs
     private DestructibleBlockListener destructibleBlockListener;
     
+    // ✨ **NOUVEAU** : Flux pseudo-aléatoire de la génération (graine de la partie)
+    private final RandomGenerator random;
+    
     // ✨ **NOUVEAU** : Position de spawn du joueur 2 (mode coopération)
     private int player2SpawnX = -1;
     private int player2SpawnY = -1;
     
+    // ✨ **NOUVEAU** : Cases de départ des joueurs 1 à 4 (colonne, ligne) : coins de l'arène, ou fixées par le niveau chargé
+    private final int[] spawns = new int[2 * Level.MAX_PLAYERS];
+    
     /**
      * Constructeur de la grille
      * @param columns Nombre de colonnes
@@ -41,8 +87,13 @@ public class Grid {
     public Grid(int columns, int rows, int currentLevel) {
         this.columns = columns;
         this.rows = rows;
-        this.cells = new TileType[rows][columns];
-        this.hiddenPowerUps = new HashMap<>();
+        this.chunkColumns = chunkCount(columns);
+        this.cells = new byte[storageSize(columns, rows)];
+        this.flags = new byte[storageSize(columns, rows)];
+        this.hiddenPowerUps = new byte[storageSize(columns, rows)];
+        this.blockBitboards = BlockBitboards.create(columns, rows);
+        this.random = new SplittableRandom();
+        setDefaultSpawns();
         
         initializeGrid(currentLevel);
     }
@@ -58,10 +109,30 @@ public class Grid {
      * @param player2SpawnY Position Y de spawn du joueur 2 (ignoré si mode solo)
      */
     public Grid(int columns, int rows, int currentLevel, boolean isCooperationMode, boolean isBattleMode, int player2SpawnX, int player2SpawnY) {
+        this(columns, rows, currentLevel, isCooperationMode, isBattleMode, player2SpawnX, player2SpawnY, new SplittableRandom());
+    }
+    
+    /**
+     * ✨ **NOUVEAU** : Constructeur de la grille avec génération reproductible
+     * @param columns Nombre de colonnes
+     * @param rows Nombre de lignes
+     * @param currentLevel Niveau actuel pour adapter la génération des power-ups
+     * @param isCooperationMode True si en mode coopération
+     * @param isBattleMode True si en mode battle
+     * @param player2SpawnX Position X de spawn du joueur 2 (ignoré si mode solo)
+     * @param player2SpawnY Position Y de spawn du joueur 2 (ignoré si mode solo)
+     * @param random Flux de génération (GameRandom.Stream.LEVEL de la partie)
+     */
+    public Grid(int columns, int rows, int currentLevel, boolean isCooperationMode, boolean isBattleMode, int player2SpawnX, int player2SpawnY, RandomGenerator random) {
         this.columns = columns;
         this.rows = rows;
-        this.cells = new TileType[rows][columns];
-        this.hiddenPowerUps = new HashMap<>();
+        this.chunkColumns = chunkCount(columns);
+        this.cells = new byte[storageSize(columns, rows)];
+        this.flags = new byte[storageSize(columns, rows)];
+        this.hiddenPowerUps = new byte[storageSize(columns, rows)];
+        this.blockBitboards = BlockBitboards.create(columns, rows);
+        this.random = random;
+        setDefaultSpawns();
         
         // Enregistrer la position de spawn du joueur 2 en mode multijoueur
         if (isCooperationMode || isBattleMode) {
@@ -84,8 +155,13 @@ public class Grid {
     public Grid(int columns, int rows, int currentLevel, boolean isMultiplayerMode, int player2SpawnX, int player2SpawnY) {
         this.columns = columns;
         this.rows = rows;
-        this.cells = new TileType[rows][columns];
-        this.hiddenPowerUps = new HashMap<>();
+        this.chunkColumns = chunkCount(columns);
+        this.cells = new byte[storageSize(columns, rows)];
+        this.flags = new byte[storageSize(columns, rows)];
+        this.hiddenPowerUps = new byte[storageSize(columns, rows)];
+        this.blockBitboards = BlockBitboards.create(columns, rows);
+        this.random = new SplittableRandom();
+        setDefaultSpawns();
         
         // Enregistrer la position de spawn du joueur 2 seulement en mode multijoueur
         if (isMultiplayerMode) {
@@ -105,11 +181,84 @@ public class Grid {
         this(columns, rows, 1); // Niveau 1 par défaut
     }
     
+    /**
+     * Constructeur d'une grille vide, remplie par readState (instantané de partie)
+     */
+    private Grid(int columns, int rows, RandomGenerator random) {
+        this.columns = columns;
+        this.rows = rows;
+        this.chunkColumns = chunkCount(columns);
+        this.cells = new byte[storageSize(columns, rows)];
+        this.flags = new byte[storageSize(columns, rows)];
+        this.hiddenPowerUps = new byte[storageSize(columns, rows)];
+        this.blockBitboards = BlockBitboards.create(columns, rows);
+        this.random = random;
+        setDefaultSpawns();
+    }
+    
+    /**
+     * ✨ **NOUVEAU** : Constructeur d'une grille décrite par un niveau chargé (cases, power-ups cachés, départs)
+     * Les cases sont lues une à une dans l'enregistrement du niveau, sans allocation par case.
+     * @param level Le niveau (mêmes dimensions que la simulation)
+     * @param random Flux de génération de la partie (non utilisé par une grille chargée)
+     */
+    public Grid(Level level, RandomGenerator random) {
+        this(level.getColumns(), level.getRows(), random);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                setTile(column, row, level.getTile(column, row));
+                PowerUpType powerUp = level.getHiddenPowerUp(column, row);
+                if (powerUp != null) {
+                    putHiddenPowerUp(column, row, powerUp);
+                }
+            }
+        }
+        for (int player = 0; player < Level.MAX_PLAYERS; player++) {
+            if (level.hasSpawn(player)) {
+                spawns[2 * player] = level.getSpawnX(player);
+                spawns[2 * player + 1] = level.getSpawnY(player);
+            }
+        }
+        GameLog.info(LOG_CATEGORY, "Grille " + columns + "x" + rows + " chargée depuis un niveau : "
+                + hiddenPowerUpCount + " power-ups cachés");
+    }
+    
+    /**
+     * ✨ **NOUVEAU** : Départs par défaut : joueur 1 en haut à gauche, joueur 2 dans le coin opposé,
+     * joueurs 3 et 4 dans les deux coins restants
+     */
+    private void setDefaultSpawns() {
+        int[] corners = {1, 1, columns - 2, rows - 2, 1, rows - 2, columns - 2, 1};
+        System.arraycopy(corners, 0, spawns, 0, spawns.length);
+    }
+    
+    /**
+     * @return Nombre de tronçons nécessaires pour couvrir une dimension
+     */
+    private static int chunkCount(int size) {
+        return (size + CHUNK_MASK) >> CHUNK_SHIFT;
+    }
+    
+    /**
+     * @return Nombre d'octets du stockage par tronçons d'une grille de ces dimensions
+     */
+    private static int storageSize(int columns, int rows) {
+        return chunkCount(columns) * chunkCount(rows) * CHUNK_SIZE * CHUNK_SIZE;
+    }
+    
+    /**
+     * Index d'une case dans le stockage par tronçons (sans contrôle des limites)
+     */
+    private int cellIndex(int column, int row) {
+        int chunk = (row >> CHUNK_SHIFT) * chunkColumns + (column >> CHUNK_SHIFT);
+        return (chunk << (2 * CHUNK_SHIFT)) | ((row & CHUNK_MASK) << CHUNK_SHIFT) | (column & CHUNK_MASK);
+    }
+    
     /**
      * Initialise la grille selon le pattern classique de Bomberman :
      * - Les bordures sont des blocs solides
      * - À l'intérieur, alternance de blocs solides toutes les deux cases
-     * - Ajout de 8 blocs solides aléatoires supplémentaires (sauf en mode Battle)
+     * - Ajout de 8 blocs solides aléatoires supplémentaires (sauf en mode Battle), proportionnellement plus dans une grande arène
      * - Ajout de blocs destructibles dans certaines cases vides
      * - Ajout de power-ups cachés dans certains blocs destructibles
      * @param currentLevel Niveau actuel pour adapter la génération des power-ups
@@ -121,15 +270,15 @@ public class Grid {
             for (int col = 0; col < columns; col++) {
                 // Bordures : toujours solides
                 if (row == 0 || row == rows - 1 || col == 0 || col == columns - 1) {
-                    cells[row][col] = TileType.SOLID;
+                    setTile(col, row, TileType.SOLID);
                 }
                 // Pattern intérieur : blocs solides sur positions paires
                 else if (row % 2 == 0 && col % 2 == 0) {
-                    cells[row][col] = TileType.SOLID;
+                    setTile(col, row, TileType.SOLID);
                 }
                 // Sinon, case vide
                 else {
-                    cells[row][col] = TileType.EMPTY;
+                    setTile(col, row, TileType.EMPTY);
                 }
             }
         }
@@ -139,7 +288,7 @@ public class Grid {
             // Ajouter 8 blocs solides aléatoires supplémentaires (modes normal et coopération)
             addRandomSolidBlocks();
         } else {
-            System.out.println("MODE BATTLE : Pas de blocs solides aléatoires ajoutés");
+            GameLog.info(LOG_CATEGORY, "MODE BATTLE : Pas de blocs solides aléatoires ajoutés");
         }
         
         // Ajouter des blocs destructibles dans certaines cases vides
@@ -158,23 +307,34 @@ public class Grid {
     }
     
     /**
-     * Ajoute 8 blocs solides aléatoires sur la grille
+     * ✨ **NOUVEAU** : Adapte un nombre prévu pour l'arène standard à la surface intérieure de la grille
+     * (identique sur l'arène standard)
+     * @param standardCount Nombre pour l'arène 15 x 13
+     * @return Nombre pour cette grille
+     */
+    private int scaleToArena(int standardCount) {
+        long standardArea = (long) (GameSimulation.GRID_COLUMNS - 2) * (GameSimulation.GRID_ROWS - 2);
+        return (int) (standardCount * (long) (columns - 2) * (rows - 2) / standardArea);
+    }
+    
+    /**
+     * Ajoute 8 blocs solides aléatoires sur la grille (à l'échelle de la surface pour une autre arène)
      * Ces blocs sont positionnés aléatoirement à chaque partie
      * Ils ne peuvent pas être placés sur les positions de départ des joueurs
      * En mode Battle 4 joueurs : protège les 4 coins (1,1), (13,11), (1,11), (13,1)
      */
     private void addRandomSolidBlocks() {
-        int blocksToAdd = 8;
+        int blocksToAdd = scaleToArena(8);
         int blocksAdded = 0;
         int attempts = 0;
-        int maxAttempts = 100; // Éviter les boucles infinies
+        int maxAttempts = scaleToArena(100); // Éviter les boucles infinies
         
         while (blocksAdded < blocksToAdd && attempts < maxAttempts) {
             attempts++;
             
             // Générer une position aléatoire dans la zone intérieure
-            int col = 1 + (int) (Math.random() * (columns - 2));
-            int row = 1 + (int) (Math.random() * (rows - 2));
+            int col = 1 + random.nextInt(columns - 2);
+            int row = 1 + random.nextInt(rows - 2);
             
             // Vérifier que la position n'est pas dans une zone de spawn protégée
             if (isInProtectedSpawnZone(col, row)) {
@@ -182,16 +342,18 @@ public class Grid {
             }
             
             // Vérifier que la case est actuellement vide
-            if (cells[row][col] == TileType.EMPTY) {
-                cells[row][col] = TileType.SOLID;
+            if (tileAt(col, row) == TileType.EMPTY) {
+                setTile(col, row, TileType.SOLID);
                 blocksAdded++;
-                System.out.println("Bloc solide aléatoire #" + blocksAdded + " ajouté à (" + col + ", " + row + ")");
+                if (GameLog.DEBUG_ENABLED) {
+                    GameLog.debug(LOG_CATEGORY, "Bloc solide aléatoire #" + blocksAdded + " ajouté à (" + col + ", " + row + ")");
+                }
             }
         }
         
-        System.out.println("Total de " + blocksAdded + " blocs solides aléatoires ajoutés sur " + blocksToAdd + " demandés");
+        GameLog.info(LOG_CATEGORY, "Total de " + blocksAdded + " blocs solides aléatoires ajoutés sur " + blocksToAdd + " demandés");
         if (player2SpawnX != -1 && player2SpawnY != -1) {
-            System.out.println("Zones de spawn protégées pour mode multijoueur");
+            GameLog.info(LOG_CATEGORY, "Zones de spawn protégées pour mode multijoueur");
         }
     }
     
@@ -199,11 +361,12 @@ public class Grid {
      * Ajoute des blocs destructibles dans la grille
      * - Mode normal/coopération : exactement 33 blocs destructibles
      * - Mode Battle : exactement 80 blocs destructibles
+     * (à l'échelle de la surface pour une autre arène que l'arène standard)
      * Les blocs sont placés aléatoirement dans les cases vides disponibles
      * @param isBattleMode True si en mode Battle (change le nombre de blocs)
      */
     private void addDestructibleBlocks(boolean isBattleMode) {
-        final int TARGET_DESTRUCTIBLE_BLOCKS = isBattleMode ? 80 : 33;
+        final int TARGET_DESTRUCTIBLE_BLOCKS = scaleToArena(isBattleMode ? 80 : 33);
         
         // Collecter toutes les positions vides disponibles (hors zone de départ)
         java.util.List<int[]> availablePositions = new java.util.ArrayList<>();
@@ -216,14 +379,14 @@ public class Grid {
                 }
                 
                 // Si c'est une case vide, l'ajouter aux positions disponibles
-                if (cells[row][col] == TileType.EMPTY) {
+                if (tileAt(col, row) == TileType.EMPTY) {
                     availablePositions.add(new int[]{col, row});
                 }
             }
         }
         
         // Mélanger les positions pour avoir un placement aléatoire
-        java.util.Collections.shuffle(availablePositions);
+        java.util.Collections.shuffle(availablePositions, random);
         
         // Placer exactement 33 blocs destructibles
         int blocksPlaced = 0;
@@ -232,13 +395,13 @@ public class Grid {
             int col = pos[0];
             int row = pos[1];
             
-            cells[row][col] = TileType.DESTRUCTIBLE;
+            setTile(col, row, TileType.DESTRUCTIBLE);
             blocksPlaced++;
         }
         
         String mode = isBattleMode ? "BATTLE" : "NORMAL/COOPÉRATION";
-        System.out.println("MODE " + mode + " : " + blocksPlaced + " blocs destructibles placés sur " + TARGET_DESTRUCTIBLE_BLOCKS + " demandés");
-        System.out.println("Positions disponibles trouvées : " + availablePositions.size());
+        GameLog.info(LOG_CATEGORY, "MODE " + mode + " : " + blocksPlaced + " blocs destructibles placés sur " + TARGET_DESTRUCTIBLE_BLOCKS + " demandés");
+        GameLog.info(LOG_CATEGORY, "Positions disponibles trouvées : " + availablePositions.size());
     }
     
     /**
@@ -268,14 +431,14 @@ public class Grid {
             }
             
             // En mode Battle 4 joueurs, protéger aussi les positions des joueurs 3 et 4
-            // Joueur 3 en (1,11) et Joueur 4 en (13,1)
-            if (player2SpawnX == 13 && player2SpawnY == 11) { // Mode Battle détecté
-                // Zone 3x3 autour du joueur 3 (1,11)
-                if (Math.abs(row - 11) <= 1 && Math.abs(col - 1) <= 1) {
+            // Joueur 3 en (1,11) et Joueur 4 en (13,1) sur l'arène standard (coins libres de la grille)
+            if (player2SpawnX == columns - 2 && player2SpawnY == rows - 2) { // Mode Battle détecté
+                // Zone 3x3 autour du joueur 3 (coin inférieur gauche)
+                if (Math.abs(row - (rows - 2)) <= 1 && Math.abs(col - 1) <= 1) {
                     return true;
                 }
-                // Zone 3x3 autour du joueur 4 (13,1)
-                if (Math.abs(row - 1) <= 1 && Math.abs(col - 13) <= 1) {
+                // Zone 3x3 autour du joueur 4 (coin supérieur droit)
+                if (Math.abs(row - 1) <= 1 && Math.abs(col - (columns - 2)) <= 1) {
                     return true;
                 }
             }
@@ -309,14 +472,14 @@ public class Grid {
         
         for (int row = 1; row < rows - 1; row++) {
             for (int col = 1; col < columns - 1; col++) {
-                if (cells[row][col] == TileType.DESTRUCTIBLE) {
+                if (tileAt(col, row) == TileType.DESTRUCTIBLE) {
                     destructiblePositions.add(new int[]{col, row});
                 }
             }
         }
         
         // Mélanger les positions pour avoir un placement aléatoire
-        java.util.Collections.shuffle(destructiblePositions);
+        java.util.Collections.shuffle(destructiblePositions, random);
         
         // Placer les power-ups garantis
         int powerUpsPlaced = 0;
@@ -324,48 +487,78 @@ public class Grid {
         // Placer 2x EXTRA_BOMB
         for (int i = 0; i < 2 && powerUpsPlaced < destructiblePositions.size(); i++) {
             int[] pos = destructiblePositions.get(powerUpsPlaced);
-            String key = pos[0] + "," + pos[1];
-            hiddenPowerUps.put(key, PowerUpType.EXTRA_BOMB);
-            System.out.println("EXTRA_BOMB " + (i + 1) + " caché à la position (" + pos[0] + ", " + pos[1] + ")");
+            putHiddenPowerUp(pos[0], pos[1], PowerUpType.EXTRA_BOMB);
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "EXTRA_BOMB " + (i + 1) + " caché à la position (" + pos[0] + ", " + pos[1] + ")");
+            }
             powerUpsPlaced++;
         }
         
         // Placer 1x EXPLOSION_EXPANDER
         if (powerUpsPlaced < destructiblePositions.size()) {
             int[] pos = destructiblePositions.get(powerUpsPlaced);
-            String key = pos[0] + "," + pos[1];
-            hiddenPowerUps.put(key, PowerUpType.EXPLOSION_EXPANDER);
-            System.out.println("EXPLOSION_EXPANDER caché à la position (" + pos[0] + ", " + pos[1] + ")");
+            putHiddenPowerUp(pos[0], pos[1], PowerUpType.EXPLOSION_EXPANDER);
+            GameLog.info(LOG_CATEGORY, "EXPLOSION_EXPANDER caché à la position (" + pos[0] + ", " + pos[1] + ")");
             powerUpsPlaced++;
         }
         
-        System.out.println("Niveau 1 : " + powerUpsPlaced + " power-ups garantis placés (2x EXTRA_BOMB + 1x EXPLOSION_EXPANDER)");
+        GameLog.info(LOG_CATEGORY, "Niveau 1 : " + powerUpsPlaced + " power-ups garantis placés (2x EXTRA_BOMB + 1x EXPLOSION_EXPANDER)");
     }
     
     /**
      * Ajoute des power-ups cachés selon la distribution aléatoire classique
      */
     private void addRandomPowerUps() {
-        PowerUpType[] powerUpTypes = PowerUpType.values();
-        
         for (int row = 1; row < rows - 1; row++) {
             for (int col = 1; col < columns - 1; col++) {
                 // Si c'est un bloc destructible
-                if (cells[row][col] == TileType.DESTRUCTIBLE) {
+                if (tileAt(col, row) == TileType.DESTRUCTIBLE) {
                     // Chance de contenir un power-up
-                    if (Math.random() < POWER_UP_PROBABILITY) {
+                    if (random.nextDouble() < POWER_UP_PROBABILITY) {
                         // Choisir un type de power-up aléatoire
-                        PowerUpType randomType = powerUpTypes[(int) (Math.random() * powerUpTypes.length)];
-                        String key = col + "," + row;
-                        hiddenPowerUps.put(key, randomType);
+                        PowerUpType randomType = POWER_UP_TYPES[random.nextInt(POWER_UP_TYPES.length)];
+                        putHiddenPowerUp(col, row, randomType);
                         
-                        System.out.println("Power-up " + randomType + " caché à la position (" + col + ", " + row + ")");
+                        if (GameLog.DEBUG_ENABLED) {
+                            GameLog.debug(LOG_CATEGORY, "Power-up " + randomType + " caché à la position (" + col + ", " + row + ")");
+                        }
                     }
                 }
             }
         }
         
-        System.out.println("Total de " + hiddenPowerUps.size() + " power-ups cachés générés");
+        GameLog.info(LOG_CATEGORY, "Total de " + hiddenPowerUpCount + " power-ups cachés générés");
+    }
+    
+    /**
+     * Cache un power-up dans la case donnée
+     */
+    private void putHiddenPowerUp(int column, int row, PowerUpType type) {
+        int index = cellIndex(column, row);
+        if (hiddenPowerUps[index] == 0) {
+            hiddenPowerUpCount++;
+        }
+        hiddenPowerUps[index] = (byte) (type.ordinal() + 1);
+    }
+    
+    /**
+     * Lit le power-up caché d'une case sans contrôle des limites
+     */
+    private PowerUpType hiddenPowerUpAt(int index) {
+        int encoded = hiddenPowerUps[index];
+        return encoded == 0 ? null : POWER_UP_TYPES[encoded - 1];
+    }
+    
+    /**
+     * Retire et renvoie le power-up caché d'une case sans contrôle des limites
+     */
+    private PowerUpType takeHiddenPowerUp(int index) {
+        PowerUpType type = hiddenPowerUpAt(index);
+        if (type != null) {
+            hiddenPowerUps[index] = 0;
+            hiddenPowerUpCount--;
+        }
+        return type;
     }
     
     /**
@@ -378,7 +571,102 @@ public class Grid {
         if (row < 0 || row >= rows || column < 0 || column >= columns) {
             throw new IllegalArgumentException("Position hors limites : [" + column + ", " + row + "]");
         }
-        return cells[row][column];
+        return tileAt(column, row);
+    }
+    
+    /**
+     * Lecture directe du type de case, sans contrôle des limites
+     */
+    private TileType tileAt(int column, int row) {
+        return TILE_TYPES[cells[cellIndex(column, row)]];
+    }
+    
+    /**
+     * Modifie le type d'une case et recalcule ses propriétés ainsi que celles de la case du dessous
+     * (dont l'ombre dépend de la case du dessus)
+     * @param column Colonne (x)
+     * @param row Ligne (y)
+     * @param type Nouveau type de case
+     */
+    private void setTile(int column, int row, TileType type) {
+        cells[cellIndex(column, row)] = (byte) type.ordinal();
+        version++;
+        if (blockBitboards != null) {
+            blockBitboards.update(column, row, type);
+        }
+        updateFlags(column, row);
+        if (row + 1 < rows) {
+            updateFlags(column, row + 1);
+        }
+    }
+    
+    /**
+     * Recalcule le masque de propriétés d'une case
+     */
+    private void updateFlags(int column, int row) {
+        TileType type = tileAt(column, row);
+        int cellFlags = 0;
+        if (type.isTraversable()) {
+            cellFlags |= FLAG_WALKABLE;
+        }
+        if (!type.blocksExplosion()) {
+            cellFlags |= FLAG_BLAST_TRANSPARENT;
+        }
+        if (type.isDestructible()) {
+            cellFlags |= FLAG_DESTRUCTIBLE;
+        }
+        if (row > 0) {
+            TileType above = tileAt(column, row - 1);
+            if (above == TileType.SOLID) {
+                cellFlags |= FLAG_SOLID_ABOVE;
+            } else if (above == TileType.DESTRUCTIBLE) {
+                cellFlags |= FLAG_DESTRUCTIBLE_ABOVE;
+            }
+        }
+        flags[cellIndex(column, row)] = (byte) cellFlags;
+    }
+    
+    /**
+     * Masque de la case avec le même contrôle des limites que getTileType
+     */
+    private int getCellFlagsChecked(int column, int row) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("Position hors limites : [" + column + ", " + row + "]");
+        }
+        return flags[cellIndex(column, row)];
+    }
+    
+    /**
+     * Obtient le masque de propriétés précalculées d'une case (combinaison des FLAG_*)
+     * @param column Colonne (x)
+     * @param row Ligne (y)
+     * @return Le masque de la case, 0 si la position est hors limites
+     */
+    public int getCellFlags(int column, int row) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return 0;
+        }
+        return flags[cellIndex(column, row)];
+    }
+    
+    /**
+     * Copie les masques de toutes les cases, ligne par ligne (index = ligne * colonnes + colonne).
+     * Permet à l'IA et au rendu de parcourir la grille sans appel par case.
+     * @param destination Tableau à réutiliser (peut être null ou trop petit : un nouveau tableau est alors créé)
+     * @return Le tableau rempli
+     */
+    public byte[] copyCellFlags(byte[] destination) {
+        if (destination == null || destination.length < rows * columns) {
+            destination = new byte[rows * columns];
+        }
+        // Chaque ligne d'un tronçon est contiguë : une copie par morceau de ligne
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column += CHUNK_SIZE) {
+                int length = Math.min(CHUNK_SIZE, columns - column);
+                System.arraycopy(flags, cellIndex(column, row), destination, row * columns + column, length);
+            }
+        }
+        return destination;
     }
     
     /**
@@ -398,7 +686,7 @@ public class Grid {
      * @return true si la case est destructible, false sinon
      */
     public boolean isDestructible(int column, int row) {
-        return getTileType(column, row) == TileType.DESTRUCTIBLE;
+        return (getCellFlagsChecked(column, row) & FLAG_DESTRUCTIBLE) != 0;
     }
     
     /**
@@ -409,13 +697,8 @@ public class Grid {
      * @return true si la case est accessible, false sinon
      */
     public boolean isAccessible(int column, int row) {
-        // Vérifier si la position est dans les limites de la grille
-        if (row < 0 || row >= rows || column < 0 || column >= columns) {
-            return false;
-        }
-        
-        // Vérifier si la case est traversable
-        return getTileType(column, row).isTraversable();
+        // Hors limites : masque vide, donc non accessible
+        return (getCellFlags(column, row) & FLAG_WALKABLE) != 0;
     }
     
     /**
@@ -431,8 +714,8 @@ public class Grid {
         }
         
         // Vérifier si le bloc est destructible
-        if (cells[row][column] == TileType.DESTRUCTIBLE) {
-            cells[row][column] = TileType.EMPTY;
+        if (tileAt(column, row) == TileType.DESTRUCTIBLE) {
+            setTile(column, row, TileType.EMPTY);
             
             // ✨ **NOUVEAU** : Notifier le listener de la destruction du bloc
             if (destructibleBlockListener != null) {
@@ -440,11 +723,10 @@ public class Grid {
             }
             
             // Vérifier s'il y avait un power-up caché
-            String key = column + "," + row;
-            PowerUpType powerUpType = hiddenPowerUps.remove(key);
+            PowerUpType powerUpType = takeHiddenPowerUp(cellIndex(column, row));
             
             if (powerUpType != null) {
-                System.out.println("Power-up " + powerUpType + " révélé à la position (" + column + ", " + row + ")");
+                GameLog.info(LOG_CATEGORY, "Power-up " + powerUpType + " révélé à la position (" + column + ", " + row + ")");
             }
             
             return powerUpType;  // Peut être null si pas de power-up
@@ -460,15 +742,14 @@ public class Grid {
      * @return true si un power-up est caché à cette position
      */
     public boolean hasHiddenPowerUp(int column, int row) {
-        String key = column + "," + row;
-        return hiddenPowerUps.containsKey(key);
+        return getHiddenPowerUpType(column, row) != null;
     }
     
     /**
      * @return Le nombre de power-ups encore cachés dans la grille
      */
     public int getHiddenPowerUpCount() {
-        return hiddenPowerUps.size();
+        return hiddenPowerUpCount;
     }
     
     /**
@@ -478,11 +759,113 @@ public class Grid {
      * @return true si l'explosion peut traverser, false sinon
      */
     public boolean canExplosionTraverse(int column, int row) {
-        if (row < 0 || row >= rows || column < 0 || column >= columns) {
-            return false;
+        return (getCellFlags(column, row) & FLAG_BLAST_TRANSPARENT) != 0;
+    }
+    
+    /**
+     * Longueur d'une branche d'explosion : elle s'arrête avant un bloc solide ou le bord de la grille,
+     * et sur un bloc destructible ou la porte de sortie visible (case incluse).
+     * Aucun bloc n'est détruit : l'appelant détruit le bloc destructible en bout de branche.
+     * La branche se lit en un balayage de bits de la ligne ou de la colonne du centre (bitboards des blocs).
+     * @param centerX Colonne du centre de l'explosion
+     * @param centerY Ligne du centre de l'explosion
+     * @param direction Direction de la branche (Explosion.UP, DOWN, LEFT, RIGHT)
+     * @param range Portée de l'explosion
+     * @param exitDoor Porte de sortie (arrête la branche quand elle est visible), peut être null
+     * @return Nombre de cases touchées dans cette direction
+     */
+    public int getBlastArmLength(int centerX, int centerY, int direction, int range, ExitDoor exitDoor) {
+        int length = blockBitboards != null && blockBitboards.rowReads
+                ? blastArmLengthFromBitboards(centerX, centerY, direction, range)
+                : blastArmLengthByCell(centerX, centerY, direction, range);
+        if (exitDoor != null && exitDoor.isVisible()) {
+            int doorDistance = distanceAlongArm(centerX, centerY, direction, exitDoor.getX(), exitDoor.getY());
+            if (doorDistance > 0 && doorDistance < length) {
+                length = doorDistance;
+            }
         }
+        return length;
+    }
+    
+    /**
+     * Branche lue dans les bitboards : distance au premier bloc de la ligne (ou colonne) dans la direction
+     */
+    private int blastArmLengthFromBitboards(int centerX, int centerY, int direction, int range) {
+        boolean vertical = direction == Explosion.UP || direction == Explosion.DOWN;
+        boolean forward = direction == Explosion.DOWN || direction == Explosion.RIGHT;
+        int solid = vertical ? blockBitboards.solidByColumn.getRow(centerX) : blockBitboards.solid.getRow(centerY);
+        int blockers = solid | (vertical
+                ? blockBitboards.destructibleByColumn.getRow(centerX) : blockBitboards.destructible.getRow(centerY));
+        int position = vertical ? centerY : centerX;
         
-        return !getTileType(column, row).blocksExplosion();
+        int blocker = forward ? Bitboard.distanceToNext(blockers, position) : Bitboard.distanceToPrevious(blockers, position);
+        if (blocker == 0 || blocker > range) {
+            int edge = forward ? (vertical ? rows : columns) - 1 - position : position;
+            return Math.min(range, edge);
+        }
+        // Premier bloc à portée : un bloc solide arrête la branche avant lui, un bloc destructible sur lui
+        int blockerPosition = forward ? position + blocker : position - blocker;
+        return (solid & (1 << blockerPosition)) != 0 ? blocker - 1 : blocker;
+    }
+    
+    /**
+     * Branche parcourue case par case (grille trop large pour lire une ligne de bitboard dans un int)
+     */
+    private int blastArmLengthByCell(int centerX, int centerY, int direction, int range) {
+        int dx = direction == Explosion.LEFT ? -1 : direction == Explosion.RIGHT ? 1 : 0;
+        int dy = direction == Explosion.UP ? -1 : direction == Explosion.DOWN ? 1 : 0;
+        for (int i = 1; i <= range; i++) {
+            int column = centerX + dx * i;
+            int row = centerY + dy * i;
+            if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                return i - 1;
+            }
+            int cellFlags = flags[cellIndex(column, row)];
+            if ((cellFlags & FLAG_BLAST_TRANSPARENT) == 0) {
+                return (cellFlags & FLAG_DESTRUCTIBLE) != 0 ? i : i - 1;
+            }
+        }
+        return range;
+    }
+    
+    /**
+     * @return Distance de la case (x, y) au centre si elle est sur la branche, 0 sinon
+     */
+    private static int distanceAlongArm(int centerX, int centerY, int direction, int x, int y) {
+        switch (direction) {
+            case Explosion.UP: return x == centerX ? Math.max(0, centerY - y) : 0;
+            case Explosion.DOWN: return x == centerX ? Math.max(0, y - centerY) : 0;
+            case Explosion.LEFT: return y == centerY ? Math.max(0, centerX - x) : 0;
+            default: return y == centerY ? Math.max(0, x - centerX) : 0;
+        }
+    }
+    
+    /**
+     * Remplit un bitboard avec les cases accessibles de la grille (ni bloc solide ni bloc destructible)
+     * @param destination Bitboard aux dimensions de la grille
+     */
+    public void copyWalkableCells(Bitboard destination) {
+        if (blockBitboards != null) {
+            destination.fill();
+            destination.andNot(blockBitboards.solid);
+            destination.andNot(blockBitboards.destructible);
+            return;
+        }
+        destination.clearAll();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if ((flags[cellIndex(column, row)] & FLAG_WALKABLE) != 0) {
+                    destination.set(column, row);
+                }
+            }
+        }
+    }
+    
+    /**
+     * @return Compteur incrémenté à chaque modification d'une case (bloc détruit)
+     */
+    public int getVersion() {
+        return version;
     }
     
     /**
@@ -499,6 +882,23 @@ public class Grid {
         return rows;
     }
     
+    /**
+     * ✨ **NOUVEAU** : Case de départ d'un joueur sur cette grille
+     * @param player Index du joueur (0 à 3)
+     * @return Colonne de départ
+     */
+    public int getSpawnX(int player) {
+        return spawns[2 * player];
+    }
+    
+    /**
+     * @param player Index du joueur (0 à 3)
+     * @return Ligne de départ
+     */
+    public int getSpawnY(int player) {
+        return spawns[2 * player + 1];
+    }
+    
     /**
      * Obtient le type de power-up caché à la position donnée (sans le révéler)
      * @param column Colonne (x)
@@ -506,19 +906,86 @@ public class Grid {
      * @return Le type de power-up ou null si aucun
      */
     public PowerUpType getHiddenPowerUpType(int column, int row) {
-        String key = column + "," + row;
-        return hiddenPowerUps.get(key);
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return null;
+        }
+        return hiddenPowerUpAt(cellIndex(column, row));
     }
     
     /**
-     * Retire un power-up caché de la map (utilisé après révélation)
+     * Retire un power-up caché de la grille (utilisé après révélation)
      * @param column Colonne (x)
      * @param row Ligne (y)
      * @return Le type de power-up retiré ou null si aucun
      */
     public PowerUpType removeHiddenPowerUp(int column, int row) {
-        String key = column + "," + row;
-        return hiddenPowerUps.remove(key);
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return null;
+        }
+        return takeHiddenPowerUp(cellIndex(column, row));
+    }
+    
+    /**
+     * Interface de notification des blocs destructibles atteints par une explosion
+     */
+    @FunctionalInterface
+    public interface BlastRevealListener {
+        /**
+         * @param column Colonne du bloc destructible atteint
+         * @param row Ligne du bloc destructible atteint
+         * @param hiddenPowerUp Le power-up qui y était caché (déjà retiré de la grille), ou null
+         */
+        void onBlockReached(int column, int row, PowerUpType hiddenPowerUp);
+    }
+    
+    /**
+     * Révèle en une passe le contenu de tous les blocs destructibles qu'une explosion va atteindre :
+     * le centre et le premier bloc destructible de chaque branche (les blocs solides arrêtent la branche).
+     * Les power-ups cachés de ces blocs sont retirés de la grille et transmis au listener.
+     * Doit être appelé avant la création de l'explosion, qui détruit les blocs.
+     * @param centerX Colonne du centre de l'explosion
+     * @param centerY Ligne du centre de l'explosion
+     * @param range Portée de l'explosion
+     * @param listener Listener appelé pour chaque bloc destructible atteint
+     * @return Le nombre de blocs destructibles atteints
+     */
+    public int revealInFootprint(int centerX, int centerY, int range, BlastRevealListener listener) {
+        if (centerY < 0 || centerY >= rows || centerX < 0 || centerX >= columns) {
+            return 0;
+        }
+        
+        int reached = revealBlockAt(centerX, centerY, listener);
+        for (int direction = Explosion.UP; direction <= Explosion.RIGHT; direction++) {
+            reached += revealFirstBlockInArm(centerX, centerY, direction, range, listener);
+        }
+        return reached;
+    }
+    
+    /**
+     * Révèle le bloc destructible qui termine une branche de l'explosion, s'il y en a un
+     * @return 1 si un bloc destructible a été atteint, 0 sinon
+     */
+    private int revealFirstBlockInArm(int centerX, int centerY, int direction, int range, BlastRevealListener listener) {
+        int length = getBlastArmLength(centerX, centerY, direction, range, null);
+        if (length == 0) {
+            return 0;
+        }
+        int column = centerX + (direction == Explosion.LEFT ? -length : direction == Explosion.RIGHT ? length : 0);
+        int row = centerY + (direction == Explosion.UP ? -length : direction == Explosion.DOWN ? length : 0);
+        return revealBlockAt(column, row, listener);
+    }
+    
+    /**
+     * Révèle le contenu d'une case si elle contient un bloc destructible
+     * @return 1 si la case est un bloc destructible, 0 sinon
+     */
+    private int revealBlockAt(int column, int row, BlastRevealListener listener) {
+        int index = cellIndex(column, row);
+        if ((flags[index] & FLAG_DESTRUCTIBLE) == 0) {
+            return 0;
+        }
+        listener.onBlockReached(column, row, takeHiddenPowerUp(index));
+        return 1;
     }
     
     /**
@@ -528,4 +995,181 @@ public class Grid {
     public void setDestructibleBlockListener(DestructibleBlockListener listener) {
         this.destructibleBlockListener = listener;
     }
-} 
\ No newline at end of file
+    
+    // ========== BITBOARDS ==========
+    
+    /**
+     * Blocs solides et destructibles en bitboards, par lignes et par colonnes (bitboards transposés :
+     * la ligne x du bitboard contient la colonne x de la grille). Chaque branche d'explosion se lit
+     * ainsi dans une seule ligne de bits, quelle que soit sa direction, tant que les lignes et les
+     * colonnes tiennent dans un int (rowReads) ; au-delà, les branches sont parcourues case par case.
+     */
+    private static final class BlockBitboards {
+        private final Bitboard solid;
+        private final Bitboard destructible;
+        private final Bitboard solidByColumn;
+        private final Bitboard destructibleByColumn;
+        private final boolean rowReads;
+        
+        private BlockBitboards(int columns, int rows) {
+            this.solid = new Bitboard(columns, rows);
+            this.destructible = new Bitboard(columns, rows);
+            this.solidByColumn = new Bitboard(rows, columns);
+            this.destructibleByColumn = new Bitboard(rows, columns);
+            this.rowReads = columns <= Bitboard.MAX_ROW_COLUMNS && rows <= Bitboard.MAX_ROW_COLUMNS;
+        }
+        
+        /**
+         * @return Les bitboards d'une grille de ces dimensions, ou null si elle est trop grande
+         */
+        static BlockBitboards create(int columns, int rows) {
+            return Bitboard.fits(columns, rows) && Bitboard.fits(rows, columns) ? new BlockBitboards(columns, rows) : null;
+        }
+        
+        void update(int column, int row, TileType type) {
+            update(solid, solidByColumn, column, row, type == TileType.SOLID);
+            update(destructible, destructibleByColumn, column, row, type == TileType.DESTRUCTIBLE);
+        }
+        
+        private static void update(Bitboard byRow, Bitboard byColumn, int column, int row, boolean present) {
+            if (present) {
+                byRow.set(column, row);
+                byColumn.set(row, column);
+            } else {
+                byRow.clear(column, row);
+                byColumn.clear(row, column);
+            }
+        }
+    }
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit les dimensions, les cases, leurs propriétés et les power-ups cachés (trois octets par case),
+     * ligne par ligne : le format ne dépend pas du découpage en tronçons
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.put((byte) columns).put((byte) rows);
+        GameSnapshot.putCoordinate(buffer, player2SpawnX);
+        GameSnapshot.putCoordinate(buffer, player2SpawnY);
+        for (int spawn : spawns) {
+            GameSnapshot.putCoordinate(buffer, spawn);
+        }
+        for (byte[] layer : new byte[][] {cells, flags, hiddenPowerUps}) {
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column += CHUNK_SIZE) {
+                    buffer.put(layer, cellIndex(column, row), Math.min(CHUNK_SIZE, columns - column));
+                }
+            }
+        }
+        buffer.putInt(hiddenPowerUpCount);
+    }
+    
+    /**
+     * Recrée une grille à partir de l'état écrit par writeState.
+     * Tout l'état est vérifié avant d'être accepté : dimensions de l'arène, codes de case et de power-up,
+     * power-ups cachés seulement dans des blocs destructibles, départs dans la grille.
+     * Les propriétés des cases sont recalculées d'après leurs types, pas relues.
+     * @param buffer Tampon de l'instantané, positionné sur l'état de la grille
+     * @param columns Nombre de colonnes de l'arène de la simulation
+     * @param rows Nombre de lignes de l'arène de la simulation
+     * @param random Flux de génération de la partie (non utilisé par une grille restaurée)
+     * @return La grille restaurée
+     * @throws IllegalArgumentException Si l'état est incohérent
+     */
+    static Grid readState(ByteBuffer buffer, int columns, int rows, RandomGenerator random) {
+        int savedColumns = Byte.toUnsignedInt(buffer.get());
+        int savedRows = Byte.toUnsignedInt(buffer.get());
+        if (savedColumns != columns || savedRows != rows) {
+            throw new IllegalArgumentException("Grille de " + savedColumns + "x" + savedRows
+                    + " dans une arène de " + columns + "x" + rows);
+        }
+        Grid grid = new Grid(columns, rows, random);
+        grid.player2SpawnX = GameSnapshot.getCoordinate(buffer);
+        grid.player2SpawnY = GameSnapshot.getCoordinate(buffer);
+        if (grid.player2SpawnX >= 0 || grid.player2SpawnY >= 0) {
+            grid.requireCell("Départ du joueur 2", grid.player2SpawnX, grid.player2SpawnY);
+        }
+        for (int i = 0; i < grid.spawns.length; i++) {
+            grid.spawns[i] = GameSnapshot.getCoordinate(buffer);
+        }
+        for (int player = 0; player < grid.spawns.length / 2; player++) {
+            grid.requireCell("Départ du joueur " + (player + 1), grid.spawns[2 * player], grid.spawns[2 * player + 1]);
+        }
+        for (byte[] layer : new byte[][] {grid.cells, grid.flags, grid.hiddenPowerUps}) {
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column += CHUNK_SIZE) {
+                    buffer.get(layer, grid.cellIndex(column, row), Math.min(CHUNK_SIZE, columns - column));
+                }
+            }
+        }
+        
+        int hiddenPowerUpCount = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int index = grid.cellIndex(column, row);
+                int tile = Byte.toUnsignedInt(grid.cells[index]);
+                if (tile >= TILE_TYPES.length) {
+                    throw new IllegalArgumentException("Case invalide en (" + column + ", " + row + ") : " + tile);
+                }
+                int powerUp = Byte.toUnsignedInt(grid.hiddenPowerUps[index]);
+                if (powerUp > POWER_UP_TYPES.length) {
+                    throw new IllegalArgumentException("Power-up invalide en (" + column + ", " + row + ") : " + powerUp);
+                }
+                if (powerUp != 0) {
+                    if (TILE_TYPES[tile] != TileType.DESTRUCTIBLE) {
+                        throw new IllegalArgumentException("Power-up hors d'un bloc destructible en (" + column + ", " + row + ")");
+                    }
+                    hiddenPowerUpCount++;
+                }
+            }
+        }
+        grid.hiddenPowerUpCount = buffer.getInt();
+        if (grid.hiddenPowerUpCount != hiddenPowerUpCount) {
+            throw new IllegalArgumentException("Nombre de power-ups cachés incohérent : " + grid.hiddenPowerUpCount
+                    + " pour " + hiddenPowerUpCount + " cases");
+        }
+        // Propriétés recalculées une fois toutes les cases connues (l'ombre dépend de la case du dessus)
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                grid.updateFlags(column, row);
+            }
+        }
+        if (grid.blockBitboards != null) {
+            // Bitboards vides à la création : seules les cases de blocs sont à ajouter
+            for (int row = 0; row < grid.rows; row++) {
+                for (int column = 0; column < grid.columns; column++) {
+                    TileType type = grid.tileAt(column, row);
+                    if (type != TileType.EMPTY) {
+                        grid.blockBitboards.update(column, row, type);
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+    
+    /**
+     * Vérifie qu'une position relue d'un instantané désigne une case de la grille
+     * @param element Élément vérifié (message d'erreur)
+     * @throws IllegalArgumentException Si la position est hors de la grille
+     */
+    void requireCell(String element, int column, int row) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException(element + " hors de la grille : (" + column + ", " + row + ")");
+        }
+    }
+    
+    /**
+     * Vérifie qu'une entité relue d'un instantané occupe une case de la grille hors des blocs solides
+     * @param element Élément vérifié (message d'erreur)
+     * @throws IllegalArgumentException Si la position est hors de la grille ou sur un bloc solide
+     */
+    void requireOpenCell(String element, int column, int row) {
+        requireCell(element, column, row);
+        if (tileAt(column, row) == TileType.SOLID) {
+            throw new IllegalArgumentException(element + " sur un bloc solide en (" + column + ", " + row + ")");
+        }
+    }
+}
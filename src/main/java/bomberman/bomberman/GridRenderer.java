@@ -1,7 +1,9 @@
 package bomberman.bomberman;
 
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
@@ -25,6 +27,8 @@ import java.util.ArrayList;
  */
 public class GridRenderer implements DestructibleBlockListener {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RENDER;
+    
     // Taille d'une cellule en pixels (agrandie x1.5)
     private static final int CELL_SIZE = 48;  // était 32
     
@@ -109,6 +113,31 @@ public class GridRenderer implements DestructibleBlockListener {
     // ✨ **NOUVEAU** : Gestion des blocs destructibles animés
     private DestructibleBlock[][] destructibleBlocks;            // Tableau des blocs destructibles animés
     
+    // ✨ **NOUVEAU** : Couche statique du plateau pré-composée (contours, herbe, ombres, piliers)
+    // Redessinée hors écran et recapturée uniquement quand une case change (bloc détruit, thème) ;
+    // les blocs destructibles, animés en continu, sont dessinés à chaque frame par-dessus l'image
+    private Canvas boardLayer;                 // Canvas hors écran de la taille du plateau
+    private WritableImage boardImage;          // Dernière capture du plateau
+    private boolean[] dirtyCells;              // Cases à redessiner (index ligne * colonnes + colonne)
+    private boolean boardLayerInvalid = true;  // Plateau entier à redessiner
+    private Image renderedContoursImage;       // Sprites du thème utilisés lors du dernier rendu complet
+    private Image renderedPillarImage;
+    
+    // ✨ **NOUVEAU** : Caméra de la zone de jeu. L'arène standard garde son plateau pré-composé ; une arène
+    // personnalisée (jusqu'à 255x255) défile et seules ses cases et entités visibles sont dessinées
+    private final Camera camera;
+    private final boolean standardArena;
+    private boolean worldClipActive;
+    
+    // ✨ **NOUVEAU** : Overlay de performance (temps par phase, rafraîchi périodiquement pour rester lisible)
+    private static final long PROFILER_OVERLAY_REFRESH_NANOS = 500_000_000L;
+    private static final Font PROFILER_FONT = Font.font("Monospaced", FontWeight.NORMAL, 12);
+    private static final Color PROFILER_BACKGROUND_COLOR = Color.web("#000000", 0.7);
+    private static final Color PROFILER_TEXT_COLOR = Color.web("#00FF00");
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private final String[] profilerOverlayLines = new String[FrameProfiler.Phase.values().length + 1];
+    private long profilerOverlayRefreshTime;
+    
     // ✨ **NOUVEAU** : Gestion de l'animation Bomberman
     private BombermanAnimator bombermanAnimator;          // Animateur pour joueur 1
     private BombermanAnimator bombermanAnimator2;         // Animateur pour joueur 2 (mode coopération)
@@ -120,6 +149,7 @@ public class GridRenderer implements DestructibleBlockListener {
     // ✨ **NOUVEAU** : Gestion de l'animation d'explosion
     private List<ExplosionAnimator> explosionAnimators;
     private List<Explosion> trackedExplosions;
+    private final ObjectPool<ExplosionAnimator> explosionAnimatorPool = new ObjectPool<>(ExplosionAnimator::new);
     private int currentExplosionRange = 1; // Portée par défaut
     
     // ✨ **NOUVEAU** : Animateur de porte
@@ -143,6 +173,10 @@ public class GridRenderer implements DestructibleBlockListener {
         this.canvas = canvas;
         this.grid = grid;
         this.gc = canvas.getGraphicsContext2D();
+        int columns = grid != null ? grid.getColumns() : GameSimulation.GRID_COLUMNS;
+        int rows = grid != null ? grid.getRows() : GameSimulation.GRID_ROWS;
+        this.camera = new Camera(0, GRID_VERTICAL_OFFSET, (int) canvas.getWidth(), GAME_AREA_HEIGHT, columns, rows, CELL_SIZE);
+        this.standardArena = columns == GameSimulation.GRID_COLUMNS && rows == GameSimulation.GRID_ROWS;
         
         // Charger l'image d'intro si pas déjà fait
         loadIntroImage();
@@ -188,7 +222,7 @@ public class GridRenderer implements DestructibleBlockListener {
             grid.setDestructibleBlockListener(this);
         }
         
-        System.out.println("GridRenderer initialisé");
+        GameLog.info(LOG_CATEGORY, "GridRenderer initialisé");
     }
     
     /**
@@ -199,9 +233,9 @@ public class GridRenderer implements DestructibleBlockListener {
             try {
                 String imagePath = "/images/intro.png";
                 introImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image d'intro chargée : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image d'intro chargée : " + imagePath);
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image d'intro : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image d'intro : " + e.getMessage());
                 introImage = null;
             }
         }
@@ -218,22 +252,22 @@ public class GridRenderer implements DestructibleBlockListener {
             
             if (currentSprites != null && currentSprites.contoursMap != null) {
                 contoursMapImage = currentSprites.contoursMap;
-                System.out.println("Image des contours chargée depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Image des contours chargée depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
             } else {
                 // Fallback vers l'image par défaut si le SpriteManager n'est pas disponible
                 String imagePath = "/sprites/contours_map_816x624.png";
                 contoursMapImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image des contours chargée par défaut : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image des contours chargée par défaut : " + imagePath);
             }
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image des contours : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image des contours : " + e.getMessage());
             // Fallback final
             try {
                 String imagePath = "/sprites/contours_map_816x624.png";
                 contoursMapImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image des contours chargée en fallback : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image des contours chargée en fallback : " + imagePath);
             } catch (Exception fallbackException) {
-                System.err.println("Erreur critique lors du chargement des contours : " + fallbackException.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des contours : " + fallbackException.getMessage());
                 contoursMapImage = null;
             }
         }
@@ -245,7 +279,7 @@ public class GridRenderer implements DestructibleBlockListener {
     public static void reloadContoursMapImage() {
         contoursMapImage = null; // Forcer le rechargement
         loadContoursMapImage();
-        System.out.println("Contours de la carte rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Contours de la carte rechargés pour le nouveau thème");
     }
     
     /**
@@ -259,13 +293,13 @@ public class GridRenderer implements DestructibleBlockListener {
             
             if (currentSprites != null) {
                 blocNonDestructibleImage = currentSprites.blocNonDestructible;
-                System.out.println("Image des blocs non destructibles chargée depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Image des blocs non destructibles chargée depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
             } else {
                 // Fallback vers l'image par défaut si le SpriteManager n'est pas disponible
                 loadBlocNonDestructibleImageFallback();
             }
             } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des blocs non destructibles depuis le SpriteManager : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des blocs non destructibles depuis le SpriteManager : " + e.getMessage());
             // Fallback final
             loadBlocNonDestructibleImageFallback();
         }
@@ -277,9 +311,9 @@ public class GridRenderer implements DestructibleBlockListener {
     private static void loadBlocNonDestructibleImageFallback() {
         try {
             blocNonDestructibleImage = new Image(GridRenderer.class.getResourceAsStream("/sprites/bloc_non_destructible_48x48.png"));
-            System.out.println("Image des blocs non destructibles chargée en fallback depuis /sprites/");
+            GameLog.info(LOG_CATEGORY, "Image des blocs non destructibles chargée en fallback depuis /sprites/");
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des blocs non destructibles : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des blocs non destructibles : " + fallbackException.getMessage());
                 blocNonDestructibleImage = null;
         }
     }
@@ -293,9 +327,9 @@ public class GridRenderer implements DestructibleBlockListener {
             try {
                 String imagePath = "/sprites/herbe_48x48.png";
                 herbeImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image d'herbe classique chargée : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image d'herbe classique chargée : " + imagePath);
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image d'herbe classique : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image d'herbe classique : " + e.getMessage());
                 herbeImage = null;
             }
         }
@@ -305,9 +339,9 @@ public class GridRenderer implements DestructibleBlockListener {
             try {
                 String imagePath = "/sprites/herbe_with_ombre_bloc_non_destructible_48x48.png";
                 herbeWithOmbreBlocNonDestructibleImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image d'herbe avec ombre bloc non destructible chargée : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image d'herbe avec ombre bloc non destructible chargée : " + imagePath);
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image d'herbe avec ombre bloc non destructible : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image d'herbe avec ombre bloc non destructible : " + e.getMessage());
                 herbeWithOmbreBlocNonDestructibleImage = null;
             }
         }
@@ -317,9 +351,9 @@ public class GridRenderer implements DestructibleBlockListener {
             try {
                 String imagePath = "/sprites/herbe_with_ombre_bloc_destructible_48x48.png";
                 herbeWithOmbreBlocDestructibleImage = new Image(GridRenderer.class.getResourceAsStream(imagePath));
-                System.out.println("Image d'herbe avec ombre bloc destructible chargée : " + imagePath);
+                GameLog.info(LOG_CATEGORY, "Image d'herbe avec ombre bloc destructible chargée : " + imagePath);
             } catch (Exception e) {
-                System.err.println("Erreur lors du chargement de l'image d'herbe avec ombre bloc destructible : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image d'herbe avec ombre bloc destructible : " + e.getMessage());
                 herbeWithOmbreBlocDestructibleImage = null;
             }
         }
@@ -338,13 +372,13 @@ public class GridRenderer implements DestructibleBlockListener {
                 bomb1Image = currentSprites.bomb1;
                 bomb2Image = currentSprites.bomb2;
                 bomb3Image = currentSprites.bomb3;
-                System.out.println("Images des bombes chargées depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Images des bombes chargées depuis le thème : " + spriteManager.getCurrentTheme().getDisplayName());
             } else {
                 // Fallback vers les images par défaut si le SpriteManager n'est pas disponible
                 loadBombImagesFallback();
             }
             } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des bombes depuis le SpriteManager : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des bombes depuis le SpriteManager : " + e.getMessage());
             // Fallback final
             loadBombImagesFallback();
             }
@@ -358,9 +392,9 @@ public class GridRenderer implements DestructibleBlockListener {
             bomb1Image = new Image(GridRenderer.class.getResourceAsStream("/sprites/bomb_1_48x48.png"));
             bomb2Image = new Image(GridRenderer.class.getResourceAsStream("/sprites/bomb_2_48x48.png"));
             bomb3Image = new Image(GridRenderer.class.getResourceAsStream("/sprites/bomb_3_48x48.png"));
-            System.out.println("Images des bombes chargées en fallback depuis /sprites/");
+            GameLog.info(LOG_CATEGORY, "Images des bombes chargées en fallback depuis /sprites/");
         } catch (Exception fallbackException) {
-            System.err.println("Erreur critique lors du chargement des bombes : " + fallbackException.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur critique lors du chargement des bombes : " + fallbackException.getMessage());
             bomb1Image = null;
                 bomb2Image = null;
             bomb3Image = null;
@@ -375,7 +409,7 @@ public class GridRenderer implements DestructibleBlockListener {
         bomb2Image = null;
                 bomb3Image = null;
         loadBombImages();
-        System.out.println("Sprites de bombes rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Sprites de bombes rechargés pour le nouveau thème");
     }
     
     /**
@@ -384,7 +418,7 @@ public class GridRenderer implements DestructibleBlockListener {
     public static void reloadBlocNonDestructibleImage() {
         blocNonDestructibleImage = null; // Forcer le rechargement
         loadBlocNonDestructibleImage();
-        System.out.println("Sprites de blocs non destructibles rechargés pour le nouveau thème");
+        GameLog.info(LOG_CATEGORY, "Sprites de blocs non destructibles rechargés pour le nouveau thème");
     }
     
     /**
@@ -408,13 +442,15 @@ public class GridRenderer implements DestructibleBlockListener {
                     // Créer le bloc destructible avec la bonne version
                     destructibleBlocks[row][col] = DestructibleBlock.createForContext(hasNonDestructibleAbove);
                     
-                    System.out.println("Bloc destructible animé créé à (" + col + ", " + row + ") - Version: " + 
-                                     destructibleBlocks[row][col].getVersion());
+                    if (GameLog.DEBUG_ENABLED) {
+                        GameLog.debug(LOG_CATEGORY, "Bloc destructible animé créé à (" + col + ", " + row + ") - Version: " + 
+                                         destructibleBlocks[row][col].getVersion());
+                    }
                 }
             }
         }
         
-        System.out.println("Initialisation des blocs destructibles animés terminée");
+        GameLog.info(LOG_CATEGORY, "Initialisation des blocs destructibles animés terminée");
     }
     
     /**
@@ -431,8 +467,11 @@ public class GridRenderer implements DestructibleBlockListener {
             // Arrêter l'animation du bloc
             destructibleBlocks[row][column].dispose();
             destructibleBlocks[row][column] = null;
+            invalidateCell(column, row);
             
-            System.out.println("Bloc destructible animé détruit à (" + column + ", " + row + ")");
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "Bloc destructible animé détruit à (" + column + ", " + row + ")");
+            }
         }
     }
     
@@ -449,7 +488,8 @@ public class GridRenderer implements DestructibleBlockListener {
                     }
                 }
             }
-            System.out.println("Toutes les animations de blocs destructibles libérées");
+            invalidateBoard();
+            GameLog.info(LOG_CATEGORY, "Toutes les animations de blocs destructibles libérées");
         }
     }
     
@@ -460,6 +500,8 @@ public class GridRenderer implements DestructibleBlockListener {
     @Override
     public void onBlockDestroyed(int column, int row) {
         destroyDestructibleBlock(column, row);
+        // La case (et l'ombre de la case du dessous) change même sans bloc animé associé
+        invalidateCell(column, row);
     }
     
     /**
@@ -467,33 +509,166 @@ public class GridRenderer implements DestructibleBlockListener {
      * Dessine l'intégralité de la grille sur le canvas (dans la zone de jeu uniquement).
      */
     public void render() {
+        endWorldClip();
+
         // Effacer TOUT le canvas pour éviter les doublons d'ATH
         gc.setFill(EMPTY_COLOR);
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        if (standardArena) {
+            // ✨ **NOUVEAU** : Le plateau statique est pré-composé, seules les cases modifiées sont redessinées
+            updateBoardLayer();
+            gc.drawImage(boardImage, 0, GRID_VERTICAL_OFFSET);
+            if (contoursMapImage != null) {
+                renderDestructibleBlocks(gc, camera.getOriginX(), GRID_VERTICAL_OFFSET);
+            }
+            return;
+        }
+
+        // ✨ **NOUVEAU** : Arène personnalisée : seules les cases visibles par la caméra sont dessinées,
+        // et tout ce qui suit (entités) est découpé à la zone de jeu jusqu'à l'interface
+        gc.save();
+        gc.beginPath();
+        gc.rect(camera.getViewportX(), camera.getViewportY(), camera.getViewportWidth(), camera.getViewportHeight());
+        gc.clip();
+        worldClipActive = true;
+
+        int originX = camera.getOriginX();
+        int originY = camera.getOriginY();
+        for (int row = camera.getFirstVisibleRow(); row <= camera.getLastVisibleRow(); row++) {
+            for (int col = camera.getFirstVisibleColumn(); col <= camera.getLastVisibleColumn(); col++) {
+                renderInteriorCell(gc, col, row, originX, originY);
+            }
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Retire le découpage à la zone de jeu posé par render() sur une arène personnalisée
+     * (à appeler avant de dessiner l'interface)
+     */
+    private void endWorldClip() {
+        if (worldClipActive) {
+            gc.restore();
+            worldClipActive = false;
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Centre la caméra sur les joueurs vivants (sans effet sur l'arène standard, qui tient à l'écran)
+     * @param simulation La simulation affichée
+     */
+    private void followPlayers(GameSimulation simulation) {
+        double sumX = 0;
+        double sumY = 0;
+        int count = 0;
+        FluidMovementPlayer[] players = {simulation.getPlayer(), simulation.getPlayer2(), simulation.getPlayer3(), simulation.getPlayer4()};
+        for (FluidMovementPlayer player : players) {
+            if (player != null && player.isAlive()) {
+                sumX += player.getPixelX();
+                sumY += player.getPixelY();
+                count++;
+            }
+        }
+        if (count == 0) {
+            // Tous les joueurs sont morts : garder le joueur 1 à l'écran pendant son animation
+            FluidMovementPlayer player = simulation.getPlayer();
+            camera.follow(player.getPixelX(), player.getPixelY());
+            return;
+        }
+        camera.follow(sumX / count, sumY / count);
+    }
+    
+    /**
+     * ✨ **NOUVEAU** : Met à jour la couche statique du plateau.
+     * Redessine hors écran les cases invalidées (destruction de bloc, changement de thème) puis recapture
+     * l'image du plateau. Sans changement, rien n'est redessiné ni capturé : l'animation des blocs
+     * destructibles ne passe pas par cette couche (renderDestructibleBlocks).
+     */
+    private void updateBoardLayer() {
+        int columns = grid.getColumns();
+        int rows = grid.getRows();
         
-        // ✨ **NOUVEAU** : Afficher l'image des contours personnalisés en premier
-        if (contoursMapImage != null) {
-            // Dessiner l'image des contours complète à partir de x=0 (pleine largeur de 816px)
-            gc.drawImage(contoursMapImage, 0, GRID_VERTICAL_OFFSET);
-        } else {
-            // Fallback : dessiner les cellules individuellement si l'image n'est pas chargée
-        for (int row = 0; row < grid.getRows(); row++) {
-            for (int col = 0; col < grid.getColumns(); col++) {
-                renderCell(col, row);
+        if (boardLayer == null) {
+            boardLayer = new Canvas(canvas.getWidth(), rows * CELL_SIZE);
+            dirtyCells = new boolean[columns * rows];
+        }
+        GraphicsContext boardGc = boardLayer.getGraphicsContext2D();
+        
+        // Changement de thème : les sprites statiques ont été rechargés
+        if (contoursMapImage != renderedContoursImage || blocNonDestructibleImage != renderedPillarImage) {
+            boardLayerInvalid = true;
+        }
+        
+        boolean changed = false;
+        if (boardLayerInvalid) {
+            boardGc.setFill(EMPTY_COLOR);
+            boardGc.fillRect(0, 0, boardLayer.getWidth(), boardLayer.getHeight());
+            
+            if (contoursMapImage != null) {
+                // Dessiner l'image des contours complète à partir de x=0 (pleine largeur de 816px)
+                boardGc.drawImage(contoursMapImage, 0, 0);
+            } else {
+                // Fallback : dessiner les cellules individuellement si l'image n'est pas chargée
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < columns; col++) {
+                        renderCell(boardGc, col, row, camera.getOriginX(), 0);
+                    }
+                }
+            }
+            
+            java.util.Arrays.fill(dirtyCells, true);
+            renderedContoursImage = contoursMapImage;
+            renderedPillarImage = blocNonDestructibleImage;
+            boardLayerInvalid = false;
+            changed = true;
+        }
+        
+        // Redessiner seulement les cellules intérieures (non-bordures) invalidées
+        for (int row = 1; row < rows - 1; row++) {
+            for (int col = 1; col < columns - 1; col++) {
+                int index = row * columns + col;
+                if (dirtyCells[index]) {
+                    if (contoursMapImage != null) {
+                        renderStaticInteriorCell(boardGc, col, row, camera.getOriginX(), 0);
+                    } else {
+                        renderCell(boardGc, col, row, camera.getOriginX(), 0);
+                    }
+                    dirtyCells[index] = false;
+                    changed = true;
                 }
             }
         }
         
-        // Dessiner seulement les cellules intérieures (non-bordures) par-dessus l'image des contours
-        if (contoursMapImage != null) {
-            for (int row = 1; row < grid.getRows() - 1; row++) {
-                for (int col = 1; col < grid.getColumns() - 1; col++) {
-                    renderInteriorCell(col, row);
-                }
+        if (changed || boardImage == null) {
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(EMPTY_COLOR);
+            boardImage = boardLayer.snapshot(parameters, boardImage);
+        }
+    }
+    
+    /**
+     * ✨ **NOUVEAU** : Invalide une case du plateau pré-composé (et la case du dessous, dont l'ombre dépend)
+     * @param column Position en colonne (x)
+     * @param row Position en ligne (y)
+     */
+    public void invalidateCell(int column, int row) {
+        if (dirtyCells == null || grid == null) {
+            return; // Le plateau n'a pas encore été composé
+        }
+        for (int r = row; r <= row + 1 && r < grid.getRows(); r++) {
+            if (r >= 0 && column >= 0 && column < grid.getColumns()) {
+                dirtyCells[r * grid.getColumns() + column] = true;
             }
         }
     }
     
+    /**
+     * ✨ **NOUVEAU** : Force la recomposition complète du plateau au prochain rendu
+     */
+    public void invalidateBoard() {
+        boardLayerInvalid = true;
+    }
+    
     /**
      * Méthode de rendu avec joueur.
      * Dessine la grille puis le joueur par-dessus avec l'interface utilisateur.
@@ -584,6 +759,7 @@ public class GridRenderer implements DestructibleBlockListener {
         renderPlayer(player, exitDoor);
         
         // Dessiner l'interface utilisateur par-dessus tout (avec high score, niveau et timer)
+        endWorldClip();
         renderUIWithTimer(player, highScore, currentLevel, 0);
         
         // Note: Le message GAME OVER est géré par renderGameOverScreen() appelé depuis Launcher
@@ -630,14 +806,16 @@ public class GridRenderer implements DestructibleBlockListener {
     
     /**
      * Dessine une cellule individuelle de la grille
+     * @param target Contexte graphique cible (canvas principal ou couche du plateau)
      * @param column Position en colonne (x)
      * @param row Position en ligne (y)
+     * @param originX Position horizontale de la première colonne de la grille dans la cible
+     * @param originY Position verticale de la première ligne de la grille dans la cible
      */
-    private void renderCell(int column, int row) {
+    private void renderCell(GraphicsContext target, int column, int row, int originX, int originY) {
         // Calculer la position en pixels avec décalage horizontal et vertical
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
-        int x = (int) (column * CELL_SIZE + horizontalOffset);
-        int y = row * CELL_SIZE + GRID_VERTICAL_OFFSET;
+        int x = column * CELL_SIZE + originX;
+        int y = row * CELL_SIZE + originY;
         
         // Déterminer la couleur selon le type de cellule
         TileType tileType = grid.getTileType(column, row);
@@ -657,78 +835,100 @@ public class GridRenderer implements DestructibleBlockListener {
         }
         
         // Dessiner la cellule
-        gc.setFill(cellColor);
-        gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+        target.setFill(cellColor);
+        target.fillRect(x, y, CELL_SIZE, CELL_SIZE);
     }
     
     /**
      * ✨ **NOUVEAU** : Dessine seulement les cellules intérieures (non-bordures) par-dessus l'image des contours
+     * @param target Contexte graphique cible (canvas principal)
+     * @param column Position en colonne (x)
+     * @param row Position en ligne (y)
+     * @param originX Position horizontale de la première colonne de la grille dans la cible
+     * @param originY Position verticale de la première ligne de la grille dans la cible
+     */
+    private void renderInteriorCell(GraphicsContext target, int column, int row, int originX, int originY) {
+        renderStaticInteriorCell(target, column, row, originX, originY);
+        if (grid.getTileType(column, row) == TileType.DESTRUCTIBLE) {
+            renderDestructibleBlock(target, column, row, column * CELL_SIZE + originX, row * CELL_SIZE + originY);
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Dessine la partie fixe d'une cellule intérieure : herbe (et ombre), pilier.
+     * Un bloc destructible est dessiné à part (renderDestructibleBlock), par-dessus son herbe.
+     * @param target Contexte graphique cible (canvas principal ou couche du plateau)
      * @param column Position en colonne (x)
      * @param row Position en ligne (y)
+     * @param originX Position horizontale de la première colonne de la grille dans la cible
+     * @param originY Position verticale de la première ligne de la grille dans la cible
      */
-    private void renderInteriorCell(int column, int row) {
+    private void renderStaticInteriorCell(GraphicsContext target, int column, int row, int originX, int originY) {
         // Calculer la position en pixels avec décalage horizontal et vertical
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
-        int x = (int) (column * CELL_SIZE + horizontalOffset);
-        int y = row * CELL_SIZE + GRID_VERTICAL_OFFSET;
-        
-        // Déterminer le type de cellule et choisir l'herbe appropriée
-        TileType tileType = grid.getTileType(column, row);
+        int x = column * CELL_SIZE + originX;
+        int y = row * CELL_SIZE + originY;
         
         // ✨ **NOUVEAU** : Dessiner d'abord l'herbe appropriée selon le contexte
-        renderHerbeBackground(column, row, x, y);
+        renderHerbeBackground(target, column, row, x, y);
         
-        // Ensuite dessiner les éléments par-dessus selon le type de cellule
-        switch (tileType) {
-            case DESTRUCTIBLE:
-                // ✨ **NOUVEAU** : Utiliser le sprite animé pour les blocs destructibles
-                if (destructibleBlocks != null && destructibleBlocks[row][column] != null) {
-                    Image currentFrame = destructibleBlocks[row][column].getCurrentFrame();
-                    if (currentFrame != null) {
-                        gc.drawImage(currentFrame, x, y);
-                    } else {
-                        // Fallback : couleur unie si le sprite animé n'est pas disponible
-                        gc.setFill(DESTRUCTIBLE_COLOR);
-                        gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                    }
-                } else {
-                    // Fallback : couleur unie si pas d'animation
-                    gc.setFill(DESTRUCTIBLE_COLOR);
-                    gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
-                }
-                break;
-            case EMPTY:
-                // Rien d'autre à dessiner, l'herbe classique est déjà affichée
-                break;
-            case SOLID:
-                // ✨ **NOUVEAU** : Utiliser le sprite pour les blocs solides intérieurs (piliers)
-                if (blocNonDestructibleImage != null) {
-                    gc.drawImage(blocNonDestructibleImage, x, y);
-                } else {
-                    // Fallback : couleur unie si le sprite n'est pas chargé
-                    gc.setFill(SOLID_COLOR);
-                    gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+        // ✨ **NOUVEAU** : Utiliser le sprite pour les blocs solides intérieurs (piliers)
+        if (grid.getTileType(column, row) == TileType.SOLID) {
+            if (blocNonDestructibleImage != null) {
+                target.drawImage(blocNonDestructibleImage, x, y);
+            } else {
+                // Fallback : couleur unie si le sprite n'est pas chargé
+                target.setFill(SOLID_COLOR);
+                target.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+            }
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Dessine à chaque frame la frame courante de tous les blocs destructibles de l'arène standard,
+     * par-dessus le plateau pré-composé (quelques dizaines de sprites au plus)
+     * @param target Contexte graphique cible (canvas principal)
+     * @param originX Position horizontale de la première colonne de la grille dans la cible
+     * @param originY Position verticale de la première ligne de la grille dans la cible
+     */
+    private void renderDestructibleBlocks(GraphicsContext target, int originX, int originY) {
+        for (int row = 1; row < grid.getRows() - 1; row++) {
+            for (int col = 1; col < grid.getColumns() - 1; col++) {
+                if (grid.getTileType(col, row) == TileType.DESTRUCTIBLE) {
+                    renderDestructibleBlock(target, col, row, col * CELL_SIZE + originX, row * CELL_SIZE + originY);
                 }
-                break;
-            default:
-                // Rien d'autre à dessiner pour les autres cas
-                break;
+            }
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Dessine un bloc destructible : frame courante de son animation, couleur unie sinon
+     */
+    private void renderDestructibleBlock(GraphicsContext target, int column, int row, int x, int y) {
+        Image currentFrame = destructibleBlocks != null && destructibleBlocks[row][column] != null
+            ? destructibleBlocks[row][column].getCurrentFrame()
+            : null;
+        if (currentFrame != null) {
+            target.drawImage(currentFrame, x, y);
+        } else {
+            // Fallback : couleur unie si le sprite animé n'est pas disponible
+            target.setFill(DESTRUCTIBLE_COLOR);
+            target.fillRect(x, y, CELL_SIZE, CELL_SIZE);
         }
     }
     
     /**
      * ✨ **NOUVEAU** : Dessine l'herbe appropriée selon le contexte (case voisine)
+     * @param target Contexte graphique cible
      * @param column Position en colonne de la case à rendre
      * @param row Position en ligne de la case à rendre
      * @param x Position X en pixels
      * @param y Position Y en pixels
      */
-    private void renderHerbeBackground(int column, int row, int x, int y) {
-        // Vérifier s'il y a un bloc non destructible directement au-dessus
-        boolean hasNonDestructibleAbove = row > 0 && grid.getTileType(column, row - 1) == TileType.SOLID;
-        
-        // Vérifier s'il y a un bloc destructible directement au-dessus
-        boolean hasDestructibleAbove = row > 0 && grid.getTileType(column, row - 1) == TileType.DESTRUCTIBLE;
+    private void renderHerbeBackground(GraphicsContext target, int column, int row, int x, int y) {
+        // Ombre projetée par le bloc du dessus (précalculée par la grille)
+        int cellFlags = grid.getCellFlags(column, row);
+        boolean hasNonDestructibleAbove = (cellFlags & Grid.FLAG_SOLID_ABOVE) != 0;
+        boolean hasDestructibleAbove = (cellFlags & Grid.FLAG_DESTRUCTIBLE_ABOVE) != 0;
         
         // Choisir le sprite d'herbe approprié
         Image herbeToUse = null;
@@ -742,11 +942,11 @@ public class GridRenderer implements DestructibleBlockListener {
         
         // Dessiner l'herbe si disponible, sinon utiliser la couleur noire par défaut
         if (herbeToUse != null) {
-            gc.drawImage(herbeToUse, x, y);
+            target.drawImage(herbeToUse, x, y);
         } else {
             // Fallback : couleur noire si aucun sprite d'herbe n'est chargé
-            gc.setFill(EMPTY_COLOR);
-            gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+            target.setFill(EMPTY_COLOR);
+            target.fillRect(x, y, CELL_SIZE, CELL_SIZE);
         }
     }
     
@@ -765,7 +965,7 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     private void renderPlayer(Player player, ExitDoor exitDoor) {
         // Calculer les décalages pour centrer dans la fenêtre
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
 
         // CAS 1 : Le joueur est dans sa séquence de mort.
         if (player.isDying()) {
@@ -773,7 +973,7 @@ public class GridRenderer implements DestructibleBlockListener {
             // Cela ne se produit qu'une seule fois.
             if (!bombermanAnimator.isDead()) {
                 bombermanAnimator.startDeathAnimation(() -> {
-                    System.out.println("💀 Animation de mort terminée pour le joueur (callback GridRenderer)");
+                    GameLog.info(LOG_CATEGORY, "💀 Animation de mort terminée pour le joueur (callback GridRenderer)");
                     // ✨ **CORRIGÉ** : Utiliser la queue des callbacks pour la cohérence avec le mode coopération
                     runNextDeathCallback();
                 });
@@ -789,7 +989,7 @@ public class GridRenderer implements DestructibleBlockListener {
             // Si l'animateur n'est pas déjà en train de jouer l'animation de victoire, on la démarre.
             if (!bombermanAnimator.isWinning()) {
                 bombermanAnimator.startWinAnimation(() -> {
-                    System.out.println("🎉 Animation de victoire terminée pour le joueur (callback GridRenderer)");
+                    GameLog.info(LOG_CATEGORY, "🎉 Animation de victoire terminée pour le joueur (callback GridRenderer)");
                     if (onWinAnimationCompleteCallback != null) {
                         onWinAnimationCompleteCallback.run();
                     }
@@ -827,14 +1027,14 @@ public class GridRenderer implements DestructibleBlockListener {
                 fluidPlayer.getPixelX(),
                 fluidPlayer.getPixelY(),
                 horizontalOffset,
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             bombermanAnimator.setPosition(
                 player.getX(), 
                 player.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         }
         
@@ -843,10 +1043,10 @@ public class GridRenderer implements DestructibleBlockListener {
         if (player instanceof FluidMovementPlayer) {
             FluidMovementPlayer fluidPlayer = (FluidMovementPlayer) player;
             effectX = (int) (fluidPlayer.getRenderX() + horizontalOffset);
-            effectY = (int) (fluidPlayer.getRenderY() + GRID_VERTICAL_OFFSET);
+            effectY = (int) (fluidPlayer.getRenderY() + camera.getOriginY());
         } else {
             effectX = (int) (player.getX() * CELL_SIZE + PLAYER_OFFSET + horizontalOffset);
-            effectY = player.getY() * CELL_SIZE + PLAYER_OFFSET + GRID_VERTICAL_OFFSET;
+            effectY = player.getY() * CELL_SIZE + PLAYER_OFFSET + camera.getOriginY();
         }
         
         // Dessiner les effets et le joueur
@@ -868,7 +1068,7 @@ public class GridRenderer implements DestructibleBlockListener {
                 fluidPlayer.getPixelX(),
                 fluidPlayer.getPixelY(),
                 horizontalOffset,
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             // Fallback pour Player classique
@@ -876,7 +1076,7 @@ public class GridRenderer implements DestructibleBlockListener {
                 player.getX(), 
                 player.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         }
         
@@ -916,7 +1116,7 @@ public class GridRenderer implements DestructibleBlockListener {
         
         // Effet de speed burst : aura jaune clignotante
         if (player.hasSpeedBurst()) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
             boolean shouldGlow = (currentTime / 100) % 2 == 0; // Clignote plus vite
             if (shouldGlow) {
                 gc.setFill(Color.web("#FFFF00", 0.4)); // Jaune semi-transparent
@@ -949,10 +1149,13 @@ public class GridRenderer implements DestructibleBlockListener {
      * @param bomb La bombe à dessiner
      */
     private void renderBomb(Bomb bomb) {
+        if (!camera.isCellVisible(bomb.getX(), bomb.getY())) {
+            return; // Hors de la zone visible (grande arène)
+        }
         // Calculer la position en pixels avec décalage horizontal et vertical
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
         int x = (int) (bomb.getX() * CELL_SIZE + BOMB_OFFSET + horizontalOffset);
-        int y = bomb.getY() * CELL_SIZE + BOMB_OFFSET + GRID_VERTICAL_OFFSET;
+        int y = bomb.getY() * CELL_SIZE + BOMB_OFFSET + camera.getOriginY();
         
         // Obtenir le sprite à afficher selon l'animation de la bombe
         int spriteNumber = bomb.getCurrentSpriteNumber();
@@ -982,7 +1185,7 @@ public class GridRenderer implements DestructibleBlockListener {
             case 3:
                 return bomb3Image;
             default:
-                System.err.println("Numéro de sprite de bombe invalide : " + spriteNumber);
+                GameLog.error(LOG_CATEGORY, "Numéro de sprite de bombe invalide : " + spriteNumber);
                 return bomb2Image; // Fallback sur le sprite 2
         }
     }
@@ -998,8 +1201,10 @@ public class GridRenderer implements DestructibleBlockListener {
         
         // Si pas d'animateur pour cette explosion, en créer un nouveau
         if (animator == null && explosion.isActive()) {
-            System.out.println("🔥 Création nouvelle animation explosion à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ") - Portée: " + currentExplosionRange);
-            animator = new ExplosionAnimator();
+            if (GameLog.DEBUG_ENABLED) {
+                GameLog.debug(LOG_CATEGORY, "🔥 Création nouvelle animation explosion à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ") - Portée: " + currentExplosionRange);
+            }
+            animator = explosionAnimatorPool.acquire();
             animator.startExplosion(explosion, currentExplosionRange); // Utiliser la vraie portée
             explosionAnimators.add(animator);
             trackedExplosions.add(explosion);
@@ -1007,7 +1212,7 @@ public class GridRenderer implements DestructibleBlockListener {
         
         // Rendre l'animation d'explosion si elle existe et est active
         if (animator != null && animator.isActive()) {
-            animator.render(gc, canvas);
+            animator.render(gc, camera);
         }
         // ✨ **MODIFIÉ** : NE PAS utiliser le fallback si l'animateur s'est terminé normalement
         // Cela évite de voir l'ancien rendu rectangulaire après l'animation des sprites
@@ -1019,26 +1224,27 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     private void renderExplosionFallback(Explosion explosion) {
         gc.setFill(EXPLOSION_COLOR);
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
         
-        for (Explosion.ExplosionCell cell : explosion.getAffectedCells()) {
-            int x = (int) (cell.getX() * CELL_SIZE + horizontalOffset);
-            int y = cell.getY() * CELL_SIZE + GRID_VERTICAL_OFFSET;
+        for (int i = 0; i < explosion.getCellCount(); i++) {
+            if (!camera.isCellVisible(explosion.getCellX(i), explosion.getCellY(i))) {
+                continue;
+            }
+            int x = (int) (explosion.getCellX(i) * CELL_SIZE + horizontalOffset);
+            int y = explosion.getCellY(i) * CELL_SIZE + camera.getOriginY();
             gc.fillRect(x, y, CELL_SIZE, CELL_SIZE);
         }
     }
     
     /**
-     * ✨ **MODIFIÉ** : Trouve l'animateur associé à une explosion donnée par position
+     * ✨ **MODIFIÉ** : Trouve l'animateur associé à une explosion donnée
+     * Les explosions étant recyclées par la simulation, on compare l'instance et sa génération
      * @param explosion L'explosion à rechercher
      * @return L'animateur correspondant ou null si non trouvé
      */
     private ExplosionAnimator findAnimatorForExplosion(Explosion explosion) {
         for (int i = 0; i < trackedExplosions.size(); i++) {
-            Explosion tracked = trackedExplosions.get(i);
-            // Comparer par position plutôt que par référence d'objet
-            if (tracked.getCenterX() == explosion.getCenterX() && 
-                tracked.getCenterY() == explosion.getCenterY()) {
+            if (trackedExplosions.get(i) == explosion && explosionAnimators.get(i).isAnimating(explosion)) {
                 return explosionAnimators.get(i);
             }
         }
@@ -1056,17 +1262,23 @@ public class GridRenderer implements DestructibleBlockListener {
              
              // Supprimer immédiatement les animateurs terminés pour éviter le fallback
              if (!animator.isActive()) {
-                 System.out.println("🧹 Nettoyage animateur d'explosion terminé à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ")");
+                 if (GameLog.DEBUG_ENABLED) {
+                     GameLog.debug(LOG_CATEGORY, "🧹 Nettoyage animateur d'explosion terminé à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ")");
+                 }
                  animator.dispose();
                  explosionAnimators.remove(i);
                  trackedExplosions.remove(i);
+                 explosionAnimatorPool.release(animator);
              }
-             // Ou supprimer si l'explosion logique est terminée
-             else if (!explosion.isActive()) {
-                 System.out.println("🧹 Nettoyage explosion logique terminée à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ")");
+             // Ou supprimer si l'explosion logique est terminée (ou a déjà été recyclée)
+             else if (!explosion.isActive() || !animator.isAnimating(explosion)) {
+                 if (GameLog.DEBUG_ENABLED) {
+                     GameLog.debug(LOG_CATEGORY, "🧹 Nettoyage explosion logique terminée à (" + explosion.getCenterX() + ", " + explosion.getCenterY() + ")");
+                 }
                  animator.dispose();
                  explosionAnimators.remove(i);
                  trackedExplosions.remove(i);
+                 explosionAnimatorPool.release(animator);
              }
          }
      }
@@ -1089,15 +1301,18 @@ public class GridRenderer implements DestructibleBlockListener {
         }
         
         // Calculer le décalage horizontal pour centrer la grille
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
         
         // Vérifier si c'est un ennemi avec mouvement fluide
         if (enemy instanceof FluidMovementEnemy) {
             FluidMovementEnemy fluidEnemy = (FluidMovementEnemy) enemy;
+            if (!camera.isVisible(fluidEnemy.getPixelX() - CELL_SIZE, fluidEnemy.getPixelY() - CELL_SIZE, 3 * CELL_SIZE, 3 * CELL_SIZE)) {
+                return; // Hors de la zone visible (grande arène), marge d'une case pour le sprite agrandi
+            }
             
             // Utiliser les coordonnées pixel de l'ennemi fluide
             double pixelX = fluidEnemy.getPixelX() + horizontalOffset;
-            double pixelY = fluidEnemy.getPixelY() + GRID_VERTICAL_OFFSET;
+            double pixelY = fluidEnemy.getPixelY() + camera.getOriginY();
             
             // Mettre à jour la position de l'animateur
             EnemyAnimator animator = fluidEnemy.getAnimator();
@@ -1110,12 +1325,12 @@ public class GridRenderer implements DestructibleBlockListener {
         } else {
             // Mode de rendu classique pour les ennemis non-fluides (fallback)
             int x = (int) (enemy.getX() * CELL_SIZE + ENEMY_OFFSET + horizontalOffset);
-        int y = enemy.getY() * CELL_SIZE + ENEMY_OFFSET + GRID_VERTICAL_OFFSET;
+        int y = enemy.getY() * CELL_SIZE + ENEMY_OFFSET + camera.getOriginY();
         
         // Choisir la couleur selon l'état d'invincibilité
         if (enemy.isInvincible()) {
             // Couleur plus claire pour les ennemis invincibles (effet de clignotement)
-            long currentTime = System.currentTimeMillis();
+            long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
             boolean shouldBlink = (currentTime / 200) % 2 == 0; // Clignotement toutes les 200ms
             
             if (shouldBlink) {
@@ -1138,7 +1353,7 @@ public class GridRenderer implements DestructibleBlockListener {
      * @param row Position en ligne
      */
     public void renderCellAt(int column, int row) {
-        renderCell(column, row);
+        renderCell(gc, column, row, camera.getOriginX(), camera.getOriginY());
     }
     
     /**
@@ -1570,10 +1785,13 @@ public class GridRenderer implements DestructibleBlockListener {
      * @param powerUp Le power-up à dessiner
      */
     private void renderPowerUp(PowerUp powerUp) {
+        if (!camera.isCellVisible(powerUp.getX(), powerUp.getY())) {
+            return; // Hors de la zone visible (grande arène)
+        }
         // Calculer la position en pixels avec décalage horizontal et vertical
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
         int x = (int) (powerUp.getX() * CELL_SIZE + POWER_UP_OFFSET + horizontalOffset);
-        int y = powerUp.getY() * CELL_SIZE + POWER_UP_OFFSET + GRID_VERTICAL_OFFSET;
+        int y = powerUp.getY() * CELL_SIZE + POWER_UP_OFFSET + camera.getOriginY();
         
         // Cas spéciaux pour les power-ups animés : utiliser les sprites animés
         if (powerUp.getType() == PowerUpType.EXPLOSION_EXPANDER) {
@@ -1629,7 +1847,7 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     private void renderStandardPowerUp(PowerUp powerUp, int x, int y) {
         // Effet de pulsation pour attirer l'attention
-        long currentTime = System.currentTimeMillis();
+        long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
         double pulseFactor = 0.8 + 0.2 * Math.sin(currentTime * 0.01); // Pulsation entre 0.8 et 1.0
         
         int pulsedSize = (int) (POWER_UP_SIZE * pulseFactor);
@@ -1705,7 +1923,7 @@ public class GridRenderer implements DestructibleBlockListener {
             notificationTimestamps.remove(0);
         }
         
-        System.out.println("NOTIFICATION: " + message);
+        GameLog.info(LOG_CATEGORY, "NOTIFICATION: " + message);
     }
     
     /**
@@ -1727,10 +1945,13 @@ public class GridRenderer implements DestructibleBlockListener {
      * @param exitDoor La porte de sortie à dessiner
      */
     private void renderExitDoor(ExitDoor exitDoor) {
+        if (!camera.isCellVisible(exitDoor.getX(), exitDoor.getY())) {
+            return; // Hors de la zone visible (grande arène)
+        }
         // Calculer la position en pixels avec décalage horizontal et vertical
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
         int x = exitDoor.getX() * CELL_SIZE + (int) horizontalOffset;
-        int y = exitDoor.getY() * CELL_SIZE + GRID_VERTICAL_OFFSET;
+        int y = exitDoor.getY() * CELL_SIZE + camera.getOriginY();
         
         // Obtenir le sprite actuel de la porte
         Image currentSprite = doorAnimator.getCurrentSprite();
@@ -1738,7 +1959,7 @@ public class GridRenderer implements DestructibleBlockListener {
         if (currentSprite != null && doorAnimator.isReady()) {
             // Effet de brillance pour la porte activée
             if (exitDoor.isActivated()) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
                 double glowIntensity = 0.3 + 0.2 * Math.sin(currentTime / 300.0); // Glow pulsant
                 
                 // Fond doré brillant
@@ -1793,7 +2014,7 @@ public class GridRenderer implements DestructibleBlockListener {
      * Effet visuel pour la porte activée (particules brillantes)
      */
     private void renderDoorActivatedEffect(int x, int y) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = AnimationScheduler.getInstance().currentTimeMillis();
         
         // Créer quelques "particules" brillantes autour de la porte
         for (int i = 0; i < 4; i++) {
@@ -1849,14 +2070,16 @@ public class GridRenderer implements DestructibleBlockListener {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
         
         // Calcul des dimensions de la zone de jeu (grille uniquement, sans l'ATH)
-        double gameAreaWidth = grid.getColumns() * CELL_SIZE;   // 15 * 48 = 720px
-        double gameAreaHeight = grid.getRows() * CELL_SIZE;     // 11 * 48 = 528px
+        // (bornée à l'arène standard : une grande arène défile dans la même zone)
+        double gameAreaWidth = Math.min(grid.getColumns(), GameSimulation.GRID_COLUMNS) * CELL_SIZE;   // 15 * 48 = 720px
+        double gameAreaHeight = Math.min(grid.getRows(), GameSimulation.GRID_ROWS) * CELL_SIZE;        // 11 * 48 = 528px
         double gameAreaX = 0;  // La grille commence à x=0
         double gameAreaY = 0;  // La grille commence à y=0
         
         // Zone du menu pause (centrée par rapport à la zone de jeu uniquement)
+        // Hauteur adaptée au nombre d'options (300px pour les 4 options d'origine)
         double menuWidth = 400;
-        double menuHeight = 300;
+        double menuHeight = Math.max(300, 100 + pauseMenu.getOptions().length * 50);
         double menuX = gameAreaX + (gameAreaWidth - menuWidth) / 2;
         double menuY = gameAreaY + (gameAreaHeight - menuHeight) / 2;
         
@@ -1909,7 +2132,7 @@ public class GridRenderer implements DestructibleBlockListener {
         gc.setLineWidth(1);
         gc.setTextAlign(TextAlignment.LEFT);
         
-        System.out.println("Menu pause affiché (centré sur zone de jeu) - Option sélectionnée : " + options[selectedIndex]);
+        GameLog.info(LOG_CATEGORY, "Menu pause affiché (centré sur zone de jeu) - Option sélectionnée : " + options[selectedIndex]);
     }
     
     /**
@@ -1922,8 +2145,8 @@ public class GridRenderer implements DestructibleBlockListener {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
         
         // Calcul des dimensions de la zone de jeu
-        double gameAreaWidth = grid.getColumns() * CELL_SIZE;   // 720px
-        double gameAreaHeight = grid.getRows() * CELL_SIZE;     // 528px
+        double gameAreaWidth = Math.min(grid.getColumns(), GameSimulation.GRID_COLUMNS) * CELL_SIZE;   // 720px
+        double gameAreaHeight = Math.min(grid.getRows(), GameSimulation.GRID_ROWS) * CELL_SIZE;        // 528px
         double gameAreaX = 0;
         double gameAreaY = 0;
         
@@ -2013,7 +2236,7 @@ public class GridRenderer implements DestructibleBlockListener {
         gc.setLineWidth(1);
         gc.setTextAlign(TextAlignment.LEFT);
         
-        System.out.println("Panneau des commandes affiché");
+        GameLog.info(LOG_CATEGORY, "Panneau des commandes affiché");
     }
     
     /**
@@ -2125,9 +2348,82 @@ public class GridRenderer implements DestructibleBlockListener {
         gc.setLineWidth(1);
         gc.setTextAlign(TextAlignment.LEFT);
         
-        System.out.println("Menu de sélection des thèmes affiché - Thème actuel : " + currentTheme.getDisplayName());
+        GameLog.info(LOG_CATEGORY, "Menu de sélection des thèmes affiché - Thème actuel : " + currentTheme.getDisplayName());
     }
     
+    /**
+     * ✨ **NOUVEAU** : Rendu complet d'une simulation, selon son mode de jeu
+     * (un joueur, coopération / VS machine, ou battle à quatre joueurs)
+     * @param simulation La simulation à afficher
+     * @param highScore Le meilleur score enregistré
+     * @param showExitDoor false pour masquer la porte (démarrage de niveau)
+     */
+    public void render(GameSimulation simulation, int highScore, boolean showExitDoor) {
+        FluidMovementPlayer player = simulation.getPlayer();
+
+        // Nettoyer les animateurs d'explosion terminés et suivre la portée du joueur 1
+        cleanupExplosionAnimators();
+        setExplosionRange(player.getRange());
+
+        followPlayers(simulation);
+
+        List<Bomb> allBombs = simulation.getAllBombs();
+        ExitDoor exitDoor = showExitDoor ? simulation.getExitDoor() : null;
+        int level = simulation.getCurrentLevel();
+        long globalTimeRemaining = simulation.getGlobalTimeRemaining();
+
+        if (simulation.isCooperationMode() || simulation.isVsMachineMode()) {
+            // Coopération ou VS MACHINE : deux joueurs
+            renderCooperation(player, simulation.getPlayer2(), simulation.getEnemies(), allBombs, simulation.getActiveExplosions(),
+                    simulation.getPowerUps(), highScore, level, exitDoor, globalTimeRemaining);
+        } else if (simulation.isBattleMode()) {
+            // Battle : quatre joueurs
+            renderBattle(player, simulation.getPlayer2(), simulation.getPlayer3(), simulation.getPlayer4(), simulation.getEnemies(), allBombs,
+                    simulation.getActiveExplosions(), simulation.getPowerUps(), highScore, level, exitDoor, globalTimeRemaining);
+        } else {
+            // Mode normal : un seul joueur
+            render(player, simulation.getEnemies(), allBombs, simulation.getActiveExplosions(), simulation.getPowerUps(),
+                    highScore, level, exitDoor, globalTimeRemaining);
+        }
+
+        if (profiler.isOverlayVisible()) {
+            renderProfilerOverlay();
+        }
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Dessine l'overlay de performance (p50 / p99 / max de chaque phase, en millisecondes)
+     * en haut à gauche de la zone de jeu
+     */
+    private void renderProfilerOverlay() {
+        long now = System.nanoTime();
+        if (profilerOverlayLines[0] == null || now - profilerOverlayRefreshTime >= PROFILER_OVERLAY_REFRESH_NANOS) {
+            profilerOverlayLines[0] = String.format("%-14s %7s %7s %7s", "Phase (ms)", "p50", "p99", "max");
+            for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+                FrameProfiler.RollingHistogram histogram = profiler.getHistogram(phase);
+                profilerOverlayLines[phase.ordinal() + 1] = String.format("%-14s %7.2f %7.2f %7.2f", phase.getLabel(),
+                        FrameProfiler.toMillis(histogram.getPercentile(50)),
+                        FrameProfiler.toMillis(histogram.getPercentile(99)),
+                        FrameProfiler.toMillis(histogram.getMax()));
+            }
+            profilerOverlayRefreshTime = now;
+        }
+
+        double lineHeight = 15;
+        double x = 8;
+        double y = GRID_VERTICAL_OFFSET + 8;
+        gc.setFill(PROFILER_BACKGROUND_COLOR);
+        gc.fillRect(x, y, 300, lineHeight * profilerOverlayLines.length + 10);
+
+        gc.setFont(PROFILER_FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setFill(PROFILER_TEXT_COLOR);
+        for (int i = 0; i < profilerOverlayLines.length; i++) {
+            gc.fillText(profilerOverlayLines[i], x + 6, y + 5 + lineHeight * (i + 1) - 3);
+        }
+        gc.setFill(UI_TEXT_COLOR);
+    }
+
     /**
      * ⏱️ Méthode de rendu complète avec timer global
      * @param player Le joueur à afficher
@@ -2142,7 +2438,9 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     public void render(Player player, List<Enemy> enemies, List<Bomb> bombs, List<Explosion> explosions, List<PowerUp> powerUps, int highScore, int currentLevel, ExitDoor exitDoor, long globalTimeRemaining) {
         // Dessiner d'abord la grille
+        long phaseStart = profiler.begin();
         render();
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_BACKGROUND, phaseStart);
         
         // Dessiner les explosions en premier (sous les autres éléments)
         if (explosions != null) {
@@ -2185,7 +2483,10 @@ public class GridRenderer implements DestructibleBlockListener {
         renderPlayer(player, exitDoor);
         
         // Dessiner l'interface utilisateur par-dessus tout (avec high score, niveau et timer)
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_ENTITIES, phaseStart);
+        endWorldClip();
         renderUIWithTimer(player, highScore, currentLevel, globalTimeRemaining);
+        profiler.mark(FrameProfiler.Phase.RENDER_UI, phaseStart);
         
         // Note: Le message GAME OVER est géré par renderGameOverScreen() appelé depuis Launcher
         // Pas de double appel ici pour éviter les doublons
@@ -2206,7 +2507,9 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     public void renderCooperation(Player player1, Player player2, List<Enemy> enemies, List<Bomb> bombs, List<Explosion> explosions, List<PowerUp> powerUps, int highScore, int currentLevel, ExitDoor exitDoor, long globalTimeRemaining) {
         // Dessiner d'abord la grille
+        long phaseStart = profiler.begin();
         render();
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_BACKGROUND, phaseStart);
         
         // Dessiner les explosions en premier (sous les autres éléments)
         if (explosions != null) {
@@ -2254,7 +2557,10 @@ public class GridRenderer implements DestructibleBlockListener {
         }
         
         // Dessiner l'interface utilisateur MODE COOPÉRATION par-dessus tout
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_ENTITIES, phaseStart);
+        endWorldClip();
         renderUICooperation(player1, player2, highScore, currentLevel, globalTimeRemaining);
+        profiler.mark(FrameProfiler.Phase.RENDER_UI, phaseStart);
     }
     
     /**
@@ -2490,7 +2796,7 @@ public class GridRenderer implements DestructibleBlockListener {
     public void setDeathAnimationCallback(Runnable callback) {
         if (callback != null) {
             deathAnimationCallbacks.add(callback);
-            System.out.println("📋 Callback de mort ajouté. Total en file: " + deathAnimationCallbacks.size());
+            GameLog.info(LOG_CATEGORY, "📋 Callback de mort ajouté. Total en file: " + deathAnimationCallbacks.size());
         }
         // ✨ **CORRIGÉ** : Ne plus écraser onDeathAnimationCompleteCallback 
         // pour éviter de perdre les callbacks lors de morts quasi-simultanées
@@ -2518,7 +2824,7 @@ public class GridRenderer implements DestructibleBlockListener {
                 exitDoor.getX(), 
                 exitDoor.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             // Fallback : utiliser la position actuelle du joueur si pas de porte
@@ -2528,14 +2834,14 @@ public class GridRenderer implements DestructibleBlockListener {
                     fluidPlayer.getPixelX(),
                     fluidPlayer.getPixelY(),
                     horizontalOffset,
-                    GRID_VERTICAL_OFFSET
+                    camera.getOriginY()
                 );
             } else {
                 bombermanAnimator.setPosition(
                     player.getX(), 
                     player.getY(), 
                     horizontalOffset, 
-                    GRID_VERTICAL_OFFSET
+                    camera.getOriginY()
                 );
             }
         }
@@ -2553,14 +2859,14 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     private void renderPlayerCooperation(Player player, BombermanAnimator animator, boolean isPlayer1, ExitDoor exitDoor) {
         // Calculer les décalages pour centrer dans la fenêtre
-        double horizontalOffset = (canvas.getWidth() - 720) / 2.0;
+        double horizontalOffset = camera.getOriginX();
 
         // CAS 1 : Le joueur est dans sa séquence de mort.
         if (player.isDying()) {
             // Si l'animateur n'est pas déjà en train de jouer l'animation de mort, on la démarre.
             if (!animator.isDead()) {
                 animator.startDeathAnimation(() -> {
-                    System.out.println("💀 Animation de mort terminée pour le " + (isPlayer1 ? "Joueur 1" : "Joueur 2") + " (callback GridRenderer)");
+                    GameLog.info(LOG_CATEGORY, "💀 Animation de mort terminée pour le " + (isPlayer1 ? "Joueur 1" : "Joueur 2") + " (callback GridRenderer)");
                     // ✨ **CORRIGÉ** : Utiliser la queue des callbacks pour éviter les pertes lors de morts simultanées
                     runNextDeathCallback();
                 });
@@ -2576,7 +2882,7 @@ public class GridRenderer implements DestructibleBlockListener {
             // Si l'animateur n'est pas déjà en train de jouer l'animation de victoire, on la démarre.
             if (!animator.isWinning()) {
                 animator.startWinAnimation(() -> {
-                    System.out.println("🎉 Animation de victoire terminée pour le " + (isPlayer1 ? "Joueur 1" : "Joueur 2") + " (callback GridRenderer)");
+                    GameLog.info(LOG_CATEGORY, "🎉 Animation de victoire terminée pour le " + (isPlayer1 ? "Joueur 1" : "Joueur 2") + " (callback GridRenderer)");
                     if (onWinAnimationCompleteCallback != null) {
                         onWinAnimationCompleteCallback.run();
                     }
@@ -2613,14 +2919,14 @@ public class GridRenderer implements DestructibleBlockListener {
                 fluidPlayer.getPixelX(),
                 fluidPlayer.getPixelY(),
                 horizontalOffset,
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             animator.setPosition(
                 player.getX(), 
                 player.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         }
         
@@ -2629,10 +2935,10 @@ public class GridRenderer implements DestructibleBlockListener {
         if (player instanceof FluidMovementPlayer) {
             FluidMovementPlayer fluidPlayer = (FluidMovementPlayer) player;
             effectX = (int) (fluidPlayer.getRenderX() + horizontalOffset);
-            effectY = (int) (fluidPlayer.getRenderY() + GRID_VERTICAL_OFFSET);
+            effectY = (int) (fluidPlayer.getRenderY() + camera.getOriginY());
         } else {
             effectX = (int) (player.getX() * CELL_SIZE + PLAYER_OFFSET + horizontalOffset);
-            effectY = player.getY() * CELL_SIZE + PLAYER_OFFSET + GRID_VERTICAL_OFFSET;
+            effectY = player.getY() * CELL_SIZE + PLAYER_OFFSET + camera.getOriginY();
         }
         
         // Dessiner les effets et le joueur avec une couleur différente selon le joueur
@@ -2663,14 +2969,14 @@ public class GridRenderer implements DestructibleBlockListener {
                 fluidPlayer.getPixelX(),
                 fluidPlayer.getPixelY(),
                 horizontalOffset,
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             animator.setPosition(
                 player.getX(), 
                 player.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         }
         
@@ -2693,14 +2999,14 @@ public class GridRenderer implements DestructibleBlockListener {
                 fluidPlayer.getPixelX(),
                 fluidPlayer.getPixelY(),
                 horizontalOffset,
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         } else {
             animator.setPosition(
                 player.getX(), 
                 player.getY(), 
                 horizontalOffset, 
-                GRID_VERTICAL_OFFSET
+                camera.getOriginY()
             );
         }
         
@@ -2715,15 +3021,15 @@ public class GridRenderer implements DestructibleBlockListener {
     private void runNextDeathCallback() {
         Runnable cb = deathAnimationCallbacks.poll();
         if (cb != null) {
-            System.out.println("🎯 Exécution du callback de mort. Callbacks restants: " + deathAnimationCallbacks.size());
+            GameLog.info(LOG_CATEGORY, "🎯 Exécution du callback de mort. Callbacks restants: " + deathAnimationCallbacks.size());
             try {
             cb.run();
             } catch (Exception e) {
-                System.err.println("❌ Erreur lors de l'exécution du callback de mort: " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "❌ Erreur lors de l'exécution du callback de mort: " + e.getMessage());
                 e.printStackTrace();
             }
         } else {
-            System.out.println("⚠️ Aucun callback de mort en attente dans la queue");
+            GameLog.warn(LOG_CATEGORY, "⚠️ Aucun callback de mort en attente dans la queue");
         }
     }
 
@@ -2744,7 +3050,9 @@ public class GridRenderer implements DestructibleBlockListener {
      */
     public void renderBattle(Player player1, Player player2, Player player3, Player player4, List<Enemy> enemies, List<Bomb> bombs, List<Explosion> explosions, List<PowerUp> powerUps, int highScore, int currentLevel, ExitDoor exitDoor, long globalTimeRemaining) {
         // Dessiner d'abord la grille
+        long phaseStart = profiler.begin();
         render();
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_BACKGROUND, phaseStart);
         
         // Dessiner les explosions en premier (sous les autres éléments)
         if (explosions != null) {
@@ -2798,7 +3106,10 @@ public class GridRenderer implements DestructibleBlockListener {
         }
         
         // Dessiner l'interface utilisateur MODE BATTLE par-dessus tout
+        phaseStart = profiler.mark(FrameProfiler.Phase.RENDER_ENTITIES, phaseStart);
+        endWorldClip();
         renderUIBattle(player1, player2, player3, player4, highScore, currentLevel, globalTimeRemaining);
+        profiler.mark(FrameProfiler.Phase.RENDER_UI, phaseStart);
     }
 
     /**
@@ -0,0 +1,394 @@
+package bomberman.bomberman;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Niveau décrit par des données plutôt que généré : cases, power-ups cachés, porte de sortie,
+ * cases de départ des joueurs et ennemis.
+ *
+ * Un niveau est une vue sur son enregistrement binaire (ByteBuffer) : lu depuis un LevelPack projeté
+ * en mémoire, il n'est pas recopié, et les cases ne sont décodées qu'une à une par le constructeur
+ * Grid(Level, ...), sans allocation par case.
+ *
+ * Format binaire (grand-boutiste) :
+ * - colonnes, lignes (octets non signés)
+ * - porte de sortie : colonne, ligne (GameSnapshot.putCoordinate, 255 = aucune porte)
+ * - départs des joueurs 1 à 4 : colonne, ligne (255 = coin par défaut de l'arène)
+ * - nombre d'ennemis (short non signé) puis colonne, ligne de chaque ennemi
+ * - une case par octet, ligne par ligne : ordinal du TileType sur 2 bits, power-up caché au-dessus
+ *   (0 = aucun, sinon ordinal du PowerUpType + 1)
+ *
+ * Format texte : une ligne de caractères par ligne de la grille (lignes vides et commentaires // ignorés)
+ * - '#' bloc solide, '.' case vide, '+' bloc destructible
+ * - 'B' / 'F' bloc destructible cachant un EXTRA_BOMB / EXPLOSION_EXPANDER
+ * - 'D' bloc destructible cachant la porte de sortie
+ * - '1' à '4' départ d'un joueur, 'E' ennemi (sur une case vide)
+ */
+public class Level {
+
+    /**
+     * Nombre de cases de départ décrites par un niveau
+     */
+    public static final int MAX_PLAYERS = 4;
+
+    // Position des champs dans l'enregistrement binaire
+    private static final int COLUMNS_OFFSET = 0;
+    private static final int ROWS_OFFSET = 1;
+    private static final int EXIT_OFFSET = 2;
+    private static final int SPAWNS_OFFSET = 4;
+    private static final int ENEMY_COUNT_OFFSET = SPAWNS_OFFSET + 2 * MAX_PLAYERS;
+    private static final int HEADER_SIZE = ENEMY_COUNT_OFFSET + 2;
+
+    private static final int TILE_BITS = 2;
+    private static final int TILE_MASK = (1 << TILE_BITS) - 1;
+
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+
+    // Caractères du format texte
+    private static final char SOLID_SYMBOL = '#';
+    private static final char EMPTY_SYMBOL = '.';
+    private static final char DESTRUCTIBLE_SYMBOL = '+';
+    private static final char EXIT_SYMBOL = 'D';
+    private static final char ENEMY_SYMBOL = 'E';
+    private static final String POWER_UP_SYMBOLS = "BF"; // Dans l'ordre de PowerUpType
+    private static final String COMMENT_PREFIX = "//";
+
+    private final ByteBuffer data;
+    private final int columns;
+    private final int rows;
+    private final int enemyCount;
+    private final int tilesOffset;
+
+    /**
+     * Constructeur d'une vue sur un enregistrement binaire
+     * @param data Enregistrement du niveau, de la position 0 à la limite du tampon (non copié)
+     * @throws IllegalArgumentException Si l'enregistrement est tronqué, ses dimensions invalides ou son contenu incohérent
+     */
+    public Level(ByteBuffer data) {
+        if (data.limit() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Niveau tronqué (" + data.limit() + " octets)");
+        }
+        this.data = data;
+        this.columns = Byte.toUnsignedInt(data.get(COLUMNS_OFFSET));
+        this.rows = Byte.toUnsignedInt(data.get(ROWS_OFFSET));
+        this.enemyCount = Short.toUnsignedInt(data.getShort(ENEMY_COUNT_OFFSET));
+        this.tilesOffset = HEADER_SIZE + 2 * enemyCount;
+        if (!GameSimulation.isValidArenaSize(columns) || !GameSimulation.isValidArenaSize(rows)) {
+            throw new IllegalArgumentException("Dimensions de niveau invalides : " + columns + "x" + rows);
+        }
+        if (data.limit() < tilesOffset + columns * rows) {
+            throw new IllegalArgumentException("Niveau tronqué (" + data.limit() + " octets pour " + columns + "x" + rows + ")");
+        }
+        validate();
+    }
+
+    /**
+     * Vérifie tout l'enregistrement à la construction : un niveau accepté ne peut plus échouer pendant la partie.
+     * Codes de case et de power-up connus, power-ups cachés seulement dans des blocs destructibles,
+     * porte dans un bloc destructible, départs et ennemis sur des cases vides de la grille.
+     * @throws IllegalArgumentException Pour la première incohérence rencontrée
+     */
+    private void validate() {
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int code = Byte.toUnsignedInt(tileCode(column, row));
+                if ((code & TILE_MASK) >= TILE_TYPES.length) {
+                    throw new IllegalArgumentException("Case invalide en (" + column + ", " + row + ") : " + (code & TILE_MASK));
+                }
+                int powerUp = code >>> TILE_BITS;
+                if (powerUp > POWER_UP_TYPES.length) {
+                    throw new IllegalArgumentException("Power-up invalide en (" + column + ", " + row + ") : " + powerUp);
+                }
+                if (powerUp != 0 && getTile(column, row) != TileType.DESTRUCTIBLE) {
+                    throw new IllegalArgumentException("Power-up hors d'un bloc destructible en (" + column + ", " + row + ")");
+                }
+            }
+        }
+        if (hasExitDoor() || getExitDoorY() >= 0) {
+            requireTile("Porte de sortie", getExitDoorX(), getExitDoorY(), TileType.DESTRUCTIBLE);
+        }
+        for (int player = 0; player < MAX_PLAYERS; player++) {
+            if (hasSpawn(player) || getSpawnY(player) >= 0) {
+                requireTile("Départ du joueur " + (player + 1), getSpawnX(player), getSpawnY(player), TileType.EMPTY);
+            }
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            requireTile("Ennemi " + (i + 1), getEnemyX(i), getEnemyY(i), TileType.EMPTY);
+        }
+    }
+
+    private void requireTile(String element, int column, int row, TileType expected) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            throw new IllegalArgumentException(element + " hors de la grille : (" + column + ", " + row + ")");
+        }
+        if (getTile(column, row) != expected) {
+            throw new IllegalArgumentException(element + " sur une case " + getTile(column, row) + " en (" + column + ", " + row + ")");
+        }
+    }
+
+    // ========== CONTENU ==========
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @param column Colonne
+     * @param row Ligne
+     * @return Type de la case
+     */
+    public TileType getTile(int column, int row) {
+        return TILE_TYPES[tileCode(column, row) & TILE_MASK];
+    }
+
+    /**
+     * @param column Colonne
+     * @param row Ligne
+     * @return Power-up caché dans la case, null si aucun
+     */
+    public PowerUpType getHiddenPowerUp(int column, int row) {
+        int code = Byte.toUnsignedInt(tileCode(column, row)) >>> TILE_BITS;
+        return code == 0 ? null : POWER_UP_TYPES[code - 1];
+    }
+
+    private byte tileCode(int column, int row) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            throw new IllegalArgumentException("Position hors limites : [" + column + ", " + row + "]");
+        }
+        return data.get(tilesOffset + row * columns + column);
+    }
+
+    /**
+     * @return true si le niveau place la porte de sortie (sinon elle est tirée au hasard)
+     */
+    public boolean hasExitDoor() {
+        return getExitDoorX() >= 0;
+    }
+
+    public int getExitDoorX() {
+        return coordinateAt(EXIT_OFFSET);
+    }
+
+    public int getExitDoorY() {
+        return coordinateAt(EXIT_OFFSET + 1);
+    }
+
+    /**
+     * @param player Index du joueur (0 à 3)
+     * @return true si le niveau fixe la case de départ de ce joueur
+     */
+    public boolean hasSpawn(int player) {
+        return getSpawnX(player) >= 0;
+    }
+
+    /**
+     * @param player Index du joueur (0 à 3)
+     * @return Colonne de départ du joueur, -1 si le niveau ne la fixe pas
+     */
+    public int getSpawnX(int player) {
+        return coordinateAt(SPAWNS_OFFSET + 2 * player);
+    }
+
+    /**
+     * @param player Index du joueur (0 à 3)
+     * @return Ligne de départ du joueur, -1 si le niveau ne la fixe pas
+     */
+    public int getSpawnY(int player) {
+        return coordinateAt(SPAWNS_OFFSET + 2 * player + 1);
+    }
+
+    /**
+     * @return Nombre d'ennemis placés par le niveau
+     */
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public int getEnemyX(int index) {
+        return coordinateAt(HEADER_SIZE + 2 * index);
+    }
+
+    public int getEnemyY(int index) {
+        return coordinateAt(HEADER_SIZE + 2 * index + 1);
+    }
+
+    private int coordinateAt(int offset) {
+        int value = Byte.toUnsignedInt(data.get(offset));
+        return value == 0xFF ? -1 : value;
+    }
+
+    // ========== FORMAT BINAIRE ==========
+
+    /**
+     * @return Taille de l'enregistrement binaire en octets
+     */
+    public int byteSize() {
+        return tilesOffset + columns * rows;
+    }
+
+    /**
+     * Écrit l'enregistrement binaire du niveau
+     * @param buffer Tampon de destination, à sa position courante
+     */
+    public void write(ByteBuffer buffer) {
+        buffer.put(data.slice(0, byteSize()));
+    }
+
+    // ========== FORMAT TEXTE ==========
+
+    /**
+     * Lit un niveau au format texte
+     * @param file Fichier texte (UTF-8)
+     * @return Le niveau
+     * @throws IOException En cas d'erreur de lecture
+     * @throws IllegalArgumentException Si le texte ne décrit pas un niveau valide
+     */
+    public static Level load(Path file) throws IOException {
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lit un niveau au format texte
+     * @param lines Lignes du texte
+     * @return Le niveau
+     * @throws IllegalArgumentException Si le texte ne décrit pas un niveau valide (ligne et caractère en cause)
+     */
+    public static Level parse(List<String> lines) {
+        List<String> map = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX)) {
+                map.add(line);
+                lineNumbers.add(i + 1);
+            }
+        }
+        if (map.isEmpty()) {
+            throw new IllegalArgumentException("Niveau vide");
+        }
+        int columns = map.get(0).length();
+        int rows = map.size();
+        if (!GameSimulation.isValidArenaSize(columns) || !GameSimulation.isValidArenaSize(rows)) {
+            throw new IllegalArgumentException("Dimensions de niveau invalides : " + columns + "x" + rows
+                    + " (impaires, entre " + GameSimulation.MIN_ARENA_SIZE + " et " + GameSimulation.MAX_ARENA_SIZE + ")");
+        }
+
+        // Premier passage : nombre d'ennemis, pour dimensionner l'enregistrement
+        int enemyCount = 0;
+        for (int row = 0; row < rows; row++) {
+            String line = map.get(row);
+            if (line.length() != columns) {
+                throw new IllegalArgumentException("Ligne " + lineNumbers.get(row) + " : " + line.length()
+                        + " caractères au lieu de " + columns);
+            }
+            for (int column = 0; column < columns; column++) {
+                if (line.charAt(column) == ENEMY_SYMBOL) {
+                    enemyCount++;
+                }
+            }
+        }
+
+        ByteBuffer data = ByteBuffer.allocate(HEADER_SIZE + 2 * enemyCount + columns * rows);
+        data.put(COLUMNS_OFFSET, (byte) columns).put(ROWS_OFFSET, (byte) rows);
+        for (int offset = EXIT_OFFSET; offset < ENEMY_COUNT_OFFSET; offset++) {
+            data.put(offset, (byte) 0xFF);
+        }
+        data.putShort(ENEMY_COUNT_OFFSET, (short) enemyCount);
+
+        int enemy = 0;
+        int tilesOffset = HEADER_SIZE + 2 * enemyCount;
+        for (int row = 0; row < rows; row++) {
+            String line = map.get(row);
+            for (int column = 0; column < columns; column++) {
+                char symbol = line.charAt(column);
+                int code;
+                if (symbol == SOLID_SYMBOL) {
+                    code = TileType.SOLID.ordinal();
+                } else if (symbol == DESTRUCTIBLE_SYMBOL) {
+                    code = TileType.DESTRUCTIBLE.ordinal();
+                } else if (symbol == EXIT_SYMBOL) {
+                    if (data.get(EXIT_OFFSET) != (byte) 0xFF) {
+                        throw new IllegalArgumentException("Ligne " + lineNumbers.get(row) + " : deuxième porte de sortie");
+                    }
+                    data.put(EXIT_OFFSET, (byte) column).put(EXIT_OFFSET + 1, (byte) row);
+                    code = TileType.DESTRUCTIBLE.ordinal();
+                } else if (symbol == EMPTY_SYMBOL) {
+                    code = TileType.EMPTY.ordinal();
+                } else if (symbol == ENEMY_SYMBOL) {
+                    data.put(HEADER_SIZE + 2 * enemy, (byte) column).put(HEADER_SIZE + 2 * enemy + 1, (byte) row);
+                    enemy++;
+                    code = TileType.EMPTY.ordinal();
+                } else if (symbol >= '1' && symbol < '1' + MAX_PLAYERS) {
+                    int offset = SPAWNS_OFFSET + 2 * (symbol - '1');
+                    if (data.get(offset) != (byte) 0xFF) {
+                        throw new IllegalArgumentException("Ligne " + lineNumbers.get(row) + " : deuxième départ du joueur " + symbol);
+                    }
+                    data.put(offset, (byte) column).put(offset + 1, (byte) row);
+                    code = TileType.EMPTY.ordinal();
+                } else {
+                    int powerUp = POWER_UP_SYMBOLS.indexOf(symbol);
+                    if (powerUp < 0) {
+                        throw new IllegalArgumentException("Ligne " + lineNumbers.get(row) + ", colonne " + (column + 1)
+                                + " : caractère inconnu '" + symbol + "'");
+                    }
+                    code = TileType.DESTRUCTIBLE.ordinal() | ((powerUp + 1) << TILE_BITS);
+                }
+                data.put(tilesOffset + row * columns + column, (byte) code);
+            }
+        }
+        return new Level(data);
+    }
+
+    /**
+     * @return Le niveau au format texte (relu à l'identique par parse)
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder((columns + 1) * rows);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                text.append(symbolAt(column, row));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    private char symbolAt(int column, int row) {
+        if (column == getExitDoorX() && row == getExitDoorY()) {
+            return EXIT_SYMBOL;
+        }
+        for (int player = 0; player < MAX_PLAYERS; player++) {
+            if (column == getSpawnX(player) && row == getSpawnY(player)) {
+                return (char) ('1' + player);
+            }
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            if (column == getEnemyX(i) && row == getEnemyY(i)) {
+                return ENEMY_SYMBOL;
+            }
+        }
+        PowerUpType powerUp = getHiddenPowerUp(column, row);
+        if (powerUp != null) {
+            return POWER_UP_SYMBOLS.charAt(powerUp.ordinal());
+        }
+        switch (getTile(column, row)) {
+            case SOLID:
+                return SOLID_SYMBOL;
+            case DESTRUCTIBLE:
+                return DESTRUCTIBLE_SYMBOL;
+            default:
+                return EMPTY_SYMBOL;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package bomberman.bomberman;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recueil de niveaux (fichier .bml) lu par projection en mémoire.
+ *
+ * Le fichier est projeté avec FileChannel.map : chaque Level est une vue sur sa portion du fichier, sans copie
+ * ni objet par case. L'ouverture vérifie chaque niveau en un passage séquentiel sur ses octets (coordonnées dans
+ * la grille, codes de case et de power-up connus) : un recueil corrompu est refusé par open(), jamais en cours de partie.
+ *
+ * Format : "BMLV" + version, nombre de niveaux, position de chaque niveau dans le fichier (int),
+ * puis les enregistrements binaires des niveaux (voir Level). Tous les niveaux ont les mêmes dimensions
+ * (celles de la simulation qui les joue).
+ *
+ * Utilisation en ligne de commande :
+ *   LevelPack niveaux.bml niveau1.txt niveau2.txt ...   (compile des niveaux texte en recueil)
+ *   LevelPack niveaux.bml                               (affiche le contenu d'un recueil)
+ */
+public class LevelPack {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+
+    private static final int MAGIC = 0x424D4C56; // "BMLV"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 9;
+
+    private final Level[] levels;
+
+    private LevelPack(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Fichier de niveaux invalide (signature inconnue)");
+        }
+        int version = Byte.toUnsignedInt(buffer.get(4));
+        if (version != VERSION) {
+            throw new IOException("Version de fichier de niveaux non supportée : " + version);
+        }
+        int count = buffer.getInt(5);
+        if (count <= 0 || HEADER_SIZE + 4L * count > buffer.limit()) {
+            throw new IOException("Nombre de niveaux invalide : " + count);
+        }
+
+        levels = new Level[count];
+        for (int i = 0; i < count; i++) {
+            int start = buffer.getInt(HEADER_SIZE + 4 * i);
+            int end = i + 1 < count ? buffer.getInt(HEADER_SIZE + 4 * (i + 1)) : buffer.limit();
+            if (start < HEADER_SIZE + 4 * count || end < start || end > buffer.limit()) {
+                throw new IOException("Position du niveau " + (i + 1) + " invalide : " + start);
+            }
+            try {
+                levels[i] = new Level(buffer.slice(start, end - start));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Niveau " + (i + 1) + " : " + e.getMessage());
+            }
+            if (levels[i].getColumns() != levels[0].getColumns() || levels[i].getRows() != levels[0].getRows()) {
+                throw new IOException("Niveau " + (i + 1) + " de " + levels[i].getColumns() + "x" + levels[i].getRows()
+                        + " dans un recueil de " + levels[0].getColumns() + "x" + levels[0].getRows());
+            }
+        }
+    }
+
+    /**
+     * Ouvre un recueil en le projetant en mémoire (lecture seule)
+     * @param file Fichier .bml
+     * @return Le recueil
+     * @throws IOException En cas d'erreur de lecture ou de fichier invalide
+     */
+    public static LevelPack open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // La projection reste valide après la fermeture du canal
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new LevelPack(buffer);
+        }
+    }
+
+    /**
+     * Écrit un recueil de niveaux
+     * @param file Fichier de destination (répertoires parents créés si besoin)
+     * @param levels Niveaux, tous de mêmes dimensions
+     * @throws IOException En cas d'erreur d'écriture
+     * @throws IllegalArgumentException Si la liste est vide ou les dimensions différentes
+     */
+    public static void write(Path file, List<Level> levels) throws IOException {
+        if (levels.isEmpty()) {
+            throw new IllegalArgumentException("Recueil de niveaux vide");
+        }
+        int size = HEADER_SIZE + 4 * levels.size();
+        for (Level level : levels) {
+            if (level.getColumns() != levels.get(0).getColumns() || level.getRows() != levels.get(0).getRows()) {
+                throw new IllegalArgumentException("Niveaux de dimensions différentes : " + level.getColumns() + "x"
+                        + level.getRows() + " et " + levels.get(0).getColumns() + "x" + levels.get(0).getRows());
+            }
+            size += level.byteSize();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).put((byte) VERSION).putInt(levels.size());
+        int position = HEADER_SIZE + 4 * levels.size();
+        for (Level level : levels) {
+            buffer.putInt(position);
+            position += level.byteSize();
+        }
+        for (Level level : levels) {
+            level.write(buffer);
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, buffer.array());
+    }
+
+    // ========== NIVEAUX ==========
+
+    /**
+     * @return Nombre de niveaux du recueil
+     */
+    public int size() {
+        return levels.length;
+    }
+
+    /**
+     * @param index Index du niveau (0 pour le premier)
+     * @return Le niveau
+     */
+    public Level getLevel(int index) {
+        return levels[index];
+    }
+
+    /**
+     * @param levelNumber Numéro de niveau de la partie (1 pour le premier)
+     * @return Le niveau à jouer, le recueil recommençant au début une fois terminé
+     */
+    public Level getLevelForNumber(int levelNumber) {
+        return levels[(levelNumber - 1) % levels.length];
+    }
+
+    /**
+     * @return Nombre de colonnes des niveaux
+     */
+    public int getColumns() {
+        return levels[0].getColumns();
+    }
+
+    /**
+     * @return Nombre de lignes des niveaux
+     */
+    public int getRows() {
+        return levels[0].getRows();
+    }
+
+    /**
+     * Compile des niveaux texte en recueil, ou affiche le contenu d'un recueil
+     * @param args Fichier .bml, suivi des niveaux texte à compiler
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage : LevelPack <niveaux.bml> [niveau.txt ...]");
+            return;
+        }
+        Path packFile = Paths.get(args[0]);
+
+        if (args.length > 1) {
+            List<Level> levels = new ArrayList<>();
+            for (int i = 1; i < args.length; i++) {
+                try {
+                    levels.add(Level.load(Paths.get(args[i])));
+                } catch (IllegalArgumentException e) {
+                    System.out.println(args[i] + " : " + e.getMessage());
+                    return;
+                }
+            }
+            write(packFile, levels);
+            GameLog.info(LOG_CATEGORY, levels.size() + " niveaux écrits dans " + packFile + " (" + Files.size(packFile) + " octets)");
+        }
+
+        LevelPack pack = open(packFile);
+        System.out.println(packFile + " : " + pack.size() + " niveaux de " + pack.getColumns() + "x" + pack.getRows());
+        for (int i = 0; i < pack.size(); i++) {
+            Level level = pack.getLevel(i);
+            System.out.println("Niveau " + (i + 1) + " : " + level.getEnemyCount() + " ennemis, porte "
+                    + (level.hasExitDoor() ? "(" + level.getExitDoorX() + ", " + level.getExitDoorY() + ")" : "aléatoire"));
+        }
+    }
+}
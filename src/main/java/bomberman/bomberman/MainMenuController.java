@@ -22,6 +22,8 @@ import java.util.ResourceBundle;
  */
 public class MainMenuController implements Initializable {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     @FXML private ImageView backgroundImage;
     @FXML private Label titleLabel;
     @FXML private VBox menuContainer;
@@ -119,7 +121,7 @@ public class MainMenuController implements Initializable {
                 backgroundImage.setSmooth(true);
             }
         } catch (Exception e) {
-            System.out.println("Impossible de charger l'image d'intro : " + e.getMessage());
+            GameLog.info(LOG_CATEGORY, "Impossible de charger l'image d'intro : " + e.getMessage());
         }
     }
     
@@ -191,7 +193,7 @@ public class MainMenuController implements Initializable {
         
         updateButtonStyles();
         playNavigationSound();
-        System.out.println("Navigation vers le haut - Option sélectionnée : " + selectedIndex);
+        GameLog.info(LOG_CATEGORY, "Navigation vers le haut - Option sélectionnée : " + selectedIndex);
     }
     
     /**
@@ -204,7 +206,7 @@ public class MainMenuController implements Initializable {
         
         updateButtonStyles();
         playNavigationSound();
-        System.out.println("Navigation vers le bas - Option sélectionnée : " + selectedIndex);
+        GameLog.info(LOG_CATEGORY, "Navigation vers le bas - Option sélectionnée : " + selectedIndex);
     }
     
     /**
@@ -270,7 +272,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void startNormalGame() {
         playSelectionSound();
-        System.out.println("Démarrage du jeu normal");
+        GameLog.info(LOG_CATEGORY, "Démarrage du jeu normal");
         if (navigationCallback != null) {
             navigationCallback.startNormalGame();
         }
@@ -279,7 +281,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void startCooperation() {
         playSelectionSound();
-        System.out.println("Démarrage du mode coopération");
+        GameLog.info(LOG_CATEGORY, "Démarrage du mode coopération");
         if (navigationCallback != null) {
             navigationCallback.startCooperationMode();
         }
@@ -288,7 +290,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void startBattleMode() {
         playSelectionSound();
-        System.out.println("Démarrage du mode bataille");
+        GameLog.info(LOG_CATEGORY, "Démarrage du mode bataille");
         if (navigationCallback != null) {
             navigationCallback.startBattleMode();
         }
@@ -297,7 +299,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void showThemes() {
         playSelectionSound();
-        System.out.println("Affichage du menu des thèmes");
+        GameLog.info(LOG_CATEGORY, "Affichage du menu des thèmes");
         if (navigationCallback != null) {
             navigationCallback.showThemeMenu();
         }
@@ -306,7 +308,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void startVsMachine() {
         playSelectionSound();
-        System.out.println("Démarrage du mode VS MACHINE");
+        GameLog.info(LOG_CATEGORY, "Démarrage du mode VS MACHINE");
         if (navigationCallback != null) {
             navigationCallback.startVsMachineMode();
         }
@@ -315,7 +317,7 @@ public class MainMenuController implements Initializable {
     @FXML
     private void showProfiles() {
         playSelectionSound();
-        System.out.println("Ouverture du menu des profils");
+        GameLog.info(LOG_CATEGORY, "Ouverture du menu des profils");
         if (navigationCallback != null) {
             navigationCallback.showProfileMenu();
         }
@@ -323,14 +325,14 @@ public class MainMenuController implements Initializable {
     
     @FXML
     private void showPassword() {
-        System.out.println("Affichage du menu password (non implémenté)");
+        GameLog.info(LOG_CATEGORY, "Affichage du menu password (non implémenté)");
         // Fonctionnalité désactivée pour le moment
     }
     
     @FXML
     private void quitGame() {
         playSelectionSound();
-        System.out.println("Quitter le jeu");
+        GameLog.info(LOG_CATEGORY, "Quitter le jeu");
         if (navigationCallback != null) {
             navigationCallback.exitApplication();
         }
@@ -0,0 +1,494 @@
+package bomberman.bomberman;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.input.KeyCode;
+
+/**
+ * Bot de difficulté MCTS : recherche arborescente Monte-Carlo sur des copies de la partie.
+ *
+ * Chaque rollout restaure la position de départ (GameSnapshot, quelques microsecondes) dans une
+ * simulation de prévision, y joue une suite d'actions du bot choisie dans l'arbre (UCB1), la prolonge
+ * par des actions au hasard jusqu'à l'horizon, puis remonte le résultat (vies perdues de part et
+ * d'autre, blocs détruits, distance à l'adversaire) le long du chemin. Une action (direction ou arrêt,
+ * avec ou sans bombe) est tenue pendant un intervalle de décision du bot ; les autres joueurs suivent
+ * la politique de rollout : déplacements au hasard, fuite des flammes annoncées par la carte des dangers.
+ *
+ * La décision n'est appliquée que LATENCY_TICKS ticks après la capture (AIScheduler) : ces ticks sont
+ * d'abord joués une fois, touches inchangées, et la recherche part de la position prévue.
+ *
+ * Parallélisme à la racine : chaque thread construit son propre arbre sur sa propre simulation, sans
+ * rien partager pendant la recherche ; les visites des actions de la racine sont additionnées à la fin.
+ * La recherche s'arrête au budget de temps (la décision dépend alors de la vitesse de la machine, d'où
+ * l'enregistrement des décisions du bot dans les replays) ou au nombre de rollouts (reproductible :
+ * tournoi, benchmarks).
+ */
+public class MctsPlanner {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.AI;
+
+    /**
+     * Ticks entre la capture de la position et l'application de la décision (≈133 ms, budget de temps compris)
+     */
+    public static final int LATENCY_TICKS = 8;
+
+    /**
+     * Nombre de rollouts sans limite : seul le budget de temps arrête la recherche
+     */
+    public static final int UNLIMITED_PLAYOUTS = Integer.MAX_VALUE;
+
+    // Horizon d'un rollout (3 s) : une bombe posée par la première action a explosé et ses flammes sont éteintes
+    private static final int HORIZON_TICKS = (int) (3000 / GameSimulation.TICK_MILLIS);
+
+    // Actions : arrêt ou direction (index 0 à 4), +5 pour poser une bombe avant de bouger
+    private static final KeyCode[] ACTION_KEYS = {null, KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+    private static final int ACTION_COUNT = ACTION_KEYS.length * 2;
+    private static final int[] ACTION_DX = {0, 0, 0, -1, 1};
+    private static final int[] ACTION_DY = {0, -1, 1, 0, 0};
+    private static final KeyCode[] MOVEMENT_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+
+    private static final double EXPLORATION = 0.7;
+    private static final double ROLLOUT_BOMB_CHANCE = 0.1;
+    private static final int MAX_THREADS = 8;
+    private static final int LOG_INTERVAL = 100; // Débit écrit dans le journal toutes les 100 décisions
+
+    // Threads de recherche partagés par tous les planificateurs (démons : ne retiennent pas la fermeture du jeu)
+    private static ExecutorService sharedPool;
+
+    private final int stepTicks;
+    private final long timeBudgetNanos;
+    private final int maxPlayouts;
+    private final Searcher[] searchers;
+
+    // Statistiques (écrites par le thread qui décide, lues par n'importe quel thread)
+    private volatile int decisionCount;
+    private volatile long totalPlayouts;
+    private volatile long totalSearchNanos;
+    private volatile int lastPlayouts;
+
+    /**
+     * Constructeur du planificateur
+     * @param parameters Réglages du bot (intervalle de décision, threads, budget de temps et de rollouts)
+     * @throws IllegalArgumentException Si la recherche n'a ni budget de temps ni nombre maximal de rollouts
+     */
+    public MctsPlanner(AIBot.Parameters parameters) {
+        if (parameters.getSearchTimeMillis() <= 0 && parameters.getSearchPlayouts() == UNLIMITED_PLAYOUTS) {
+            throw new IllegalArgumentException("Recherche MCTS sans budget de temps ni nombre de rollouts");
+        }
+        this.stepTicks = (int) Math.max(1, parameters.getDecisionIntervalMillis() / GameSimulation.TICK_MILLIS);
+        this.timeBudgetNanos = parameters.getSearchTimeMillis() * 1_000_000L;
+        this.maxPlayouts = parameters.getSearchPlayouts();
+        this.searchers = new Searcher[Math.max(1, Math.min(MAX_THREADS, parameters.getSearchThreads()))];
+        for (int i = 0; i < searchers.length; i++) {
+            searchers[i] = new Searcher();
+        }
+    }
+
+    /**
+     * @return Nombre de threads de recherche par défaut : un cœur reste libre pour l'affichage
+     */
+    public static int defaultThreadCount() {
+        return Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    private static synchronized ExecutorService sharedPool() {
+        if (sharedPool == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            sharedPool = Executors.newFixedThreadPool(MAX_THREADS - 1, task -> {
+                Thread thread = new Thread(task, "bomberman-mcts-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sharedPool;
+    }
+
+    // ========== DÉCISION ==========
+
+    /**
+     * Cherche la meilleure action du bot depuis une position de la partie
+     * @param snapshot La position au moment de la capture
+     * @param botIndex Index du joueur du bot dans getPlayers()
+     * @param latencyTicks Ticks joués avant l'application de la décision (touches inchangées)
+     * @param seed Graine des rollouts (même graine et même budget de rollouts : même décision)
+     * @return La décision : direction à tenir et pose d'une bombe
+     */
+    public synchronized AIBot.Decision plan(GameSnapshot snapshot, int botIndex, int latencyTicks, long seed) {
+        long start = System.nanoTime();
+        long deadline = timeBudgetNanos > 0 ? start + timeBudgetNanos : Long.MAX_VALUE;
+
+        GameSnapshot root = searchers[0].predict(snapshot, latencyTicks);
+        if (root == null) {
+            return new AIBot.Decision(null, false);
+        }
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        Future<?>[] futures = new Future<?>[searchers.length];
+        for (int i = 0; i < searchers.length; i++) {
+            Searcher searcher = searchers[i];
+            searcher.reset(seeds.nextLong());
+            int quota = maxPlayouts == UNLIMITED_PLAYOUTS
+                    ? UNLIMITED_PLAYOUTS
+                    : maxPlayouts / searchers.length + (i < maxPlayouts % searchers.length ? 1 : 0);
+            if (i > 0) {
+                futures[i] = sharedPool().submit(() -> searcher.search(root, botIndex, deadline, quota));
+            } else {
+                // Le premier arbre est construit par le thread appelant pendant que les autres travaillent
+                searcher.search(root, botIndex, deadline, quota);
+            }
+        }
+        for (int i = 1; i < futures.length; i++) {
+            try {
+                futures[i].get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Recherche MCTS interrompue", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Échec d'un thread de la recherche MCTS", e.getCause());
+            }
+        }
+
+        // Fusion des racines : l'action la plus visitée, à égalité celle de meilleure moyenne
+        int[] visits = new int[ACTION_COUNT];
+        double[] values = new double[ACTION_COUNT];
+        int playouts = 0;
+        for (Searcher searcher : searchers) {
+            searcher.addRootStatistics(visits, values);
+            playouts += searcher.playouts;
+        }
+        int best = 0;
+        for (int action = 1; action < ACTION_COUNT; action++) {
+            if (visits[action] > visits[best]
+                    || (visits[action] == visits[best] && visits[action] > 0
+                        && values[action] / visits[action] > values[best] / visits[best])) {
+                best = action;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        lastPlayouts = playouts;
+        totalPlayouts += playouts;
+        totalSearchNanos += elapsed;
+        decisionCount++;
+        if (decisionCount % LOG_INTERVAL == 0) {
+            GameLog.info(LOG_CATEGORY, String.format("MCTS : %d décisions, %d rollouts par décision, %.0f rollouts/s",
+                    decisionCount, totalPlayouts / decisionCount, getPlayoutsPerSecond()));
+        }
+        return new AIBot.Decision(ACTION_KEYS[best % ACTION_KEYS.length], best >= ACTION_KEYS.length);
+    }
+
+    /**
+     * Joue l'action d'un joueur pour la durée d'une décision : touche de direction tenue seule, bombe d'abord
+     */
+    private static void play(GameSimulation simulation, FluidMovementPlayer player, int action) {
+        if (!player.isAlive() || player.isDying()) {
+            return;
+        }
+        KeyCode key = ACTION_KEYS[action % ACTION_KEYS.length];
+        for (KeyCode movementKey : MOVEMENT_KEYS) {
+            if (movementKey == key) {
+                player.onKeyPressed(movementKey);
+            } else {
+                player.onKeyReleased(movementKey);
+            }
+        }
+        if (action >= ACTION_KEYS.length) {
+            simulation.tryPlaceBomb(player);
+        }
+    }
+
+    private static void muteForecasts(boolean muted) {
+        GameLog.setThreadMuted(muted);
+        SoundManager.setThreadMuted(muted);
+    }
+
+    // ========== RECHERCHE D'UN THREAD ==========
+
+    /**
+     * Arbre et simulation de prévision d'un thread de recherche.
+     * Arbre stocké à plat : les ACTION_COUNT enfants d'un nœud sont contigus à partir de firstChild.
+     */
+    private final class Searcher {
+        private GameSimulation simulation;
+        private SplittableRandom random;
+
+        private int[] firstChild = new int[1024];
+        private int[] visits = new int[1024];
+        private double[] values = new double[1024];
+        private int nodeCount;
+        private final int[] path = new int[HORIZON_TICKS / stepTicks + 2];
+
+        // Situation des joueurs à la racine, pour mesurer ce que le rollout a changé
+        private int[] rootLives = new int[0];
+        private int rootBotScore;
+
+        private int playouts;
+
+        /**
+         * Restaure la position capturée, joue les ticks de latence et capture la racine de la recherche
+         * @return La racine, ou null si la partie ne continue pas
+         */
+        private GameSnapshot predict(GameSnapshot snapshot, int latencyTicks) {
+            muteForecasts(true);
+            try {
+                prepare(snapshot);
+                snapshot.restore(simulation);
+                simulation.runTicks(latencyTicks);
+                return simulation.isTicking() ? GameSnapshot.capture(simulation) : null;
+            } finally {
+                muteForecasts(false);
+            }
+        }
+
+        private void prepare(GameSnapshot snapshot) {
+            if (simulation == null || simulation.isCooperationMode() != snapshot.isCooperationMode()
+                    || simulation.isBattleMode() != snapshot.isBattleMode()
+                    || simulation.isVsMachineMode() != snapshot.isVsMachineMode()
+                    || simulation.getColumns() != snapshot.getColumns() || simulation.getRows() != snapshot.getRows()) {
+                simulation = snapshot.newSimulation(null);
+                simulation.setBotSuspended(true); // Tous les joueurs sont pilotés par la recherche
+                simulation.detachProfiler();
+            }
+        }
+
+        private void reset(long seed) {
+            random = new SplittableRandom(seed);
+            nodeCount = 1;
+            firstChild[0] = -1;
+            visits[0] = 0;
+            values[0] = 0;
+            playouts = 0;
+        }
+
+        /**
+         * Rollouts depuis la racine jusqu'à l'échéance ou au quota
+         */
+        private void search(GameSnapshot root, int botIndex, long deadline, int quota) {
+            muteForecasts(true);
+            try {
+                prepare(root);
+                root.restore(simulation);
+                List<FluidMovementPlayer> players = simulation.getPlayers();
+                if (rootLives.length != players.size()) {
+                    rootLives = new int[players.size()];
+                }
+                for (int i = 0; i < rootLives.length; i++) {
+                    rootLives[i] = players.get(i).getLives();
+                }
+                rootBotScore = players.get(botIndex).getScore();
+
+                while (playouts < quota && System.nanoTime() < deadline) {
+                    if (playouts > 0) {
+                        root.restore(simulation);
+                    }
+                    playout(botIndex);
+                    playouts++;
+                }
+            } finally {
+                muteForecasts(false);
+            }
+        }
+
+        /**
+         * Un rollout : descente dans l'arbre, ajout d'une feuille, fin de partie au hasard, remontée du résultat
+         */
+        private void playout(int botIndex) {
+            List<FluidMovementPlayer> players = simulation.getPlayers();
+            FluidMovementPlayer bot = players.get(botIndex);
+            int pathLength = 0;
+            int node = 0;
+            boolean inTree = true;
+            int ticks = 0;
+
+            while (ticks < HORIZON_TICKS && simulation.isTicking()) {
+                int action;
+                if (inTree) {
+                    if (firstChild[node] < 0) {
+                        expand(node);
+                    }
+                    int child = select(node);
+                    action = child - firstChild[node];
+                    // Une feuille jamais visitée termine la descente : la suite se joue au hasard
+                    inTree = visits[child] > 0;
+                    path[pathLength++] = child;
+                    node = child;
+                } else {
+                    action = rolloutAction(bot, ROLLOUT_BOMB_CHANCE);
+                }
+                play(simulation, bot, action);
+                for (int i = 0; i < players.size(); i++) {
+                    if (i != botIndex) {
+                        play(simulation, players.get(i), rolloutAction(players.get(i), 0));
+                    }
+                }
+                int played = simulation.runTicks(stepTicks);
+                if (played == 0) {
+                    break;
+                }
+                ticks += played;
+            }
+
+            double reward = evaluate(players, botIndex);
+            visits[0]++;
+            values[0] += reward;
+            for (int i = 0; i < pathLength; i++) {
+                visits[path[i]]++;
+                values[path[i]] += reward;
+            }
+        }
+
+        private void expand(int node) {
+            if (nodeCount + ACTION_COUNT > firstChild.length) {
+                int capacity = firstChild.length * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                visits = Arrays.copyOf(visits, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            firstChild[node] = nodeCount;
+            for (int i = nodeCount; i < nodeCount + ACTION_COUNT; i++) {
+                firstChild[i] = -1;
+                visits[i] = 0;
+                values[i] = 0;
+            }
+            nodeCount += ACTION_COUNT;
+        }
+
+        /**
+         * UCB1 : un enfant jamais visité d'abord, sinon le meilleur compromis moyenne / exploration
+         */
+        private int select(int node) {
+            int first = firstChild[node];
+            double logVisits = Math.log(Math.max(1, visits[node]));
+            int best = first;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int child = first; child < first + ACTION_COUNT; child++) {
+                if (visits[child] == 0) {
+                    return child;
+                }
+                double score = values[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Politique de rollout : fuir vers la case voisine atteinte le plus tard par les flammes si la case
+         * du joueur est menacée, sinon une direction au hasard, parfois avec une bombe
+         */
+        private int rolloutAction(FluidMovementPlayer player, double bombChance) {
+            int x = player.getX();
+            int y = player.getY();
+            DangerMap dangerMap = simulation.getDangerMap();
+            if (dangerMap.isThreatened(x, y)) {
+                int best = 0;
+                long bestTime = dangerMap.getTimeUntilBlast(x, y);
+                for (int direction = 1; direction < ACTION_KEYS.length; direction++) {
+                    int nx = x + ACTION_DX[direction];
+                    int ny = y + ACTION_DY[direction];
+                    long time = dangerMap.getTimeUntilBlast(nx, ny);
+                    if (time > bestTime && simulation.getGrid().isAccessible(nx, ny) && !simulation.isBombAt(nx, ny)) {
+                        best = direction;
+                        bestTime = time;
+                    }
+                }
+                return best;
+            }
+            int direction = random.nextInt(ACTION_KEYS.length);
+            return random.nextDouble() < bombChance ? direction + ACTION_KEYS.length : direction;
+        }
+
+        /**
+         * Valeur de la fin d'un rollout pour le bot, entre 0 (défaite) et 1 (victoire)
+         */
+        private double evaluate(List<FluidMovementPlayer> players, int botIndex) {
+            FluidMovementPlayer winner = simulation.getBattleWinner();
+            if (winner != null) {
+                return winner == players.get(botIndex) ? 1 : 0;
+            }
+            if (simulation.isGameOver()) {
+                return 0.1;
+            }
+
+            FluidMovementPlayer bot = players.get(botIndex);
+            int livesBalance = 0;
+            FluidMovementPlayer closestOpponent = null;
+            for (int i = 0; i < players.size(); i++) {
+                int livesLost = rootLives[i] - players.get(i).getLives() + (players.get(i).isDying() ? 1 : 0);
+                livesBalance += i == botIndex ? -livesLost * (players.size() - 1) : livesLost;
+                if (i != botIndex && players.get(i).isAlive()) {
+                    closestOpponent = players.get(i);
+                }
+            }
+            double value = 0.5 + 0.3 * Math.max(-1, Math.min(1, livesBalance));
+
+            // Départage : blocs détruits et power-ups ramassés, puis rapprochement de l'adversaire
+            int scoreGain = Math.max(0, bot.getScore() - rootBotScore);
+            value += 0.1 * scoreGain / (scoreGain + 50.0);
+            if (closestOpponent != null) {
+                int distance = simulation.getDistanceFieldTo(closestOpponent).getDistance(bot.getX(), bot.getY());
+                value -= 0.1 * Math.min(20, distance) / 20.0;
+            }
+            return value;
+        }
+
+        /**
+         * Ajoute les visites et les valeurs des enfants de la racine de cet arbre
+         */
+        private void addRootStatistics(int[] rootVisits, double[] rootValues) {
+            int first = firstChild[0];
+            if (first < 0) {
+                return;
+            }
+            for (int action = 0; action < ACTION_COUNT; action++) {
+                rootVisits[action] += visits[first + action];
+                rootValues[action] += values[first + action];
+            }
+        }
+    }
+
+    // ========== STATISTIQUES ==========
+
+    /**
+     * @return Nombre de décisions prises
+     */
+    public int getDecisionCount() {
+        return decisionCount;
+    }
+
+    /**
+     * @return Nombre total de rollouts joués, tous threads confondus
+     */
+    public long getTotalPlayouts() {
+        return totalPlayouts;
+    }
+
+    /**
+     * @return Nombre de rollouts de la dernière décision
+     */
+    public int getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    /**
+     * @return Temps total passé à décider, en nanosecondes
+     */
+    public long getTotalSearchNanos() {
+        return totalSearchNanos;
+    }
+
+    /**
+     * @return Débit de la recherche : rollouts joués par seconde de décision, tous threads confondus
+     */
+    public double getPlayoutsPerSecond() {
+        return totalSearchNanos > 0 ? totalPlayouts * 1_000_000_000.0 / totalSearchNanos : 0;
+    }
+}
@@ -0,0 +1,83 @@
+package bomberman.bomberman;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Pool d'objets réutilisables (bombes, explosions, animateurs d'explosion).
+ *
+ * Les objets rendus au pool sont réutilisés par les acquisitions suivantes au lieu d'être
+ * recréés : une fois le pool "chaud", une partie en régime établi n'alloue plus de nouvelles
+ * instances. Les compteurs permettent de le vérifier (getCreatedCount doit se stabiliser).
+ * L'appelant doit réinitialiser l'objet acquis et ne plus l'utiliser après l'avoir rendu.
+ *
+ * @param <T> Type des objets du pool
+ */
+public class ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+
+    // Compteurs d'allocation
+    private long createdCount;
+    private long acquiredCount;
+    private long releasedCount;
+
+    /**
+     * Constructeur du pool
+     * @param factory Création d'une nouvelle instance quand le pool est vide
+     */
+    public ObjectPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return Un objet du pool, ou une nouvelle instance si aucun n'est disponible
+     */
+    public T acquire() {
+        acquiredCount++;
+        T object = idle.pollFirst();
+        if (object == null) {
+            createdCount++;
+            object = factory.get();
+        }
+        return object;
+    }
+
+    /**
+     * Rend un objet au pool pour une réutilisation ultérieure
+     * @param object L'objet qui n'est plus utilisé
+     */
+    public void release(T object) {
+        releasedCount++;
+        idle.addFirst(object);
+    }
+
+    /**
+     * @return Nombre d'instances réellement créées depuis la création du pool
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * @return Nombre total d'acquisitions (réutilisations comprises)
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * @return Nombre total d'objets rendus au pool
+     */
+    public long getReleasedCount() {
+        return releasedCount;
+    }
+
+    /**
+     * @return Nombre d'objets disponibles dans le pool
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+}
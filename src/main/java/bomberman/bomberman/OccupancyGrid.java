@@ -0,0 +1,305 @@
+package bomberman.bomberman;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index d'occupation de la grille, case par case, pour chaque type d'entité
+ * (bombes, explosions, ennemis, joueurs).
+ *
+ * Chaque couche est un tableau de compteurs indexé par (y * colonnes + x), mis à jour
+ * de façon incrémentale par la simulation quand une entité apparaît, bouge ou disparaît.
+ * Les requêtes de collision deviennent ainsi de simples lectures de tableau, quel que
+ * soit le nombre de bombes ou d'explosions en jeu (Bomb Rain, battle à 4 joueurs...).
+ * Chaque couche est doublée d'un bitboard des cases occupées, pour les parcours par ensembles de cases.
+ *
+ * La dernière case indexée de chaque joueur/ennemi est gardée dans l'entité elle-même (un int), avec le marqueur
+ * de l'index qui l'a écrite : déplacer une entité ne fait aucune allocation ni recherche, et une entité retirée
+ * ne laisse rien dans l'index. Le marqueur change à chaque clear() : les cases écrites avant sont ignorées.
+ */
+public class OccupancyGrid {
+
+    static final int NO_CELL = -1;
+
+    // Marqueurs distincts pour tous les index de toutes les parties (0 = jamais indexée)
+    private static final AtomicInteger STAMPS = new AtomicInteger();
+
+    private final int columns;
+    private final int rows;
+
+    // Couches de compteurs (plusieurs entités peuvent partager une case)
+    private final int[] bombs;
+    private final int[] playerSolidBombs; // Bombes que les joueurs ne peuvent plus traverser
+    private final int[] explosions;
+    private final int[] enemies;
+    private final int[] players;
+
+    // Cases occupées de chaque couche (compteur non nul)
+    private final Bitboard bombCells;
+    private final Bitboard explosionCells;
+    private final Bitboard enemyCells;
+    private final Bitboard playerCells;
+
+    // Bombe posée sur chaque case (une seule bombe par case, voir GameSimulation.isBombAt)
+    private final Bomb[] bombRefs;
+
+    // Compteur des bombes posées/retirées (les champs de distance ne sont recalculés que s'il change)
+    private int bombVersion;
+
+    // Marqueur des cases de joueurs/ennemis écrites par cet index depuis le dernier clear()
+    private int stamp = STAMPS.incrementAndGet();
+
+    /**
+     * Constructeur de l'index d'occupation
+     * @param columns Nombre de colonnes de la grille
+     * @param rows Nombre de lignes de la grille
+     */
+    public OccupancyGrid(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        int size = columns * rows;
+        this.bombs = new int[size];
+        this.playerSolidBombs = new int[size];
+        this.explosions = new int[size];
+        this.enemies = new int[size];
+        this.players = new int[size];
+        this.bombRefs = new Bomb[size];
+        this.bombCells = new Bitboard(columns, rows);
+        this.explosionCells = new Bitboard(columns, rows);
+        this.enemyCells = new Bitboard(columns, rows);
+        this.playerCells = new Bitboard(columns, rows);
+    }
+
+    /**
+     * Vide toutes les couches (nouveau niveau)
+     */
+    public void clear() {
+        Arrays.fill(bombs, 0);
+        Arrays.fill(playerSolidBombs, 0);
+        Arrays.fill(explosions, 0);
+        Arrays.fill(enemies, 0);
+        Arrays.fill(players, 0);
+        Arrays.fill(bombRefs, null);
+        bombCells.clearAll();
+        explosionCells.clearAll();
+        enemyCells.clearAll();
+        playerCells.clearAll();
+        stamp = STAMPS.incrementAndGet();
+        bombVersion++;
+    }
+
+    // ========== MISES À JOUR ==========
+
+    /**
+     * Indexe une bombe qui vient d'être posée
+     * @param bomb La bombe posée
+     */
+    public void addBomb(Bomb bomb) {
+        int index = indexOf(bomb.getX(), bomb.getY());
+        increment(bombs, bombCells, index);
+        bombRefs[index] = bomb;
+        bombVersion++;
+        if (!bomb.canPlayerTraverse()) {
+            playerSolidBombs[index]++;
+        }
+    }
+
+    /**
+     * Signale qu'une bombe est devenue solide pour les joueurs (son poseur a quitté la case)
+     * @param bomb La bombe devenue solide
+     */
+    public void markBombSolid(Bomb bomb) {
+        playerSolidBombs[indexOf(bomb.getX(), bomb.getY())]++;
+    }
+
+    /**
+     * Retire une bombe de l'index (explosion ou nettoyage)
+     * @param bomb La bombe retirée
+     */
+    public void removeBomb(Bomb bomb) {
+        int index = indexOf(bomb.getX(), bomb.getY());
+        decrement(bombs, bombCells, index);
+        bombVersion++;
+        if (bombRefs[index] == bomb) {
+            bombRefs[index] = null;
+        }
+        if (!bomb.canPlayerTraverse()) {
+            playerSolidBombs[index]--;
+        }
+    }
+
+    /**
+     * Indexe toutes les cases touchées par une nouvelle explosion
+     * @param explosion L'explosion créée
+     */
+    public void addExplosion(Explosion explosion) {
+        for (int i = 0; i < explosion.getCellCount(); i++) {
+            increment(explosions, explosionCells, indexOf(explosion.getCellX(i), explosion.getCellY(i)));
+        }
+    }
+
+    /**
+     * Retire de l'index les cases d'une explosion terminée
+     * @param explosion L'explosion terminée
+     */
+    public void removeExplosion(Explosion explosion) {
+        for (int i = 0; i < explosion.getCellCount(); i++) {
+            decrement(explosions, explosionCells, indexOf(explosion.getCellX(i), explosion.getCellY(i)));
+        }
+    }
+
+    /**
+     * Synchronise la case d'un joueur avec sa position et son état courants
+     * @param p Le joueur à synchroniser
+     */
+    public void updatePlayer(Player p) {
+        int newCell = p.isAlive() ? indexOf(p.getX(), p.getY()) : NO_CELL;
+        if (move(players, playerCells, p.getOccupancyCell(stamp), newCell)) {
+            p.setOccupancyCell(stamp, newCell);
+        }
+    }
+
+    /**
+     * Synchronise la case d'un ennemi avec sa position et son état courants
+     * @param enemy L'ennemi à synchroniser
+     */
+    public void updateEnemy(Enemy enemy) {
+        int newCell = enemy.isAlive() ? indexOf(enemy.getX(), enemy.getY()) : NO_CELL;
+        if (move(enemies, enemyCells, enemy.getOccupancyCell(stamp), newCell)) {
+            enemy.setOccupancyCell(stamp, newCell);
+        }
+    }
+
+    /**
+     * Déplace une entité suivie d'une case à l'autre dans sa couche
+     * @return true si la case a changé (à enregistrer dans l'entité)
+     */
+    private boolean move(int[] layer, Bitboard cells, int oldCell, int newCell) {
+        if (oldCell == newCell) {
+            return false;
+        }
+        if (oldCell != NO_CELL) {
+            decrement(layer, cells, oldCell);
+        }
+        if (newCell != NO_CELL) {
+            increment(layer, cells, newCell);
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute une entité au compteur d'une case (la case entre dans le bitboard de la couche)
+     */
+    private void increment(int[] layer, Bitboard cells, int index) {
+        if (layer[index]++ == 0) {
+            cells.set(index % columns, index / columns);
+        }
+    }
+
+    /**
+     * Retire une entité du compteur d'une case (la case sort du bitboard quand il n'y en a plus)
+     */
+    private void decrement(int[] layer, Bitboard cells, int index) {
+        if (--layer[index] == 0) {
+            cells.clear(index % columns, index / columns);
+        }
+    }
+
+    // ========== REQUÊTES ==========
+
+    /**
+     * @return true s'il y a au moins une bombe sur la case
+     */
+    public boolean hasBomb(int x, int y) {
+        return isInside(x, y) && bombs[indexOf(x, y)] > 0;
+    }
+
+    /**
+     * @return La bombe posée sur la case, ou null s'il n'y en a pas
+     */
+    public Bomb getBombAt(int x, int y) {
+        return isInside(x, y) ? bombRefs[indexOf(x, y)] : null;
+    }
+
+    /**
+     * @param isPlayer true pour un joueur (les bombes encore traversables ne bloquent pas), false pour un ennemi
+     * @return true si une bombe bloque le passage sur la case
+     */
+    public boolean isBlockedByBomb(int x, int y, boolean isPlayer) {
+        if (!isInside(x, y)) {
+            return false;
+        }
+        int index = indexOf(x, y);
+        return (isPlayer ? playerSolidBombs[index] : bombs[index]) > 0;
+    }
+
+    /**
+     * @return true si la case est touchée par au moins une explosion active
+     */
+    public boolean isInExplosion(int x, int y) {
+        return isInside(x, y) && explosions[indexOf(x, y)] > 0;
+    }
+
+    /**
+     * @param exclude Joueur à ignorer (peut être null)
+     * @return true si un autre joueur vivant occupe la case
+     */
+    public boolean hasPlayer(int x, int y, Player exclude) {
+        return isInside(x, y) && countExcluding(players, indexOf(x, y), exclude != null ? exclude.getOccupancyCell(stamp) : NO_CELL) > 0;
+    }
+
+    /**
+     * @param exclude Ennemi à ignorer (peut être null)
+     * @return true si un autre ennemi vivant occupe la case
+     */
+    public boolean hasEnemy(int x, int y, Enemy exclude) {
+        return isInside(x, y) && countExcluding(enemies, indexOf(x, y), exclude != null ? exclude.getOccupancyCell(stamp) : NO_CELL) > 0;
+    }
+
+    /**
+     * @return Les cases où au moins une bombe est posée (à ne pas modifier)
+     */
+    public Bitboard getBombCells() {
+        return bombCells;
+    }
+
+    /**
+     * @return Les cases touchées par au moins une explosion active (à ne pas modifier)
+     */
+    public Bitboard getExplosionCells() {
+        return explosionCells;
+    }
+
+    /**
+     * @return Les cases occupées par au moins un ennemi vivant (à ne pas modifier)
+     */
+    public Bitboard getEnemyCells() {
+        return enemyCells;
+    }
+
+    /**
+     * @return Les cases occupées par au moins un joueur vivant (à ne pas modifier)
+     */
+    public Bitboard getPlayerCells() {
+        return playerCells;
+    }
+
+    /**
+     * @return Compteur incrémenté à chaque bombe posée ou retirée
+     */
+    public int getBombVersion() {
+        return bombVersion;
+    }
+
+    private int countExcluding(int[] layer, int index, int excludedCell) {
+        return excludedCell == index ? layer[index] - 1 : layer[index];
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < columns && y >= 0 && y < rows;
+    }
+
+    private int indexOf(int x, int y) {
+        return y * columns + x;
+    }
+}
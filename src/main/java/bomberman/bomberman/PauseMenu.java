@@ -5,6 +5,7 @@ package bomberman.bomberman;
  * Affiche un menu semi-transparent avec options de navigation :
  * - Reprendre
  * - Recommencer 
+ * - Sauvegarder / Charger la partie
  * - Retour au menu principal
  * 
  * Navigation via flèches haut/bas et validation par Entrée.
@@ -12,10 +13,14 @@ package bomberman.bomberman;
  */
 public class PauseMenu {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     // Options du menu pause
     private static final String[] PAUSE_OPTIONS = {
         "REPRENDRE",
         "RECOMMENCER",
+        "SAUVEGARDER",
+        "CHARGER",
         "COMMANDES",
         "RETOUR AU MENU PRINCIPAL"
     };
@@ -37,7 +42,7 @@ public class PauseMenu {
         selectedIndex = (selectedIndex - 1 + PAUSE_OPTIONS.length) % PAUSE_OPTIONS.length;
         // Jouer le son de navigation si disponible
         SoundManager.playEffect("menu_cursor");
-        System.out.println("Menu pause - Navigation vers le haut : " + PAUSE_OPTIONS[selectedIndex]);
+        GameLog.info(LOG_CATEGORY, "Menu pause - Navigation vers le haut : " + PAUSE_OPTIONS[selectedIndex]);
     }
     
     /**
@@ -47,7 +52,7 @@ public class PauseMenu {
         selectedIndex = (selectedIndex + 1) % PAUSE_OPTIONS.length;
         // Jouer le son de navigation si disponible
         SoundManager.playEffect("menu_cursor");
-        System.out.println("Menu pause - Navigation vers le bas : " + PAUSE_OPTIONS[selectedIndex]);
+        GameLog.info(LOG_CATEGORY, "Menu pause - Navigation vers le bas : " + PAUSE_OPTIONS[selectedIndex]);
     }
     
     /**
@@ -61,8 +66,12 @@ public class PauseMenu {
             case 1:
                 return PauseAction.RESTART;
             case 2:
-                return PauseAction.COMMANDS;
+                return PauseAction.SAVE;
             case 3:
+                return PauseAction.LOAD;
+            case 4:
+                return PauseAction.COMMANDS;
+            case 5:
                 return PauseAction.MAIN_MENU;
             default:
                 return PauseAction.RESUME;
@@ -98,6 +107,8 @@ public class PauseMenu {
     public enum PauseAction {
         RESUME,     // Reprendre la partie
         RESTART,    // Recommencer la partie
+        SAVE,       // Sauvegarder la partie (instantané)
+        LOAD,       // Reprendre la partie sauvegardée
         COMMANDS,   // Afficher les commandes
         MAIN_MENU   // Retour au menu principal
     }
@@ -20,12 +20,16 @@ import java.util.ResourceBundle;
  */
 public class PauseMenuController implements Initializable {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     // ===== ÉLÉMENTS DU MENU PRINCIPAL =====
     @FXML private VBox mainPauseMenu;
     @FXML private Label pauseTitle;
     @FXML private VBox optionsContainer;
     @FXML private Button resumeButton;
     @FXML private Button restartButton;
+    @FXML private Button saveButton;
+    @FXML private Button loadButton;
     @FXML private Button optionsMenuButton;
     @FXML private Button commandsButton;
     @FXML private Button mainMenuButton;
@@ -33,6 +37,8 @@ public class PauseMenuController implements Initializable {
     // Références aux flèches de sélection du menu principal
     @FXML private Label resumeArrow;
     @FXML private Label restartArrow;
+    @FXML private Label saveArrow;
+    @FXML private Label loadArrow;
     @FXML private Label optionsMenuArrow;
     @FXML private Label commandsArrow;
     @FXML private Label mainMenuArrow;
@@ -105,10 +111,10 @@ public class PauseMenuController implements Initializable {
         Platform.runLater(() -> {
             if (inOptionsMenu) {
                 optionsMenuPanel.requestFocus();
-                System.out.println("Focus initial demandé pour le menu d'options");
+                GameLog.info(LOG_CATEGORY, "Focus initial demandé pour le menu d'options");
             } else {
                 mainPauseMenu.requestFocus();
-                System.out.println("Focus initial demandé pour le menu principal");
+                GameLog.info(LOG_CATEGORY, "Focus initial demandé pour le menu principal");
             }
         });
     }
@@ -121,6 +127,8 @@ public class PauseMenuController implements Initializable {
         mainMenuButtons = new ArrayList<>();
         mainMenuButtons.add(resumeButton);
         mainMenuButtons.add(restartButton);
+        mainMenuButtons.add(saveButton);
+        mainMenuButtons.add(loadButton);
         mainMenuButtons.add(optionsMenuButton);
         mainMenuButtons.add(commandsButton);
         mainMenuButtons.add(mainMenuButton);
@@ -128,6 +136,8 @@ public class PauseMenuController implements Initializable {
         mainMenuArrows = new ArrayList<>();
         mainMenuArrows.add(resumeArrow);
         mainMenuArrows.add(restartArrow);
+        mainMenuArrows.add(saveArrow);
+        mainMenuArrows.add(loadArrow);
         mainMenuArrows.add(optionsMenuArrow);
         mainMenuArrows.add(commandsArrow);
         mainMenuArrows.add(mainMenuArrow);
@@ -270,7 +280,7 @@ public class PauseMenuController implements Initializable {
         selectedIndex = (selectedIndex - 1 + currentButtons.size()) % currentButtons.size();
         updateButtonStyles();
         playNavigationSound();
-        System.out.println((inOptionsMenu ? "Menu options" : "Menu pause") + " - Navigation vers le haut : " + selectedIndex);
+        GameLog.info(LOG_CATEGORY, (inOptionsMenu ? "Menu options" : "Menu pause") + " - Navigation vers le haut : " + selectedIndex);
     }
     
     /**
@@ -281,7 +291,7 @@ public class PauseMenuController implements Initializable {
         selectedIndex = (selectedIndex + 1) % currentButtons.size();
         updateButtonStyles();
         playNavigationSound();
-        System.out.println((inOptionsMenu ? "Menu options" : "Menu pause") + " - Navigation vers le bas : " + selectedIndex);
+        GameLog.info(LOG_CATEGORY, (inOptionsMenu ? "Menu options" : "Menu pause") + " - Navigation vers le bas : " + selectedIndex);
     }
     
     /**
@@ -396,7 +406,7 @@ public class PauseMenuController implements Initializable {
     @FXML
     private void resumeGame() {
         playSelectionSound();
-        System.out.println("Reprise du jeu");
+        GameLog.info(LOG_CATEGORY, "Reprise du jeu");
         if (pauseCallback != null) {
             pauseCallback.resumeGame();
         }
@@ -405,16 +415,34 @@ public class PauseMenuController implements Initializable {
     @FXML
     private void restartGame() {
         playSelectionSound();
-        System.out.println("Redémarrage du jeu");
+        GameLog.info(LOG_CATEGORY, "Redémarrage du jeu");
         if (pauseCallback != null) {
             pauseCallback.restartGame();
         }
     }
     
+    @FXML
+    private void saveGame() {
+        playSelectionSound();
+        GameLog.info(LOG_CATEGORY, "Sauvegarde de la partie");
+        if (pauseCallback != null) {
+            pauseCallback.saveGame();
+        }
+    }
+    
+    @FXML
+    private void loadGame() {
+        playSelectionSound();
+        GameLog.info(LOG_CATEGORY, "Chargement de la partie sauvegardée");
+        if (pauseCallback != null) {
+            pauseCallback.loadGame();
+        }
+    }
+    
     @FXML
     private void showOptionsMenu() {
         playSelectionSound();
-        System.out.println("Affichage du menu d'options");
+        GameLog.info(LOG_CATEGORY, "Affichage du menu d'options");
         inOptionsMenu = true;
         selectedIndex = 0;
         mainPauseMenu.setVisible(false);
@@ -427,7 +455,7 @@ public class PauseMenuController implements Initializable {
     @FXML
     private void showCommands() {
         playSelectionSound();
-        System.out.println("Affichage des commandes");
+        GameLog.info(LOG_CATEGORY, "Affichage des commandes");
         if (pauseCallback != null) {
             pauseCallback.showCommands();
         }
@@ -436,7 +464,7 @@ public class PauseMenuController implements Initializable {
     @FXML
     private void returnToMainMenu() {
         playSelectionSound();
-        System.out.println("Retour au menu principal");
+        GameLog.info(LOG_CATEGORY, "Retour au menu principal");
         if (pauseCallback != null) {
             pauseCallback.returnToMainMenu();
         }
@@ -451,7 +479,7 @@ public class PauseMenuController implements Initializable {
             SoundManager.setMusicVolume(musicVolume);
             updateDisplays();
             playNavigationSound();
-            System.out.println("Volume musique : " + musicVolume + "%");
+            GameLog.info(LOG_CATEGORY, "Volume musique : " + musicVolume + "%");
         }
     }
     
@@ -462,7 +490,7 @@ public class PauseMenuController implements Initializable {
             SoundManager.setMusicVolume(musicVolume);
             updateDisplays();
             playNavigationSound();
-            System.out.println("Volume musique : " + musicVolume + "%");
+            GameLog.info(LOG_CATEGORY, "Volume musique : " + musicVolume + "%");
         }
     }
     
@@ -473,7 +501,7 @@ public class PauseMenuController implements Initializable {
             SoundManager.setEffectsVolume(effectsVolume);
             updateDisplays();
             playNavigationSound();
-            System.out.println("Volume effets : " + effectsVolume + "%");
+            GameLog.info(LOG_CATEGORY, "Volume effets : " + effectsVolume + "%");
         }
     }
     
@@ -484,16 +512,16 @@ public class PauseMenuController implements Initializable {
             SoundManager.setEffectsVolume(effectsVolume);
             updateDisplays();
             playNavigationSound();
-            System.out.println("Volume effets : " + effectsVolume + "%");
+            GameLog.info(LOG_CATEGORY, "Volume effets : " + effectsVolume + "%");
         }
     }
     
     @FXML
     private void backToMainPauseMenu() {
         playSelectionSound();
-        System.out.println("Retour au menu pause principal");
+        GameLog.info(LOG_CATEGORY, "Retour au menu pause principal");
         inOptionsMenu = false;
-        selectedIndex = 2; // Retourner sur le bouton "OPTIONS"
+        selectedIndex = 4; // Retourner sur le bouton "OPTIONS"
         mainPauseMenu.setVisible(true);
         optionsMenuPanel.setVisible(false);
         updateButtonStyles();
@@ -506,6 +534,8 @@ public class PauseMenuController implements Initializable {
     public interface PauseMenuCallback {
         void resumeGame();
         void restartGame();
+        void saveGame();
+        void loadGame();
         void showCommands();
         void returnToMainMenu();
     }
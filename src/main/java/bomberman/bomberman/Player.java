@@ -1,5 +1,8 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * Classe représentant le joueur dans le jeu Bomberman.
  * Stocke la position actuelle du joueur sur la grille et gère ses déplacements.
@@ -9,6 +12,8 @@ package bomberman.bomberman;
  */
 public class Player {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     // Position actuelle du joueur sur la grille (coordonnées logiques)
     private int x;  // Colonne
     private int y;  // Ligne
@@ -60,12 +65,30 @@ public class Player {
     private static final double DEFAULT_SPEED = 1.0;
     private static final int DEFAULT_MAX_LIVES = 6;
     
+    // Horloge du jeu (temps de simulation) pour l'invincibilité et les effets temporaires
+    private final GameClock clock;
+
+    // ✨ **NOUVEAU** : Case où l'OccupancyGrid de la partie compte l'entité, valable pour son marqueur
+    private int occupancyCell = OccupancyGrid.NO_CELL;
+    private int occupancyStamp;
+    
     /**
      * Constructeur du joueur
      * @param startX Position initiale en colonne
      * @param startY Position initiale en ligne
      */
     public Player(int startX, int startY) {
+        this(startX, startY, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur du joueur avec horloge de jeu
+     * @param startX Position initiale en colonne
+     * @param startY Position initiale en ligne
+     * @param clock L'horloge de la simulation
+     */
+    public Player(int startX, int startY, GameClock clock) {
+        this.clock = clock;
         this.x = startX;
         this.y = startY;
         this.currentDirection = "bas"; // Direction par défaut vers le bas
@@ -96,6 +119,13 @@ public class Player {
         this.speed = DEFAULT_SPEED;
     }
     
+    /**
+     * @return L'horloge du jeu utilisée par ce joueur
+     */
+    protected GameClock getClock() {
+        return clock;
+    }
+    
     /**
      * Tente de déplacer le joueur vers le haut
      * @param grid La grille pour vérifier les collisions
@@ -163,7 +193,7 @@ public class Player {
                 
                 // Déclencher l'animation de marche
                 this.isWalking = true;
-                this.lastMovementTime = System.currentTimeMillis();
+                this.lastMovementTime = clock.currentTimeMillis();
                 
                 // Jouer le son de marche (avec son propre cooldown)
                 playWalkingSound();
@@ -174,7 +204,7 @@ public class Player {
         }
         
         // Système normal avec cooldown pour mouvements normaux et SPEED_UP
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         long cooldown = calculateMoveCooldown();
         
         if (currentTime - lastMoveTime < cooldown) {
@@ -227,14 +257,14 @@ public class Player {
             return;
         }
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         if (currentTime - lastWalkSoundTime >= WALK_SOUND_COOLDOWN) {
             try {
                 bomberman.bomberman.SoundManager.playEffect("walking");
                 lastWalkSoundTime = currentTime;
             } catch (Exception e) {
                 // Ignorer les erreurs audio pour ne pas affecter le gameplay
-                System.err.println("Erreur lors de la lecture du son de marche : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son de marche : " + e.getMessage());
             }
         }
     }
@@ -251,14 +281,14 @@ public class Player {
                 bomberman.bomberman.SoundManager.playEffect("dies");
             } catch (Exception e) {
                 // Ignorer les erreurs audio pour ne pas affecter le gameplay
-                System.err.println("Erreur lors de la lecture du son de mort : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son de mort : " + e.getMessage());
             }
             
             isInvincible = true;
-            invincibilityStartTime = System.currentTimeMillis();
-            System.out.println("Joueur tué, vies restantes: " + lives + " | Invincibilité (10s)");
+            invincibilityStartTime = clock.currentTimeMillis();
+            GameLog.info(LOG_CATEGORY, "Joueur tué, vies restantes: " + lives + " | Invincibilité (10s)");
         } else {
-            System.out.println("Joueur mort, partie terminée");
+            GameLog.info(LOG_CATEGORY, "Joueur mort, partie terminée");
         }
     }
     
@@ -303,10 +333,10 @@ public class Player {
      */
     public void updateInvincibility() {
         if (isInvincible) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.currentTimeMillis();
             if (currentTime - invincibilityStartTime >= INVINCIBILITY_DURATION) {
                 isInvincible = false;
-                System.out.println("Invincibilité terminée (10s écoulées)");
+                GameLog.info(LOG_CATEGORY, "Invincibilité terminée (10s écoulées)");
             }
         }
     }
@@ -317,7 +347,7 @@ public class Player {
      */
     public void updateWalkingState() {
         if (isWalking) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.currentTimeMillis();
             // Arrêter l'animation 400ms après le dernier mouvement
             if (currentTime - lastMovementTime >= 400) {
                 isWalking = false;
@@ -334,8 +364,8 @@ public class Player {
         if (lives > 0) {
             setPosition(startX, startY);
             isInvincible = true;
-            invincibilityStartTime = System.currentTimeMillis();
-            System.out.println("Respawn du joueur à (" + startX + ", " + startY + ") | Invincibilité (10s)");
+            invincibilityStartTime = clock.currentTimeMillis();
+            GameLog.info(LOG_CATEGORY, "Respawn du joueur à (" + startX + ", " + startY + ") | Invincibilité (10s)");
         }
     }
     
@@ -345,7 +375,7 @@ public class Player {
     public void addLife() {
         if (lives < maxLives) {
             lives++;
-            System.out.println("Vie supplémentaire ! Vies actuelles : " + lives);
+            GameLog.info(LOG_CATEGORY, "Vie supplémentaire ! Vies actuelles : " + lives);
         }
     }
     
@@ -403,7 +433,7 @@ public class Player {
      */
     public void increaseMaxBombs() {
         this.maxBombs++;
-        System.out.println("Bombes maximum augmentées : " + maxBombs);
+        GameLog.info(LOG_CATEGORY, "Bombes maximum augmentées : " + maxBombs);
     }
     
     /**
@@ -412,7 +442,7 @@ public class Player {
      */
     public void increaseRange() {
         this.range++;
-        System.out.println("Portée d'explosion augmentée : " + range);
+        GameLog.info(LOG_CATEGORY, "Portée d'explosion augmentée : " + range);
     }
     
     /**
@@ -421,7 +451,7 @@ public class Player {
      */
     public void increaseSpeed() {
         this.speed += 0.5;
-        System.out.println("Vitesse augmentée : " + speed);
+        GameLog.info(LOG_CATEGORY, "Vitesse augmentée : " + speed);
     }
     
     /**
@@ -484,7 +514,7 @@ public class Player {
      */
     public void addScore(int amount) {
         this.score += amount;
-        System.out.println("Score +=" + amount + " | Total: " + this.score);
+        GameLog.info(LOG_CATEGORY, "Score +=" + amount + " | Total: " + this.score);
     }
     
     /**
@@ -512,8 +542,8 @@ public class Player {
      */
     public void activateShield(long duration) {
         this.hasShield = true;
-        this.shieldStartTime = System.currentTimeMillis();
-        System.out.println("SHIELD ACTIVÉ pour " + (duration / 1000) + " secondes !");
+        this.shieldStartTime = clock.currentTimeMillis();
+        GameLog.info(LOG_CATEGORY, "SHIELD ACTIVÉ pour " + (duration / 1000) + " secondes !");
     }
     
     /**
@@ -522,8 +552,8 @@ public class Player {
      */
     public void activateSpeedBurst(long duration) {
         this.hasSpeedBurst = true;
-        this.speedBurstStartTime = System.currentTimeMillis();
-        System.out.println("SPEED BURST ACTIVÉ pour " + (duration / 1000) + " secondes - VITESSE INSTANTANÉE !");
+        this.speedBurstStartTime = clock.currentTimeMillis();
+        GameLog.info(LOG_CATEGORY, "SPEED BURST ACTIVÉ pour " + (duration / 1000) + " secondes - VITESSE INSTANTANÉE !");
     }
     
     /**
@@ -531,20 +561,20 @@ public class Player {
      */
     public void activateBombRain() {
         this.isBombRainActive = true;
-        System.out.println("BOMB RAIN ACTIVÉ ! Préparez-vous à l'explosion massive !");
+        GameLog.info(LOG_CATEGORY, "BOMB RAIN ACTIVÉ ! Préparez-vous à l'explosion massive !");
     }
     
     /**
      * Met à jour tous les effets temporaires (à appeler dans la boucle de jeu)
      */
     public void updateTemporaryEffects() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.currentTimeMillis();
         
         // Mettre à jour le bouclier
         if (hasShield) {
             if (currentTime - shieldStartTime >= 10000) { // 10 secondes
                 hasShield = false;
-                System.out.println("Bouclier désactivé");
+                GameLog.info(LOG_CATEGORY, "Bouclier désactivé");
             }
         }
         
@@ -552,7 +582,7 @@ public class Player {
         if (hasSpeedBurst) {
             if (currentTime - speedBurstStartTime >= 5000) { // 5 secondes
                 hasSpeedBurst = false;
-                System.out.println("Speed Burst désactivé");
+                GameLog.info(LOG_CATEGORY, "Speed Burst désactivé");
             }
         }
     }
@@ -643,7 +673,7 @@ public class Player {
     protected void setWalkingState(boolean walking) {
         this.isWalking = walking;
         if (walking) {
-            this.lastMovementTime = System.currentTimeMillis();
+            this.lastMovementTime = clock.currentTimeMillis();
         }
     }
     
@@ -695,4 +725,89 @@ public class Player {
             lives--;
         }
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    private static final String[] DIRECTIONS = {"haut", "bas", "gauche", "droite"};
+    
+    /**
+     * Écrit l'état du joueur (position, vies, effets, power-ups, timers) à la position courante du tampon
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        GameSnapshot.putCoordinate(buffer, x);
+        GameSnapshot.putCoordinate(buffer, y);
+        buffer.put((byte) Math.max(0, Arrays.asList(DIRECTIONS).indexOf(currentDirection)));
+        buffer.put((byte) ((isWalking ? 1 : 0)
+                | (hasActiveBomb ? 1 << 1 : 0)
+                | (isInvincible ? 1 << 2 : 0)
+                | (hasShield ? 1 << 3 : 0)
+                | (hasSpeedBurst ? 1 << 4 : 0)
+                | (isBombRainActive ? 1 << 5 : 0)));
+        buffer.putLong(lastMovementTime);
+        buffer.put((byte) lives).put((byte) maxLives);
+        buffer.putLong(invincibilityStartTime);
+        buffer.putLong(shieldStartTime);
+        buffer.putLong(speedBurstStartTime);
+        buffer.putLong(lastMoveTime);
+        buffer.putLong(lastWalkSoundTime);
+        buffer.putInt(score);
+        buffer.put((byte) maxBombs).put((byte) currentBombs).put((byte) range);
+        buffer.putDouble(speed);
+    }
+    
+    /**
+     * Rétablit l'état écrit par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état du joueur
+     */
+    void readState(ByteBuffer buffer) {
+        x = GameSnapshot.getCoordinate(buffer);
+        y = GameSnapshot.getCoordinate(buffer);
+        currentDirection = DIRECTIONS[buffer.get()];
+        int states = buffer.get();
+        isWalking = (states & 1) != 0;
+        hasActiveBomb = (states & 1 << 1) != 0;
+        isInvincible = (states & 1 << 2) != 0;
+        hasShield = (states & 1 << 3) != 0;
+        hasSpeedBurst = (states & 1 << 4) != 0;
+        isBombRainActive = (states & 1 << 5) != 0;
+        lastMovementTime = buffer.getLong();
+        lives = buffer.get();
+        maxLives = buffer.get();
+        invincibilityStartTime = buffer.getLong();
+        shieldStartTime = buffer.getLong();
+        speedBurstStartTime = buffer.getLong();
+        lastMoveTime = buffer.getLong();
+        lastWalkSoundTime = buffer.getLong();
+        score = buffer.getInt();
+        maxBombs = buffer.get();
+        currentBombs = buffer.get();
+        range = buffer.get();
+        speed = buffer.getDouble();
+        if (range < DEFAULT_RANGE || maxBombs < DEFAULT_MAX_BOMBS || currentBombs < 0 || currentBombs > maxBombs
+                || !(speed >= DEFAULT_SPEED && speed < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Caractéristiques du joueur invalides : portée " + range + ", bombes "
+                    + currentBombs + "/" + maxBombs + ", vitesse " + speed);
+        }
+    }
+
+    // ========== INDEX D'OCCUPATION ==========
+
+    /**
+     * ✨ **NOUVEAU** : @param stamp Marqueur courant de l'OccupancyGrid qui interroge
+     * @return Case où cet index a compté l'entité, OccupancyGrid.NO_CELL s'il ne l'a pas indexée
+     */
+    int getOccupancyCell(int stamp) {
+        return occupancyStamp == stamp ? occupancyCell : OccupancyGrid.NO_CELL;
+    }
+
+    /**
+     * ✨ **NOUVEAU** : Enregistre la case où l'OccupancyGrid compte l'entité
+     * @param stamp Marqueur courant de l'index
+     * @param cell Case indexée, OccupancyGrid.NO_CELL si l'entité n'est plus comptée
+     */
+    void setOccupancyCell(int stamp, int cell) {
+        occupancyStamp = stamp;
+        occupancyCell = cell;
+    }
+}
@@ -1,5 +1,7 @@
 package bomberman.bomberman;
 
+import java.nio.ByteBuffer;
+
 /**
  * Classe représentant un power-up dans le jeu Bomberman.
  * Les power-ups sont cachés dans les blocs destructibles et deviennent visibles
@@ -7,6 +9,8 @@ package bomberman.bomberman;
  */
 public class PowerUp {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.SIMULATION;
+    
     // Position du power-up sur la grille
     private final int x;
     private final int y;
@@ -26,6 +30,9 @@ public class PowerUp {
     // Délai de protection après révélation (1 seconde)
     private static final long DESTRUCTION_PROTECTION_DELAY = 1000;
     
+    // Horloge du jeu (temps de simulation)
+    private final GameClock clock;
+    
     /**
      * Constructeur du power-up
      * @param x Position en colonne
@@ -33,9 +40,21 @@ public class PowerUp {
      * @param type Type de power-up
      */
     public PowerUp(int x, int y, PowerUpType type) {
+        this(x, y, type, GameClock.SYSTEM);
+    }
+    
+    /**
+     * Constructeur du power-up avec horloge de jeu
+     * @param x Position en colonne
+     * @param y Position en ligne
+     * @param type Type de power-up
+     * @param clock L'horloge de la simulation
+     */
+    public PowerUp(int x, int y, PowerUpType type, GameClock clock) {
         this.x = x;
         this.y = y;
         this.type = type;
+        this.clock = clock;
         this.visible = false;  // Caché par défaut
         this.collected = false;
     }
@@ -46,7 +65,7 @@ public class PowerUp {
      */
     public void reveal() {
         this.visible = true;
-        this.revealTime = System.currentTimeMillis(); // Marquer le moment de révélation
+        this.revealTime = clock.currentTimeMillis(); // Marquer le moment de révélation
     }
     
     /**
@@ -59,7 +78,7 @@ public class PowerUp {
             collected = true;
             visible = false;  // Le power-up disparaît après récupération
             
-            System.out.println("Power-up récupéré : " + type.getDisplayName() + 
+            GameLog.info(LOG_CATEGORY, "Power-up récupéré : " + type.getDisplayName() + 
                               " à la position (" + x + ", " + y + ")");
         }
     }
@@ -121,7 +140,7 @@ public class PowerUp {
             return false; // Un power-up invisible ne peut pas être détruit
         }
         
-        long timeSinceReveal = System.currentTimeMillis() - revealTime;
+        long timeSinceReveal = clock.currentTimeMillis() - revealTime;
         return timeSinceReveal >= DESTRUCTION_PROTECTION_DELAY;
     }
     
@@ -137,4 +156,33 @@ public class PowerUp {
                 ", collected=" + collected +
                 '}';
     }
-} 
\ No newline at end of file
+    
+    // ========== INSTANTANÉ (GameSnapshot) ==========
+    
+    /**
+     * Écrit la position, le type et l'état du power-up
+     * @param buffer Tampon de l'instantané
+     */
+    void writeState(ByteBuffer buffer) {
+        GameSnapshot.putCoordinate(buffer, x);
+        GameSnapshot.putCoordinate(buffer, y);
+        buffer.put((byte) type.ordinal());
+        buffer.put((byte) ((visible ? 1 : 0) | (collected ? 1 << 1 : 0)));
+        buffer.putLong(revealTime);
+    }
+    
+    /**
+     * Recrée un power-up à partir de l'état écrit par writeState
+     * @param buffer Tampon de l'instantané, positionné sur l'état du power-up
+     * @param clock L'horloge de la simulation restaurée
+     * @return Le power-up restauré
+     */
+    static PowerUp readState(ByteBuffer buffer, GameClock clock) {
+        PowerUp powerUp = new PowerUp(GameSnapshot.getCoordinate(buffer), GameSnapshot.getCoordinate(buffer), PowerUpType.values()[buffer.get()], clock);
+        int states = buffer.get();
+        powerUp.visible = (states & 1) != 0;
+        powerUp.collected = (states & 1 << 1) != 0;
+        powerUp.revealTime = buffer.getLong();
+        return powerUp;
+    }
+}
@@ -67,6 +67,6 @@ public enum PowerUpType {
                 break;
         }
         
-        System.out.println("Power-up récupéré : " + displayName + " à la position (" + player.getX() + ", " + player.getY() + ")");
+        GameLog.info(GameLog.Category.SIMULATION, "Power-up récupéré : " + displayName + " à la position (" + player.getX() + ", " + player.getY() + ")");
     }
 } 
\ No newline at end of file
@@ -12,6 +12,8 @@ import java.util.Optional;
  * Gestionnaire des profils joueurs - Sauvegarde et chargement
  */
 public class ProfileManager {
+    
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.PROFILE;
     private static final String PROFILES_DIR = "profiles";
     private static final String PROFILES_FILE = "profiles/players.dat";
     private static ProfileManager instance;
@@ -43,10 +45,10 @@ public class ProfileManager {
             Path profilesPath = Paths.get(PROFILES_DIR);
             if (!Files.exists(profilesPath)) {
                 Files.createDirectories(profilesPath);
-                System.out.println("Répertoire des profils créé : " + PROFILES_DIR);
+                GameLog.info(LOG_CATEGORY, "Répertoire des profils créé : " + PROFILES_DIR);
             }
         } catch (IOException e) {
-            System.err.println("Erreur lors de la création du répertoire des profils : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de la création du répertoire des profils : " + e.getMessage());
         }
     }
     
@@ -61,14 +63,14 @@ public class ProfileManager {
                     @SuppressWarnings("unchecked")
                     List<PlayerProfile> loadedProfiles = (List<PlayerProfile>) ois.readObject();
                     this.profiles = loadedProfiles;
-                    System.out.println("Profils chargés : " + profiles.size() + " profil(s)");
+                    GameLog.info(LOG_CATEGORY, "Profils chargés : " + profiles.size() + " profil(s)");
                 }
             } else {
-                System.out.println("Aucun fichier de profils trouvé, création d'une liste vide");
+                GameLog.info(LOG_CATEGORY, "Aucun fichier de profils trouvé, création d'une liste vide");
                 this.profiles = new ArrayList<>();
             }
         } catch (IOException | ClassNotFoundException e) {
-            System.err.println("Erreur lors du chargement des profils : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement des profils : " + e.getMessage());
             this.profiles = new ArrayList<>();
         }
     }
@@ -81,10 +83,10 @@ public class ProfileManager {
             createProfilesDirectory(); // S'assurer que le répertoire existe
             try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(PROFILES_FILE))) {
                 oos.writeObject(profiles);
-                System.out.println("Profils sauvegardés : " + profiles.size() + " profil(s)");
+                GameLog.info(LOG_CATEGORY, "Profils sauvegardés : " + profiles.size() + " profil(s)");
             }
         } catch (IOException e) {
-            System.err.println("Erreur lors de la sauvegarde des profils : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de la sauvegarde des profils : " + e.getMessage());
         }
     }
     
@@ -93,13 +95,13 @@ public class ProfileManager {
      */
     public boolean addProfile(PlayerProfile profile) {
         if (profiles.contains(profile)) {
-            System.out.println("Un profil avec ce nom existe déjà : " + profile.getFullName());
+            GameLog.info(LOG_CATEGORY, "Un profil avec ce nom existe déjà : " + profile.getFullName());
             return false;
         }
         
         profiles.add(profile);
         saveProfiles();
-        System.out.println("Nouveau profil ajouté : " + profile.getFullName());
+        GameLog.info(LOG_CATEGORY, "Nouveau profil ajouté : " + profile.getFullName());
         return true;
     }
     
@@ -112,7 +114,7 @@ public class ProfileManager {
                 currentPlayer = null;
             }
             saveProfiles();
-            System.out.println("Profil supprimé : " + profile.getFullName());
+            GameLog.info(LOG_CATEGORY, "Profil supprimé : " + profile.getFullName());
             return true;
         }
         return false;
@@ -126,7 +128,7 @@ public class ProfileManager {
         if (index >= 0) {
             profiles.set(index, profile);
             saveProfiles();
-            System.out.println("Profil mis à jour : " + profile.getFullName());
+            GameLog.info(LOG_CATEGORY, "Profil mis à jour : " + profile.getFullName());
         }
     }
     
@@ -152,7 +154,7 @@ public class ProfileManager {
      */
     public void setCurrentPlayer(PlayerProfile player) {
         this.currentPlayer = player;
-        System.out.println("Joueur actuel défini : " + (player != null ? player.getFullName() : "Aucun"));
+        GameLog.info(LOG_CATEGORY, "Joueur actuel défini : " + (player != null ? player.getFullName() : "Aucun"));
     }
     
     /**
@@ -169,7 +171,7 @@ public class ProfileManager {
         if (currentPlayer != null) {
             currentPlayer.recordGamePlayed(won, score);
             updateProfile(currentPlayer);
-            System.out.println("Partie enregistrée pour " + currentPlayer.getFullName() + 
+            GameLog.info(LOG_CATEGORY, "Partie enregistrée pour " + currentPlayer.getFullName() + 
                              " - Victoire: " + won + ", Score: " + score);
         }
     }
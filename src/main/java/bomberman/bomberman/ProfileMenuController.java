@@ -20,6 +20,8 @@ import java.util.ResourceBundle;
  */
 public class ProfileMenuController implements Initializable {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     // Interface de callback pour retourner au menu principal
     public interface ProfileMenuCallback {
         void onBackToMainMenu();
@@ -97,7 +99,7 @@ public class ProfileMenuController implements Initializable {
                 backgroundImage.setImage(new Image(bgStream));
             }
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'image de fond : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image de fond : " + e.getMessage());
         }
         
         // Configuration de la liste des profils
@@ -197,7 +199,7 @@ public class ProfileMenuController implements Initializable {
                 imageView.setImage(new Image(avatarStream));
             }
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'avatar : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'avatar : " + e.getMessage());
         }
     }
     
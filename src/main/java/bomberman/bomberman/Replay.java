@@ -0,0 +1,461 @@
+package bomberman.bomberman;
+
+import javafx.scene.input.KeyCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enregistrement d'une partie : graine, mode de jeu et commandes reçues par la simulation,
+ * chacune datée par le numéro du tick après lequel elle a été appliquée.
+ *
+ * La simulation étant déterministe (pas fixe, horloge des ticks, tirages issus de la graine),
+ * ces seules informations suffisent à rejouer la partie à l'identique. Le score final et le
+ * nombre de ticks sont conservés en fin de fichier pour vérifier le rejeu.
+ *
+ * Format binaire (.bmr) : en-tête "BMRP" + version, puis corps compressé GZIP contenant
+ * les options, la graine, les événements (écart de tick en varint + un octet type/argument)
+ * et le résultat final. Une partie de plusieurs minutes tient en quelques Ko.
+ *
+ * Depuis la version 2, les décisions du bot du mode VS MACHINE sont enregistrées comme les
+ * touches d'un joueur : le bot MCTS s'arrête à un budget de temps, ses décisions ne se
+ * retrouvent donc pas en le faisant réfléchir de nouveau. Les fichiers de version 1 restent
+ * lisibles (le bot y réfléchit à la lecture).
+ *
+ * Depuis la version 3, les dimensions de l'arène suivent la graine ; les versions précédentes
+ * se rejouent sur l'arène standard.
+ */
+public class Replay {
+
+    private static final int MAGIC = 0x424D5250; // "BMRP"
+    private static final int VERSION = 3;
+
+    // Types d'événements (3 bits de poids fort de l'octet d'événement)
+    public static final int EVENT_KEY_PRESSED = 0;
+    public static final int EVENT_KEY_RELEASED = 1;
+    public static final int EVENT_START_LEVEL = 2;
+    public static final int EVENT_NEXT_LEVEL = 3;
+    public static final int EVENT_RESOLVE_DEATH = 4; // Argument : index du joueur dans getPlayers()
+    public static final int EVENT_BOT_DECISION = 5;  // Argument : direction (index dans BOT_KEYS, 4 = aucune) + BOT_BOMB
+
+    private static final int ARGUMENT_BITS = 5;
+    private static final int ARGUMENT_MASK = (1 << ARGUMENT_BITS) - 1;
+
+    // Touches transmises à la simulation (argument des événements clavier : index dans ce tableau)
+    private static final KeyCode[] GAME_KEYS = {
+        KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT, KeyCode.SPACE,
+        KeyCode.Z, KeyCode.S, KeyCode.Q, KeyCode.D, KeyCode.SHIFT,
+        KeyCode.Y, KeyCode.H, KeyCode.G, KeyCode.J, KeyCode.SEMICOLON,
+        KeyCode.O, KeyCode.L, KeyCode.K, KeyCode.M, KeyCode.ENTER
+    };
+
+    // Directions des décisions du bot, et bit de l'argument qui indique une bombe posée
+    private static final KeyCode[] BOT_KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT};
+    private static final int BOT_BOMB = 1 << 3;
+
+    // Options de la partie
+    private static final int FLAG_COOPERATION = 1;
+    private static final int FLAG_BATTLE = 1 << 1;
+    private static final int FLAG_VS_MACHINE = 1 << 2;
+    private static final int FLAG_AUTO_RESOLVE_DEATHS = 1 << 3;
+    private static final int FLAG_BOT_DECISIONS = 1 << 4;
+
+    private final boolean cooperationMode;
+    private final boolean battleMode;
+    private final boolean vsMachineMode;
+    private final boolean autoResolveDeaths;
+    private final boolean botDecisions;
+    private final long seed;
+    private final int columns;
+    private final int rows;
+
+    // Événements, stockés à plat (pas d'objet par événement)
+    private long[] eventTicks = new long[256];
+    private byte[] eventCodes = new byte[256];
+    private int eventCount;
+
+    // Résultat de la partie enregistrée (finalTick < 0 tant que l'enregistrement n'est pas terminé)
+    private long finalTick = -1;
+    private int finalLevel;
+    private int[] finalScores = new int[0];
+
+    /**
+     * Constructeur d'un enregistrement vide
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param autoResolveDeaths true si les morts sont résolues dans le tick (pas d'événement de fin d'animation)
+     * @param seed Graine de la partie
+     */
+    public Replay(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, boolean autoResolveDeaths, long seed) {
+        this(cooperationMode, battleMode, vsMachineMode, autoResolveDeaths, false, seed);
+    }
+
+    /**
+     * Constructeur d'un enregistrement vide, avec ou sans les décisions du bot
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param autoResolveDeaths true si les morts sont résolues dans le tick (pas d'événement de fin d'animation)
+     * @param botDecisions true si les décisions du bot sont enregistrées (EVENT_BOT_DECISION)
+     * @param seed Graine de la partie
+     */
+    public Replay(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, boolean autoResolveDeaths,
+                  boolean botDecisions, long seed) {
+        this(cooperationMode, battleMode, vsMachineMode, autoResolveDeaths, botDecisions, seed,
+                GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS);
+    }
+
+    /**
+     * Constructeur d'un enregistrement vide sur une arène personnalisée
+     * @param cooperationMode true pour le mode coopération
+     * @param battleMode true pour le mode battle (et VS machine)
+     * @param vsMachineMode true si le joueur 2 est contrôlé par le bot
+     * @param autoResolveDeaths true si les morts sont résolues dans le tick (pas d'événement de fin d'animation)
+     * @param botDecisions true si les décisions du bot sont enregistrées (EVENT_BOT_DECISION)
+     * @param seed Graine de la partie
+     * @param columns Nombre de colonnes de l'arène
+     * @param rows Nombre de lignes de l'arène
+     */
+    public Replay(boolean cooperationMode, boolean battleMode, boolean vsMachineMode, boolean autoResolveDeaths,
+                  boolean botDecisions, long seed, int columns, int rows) {
+        this.cooperationMode = cooperationMode;
+        this.battleMode = battleMode;
+        this.vsMachineMode = vsMachineMode;
+        this.autoResolveDeaths = autoResolveDeaths;
+        this.botDecisions = botDecisions;
+        this.seed = seed;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    // ========== ÉVÉNEMENTS ==========
+
+    /**
+     * @param keyCode Une touche
+     * @return Index de la touche dans la table des touches de jeu, -1 si elle n'agit pas sur la simulation
+     */
+    public static int keyIndex(KeyCode keyCode) {
+        for (int i = 0; i < GAME_KEYS.length; i++) {
+            if (GAME_KEYS[i] == keyCode) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param decision Une décision du bot
+     * @return Argument de l'événement EVENT_BOT_DECISION correspondant
+     */
+    public static int botDecisionArgument(AIBot.Decision decision) {
+        int keyIndex = Arrays.asList(BOT_KEYS).indexOf(decision.getDesiredKey());
+        return (keyIndex >= 0 ? keyIndex : BOT_KEYS.length) | (decision.isBombPlaced() ? BOT_BOMB : 0);
+    }
+
+    /**
+     * Ajoute un événement à la fin de l'enregistrement
+     * @param tick Tick après lequel l'événement a été appliqué (croissant d'un appel à l'autre)
+     * @param type Type d'événement (EVENT_*)
+     * @param argument Argument de l'événement (index de touche ou de joueur)
+     */
+    public void addEvent(long tick, int type, int argument) {
+        if (eventCount > 0 && tick < eventTicks[eventCount - 1]) {
+            throw new IllegalArgumentException("Événement antérieur au précédent : tick " + tick);
+        }
+        if (argument < 0 || argument > ARGUMENT_MASK) {
+            throw new IllegalArgumentException("Argument d'événement invalide : " + argument);
+        }
+        if (eventCount == eventTicks.length) {
+            eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+            eventCodes = Arrays.copyOf(eventCodes, eventCount * 2);
+        }
+        eventTicks[eventCount] = tick;
+        eventCodes[eventCount] = (byte) ((type << ARGUMENT_BITS) | argument);
+        eventCount++;
+    }
+
+    /**
+     * @return Nombre d'événements enregistrés
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @param index Index de l'événement
+     * @return Tick après lequel l'événement doit être appliqué
+     */
+    public long getEventTick(int index) {
+        return eventTicks[index];
+    }
+
+    /**
+     * @param index Index de l'événement
+     * @return Type de l'événement (EVENT_*)
+     */
+    public int getEventType(int index) {
+        return (eventCodes[index] & 0xFF) >>> ARGUMENT_BITS;
+    }
+
+    /**
+     * @param index Index de l'événement
+     * @return Argument de l'événement
+     */
+    public int getEventArgument(int index) {
+        return eventCodes[index] & ARGUMENT_MASK;
+    }
+
+    /**
+     * @param index Index d'un événement clavier
+     * @return La touche de l'événement
+     */
+    public KeyCode getEventKey(int index) {
+        return GAME_KEYS[getEventArgument(index)];
+    }
+
+    /**
+     * @param index Index d'un événement EVENT_BOT_DECISION
+     * @return La décision du bot enregistrée
+     */
+    public AIBot.Decision getEventBotDecision(int index) {
+        int argument = getEventArgument(index);
+        int keyIndex = argument & ~BOT_BOMB;
+        return new AIBot.Decision(keyIndex < BOT_KEYS.length ? BOT_KEYS[keyIndex] : null, (argument & BOT_BOMB) != 0);
+    }
+
+    // ========== RÉSULTAT ==========
+
+    /**
+     * Termine l'enregistrement avec le résultat de la partie
+     * @param tick Nombre de ticks exécutés
+     * @param level Niveau atteint
+     * @param scores Score de chaque joueur, dans l'ordre de getPlayers()
+     */
+    public void finish(long tick, int level, int[] scores) {
+        this.finalTick = tick;
+        this.finalLevel = level;
+        this.finalScores = scores.clone();
+    }
+
+    /**
+     * @return true si l'enregistrement contient le résultat de la partie
+     */
+    public boolean isFinished() {
+        return finalTick >= 0;
+    }
+
+    /**
+     * @return Nombre de ticks de la partie enregistrée (-1 si non terminée)
+     */
+    public long getFinalTick() {
+        return finalTick;
+    }
+
+    /**
+     * @return Niveau atteint dans la partie enregistrée
+     */
+    public int getFinalLevel() {
+        return finalLevel;
+    }
+
+    /**
+     * @return Scores finaux des joueurs, dans l'ordre de getPlayers()
+     */
+    public int[] getFinalScores() {
+        return finalScores.clone();
+    }
+
+    // ========== OPTIONS ==========
+
+    public boolean isCooperationMode() {
+        return cooperationMode;
+    }
+
+    public boolean isBattleMode() {
+        return battleMode;
+    }
+
+    public boolean isVsMachineMode() {
+        return vsMachineMode;
+    }
+
+    public boolean isAutoResolveDeaths() {
+        return autoResolveDeaths;
+    }
+
+    /**
+     * @return true si les décisions du bot sont enregistrées : il ne réfléchit pas à la lecture
+     */
+    public boolean hasBotDecisions() {
+        return botDecisions;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Nombre de colonnes de l'arène
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return Nombre de lignes de l'arène
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    // ========== FICHIER ==========
+
+    /**
+     * Écrit l'enregistrement dans un fichier (répertoires parents créés si besoin)
+     * @param file Fichier de destination
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Lit un enregistrement depuis un fichier
+     * @param file Fichier .bmr
+     * @return L'enregistrement lu
+     * @throws IOException En cas d'erreur de lecture ou de fichier invalide
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Écrit l'enregistrement dans un flux (le flux n'est pas fermé)
+     * @param out Flux de destination
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.flush();
+
+        GZIPOutputStream compressed = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(compressed);
+        int flags = (cooperationMode ? FLAG_COOPERATION : 0)
+                | (battleMode ? FLAG_BATTLE : 0)
+                | (vsMachineMode ? FLAG_VS_MACHINE : 0)
+                | (autoResolveDeaths ? FLAG_AUTO_RESOLVE_DEATHS : 0)
+                | (botDecisions ? FLAG_BOT_DECISIONS : 0);
+        data.writeByte(flags);
+        data.writeLong(seed);
+        data.writeByte(columns);
+        data.writeByte(rows);
+
+        writeVarLong(data, eventCount);
+        long previousTick = 0;
+        for (int i = 0; i < eventCount; i++) {
+            writeVarLong(data, eventTicks[i] - previousTick);
+            data.writeByte(eventCodes[i]);
+            previousTick = eventTicks[i];
+        }
+
+        // Résultat : finalTick + 1 pour que 0 signifie "non terminé"
+        writeVarLong(data, finalTick + 1);
+        writeVarLong(data, finalLevel);
+        data.writeByte(finalScores.length);
+        for (int score : finalScores) {
+            writeVarLong(data, score);
+        }
+        data.flush();
+        compressed.finish();
+    }
+
+    /**
+     * Lit un enregistrement depuis un flux
+     * @param in Flux source
+     * @return L'enregistrement lu
+     * @throws IOException En cas d'erreur de lecture ou de format invalide
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Fichier de replay invalide (signature inconnue)");
+        }
+        int version = header.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Version de replay non supportée : " + version);
+        }
+
+        DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+        int flags = data.readUnsignedByte();
+        long seed = data.readLong();
+        int columns = version >= 3 ? data.readUnsignedByte() : GameSimulation.GRID_COLUMNS;
+        int rows = version >= 3 ? data.readUnsignedByte() : GameSimulation.GRID_ROWS;
+        Replay replay = new Replay((flags & FLAG_COOPERATION) != 0, (flags & FLAG_BATTLE) != 0,
+                (flags & FLAG_VS_MACHINE) != 0, (flags & FLAG_AUTO_RESOLVE_DEATHS) != 0,
+                (flags & FLAG_BOT_DECISIONS) != 0, seed, columns, rows);
+
+        long count = readVarLong(data);
+        long tick = 0;
+        for (long i = 0; i < count; i++) {
+            tick += readVarLong(data);
+            int code = data.readUnsignedByte();
+            replay.addEvent(tick, code >>> ARGUMENT_BITS, code & ARGUMENT_MASK);
+        }
+
+        replay.finalTick = readVarLong(data) - 1;
+        replay.finalLevel = (int) readVarLong(data);
+        int[] scores = new int[data.readUnsignedByte()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = (int) readVarLong(data);
+        }
+        replay.finalScores = scores;
+        return replay;
+    }
+
+    /**
+     * Entier positif sur 7 bits par octet (bit de poids fort : octet suivant présent)
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        if (value < 0) {
+            throw new IOException("Valeur négative non encodable : " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Varint trop long dans le replay");
+    }
+}
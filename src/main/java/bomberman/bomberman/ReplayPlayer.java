@@ -0,0 +1,273 @@
+package bomberman.bomberman;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lecteur de replay : recrée la simulation à partir de la graine enregistrée et lui
+ * réapplique chaque commande au tick où elle avait été reçue.
+ *
+ * Deux modes de lecture :
+ * - temps réel avec advance(elapsedNanos), pour l'affichage (ReplayViewer) ;
+ * - sans affichage à vitesse maximale avec runHeadless(), pour mesurer les performances
+ *   de la simulation sur des parties réelles et vérifier qu'un replay reproduit le score enregistré.
+ *
+ * Les temps morts de la partie d'origine (intro de niveau, pause, animation de mort)
+ * n'avancent pas les ticks : ils ne sont pas reproduits à la lecture.
+ *
+ * Utilisation en ligne de commande (sans affichage) :
+ * <pre>
+ * java bomberman.bomberman.ReplayPlayer replays/replay-20240517-183000.bmr [autres fichiers...]
+ * </pre>
+ */
+public class ReplayPlayer {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.GAME;
+
+    // Rattrapage maximal par appel à advance() (comme GameSimulation.step)
+    private static final int MAX_TICKS_PER_ADVANCE = 5;
+
+    /**
+     * Résultat d'une lecture sans affichage
+     */
+    public static class Result {
+        private final long ticks;
+        private final long elapsedNanos;
+        private final boolean verified;
+
+        private Result(long ticks, long elapsedNanos, boolean verified) {
+            this.ticks = ticks;
+            this.elapsedNanos = elapsedNanos;
+            this.verified = verified;
+        }
+
+        /**
+         * @return Nombre de ticks simulés
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * @return Durée de la lecture en nanosecondes
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return Ticks simulés par seconde de lecture
+         */
+        public double getTicksPerSecond() {
+            return elapsedNanos > 0 ? ticks * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+
+        /**
+         * @return true si la partie rejouée a le même résultat que la partie enregistrée
+         */
+        public boolean isVerified() {
+            return verified;
+        }
+    }
+
+    private final Replay replay;
+    private final GameSimulation simulation;
+    private int nextEvent;
+    private long accumulatedNanos;
+    private boolean desynchronized;
+
+    /**
+     * Constructeur du lecteur : crée la simulation de la partie enregistrée, prête au premier tick
+     * @param replay L'enregistrement à rejouer
+     */
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        this.simulation = new GameSimulation(replay.isCooperationMode(), replay.isBattleMode(), replay.isVsMachineMode(),
+                null, replay.getSeed(), replay.getColumns(), replay.getRows());
+        simulation.setAutoResolveDeaths(replay.isAutoResolveDeaths());
+        // Décisions du bot enregistrées : elles sont réappliquées telles quelles, sans le faire réfléchir
+        simulation.setBotSuspended(replay.hasBotDecisions());
+        simulation.newGame();
+    }
+
+    /**
+     * @return La simulation rejouée
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * @return L'enregistrement rejoué
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+
+    // ========== LECTURE ==========
+
+    /**
+     * Applique les commandes dues puis exécute un tick
+     * @return false si la lecture est terminée
+     */
+    public boolean tick() {
+        applyDueEvents();
+        if (isFinished()) {
+            return false;
+        }
+        if (simulation.runTicks(1) == 0) {
+            // Simulation arrêtée alors que des commandes restent à venir : la partie a divergé
+            desynchronized = true;
+            GameLog.warn(LOG_CATEGORY, "Replay désynchronisé au tick " + simulation.getTickCount()
+                    + " (" + (replay.getEventCount() - nextEvent) + " événements non appliqués)");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lecture en temps réel : exécute autant de ticks que le temps écoulé en contient
+     * @param elapsedNanos Temps écoulé depuis le dernier appel en nanosecondes
+     * @return Nombre de ticks exécutés
+     */
+    public int advance(long elapsedNanos) {
+        accumulatedNanos += Math.max(0, elapsedNanos);
+        int ticks = 0;
+        while (accumulatedNanos >= GameSimulation.TICK_NANOS && ticks < MAX_TICKS_PER_ADVANCE) {
+            accumulatedNanos -= GameSimulation.TICK_NANOS;
+            if (!tick()) {
+                accumulatedNanos = 0;
+                break;
+            }
+            ticks++;
+        }
+        if (ticks == MAX_TICKS_PER_ADVANCE) {
+            accumulatedNanos = Math.min(accumulatedNanos, GameSimulation.TICK_NANOS);
+        }
+        return ticks;
+    }
+
+    /**
+     * Lecture complète à vitesse maximale, sans affichage
+     * @return Ticks simulés, durée et vérification du résultat
+     */
+    public Result runHeadless() {
+        long startTicks = simulation.getTickCount();
+        long start = System.nanoTime();
+        while (tick()) {
+            // Tout le travail est fait par tick()
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(simulation.getTickCount() - startTicks, elapsed, verify());
+    }
+
+    /**
+     * @return true si toutes les commandes ont été appliquées et que la fin de la partie enregistrée est atteinte
+     */
+    public boolean isFinished() {
+        if (desynchronized) {
+            return true;
+        }
+        if (nextEvent < replay.getEventCount()) {
+            return false;
+        }
+        long lastTick = replay.isFinished()
+                ? replay.getFinalTick()
+                : (replay.getEventCount() > 0 ? replay.getEventTick(replay.getEventCount() - 1) : 0);
+        return simulation.getTickCount() >= lastTick || !simulation.isTicking();
+    }
+
+    /**
+     * Compare l'état de la simulation au résultat enregistré (ticks, niveau, scores)
+     * @return true si la partie rejouée a le même résultat
+     */
+    public boolean verify() {
+        if (!replay.isFinished() || desynchronized) {
+            return false;
+        }
+        return simulation.getTickCount() == replay.getFinalTick()
+                && simulation.getCurrentLevel() == replay.getFinalLevel()
+                && Arrays.equals(currentScores(), replay.getFinalScores());
+    }
+
+    private int[] currentScores() {
+        List<FluidMovementPlayer> players = simulation.getPlayers();
+        int[] scores = new int[players.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = players.get(i).getScore();
+        }
+        return scores;
+    }
+
+    private void applyDueEvents() {
+        while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= simulation.getTickCount()) {
+            applyEvent(nextEvent++);
+        }
+    }
+
+    private void applyEvent(int index) {
+        switch (replay.getEventType(index)) {
+            case Replay.EVENT_KEY_PRESSED:
+                simulation.keyPressed(replay.getEventKey(index));
+                break;
+            case Replay.EVENT_KEY_RELEASED:
+                simulation.keyReleased(replay.getEventKey(index));
+                break;
+            case Replay.EVENT_START_LEVEL:
+                simulation.startLevel();
+                break;
+            case Replay.EVENT_NEXT_LEVEL:
+                simulation.nextLevel();
+                break;
+            case Replay.EVENT_RESOLVE_DEATH:
+                List<FluidMovementPlayer> players = simulation.getPlayers();
+                int playerIndex = replay.getEventArgument(index);
+                if (playerIndex < players.size()) {
+                    simulation.resolveDeath(players.get(playerIndex));
+                }
+                break;
+            case Replay.EVENT_BOT_DECISION:
+                simulation.applyBotDecision(replay.getEventBotDecision(index));
+                break;
+            default:
+                GameLog.warn(LOG_CATEGORY, "Événement de replay inconnu : " + replay.getEventType(index));
+                break;
+        }
+    }
+
+    /**
+     * Rejoue sans affichage les fichiers donnés et affiche débit et vérification du score
+     * @param args Fichiers .bmr
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Utilisation : ReplayPlayer <fichier.bmr> [autres fichiers...]");
+            return;
+        }
+        GameLog.setLevel(GameLog.Level.WARN);
+        SoundManager.setEffectsEnabled(false);
+
+        boolean allVerified = true;
+        for (String arg : args) {
+            Path file = Paths.get(arg);
+            try {
+                Replay replay = Replay.load(file);
+                Result result = new ReplayPlayer(replay).runHeadless();
+                allVerified &= result.isVerified();
+                System.out.printf("%s : %d événements, %d ticks en %.1f ms (%.0f ticks/s) - score %s%n",
+                        file, replay.getEventCount(), result.getTicks(), FrameProfiler.toMillis(result.getElapsedNanos()),
+                        result.getTicksPerSecond(), result.isVerified() ? "OK" : "DIFFÉRENT");
+            } catch (IOException e) {
+                allVerified = false;
+                System.out.println(file + " : lecture impossible (" + e.getMessage() + ")");
+            }
+        }
+        GameLog.flush();
+        if (!allVerified) {
+            System.exit(1);
+        }
+    }
+}
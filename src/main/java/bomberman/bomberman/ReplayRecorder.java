@@ -0,0 +1,123 @@
+package bomberman.bomberman;
+
+import javafx.scene.input.KeyCode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Enregistreur de partie : reçoit de la simulation chaque commande appliquée
+ * (touches, démarrage et changement de niveau, fin d'animation de mort, décisions du bot)
+ * et l'ajoute au Replay.
+ *
+ * Doit être attaché à la simulation avant newGame() :
+ * <pre>
+ * ReplayRecorder recorder = new ReplayRecorder(simulation);
+ * simulation.setReplayRecorder(recorder);
+ * simulation.newGame();
+ * ...
+ * recorder.saveToReplayDirectory();
+ * </pre>
+ */
+public class ReplayRecorder {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.GAME;
+
+    private static final String REPLAY_DIR = "replays";
+    private static final DateTimeFormatter REPLAY_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final GameSimulation simulation;
+    private final Replay replay;
+
+    /**
+     * Constructeur de l'enregistreur
+     * @param simulation La simulation enregistrée (mode, graine et résolution des morts déjà fixés)
+     */
+    public ReplayRecorder(GameSimulation simulation) {
+        this.simulation = simulation;
+        this.replay = new Replay(simulation.isCooperationMode(), simulation.isBattleMode(), simulation.isVsMachineMode(),
+                simulation.isAutoResolveDeaths(), simulation.isVsMachineMode(), simulation.getSeed(),
+                simulation.getColumns(), simulation.getRows());
+    }
+
+    // ========== COMMANDES ==========
+
+    void keyPressed(KeyCode keyCode) {
+        recordKey(Replay.EVENT_KEY_PRESSED, keyCode);
+    }
+
+    void keyReleased(KeyCode keyCode) {
+        recordKey(Replay.EVENT_KEY_RELEASED, keyCode);
+    }
+
+    void levelStarted() {
+        replay.addEvent(simulation.getTickCount(), Replay.EVENT_START_LEVEL, 0);
+    }
+
+    void nextLevel() {
+        replay.addEvent(simulation.getTickCount(), Replay.EVENT_NEXT_LEVEL, 0);
+    }
+
+    void deathResolved(FluidMovementPlayer dyingPlayer) {
+        int playerIndex = simulation.getPlayers().indexOf(dyingPlayer);
+        if (playerIndex >= 0) {
+            replay.addEvent(simulation.getTickCount(), Replay.EVENT_RESOLVE_DEATH, playerIndex);
+        }
+    }
+
+    void botDecision(AIBot.Decision decision) {
+        replay.addEvent(simulation.getTickCount(), Replay.EVENT_BOT_DECISION, Replay.botDecisionArgument(decision));
+    }
+
+    private void recordKey(int type, KeyCode keyCode) {
+        // Les touches sans effet sur la simulation ne sont pas conservées
+        int keyIndex = Replay.keyIndex(keyCode);
+        if (keyIndex >= 0) {
+            replay.addEvent(simulation.getTickCount(), type, keyIndex);
+        }
+    }
+
+    // ========== FIN D'ENREGISTREMENT ==========
+
+    /**
+     * Fige le résultat courant de la partie (ticks, niveau, scores) dans l'enregistrement
+     * @return L'enregistrement
+     */
+    public Replay finish() {
+        List<FluidMovementPlayer> players = simulation.getPlayers();
+        int[] scores = new int[players.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = players.get(i).getScore();
+        }
+        replay.finish(simulation.getTickCount(), simulation.getCurrentLevel(), scores);
+        return replay;
+    }
+
+    /**
+     * @return L'enregistrement en cours
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+
+    /**
+     * Termine l'enregistrement et l'écrit dans le répertoire replays/, sous un nom horodaté
+     * @return Le fichier écrit, ou null en cas d'erreur
+     */
+    public Path saveToReplayDirectory() {
+        Path file = Paths.get(REPLAY_DIR, "replay-" + LocalDateTime.now().format(REPLAY_NAME_FORMAT) + ".bmr");
+        try {
+            finish().save(file);
+            GameLog.info(LOG_CATEGORY, "Replay enregistré : " + file + " (" + replay.getEventCount() + " événements, "
+                    + replay.getFinalTick() + " ticks)");
+            return file;
+        } catch (IOException e) {
+            GameLog.error(LOG_CATEGORY, "Erreur lors de l'enregistrement du replay : " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package bomberman.bomberman;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Visionneuse de replay : rejoue une partie enregistrée en temps réel avec le rendu du jeu.
+ *
+ * Utilisation :
+ * - argument : fichier .bmr à rejouer (par défaut, le plus récent du répertoire replays/)
+ * - Espace pour mettre en pause / reprendre
+ * - Echap pour quitter
+ */
+public class ReplayViewer extends Application {
+
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.GAME;
+
+    private static final int WINDOW_WIDTH = 816;
+    private static final int WINDOW_HEIGHT = 956;
+    private static final String REPLAY_DIR = "replays";
+
+    private ReplayPlayer player;
+    private GridRenderer renderer;
+    private Grid renderedGrid;
+    private boolean paused;
+
+    @Override
+    public void start(Stage primaryStage) {
+        Path file = findReplayFile(getParameters().getRaw());
+        if (file == null) {
+            GameLog.error(LOG_CATEGORY, "Aucun replay à lire (argument ou répertoire " + REPLAY_DIR + "/)");
+            Platform.exit();
+            return;
+        }
+        try {
+            player = new ReplayPlayer(Replay.load(file));
+        } catch (IOException e) {
+            GameLog.error(LOG_CATEGORY, "Lecture du replay impossible : " + file, e);
+            Platform.exit();
+            return;
+        }
+        GameLog.info(LOG_CATEGORY, "Lecture du replay " + file + " (graine " + player.getReplay().getSeed() + ")");
+
+        Canvas canvas = new Canvas(WINDOW_WIDTH, WINDOW_HEIGHT);
+        StackPane root = new StackPane();
+        root.getChildren().add(canvas);
+        Scene scene = new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT);
+        scene.setOnKeyPressed(event -> {
+            if (event.getCode() == KeyCode.SPACE) {
+                paused = !paused;
+            } else if (event.getCode() == KeyCode.ESCAPE) {
+                Platform.exit();
+            }
+        });
+
+        primaryStage.setTitle("Super Bomberman - Replay " + file.getFileName());
+        primaryStage.setScene(scene);
+        primaryStage.setResizable(false);
+        primaryStage.show();
+        scene.getRoot().requestFocus();
+
+        new AnimationTimer() {
+            private long lastFrameTime = -1;
+
+            @Override
+            public void handle(long now) {
+                long elapsed = lastFrameTime < 0 ? 0 : now - lastFrameTime;
+                lastFrameTime = now;
+
+                AnimationScheduler animations = AnimationScheduler.getInstance();
+                animations.setPaused(paused);
+                animations.advance(elapsed);
+                if (!paused) {
+                    player.advance(elapsed);
+                }
+                render(canvas);
+
+                if (player.isFinished()) {
+                    stop();
+                    GameLog.info(LOG_CATEGORY, "Fin du replay - score " + (player.verify() ? "identique" : "différent")
+                            + " de la partie enregistrée");
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Dessine la simulation, en recréant le renderer quand la grille change (niveau suivant)
+     */
+    private void render(Canvas canvas) {
+        GameSimulation simulation = player.getSimulation();
+        if (renderer == null || renderedGrid != simulation.getGrid()) {
+            renderedGrid = simulation.getGrid();
+            renderer = new GridRenderer(canvas, renderedGrid);
+        }
+        renderer.render(simulation, 0, true);
+    }
+
+    /**
+     * @param args Arguments de lancement
+     * @return Le fichier passé en argument, sinon le replay le plus récent, ou null
+     */
+    private static Path findReplayFile(List<String> args) {
+        if (!args.isEmpty()) {
+            return Paths.get(args.get(0));
+        }
+        Path directory = Paths.get(REPLAY_DIR);
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> replays = files.filter(p -> p.toString().endsWith(".bmr"))
+                    .sorted(Comparator.comparing(Path::getFileName))
+                    .collect(Collectors.toList());
+            return replays.isEmpty() ? null : replays.get(replays.size() - 1);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
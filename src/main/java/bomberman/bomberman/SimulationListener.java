@@ -0,0 +1,56 @@
+package bomberman.bomberman;
+
+import java.util.List;
+
+/**
+ * Interface d'écoute des événements de la simulation de jeu.
+ * Permet à la couche de présentation (Launcher, GridRenderer, sons) de réagir
+ * aux événements produits par GameSimulation sans que la simulation ne dépende de JavaFX.
+ * Toutes les méthodes ont une implémentation vide par défaut.
+ */
+public interface SimulationListener {
+
+    /**
+     * Appelée quand une bombe vient d'être posée (joueur ou Bomb Rain)
+     * @param bomb La bombe posée
+     */
+    default void onBombPlaced(Bomb bomb) {
+    }
+
+    /**
+     * Appelée quand une bombe explose (y compris en réaction en chaîne)
+     * @param explosion L'explosion créée
+     */
+    default void onBombExploded(Explosion explosion) {
+    }
+
+    /**
+     * Appelée quand un joueur ramasse un power-up
+     * @param collector Le joueur qui a collecté le power-up
+     * @param powerUp Le power-up collecté
+     */
+    default void onPowerUpCollected(FluidMovementPlayer collector, PowerUp powerUp) {
+    }
+
+    /**
+     * Appelée quand un ou plusieurs joueurs entrent dans leur séquence de mort.
+     * Si la résolution automatique est désactivée, l'écouteur doit appeler
+     * GameSimulation.resolveDeath() pour chaque joueur à la fin de son animation.
+     * @param dyingPlayers Les joueurs qui meurent pendant ce tick
+     * @param gameFrozen true si la partie passe en état PLAYER_DYING
+     */
+    default void onPlayersDying(List<FluidMovementPlayer> dyingPlayers, boolean gameFrozen) {
+    }
+
+    /**
+     * Appelée quand le niveau est terminé (porte de sortie atteinte)
+     */
+    default void onLevelCompleted() {
+    }
+
+    /**
+     * Appelée quand plus aucun joueur n'est en vie
+     */
+    default void onGameOver() {
+    }
+}
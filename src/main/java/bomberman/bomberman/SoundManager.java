@@ -17,6 +17,8 @@ import java.util.Map;
  */
 public class SoundManager {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.AUDIO;
+    
     // Map pour stocker les différents MediaPlayer (musiques longues)
     private static final Map<String, MediaPlayer> mediaPlayers = new HashMap<>();
     
@@ -27,6 +29,11 @@ public class SoundManager {
     private static final Map<String, List<AudioClip>> audioClipPools = new HashMap<>();
     private static final Map<String, Integer> poolIndexes = new HashMap<>();
     
+    // Effets sonores coupés pour les simulations sans affichage (tournoi de bots, replays)
+    private static volatile boolean effectsEnabled = true;
+    // Effets coupés pour le seul thread courant (simulations de prévision du bot MCTS, pendant une partie affichée)
+    private static final ThreadLocal<Boolean> threadMuted = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
     // Volumes globaux séparés
     private static double musicVolumeGlobal = 0.8; // 80% par défaut
     private static double effectsVolumeGlobal = 0.8; // 80% par défaut
@@ -40,35 +47,35 @@ public class SoundManager {
         try {
             // Vérifier que le fichier existe
             if (SoundManager.class.getResource(resourcePath) == null) {
-                System.err.println("Fichier audio non trouvé : " + resourcePath);
+                GameLog.error(LOG_CATEGORY, "Fichier audio non trouvé : " + resourcePath);
                 return;
             }
             
             // Charger le fichier audio depuis les ressources
             String audioPath = SoundManager.class.getResource(resourcePath).toExternalForm();
-            System.out.println("Tentative de chargement : " + audioPath);
+            GameLog.info(LOG_CATEGORY, "Tentative de chargement : " + audioPath);
             
             Media media = new Media(audioPath);
             
             // Ajouter des listeners pour le média
             media.setOnError(() -> {
-                System.err.println("Erreur Media pour " + name + " : " + media.getError());
+                GameLog.error(LOG_CATEGORY, "Erreur Media pour " + name + " : " + media.getError());
             });
             
             MediaPlayer mediaPlayer = new MediaPlayer(media);
             
             // Ajouter des listeners pour le lecteur
             mediaPlayer.setOnError(() -> {
-                System.err.println("Erreur MediaPlayer pour " + name + " : " + mediaPlayer.getError());
+                GameLog.error(LOG_CATEGORY, "Erreur MediaPlayer pour " + name + " : " + mediaPlayer.getError());
             });
             
             mediaPlayer.setOnReady(() -> {
-                System.out.println("MediaPlayer prêt pour : " + name);
-                System.out.println("Durée : " + mediaPlayer.getTotalDuration());
+                GameLog.info(LOG_CATEGORY, "MediaPlayer prêt pour : " + name);
+                GameLog.info(LOG_CATEGORY, "Durée : " + mediaPlayer.getTotalDuration());
             });
             
             mediaPlayer.setOnEndOfMedia(() -> {
-                System.out.println("Fin de lecture pour : " + name);
+                GameLog.info(LOG_CATEGORY, "Fin de lecture pour : " + name);
             });
             
             // Définir un volume par défaut
@@ -77,9 +84,9 @@ public class SoundManager {
             // Stocker le MediaPlayer dans la map
             mediaPlayers.put(name, mediaPlayer);
             
-            System.out.println("Son chargé avec succès : " + name + " depuis " + resourcePath);
+            GameLog.info(LOG_CATEGORY, "Son chargé avec succès : " + name + " depuis " + resourcePath);
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement du son " + name + " : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement du son " + name + " : " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -94,13 +101,13 @@ public class SoundManager {
         try {
             // Vérifier que le fichier existe
             if (SoundManager.class.getResource(resourcePath) == null) {
-                System.err.println("Fichier audio non trouvé : " + resourcePath);
+                GameLog.error(LOG_CATEGORY, "Fichier audio non trouvé : " + resourcePath);
                 return;
             }
             
             // Charger le fichier audio depuis les ressources
             String audioPath = SoundManager.class.getResource(resourcePath).toExternalForm();
-            System.out.println("Tentative de chargement effet sonore AudioClip : " + audioPath);
+            GameLog.info(LOG_CATEGORY, "Tentative de chargement effet sonore AudioClip : " + audioPath);
             
             AudioClip audioClip = new AudioClip(audioPath);
             
@@ -141,9 +148,9 @@ public class SoundManager {
             audioClipPools.put(name, clipPool);
             poolIndexes.put(name, 0);
             
-            System.out.println("Effet sonore AudioClip préchargé avec succès : " + name + " depuis " + resourcePath);
+            GameLog.info(LOG_CATEGORY, "Effet sonore AudioClip préchargé avec succès : " + name + " depuis " + resourcePath);
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'effet sonore AudioClip " + name + " : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'effet sonore AudioClip " + name + " : " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -154,6 +161,9 @@ public class SoundManager {
      * @param name Nom de l'effet sonore à jouer
      */
     public static void playEffect(String name) {
+        if (!effectsEnabled || threadMuted.get()) {
+            return;
+        }
         List<AudioClip> clipPool = audioClipPools.get(name);
         if (clipPool != null && !clipPool.isEmpty()) {
             try {
@@ -161,7 +171,7 @@ public class SoundManager {
                 int currentIndex = poolIndexes.get(name);
                 AudioClip audioClip = clipPool.get(currentIndex);
                 
-                // System.out.println("Lecture effet sonore : " + name + " (instance " + currentIndex + ")");
+                // GameLog.info(LOG_CATEGORY, "Lecture effet sonore : " + name + " (instance " + currentIndex + ")");
                 
                 // Lecture immédiate sans aucune latence
                 audioClip.play();
@@ -169,15 +179,32 @@ public class SoundManager {
                 // Passer à l'instance suivante pour le prochain appel
                 poolIndexes.put(name, (currentIndex + 1) % clipPool.size());
             } catch (Exception e) {
-                System.err.println("Erreur lors de la lecture de l'effet sonore AudioClip " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture de l'effet sonore AudioClip " + name + " : " + e.getMessage());
                 e.printStackTrace();
             }
         } else {
-            System.err.println("Pool d'effets sonores AudioClip non trouvé : " + name);
-            System.err.println("Pools disponibles : " + audioClipPools.keySet());
+            GameLog.error(LOG_CATEGORY, "Pool d'effets sonores AudioClip non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Pools disponibles : " + audioClipPools.keySet());
         }
     }
     
+    /**
+     * Active ou coupe tous les effets sonores. Les simulations sans affichage les coupent :
+     * aucun son n'y est chargé et plusieurs simulations peuvent tourner en parallèle.
+     * @param enabled false pour ignorer tous les appels à playEffect
+     */
+    public static void setEffectsEnabled(boolean enabled) {
+        effectsEnabled = enabled;
+    }
+    
+    /**
+     * Coupe ou rétablit les effets sonores déclenchés par le thread courant
+     * @param muted true pour ignorer les appels à playEffect du thread courant
+     */
+    public static void setThreadMuted(boolean muted) {
+        threadMuted.set(muted);
+    }
+    
     /**
      * Joue le son de placement de bombe
      * Son spécialement optimisé pour une latence minimale lors du placement
@@ -213,12 +240,12 @@ public class SoundManager {
                 mediaPlayer.stop(); // Arrêter si déjà en cours
                 mediaPlayer.seek(Duration.ZERO); // Revenir au début
                 mediaPlayer.play();
-                System.out.println("Lecture du son : " + name);
+                GameLog.info(LOG_CATEGORY, "Lecture du son : " + name);
             } catch (Exception e) {
-                System.err.println("Erreur lors de la lecture du son " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son " + name + " : " + e.getMessage());
             }
         } else {
-            System.err.println("Son non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Son non trouvé : " + name);
         }
     }
     
@@ -238,26 +265,26 @@ public class SoundManager {
                 // Configurer le callback de fin
                 if (onEndCallback != null) {
                     mediaPlayer.setOnEndOfMedia(() -> {
-                        System.out.println("Fin de lecture pour : " + name + " - Exécution du callback");
+                        GameLog.info(LOG_CATEGORY, "Fin de lecture pour : " + name + " - Exécution du callback");
                         onEndCallback.run();
                     });
                 } else {
                     mediaPlayer.setOnEndOfMedia(() -> {
-                        System.out.println("Fin de lecture pour : " + name);
+                        GameLog.info(LOG_CATEGORY, "Fin de lecture pour : " + name);
                     });
                 }
                 
                 mediaPlayer.play();
-                System.out.println("Lecture unique du son : " + name);
+                GameLog.info(LOG_CATEGORY, "Lecture unique du son : " + name);
             } catch (Exception e) {
-                System.err.println("Erreur lors de la lecture unique du son " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture unique du son " + name + " : " + e.getMessage());
                 // En cas d'erreur, exécuter quand même le callback pour ne pas bloquer le jeu
                 if (onEndCallback != null) {
                     onEndCallback.run();
                 }
             }
         } else {
-            System.err.println("Son non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Son non trouvé : " + name);
             // Si le son n'existe pas, exécuter quand même le callback pour ne pas bloquer le jeu
             if (onEndCallback != null) {
                 onEndCallback.run();
@@ -277,12 +304,12 @@ public class SoundManager {
                 mediaPlayer.seek(Duration.ZERO); // Revenir au début
                 mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Boucle infinie
                 mediaPlayer.play();
-                System.out.println("Lecture en boucle du son : " + name);
+                GameLog.info(LOG_CATEGORY, "Lecture en boucle du son : " + name);
             } catch (Exception e) {
-                System.err.println("Erreur lors de la lecture en boucle du son " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture en boucle du son " + name + " : " + e.getMessage());
             }
         } else {
-            System.err.println("Son non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Son non trouvé : " + name);
         }
     }
     
@@ -295,12 +322,12 @@ public class SoundManager {
         if (mediaPlayer != null) {
             try {
                 mediaPlayer.stop();
-                System.out.println("Arrêt du son : " + name);
+                GameLog.info(LOG_CATEGORY, "Arrêt du son : " + name);
             } catch (Exception e) {
-                System.err.println("Erreur lors de l'arrêt du son " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de l'arrêt du son " + name + " : " + e.getMessage());
             }
         } else {
-            System.err.println("Son non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Son non trouvé : " + name);
         }
     }
     
@@ -311,9 +338,9 @@ public class SoundManager {
         for (Map.Entry<String, MediaPlayer> entry : mediaPlayers.entrySet()) {
             try {
                 entry.getValue().stop();
-                System.out.println("Arrêt du son : " + entry.getKey());
+                GameLog.info(LOG_CATEGORY, "Arrêt du son : " + entry.getKey());
             } catch (Exception e) {
-                System.err.println("Erreur lors de l'arrêt du son " + entry.getKey() + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de l'arrêt du son " + entry.getKey() + " : " + e.getMessage());
             }
         }
     }
@@ -341,12 +368,12 @@ public class SoundManager {
         if (mediaPlayer != null) {
             try {
                 mediaPlayer.setVolume(Math.max(0.0, Math.min(1.0, volume))); // Clamp entre 0 et 1
-                System.out.println("Volume du son " + name + " défini à : " + volume);
+                GameLog.info(LOG_CATEGORY, "Volume du son " + name + " défini à : " + volume);
             } catch (Exception e) {
-                System.err.println("Erreur lors de la définition du volume du son " + name + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la définition du volume du son " + name + " : " + e.getMessage());
             }
         } else {
-            System.err.println("Son non trouvé : " + name);
+            GameLog.error(LOG_CATEGORY, "Son non trouvé : " + name);
         }
     }
     
@@ -356,7 +383,7 @@ public class SoundManager {
      */
     public static void setMusicVolume(int volumePercent) {
         musicVolumeGlobal = Math.max(0.0, Math.min(1.0, volumePercent / 100.0));
-        System.out.println("Volume global musique défini à : " + volumePercent + "% (" + musicVolumeGlobal + ")");
+        GameLog.info(LOG_CATEGORY, "Volume global musique défini à : " + volumePercent + "% (" + musicVolumeGlobal + ")");
         
         // Appliquer le nouveau volume à toutes les musiques en cours
         String[] musicSounds = {"intro", "level_start", "theme_world_1", "level_clear"};
@@ -374,7 +401,7 @@ public class SoundManager {
      */
     public static void setEffectsVolume(int volumePercent) {
         effectsVolumeGlobal = Math.max(0.0, Math.min(1.0, volumePercent / 100.0));
-        System.out.println("Volume global effets défini à : " + volumePercent + "% (" + effectsVolumeGlobal + ")");
+        GameLog.info(LOG_CATEGORY, "Volume global effets défini à : " + volumePercent + "% (" + effectsVolumeGlobal + ")");
         
         // Appliquer le nouveau volume à tous les pools d'effets sonores
         for (Map.Entry<String, List<AudioClip>> poolEntry : audioClipPools.entrySet()) {
@@ -412,9 +439,9 @@ public class SoundManager {
         for (Map.Entry<String, MediaPlayer> entry : mediaPlayers.entrySet()) {
             try {
                 entry.getValue().dispose();
-                System.out.println("Ressources MediaPlayer libérées pour : " + entry.getKey());
+                GameLog.info(LOG_CATEGORY, "Ressources MediaPlayer libérées pour : " + entry.getKey());
             } catch (Exception e) {
-                System.err.println("Erreur lors de la libération des ressources MediaPlayer pour " + entry.getKey() + " : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors de la libération des ressources MediaPlayer pour " + entry.getKey() + " : " + e.getMessage());
             }
         }
         mediaPlayers.clear();
@@ -423,8 +450,8 @@ public class SoundManager {
         audioClips.clear();
         audioClipPools.clear();
         poolIndexes.clear();
-        System.out.println("Ressources AudioClip et pools nettoyées");
-        System.out.println("Toutes les ressources audio nettoyées");
+        GameLog.info(LOG_CATEGORY, "Ressources AudioClip et pools nettoyées");
+        GameLog.info(LOG_CATEGORY, "Toutes les ressources audio nettoyées");
     }
     
     /**
@@ -441,7 +468,7 @@ public class SoundManager {
                 break;
             // Ajouter d'autres niveaux ici dans le futur
             default:
-                System.out.println("Aucune musique définie pour le niveau " + levelNumber);
+                GameLog.info(LOG_CATEGORY, "Aucune musique définie pour le niveau " + levelNumber);
                 return;
         }
         
@@ -450,7 +477,7 @@ public class SoundManager {
         
         // Jouer la musique du niveau en boucle
         loop(musicName);
-        System.out.println("Musique de niveau " + levelNumber + " démarrée : " + musicName);
+        GameLog.info(LOG_CATEGORY, "Musique de niveau " + levelNumber + " démarrée : " + musicName);
     }
     
     /**
@@ -461,7 +488,7 @@ public class SoundManager {
         stop("theme_world_1");
         // Ajouter d'autres musiques de niveau ici dans le futur
         
-        System.out.println("Musique de niveau arrêtée");
+        GameLog.info(LOG_CATEGORY, "Musique de niveau arrêtée");
     }
     
     /**
@@ -473,6 +500,6 @@ public class SoundManager {
         stop("theme_world_1");
         // Ajouter d'autres musiques ici dans le futur
         
-        System.out.println("Toutes les musiques arrêtées");
+        GameLog.info(LOG_CATEGORY, "Toutes les musiques arrêtées");
     }
 } 
\ No newline at end of file
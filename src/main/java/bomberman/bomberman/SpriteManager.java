@@ -14,6 +14,8 @@ import java.util.Map;
  */
 public class SpriteManager {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RESOURCES;
+    
     // Instance singleton
     private static SpriteManager instance;
     
@@ -123,10 +125,10 @@ public class SpriteManager {
                 BombermanSprite.reloadSprites();
                 EnemyAnimator.reloadSprites();
             } catch (Exception e) {
-                System.err.println("Erreur lors du rechargement des sprites : " + e.getMessage());
+                GameLog.error(LOG_CATEGORY, "Erreur lors du rechargement des sprites : " + e.getMessage());
             }
             
-            System.out.println("SpriteManager - Thème changé vers : " + theme.getDisplayName());
+            GameLog.info(LOG_CATEGORY, "SpriteManager - Thème changé vers : " + theme.getDisplayName());
         }
     }
     
@@ -163,7 +165,7 @@ public class SpriteManager {
      * @param theme Le thème à charger
      */
     private void loadThemeSprites(Theme theme) {
-        System.out.println("Chargement des sprites pour le thème : " + theme.getDisplayName());
+        GameLog.info(LOG_CATEGORY, "Chargement des sprites pour le thème : " + theme.getDisplayName());
         
         ThemeSprites sprites = new ThemeSprites();
         
@@ -181,7 +183,7 @@ public class SpriteManager {
         }
         
         spriteCache.put(theme, sprites);
-        System.out.println("Sprites du thème " + theme.getDisplayName() + " chargés avec succès");
+        GameLog.info(LOG_CATEGORY, "Sprites du thème " + theme.getDisplayName() + " chargés avec succès");
     }
     
     /**
@@ -267,10 +269,10 @@ public class SpriteManager {
             sprites.intro = new Image(getClass().getResourceAsStream("/images/intro.png"));
             sprites.icon = new Image(getClass().getResourceAsStream("/images/icon.png"));
             
-            System.out.println("✅ Tous les sprites du thème BOMBERMAN chargés avec succès");
+            GameLog.info(LOG_CATEGORY, "✅ Tous les sprites du thème BOMBERMAN chargés avec succès");
             
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des sprites BOMBERMAN : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "❌ Erreur lors du chargement des sprites BOMBERMAN : " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -288,14 +290,14 @@ public class SpriteManager {
                 sprites.playerFixeBas = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_fixe_bas_pokemon.png"));
                 sprites.playerFixeGauche = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_fixe_gauche_pokemon.png"));
                 sprites.playerFixeDroite = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_fixe_droite_pokemon.png"));
-                System.out.println("✅ Sprites fixes joueur Pokemon chargés depuis /sprites/pokemon/perso/");
+                GameLog.info(LOG_CATEGORY, "✅ Sprites fixes joueur Pokemon chargés depuis /sprites/pokemon/perso/");
             } catch (Exception e) {
                 // Fallback vers les sprites Bomberman
                 sprites.playerFixeHaut = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_fixe_haut.png"));
                 sprites.playerFixeBas = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_fixe_bas.png"));
                 sprites.playerFixeGauche = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_fixe_gauche.png"));
                 sprites.playerFixeDroite = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_fixe_droite.png"));
-                System.out.println("⚠️ Sprites fixes joueur Pokemon non trouvés, utilisation des sprites Bomberman");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Sprites fixes joueur Pokemon non trouvés, utilisation des sprites Bomberman");
                 e.printStackTrace();
             }
             
@@ -309,7 +311,7 @@ public class SpriteManager {
                 sprites.playerMarcheGauche2 = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_marche_gauche_pokemon_2.png"));
                 sprites.playerMarcheDroite1 = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_marche_droite_pokemon_1.png"));
                 sprites.playerMarcheDroite2 = new Image(getClass().getResourceAsStream("/sprites/pokemon/perso/bomberman_marche_droite_pokemon_2.png"));
-                System.out.println("✅ Sprites de marche joueur Pokemon chargés depuis /sprites/pokemon/perso/");
+                GameLog.info(LOG_CATEGORY, "✅ Sprites de marche joueur Pokemon chargés depuis /sprites/pokemon/perso/");
             } catch (Exception e) {
                 // Fallback vers les sprites Bomberman
                 sprites.playerMarcheHaut1 = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_marche_haut1.png"));
@@ -320,7 +322,7 @@ public class SpriteManager {
                 sprites.playerMarcheGauche2 = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_marche_gauche2.png"));
                 sprites.playerMarcheDroite1 = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_marche_droite1.png"));
                 sprites.playerMarcheDroite2 = new Image(getClass().getResourceAsStream("/sprites/perso/bomberman_marche_droite2.png"));
-                System.out.println("⚠️ Sprites de marche joueur Pokemon non trouvés, utilisation des sprites Bomberman");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Sprites de marche joueur Pokemon non trouvés, utilisation des sprites Bomberman");
                 e.printStackTrace();
             }
             
@@ -329,14 +331,14 @@ public class SpriteManager {
             for (int i = 0; i < 8; i++) {
                 sprites.playerDeath[i] = sprites.playerFixeBas; // Utiliser le sprite fixe Pokemon "bas" pour toutes les frames
             }
-            System.out.println("✅ Animation de mort Pokemon configurée (sprite fixe bas)");
+            GameLog.info(LOG_CATEGORY, "✅ Animation de mort Pokemon configurée (sprite fixe bas)");
             
             // ✨ **DIFFÉRENCE POKEMON** : Sprites de victoire (utiliser uniquement les sprites fixes Pokemon)
             // Au lieu d'utiliser les 9 frames d'animation de victoire Bomberman, on utilise le sprite fixe Pokemon "bas"
             for (int i = 0; i < 9; i++) {
                 sprites.playerWin[i] = sprites.playerFixeBas; // Utiliser le sprite fixe Pokemon "bas" pour toutes les frames
             }
-            System.out.println("✅ Animation de victoire Pokemon configurée (sprite fixe bas)");
+            GameLog.info(LOG_CATEGORY, "✅ Animation de victoire Pokemon configurée (sprite fixe bas)");
             
             // ✨ **DIFFÉRENCE POKEMON** : Sprites ennemis Pokemon (2 frames par direction au lieu de 4)
             try {
@@ -371,7 +373,7 @@ public class SpriteManager {
                 sprites.enemyDroite[2] = enemyDroitePokemon1; // Répéter frame 1
                 sprites.enemyDroite[3] = enemyDroitePokemon2; // Répéter frame 2
                 
-                System.out.println("✅ Sprites ennemis Pokemon chargés avec succès depuis /sprites/pokemon/ennemi/");
+                GameLog.info(LOG_CATEGORY, "✅ Sprites ennemis Pokemon chargés avec succès depuis /sprites/pokemon/ennemi/");
             } catch (Exception e) {
                 // Fallback vers les sprites Puropen si les sprites Pokemon ne sont pas trouvés
                 for (int i = 0; i < 4; i++) {
@@ -380,17 +382,17 @@ public class SpriteManager {
                     sprites.enemyGauche[i] = new Image(getClass().getResourceAsStream("/sprites/ennemis/Puropen_gauche_" + (i + 1) + ".png"));
                     sprites.enemyDroite[i] = new Image(getClass().getResourceAsStream("/sprites/ennemis/Puropen_droite_" + (i + 1) + ".png"));
                 }
-                System.out.println("⚠️ Sprites ennemis Pokemon non trouvés, utilisation des sprites Puropen");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Sprites ennemis Pokemon non trouvés, utilisation des sprites Puropen");
                 e.printStackTrace();
             }
             
             // ✨ **DIFFÉRENCE POKEMON** : Environnement spécial Pokemon
             try {
                 sprites.blocNonDestructible = new Image(getClass().getResourceAsStream("/sprites/pokemon/bloc_non_destructible_pokemon.png"));
-                System.out.println("✅ Bloc non destructible Pokemon chargé depuis /sprites/pokemon/");
+                GameLog.info(LOG_CATEGORY, "✅ Bloc non destructible Pokemon chargé depuis /sprites/pokemon/");
             } catch (Exception e) {
                 sprites.blocNonDestructible = new Image(getClass().getResourceAsStream("/sprites/bloc_non_destructible_48x48.png"));
-                System.out.println("⚠️ Bloc non destructible Pokemon non trouvé, utilisation du bloc Bomberman");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Bloc non destructible Pokemon non trouvé, utilisation du bloc Bomberman");
                 e.printStackTrace();
             }
             
@@ -402,11 +404,11 @@ public class SpriteManager {
             // ✨ **DIFFÉRENCE POKEMON** : Contours spéciaux Pokemon
             try {
                 sprites.contoursMap = new Image(getClass().getResourceAsStream("/sprites/pokemon/contours_map_pokemon.png"));
-                System.out.println("✅ Contours Pokemon chargés avec succès depuis /sprites/pokemon/");
+                GameLog.info(LOG_CATEGORY, "✅ Contours Pokemon chargés avec succès depuis /sprites/pokemon/");
             } catch (Exception e) {
                 // Fallback vers les contours Bomberman si l'image Pokemon n'est pas trouvée
                 sprites.contoursMap = new Image(getClass().getResourceAsStream("/sprites/contours_map_816x624.png"));
-                System.out.println("⚠️ Contours Pokemon non trouvés, utilisation des contours Bomberman");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Contours Pokemon non trouvés, utilisation des contours Bomberman");
                 e.printStackTrace();
             }
             
@@ -418,14 +420,14 @@ public class SpriteManager {
                     sprites.blocDestructibleV1[i] = blocDestructiblePokemon;
                     sprites.blocDestructibleV2[i] = blocDestructiblePokemon;
                 }
-                System.out.println("✅ Blocs destructibles Pokemon chargés (sprite unique) depuis /sprites/pokemon/");
+                GameLog.info(LOG_CATEGORY, "✅ Blocs destructibles Pokemon chargés (sprite unique) depuis /sprites/pokemon/");
             } catch (Exception e) {
                 // Fallback vers les blocs Bomberman animés
                 for (int i = 0; i < 4; i++) {
                     sprites.blocDestructibleV1[i] = new Image(getClass().getResourceAsStream("/sprites/bloc_destructible_v1_" + (i + 1) + "_48x48.png"));
                     sprites.blocDestructibleV2[i] = new Image(getClass().getResourceAsStream("/sprites/bloc_destructible_v2_" + (i + 1) + "_48x48.png"));
                 }
-                System.out.println("⚠️ Blocs destructibles Pokemon non trouvés, utilisation des blocs Bomberman animés");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Blocs destructibles Pokemon non trouvés, utilisation des blocs Bomberman animés");
                 e.printStackTrace();
             }
             
@@ -434,13 +436,13 @@ public class SpriteManager {
                 sprites.bomb1 = new Image(getClass().getResourceAsStream("/sprites/pokemon/bomb_pokemon_1.png"));
                 sprites.bomb2 = new Image(getClass().getResourceAsStream("/sprites/pokemon/bomb_pokemon_2.png"));
                 sprites.bomb3 = new Image(getClass().getResourceAsStream("/sprites/pokemon/bomb_pokemon_3.png"));
-                System.out.println("✅ Bombes Pokemon chargées avec succès depuis /sprites/pokemon/");
+                GameLog.info(LOG_CATEGORY, "✅ Bombes Pokemon chargées avec succès depuis /sprites/pokemon/");
             } catch (Exception e) {
                 // Fallback vers les bombes Bomberman si les images Pokemon ne sont pas trouvées
                 sprites.bomb1 = new Image(getClass().getResourceAsStream("/sprites/bomb_1_48x48.png"));
                 sprites.bomb2 = new Image(getClass().getResourceAsStream("/sprites/bomb_2_48x48.png"));
                 sprites.bomb3 = new Image(getClass().getResourceAsStream("/sprites/bomb_3_48x48.png"));
-                System.out.println("⚠️ Bombes Pokemon non trouvées, utilisation des bombes Bomberman");
+                GameLog.warn(LOG_CATEGORY, "⚠️ Bombes Pokemon non trouvées, utilisation des bombes Bomberman");
                 e.printStackTrace();
             }
             
@@ -468,10 +470,10 @@ public class SpriteManager {
             sprites.intro = new Image(getClass().getResourceAsStream("/images/intro.png"));
             sprites.icon = new Image(getClass().getResourceAsStream("/images/icon.png"));
             
-            System.out.println("✅ Tous les sprites du thème POKEMON chargés avec succès");
+            GameLog.info(LOG_CATEGORY, "✅ Tous les sprites du thème POKEMON chargés avec succès");
             
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des sprites POKEMON : " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "❌ Erreur lors du chargement des sprites POKEMON : " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -483,17 +485,17 @@ public class SpriteManager {
      */
     public void clearCache() {
         spriteCache.clear();
-        System.out.println("Cache des sprites vidé");
+        GameLog.info(LOG_CATEGORY, "Cache des sprites vidé");
     }
     
     /**
      * Précharge tous les sprites de tous les thèmes
      */
     public void preloadAllThemes() {
-        System.out.println("Préchargement de tous les thèmes...");
+        GameLog.info(LOG_CATEGORY, "Préchargement de tous les thèmes...");
         for (Theme theme : Theme.values()) {
             loadThemeSprites(theme);
         }
-        System.out.println("Préchargement terminé");
+        GameLog.info(LOG_CATEGORY, "Préchargement terminé");
     }
 } 
\ No newline at end of file
@@ -19,6 +19,8 @@ import java.util.ResourceBundle;
  */
 public class ThemeMenuController implements Initializable {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.UI;
+    
     @FXML private Label themeTitle;
     @FXML private VBox themePreview;
     @FXML private Label currentThemeName;
@@ -162,7 +164,7 @@ public class ThemeMenuController implements Initializable {
         currentZone = 0;
         updateButtons();
         playNavigationSound();
-        System.out.println("Navigation vers la zone thème");
+        GameLog.info(LOG_CATEGORY, "Navigation vers la zone thème");
     }
     
     /**
@@ -173,7 +175,7 @@ public class ThemeMenuController implements Initializable {
         selectedButtonIndex = 0; // Commencer sur "Confirmer"
         updateButtons();
         playNavigationSound();
-        System.out.println("Navigation vers la zone boutons");
+        GameLog.info(LOG_CATEGORY, "Navigation vers la zone boutons");
     }
     
     /**
@@ -267,7 +269,7 @@ public class ThemeMenuController implements Initializable {
             themePreviewImage.setImage(previewImage);
             
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de l'image d'aperçu pour " + theme.name() + ": " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de l'image d'aperçu pour " + theme.name() + ": " + e.getMessage());
             // Image par défaut en cas d'erreur
             themePreviewImage.setImage(null);
         }
@@ -285,7 +287,7 @@ public class ThemeMenuController implements Initializable {
             themeScreenshot.setImage(screenshot);
             
         } catch (Exception e) {
-            System.err.println("Erreur lors du chargement de la capture d'écran pour " + theme.name() + ": " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors du chargement de la capture d'écran pour " + theme.name() + ": " + e.getMessage());
             // Image par défaut en cas d'erreur
             themeScreenshot.setImage(null);
         }
@@ -342,7 +344,7 @@ public class ThemeMenuController implements Initializable {
         try {
             SoundManager.playEffect("menu_cursor");
         } catch (Exception e) {
-            System.err.println("Erreur lors de la lecture du son de navigation: " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son de navigation: " + e.getMessage());
         }
     }
     
@@ -353,7 +355,7 @@ public class ThemeMenuController implements Initializable {
         try {
             SoundManager.playEffect("menu_select");
         } catch (Exception e) {
-            System.err.println("Erreur lors de la lecture du son de sélection: " + e.getMessage());
+            GameLog.error(LOG_CATEGORY, "Erreur lors de la lecture du son de sélection: " + e.getMessage());
         }
     }
     
@@ -10,6 +10,8 @@ import java.nio.file.Paths;
  */
 public class ThemeSelector {
     
+    private static final GameLog.Category LOG_CATEGORY = GameLog.Category.RESOURCES;
+    
     // Fichier de sauvegarde du thème sélectionné
     private static final String THEME_FILE = "theme.txt";
     
@@ -34,21 +36,21 @@ public class ThemeSelector {
         // ✨ **MODIFICATION** : Toujours utiliser le thème BOMBERMAN par défaut au démarrage
         // Ignorer le fichier de sauvegarde pour forcer le thème Bomberman
         currentTheme = Theme.BOMBERMAN;
-        System.out.println("Thème par défaut chargé : " + currentTheme.getDisplayName());
+        GameLog.info(LOG_CATEGORY, "Thème par défaut chargé : " + currentTheme.getDisplayName());
         
         /* Code original commenté pour référence :
         try {
             if (Files.exists(Paths.get(THEME_FILE))) {
                 String themeContent = Files.readString(Paths.get(THEME_FILE)).trim();
                 currentTheme = Theme.valueOf(themeContent);
-                System.out.println("Thème chargé : " + currentTheme.getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Thème chargé : " + currentTheme.getDisplayName());
             } else {
                 currentTheme = Theme.BOMBERMAN;
-                System.out.println("Aucun fichier de thème trouvé, utilisation du thème par défaut : " + currentTheme.getDisplayName());
+                GameLog.info(LOG_CATEGORY, "Aucun fichier de thème trouvé, utilisation du thème par défaut : " + currentTheme.getDisplayName());
             }
         } catch (Exception e) {
             currentTheme = Theme.BOMBERMAN;
-            System.out.println("Erreur lors du chargement du thème : " + e.getMessage() + ", utilisation du thème par défaut");
+            GameLog.info(LOG_CATEGORY, "Erreur lors du chargement du thème : " + e.getMessage() + ", utilisation du thème par défaut");
         }
         */
     }
@@ -59,9 +61,9 @@ public class ThemeSelector {
     private void saveTheme() {
         try {
             Files.writeString(Paths.get(THEME_FILE), currentTheme.name());
-            System.out.println("Thème sauvegardé : " + currentTheme.getDisplayName());
+            GameLog.info(LOG_CATEGORY, "Thème sauvegardé : " + currentTheme.getDisplayName());
         } catch (IOException e) {
-            System.out.println("Erreur lors de la sauvegarde du thème : " + e.getMessage());
+            GameLog.info(LOG_CATEGORY, "Erreur lors de la sauvegarde du thème : " + e.getMessage());
         }
     }
     
@@ -80,7 +82,7 @@ public class ThemeSelector {
         saveTheme();
         // Synchroniser le SpriteManager avec le nouveau thème
         SpriteManager.getInstance().setTheme(currentTheme);
-        System.out.println("Thème changé vers : " + currentTheme.getDisplayName());
+        GameLog.info(LOG_CATEGORY, "Thème changé vers : " + currentTheme.getDisplayName());
     }
     
     /**
@@ -91,7 +93,7 @@ public class ThemeSelector {
         saveTheme();
         // Synchroniser le SpriteManager avec le nouveau thème
         SpriteManager.getInstance().setTheme(currentTheme);
-        System.out.println("Thème changé vers : " + currentTheme.getDisplayName());
+        GameLog.info(LOG_CATEGORY, "Thème changé vers : " + currentTheme.getDisplayName());
     }
     
     /**
@@ -104,7 +106,7 @@ public class ThemeSelector {
             saveTheme();
             // Synchroniser le SpriteManager avec le nouveau thème
             SpriteManager.getInstance().setTheme(currentTheme);
-            System.out.println("Thème défini : " + currentTheme.getDisplayName());
+            GameLog.info(LOG_CATEGORY, "Thème défini : " + currentTheme.getDisplayName());
         }
     }
     
@@ -0,0 +1,469 @@
+package bomberman.bomberman;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tournoi sans affichage entre deux bots du mode VS MACHINE, pour régler l'IA par force brute.
+ *
+ * Chaque match est une simulation indépendante (graine prise dans une plage) jouée à vitesse
+ * maximale sur un thread de travail : les matchs se répartissent sur tous les cœurs sans état
+ * partagé. Les deux réglages comparés (A et B) changent de côté à chaque graine, pour que
+ * l'avantage de position ou le timer global (qui ne vise que le joueur 1) ne favorise personne.
+ *
+ * Les morts sont résolues à la fin de leur animation, comme dans le jeu (et non dans le tick
+ * où elles surviennent, ce qui ferait perdre toutes ses vies à un joueur resté dans les flammes).
+ *
+ * Le tournoi agrège taux de victoire, durée des matchs, bombes posées et morts par cause.
+ *
+ * Un réglage peut être le bot MCTS (--a.mcts-playouts, --a.mcts-time) : sa recherche tourne sur un
+ * seul thread, les matchs occupant déjà tous les cœurs. Avec un nombre de rollouts et sans budget de
+ * temps, ses décisions et donc les résultats du tournoi sont reproductibles. Le débit de la recherche
+ * (rollouts par seconde) est affiché avec les résultats.
+ *
+ * Les matchs se jouent sur l'arène standard, ou sur une arène personnalisée (--arena=31x31).
+ *
+ * Utilisation :
+ * <pre>
+ * java bomberman.bomberman.TournamentRunner --matches=5000 --first-seed=1 --threads=8 \
+ *      --a.interval=300 --a.bomb-chance=0.08 --b.interval=200 --b.bomb-chance=0.15
+ * java bomberman.bomberman.TournamentRunner --matches=200 --b.mcts-playouts=400
+ * java bomberman.bomberman.TournamentRunner --matches=100 --arena=63x63
+ * </pre>
+ */
+public class TournamentRunner {
+
+    // Au-delà, le match est déclaré sans vainqueur
+    private static final long MAX_MATCH_TICKS = 200_000 / GameSimulation.TICK_MILLIS;
+
+    // Comme à l'écran, une mort n'est résolue qu'à la fin de son animation : le joueur ne perd
+    // qu'une vie par explosion et l'adversaire continue de jouer pendant ce temps
+    private static final long DEATH_RESOLUTION_TICKS =
+            (BombermanAnimator.getDeathAnimationDuration() + GameSimulation.TICK_MILLIS - 1) / GameSimulation.TICK_MILLIS;
+
+    /**
+     * Issue d'un match, vue par le réglage A
+     */
+    public enum Outcome {
+        A_WINS, B_WINS, DRAW, TIMEOUT
+    }
+
+    /**
+     * Cause de la mort d'un joueur
+     */
+    public enum DeathCause {
+        OWN_BOMB,       // Flammes de ses propres bombes
+        OPPONENT_BOMB,  // Flammes des bombes de l'adversaire
+        BOMB_RAIN,      // Flammes d'une bombe de Bomb Rain
+        ENEMY,          // Contact avec un ennemi
+        TIMER           // Timer global expiré
+    }
+
+    /**
+     * Résultat d'un match
+     */
+    public static class MatchResult {
+        private final long seed;
+        private final Outcome outcome;
+        private final long ticks;
+        private final int[] bombsPlaced = new int[2];                        // Index 0 : A, 1 : B
+        private final int[][] deaths = new int[2][DeathCause.values().length];
+        private final int[] searchDecisions = new int[2];                    // Recherche MCTS
+        private final long[] searchPlayouts = new long[2];
+        private final long[] searchNanos = new long[2];
+
+        private MatchResult(long seed, Outcome outcome, long ticks) {
+            this.seed = seed;
+            this.outcome = outcome;
+            this.ticks = ticks;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+    }
+
+    /**
+     * Un match : la simulation VS MACHINE dont le bot intégré pilote le joueur 2,
+     * et un second bot qui pilote le joueur 1 à la place du joueur humain
+     */
+    private static class Match implements SimulationListener, Callable<MatchResult> {
+        private final long seed;
+        private final boolean aPlaysFirst;
+        private final GameSimulation simulation;
+        private final AIBot player1Bot;
+
+        // Recherche MCTS du joueur 1 (null pour la liste de priorités) et sa décision en attente
+        private final MctsPlanner player1Planner;
+        private final SplittableRandom player1Seeds;
+        private AIBot.Decision player1Decision;
+        private long player1DecisionTick;
+
+        // Propriétaire des bombes posées, par case, puis des explosions qu'elles créent
+        private final FluidMovementPlayer[] bombOwnerByCell;
+        private final Map<Explosion, FluidMovementPlayer> explosionOwners = new IdentityHashMap<>();
+
+        private final int[] bombsPlaced = new int[2];
+        private final int[][] deaths = new int[2][DeathCause.values().length];
+
+        // Morts en cours d'animation et tick de leur résolution
+        private final List<FluidMovementPlayer> dyingPlayers = new ArrayList<>();
+        private final List<Long> resolutionTicks = new ArrayList<>();
+
+        Match(long seed, AIBot.Parameters a, AIBot.Parameters b, int columns, int rows) {
+            this.seed = seed;
+            this.aPlaysFirst = (seed & 1) == 0;
+            this.simulation = new GameSimulation(false, true, true, null, seed, columns, rows);
+            simulation.setBotParameters(aPlaysFirst ? b : a);
+            simulation.setListener(this);
+            simulation.setAutoResolveDeaths(false);
+            simulation.newGame();
+            simulation.startLevel();
+            AIBot.Parameters player1Parameters = aPlaysFirst ? a : b;
+            this.player1Bot = new AIBot(simulation, simulation.getPlayer(), simulation.getPlayer2(),
+                    player1Parameters, new SplittableRandom(seed));
+            this.player1Planner = player1Parameters.getDifficulty() == AIBot.Difficulty.MCTS
+                    ? new MctsPlanner(player1Parameters)
+                    : null;
+            this.player1Seeds = new SplittableRandom(~seed);
+            this.bombOwnerByCell = new FluidMovementPlayer[columns * rows];
+        }
+
+        @Override
+        public MatchResult call() {
+            FluidMovementPlayer player1 = simulation.getPlayer();
+            while (simulation.isTicking() && simulation.getTickCount() < MAX_MATCH_TICKS) {
+                resolveDueDeaths();
+                if (!simulation.isTicking()) {
+                    break;
+                }
+                // Même règle que le bot intégré : décider avant le tick, seulement en vie
+                if (player1.isAlive()) {
+                    if (player1Planner != null) {
+                        updatePlayer1Search();
+                    } else {
+                        player1Bot.update();
+                    }
+                }
+                simulation.runTicks(1);
+            }
+
+            FluidMovementPlayer winner = simulation.getBattleWinner();
+            Outcome outcome;
+            if (winner != null) {
+                outcome = sideOf(winner) == 0 ? Outcome.A_WINS : Outcome.B_WINS;
+            } else if (simulation.isGameOver()) {
+                outcome = Outcome.DRAW;
+            } else {
+                outcome = Outcome.TIMEOUT;
+            }
+            MatchResult result = new MatchResult(seed, outcome, simulation.getTickCount());
+            System.arraycopy(bombsPlaced, 0, result.bombsPlaced, 0, 2);
+            for (int side = 0; side < 2; side++) {
+                System.arraycopy(deaths[side], 0, result.deaths[side], 0, deaths[side].length);
+            }
+            addSearchStatistics(result, player1Planner, sideOf(player1));
+            addSearchStatistics(result, simulation.getAIScheduler().getMctsPlanner(), sideOf(simulation.getPlayer2()));
+            return result;
+        }
+
+        /**
+         * Bot MCTS du joueur 1 : même délai que le bot intégré (AIScheduler), la décision prise sur la
+         * position capturée n'est appliquée que MctsPlanner.LATENCY_TICKS ticks plus tard
+         */
+        private void updatePlayer1Search() {
+            long tick = simulation.getTickCount();
+            if (player1Decision != null && tick >= player1DecisionTick) {
+                player1Bot.apply(player1Decision);
+                player1Decision = null;
+            }
+            if (player1Decision == null && player1Bot.isDecisionDue()) {
+                player1Bot.markDecided();
+                int botIndex = simulation.getPlayers().indexOf(simulation.getPlayer());
+                player1Decision = player1Planner.plan(GameSnapshot.capture(simulation), botIndex,
+                        MctsPlanner.LATENCY_TICKS, player1Seeds.nextLong());
+                player1DecisionTick = tick + MctsPlanner.LATENCY_TICKS;
+            }
+        }
+
+        private static void addSearchStatistics(MatchResult result, MctsPlanner planner, int side) {
+            if (planner != null) {
+                result.searchDecisions[side] += planner.getDecisionCount();
+                result.searchPlayouts[side] += planner.getTotalPlayouts();
+                result.searchNanos[side] += planner.getTotalSearchNanos();
+            }
+        }
+
+        private void resolveDueDeaths() {
+            while (!dyingPlayers.isEmpty() && resolutionTicks.get(0) <= simulation.getTickCount()) {
+                resolutionTicks.remove(0);
+                if (simulation.resolveDeath(dyingPlayers.remove(0)) != GameSimulation.DeathOutcome.CONTINUE) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return 0 si le joueur est piloté par le réglage A, 1 s'il l'est par B
+         */
+        private int sideOf(FluidMovementPlayer p) {
+            boolean isPlayer1 = p == simulation.getPlayer();
+            return isPlayer1 == aPlaysFirst ? 0 : 1;
+        }
+
+        @Override
+        public void onBombPlaced(Bomb bomb) {
+            // Les bombes de Bomb Rain n'ont pas de propriétaire
+            FluidMovementPlayer owner = bomb.getOwner();
+            bombOwnerByCell[bomb.getY() * simulation.getColumns() + bomb.getX()] = owner;
+            if (owner != null) {
+                bombsPlaced[sideOf(owner)]++;
+            }
+        }
+
+        @Override
+        public void onBombExploded(Explosion explosion) {
+            int cell = explosion.getCenterY() * simulation.getColumns() + explosion.getCenterX();
+            explosionOwners.put(explosion, bombOwnerByCell[cell]);
+            bombOwnerByCell[cell] = null;
+        }
+
+        @Override
+        public void onPlayersDying(List<FluidMovementPlayer> dyingPlayers, boolean gameFrozen) {
+            for (FluidMovementPlayer p : dyingPlayers) {
+                deaths[sideOf(p)][causeOfDeath(p).ordinal()]++;
+                this.dyingPlayers.add(p);
+                resolutionTicks.add(simulation.getTickCount() + DEATH_RESOLUTION_TICKS);
+            }
+        }
+
+        private DeathCause causeOfDeath(FluidMovementPlayer p) {
+            if (simulation.isInExplosion(p.getX(), p.getY())) {
+                // Une case peut être dans plusieurs flammes : celles de l'adversaire priment
+                DeathCause cause = DeathCause.BOMB_RAIN;
+                for (Explosion explosion : simulation.getActiveExplosions()) {
+                    if (explosion.isActive() && explosion.contains(p.getX(), p.getY())) {
+                        FluidMovementPlayer owner = explosionOwners.get(explosion);
+                        if (owner != null && owner != p) {
+                            return DeathCause.OPPONENT_BOMB;
+                        }
+                        if (owner == p) {
+                            cause = DeathCause.OWN_BOMB;
+                        }
+                    }
+                }
+                return cause;
+            }
+            return simulation.isEnemyAt(p.getX(), p.getY(), null) ? DeathCause.ENEMY : DeathCause.TIMER;
+        }
+    }
+
+    private final AIBot.Parameters parametersA;
+    private final AIBot.Parameters parametersB;
+    private final int threads;
+    private int columns = GameSimulation.GRID_COLUMNS;
+    private int rows = GameSimulation.GRID_ROWS;
+
+    /**
+     * Constructeur du tournoi
+     * @param parametersA Réglages du bot A
+     * @param parametersB Réglages du bot B
+     * @param threads Nombre de threads de travail
+     */
+    public TournamentRunner(AIBot.Parameters parametersA, AIBot.Parameters parametersB, int threads) {
+        this.parametersA = parametersA;
+        this.parametersB = parametersB;
+        this.threads = threads;
+    }
+
+    /**
+     * Fait jouer les matchs suivants sur une arène personnalisée (arène standard par défaut)
+     * @param columns Nombre de colonnes de l'arène
+     * @param rows Nombre de lignes de l'arène
+     */
+    public void setArena(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Joue un match par graine de la plage [firstSeed, firstSeed + matchCount)
+     * @param firstSeed Première graine
+     * @param matchCount Nombre de matchs
+     * @return Les résultats, dans l'ordre des graines
+     * @throws InterruptedException Si le tournoi est interrompu
+     */
+    public List<MatchResult> run(long firstSeed, int matchCount) throws InterruptedException {
+        List<Callable<MatchResult>> matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            long seed = firstSeed + i;
+            // Création sur le thread de travail : chaque simulation reste confinée à son thread
+            matches.add(() -> new Match(seed, parametersA, parametersB, columns, rows).call());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<MatchResult> results = new ArrayList<>(matchCount);
+            for (Future<MatchResult> future : executor.invokeAll(matches)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'un match du tournoi", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Affiche les statistiques agrégées du tournoi
+     * @param results Résultats des matchs
+     * @param elapsedNanos Durée du tournoi
+     */
+    public void printSummary(List<MatchResult> results, long elapsedNanos) {
+        int[] outcomes = new int[Outcome.values().length];
+        long totalTicks = 0;
+        long shortestTicks = Long.MAX_VALUE;
+        long longestTicks = 0;
+        long[] bombs = new long[2];
+        long[][] deaths = new long[2][DeathCause.values().length];
+        long[] searchDecisions = new long[2];
+        long[] searchPlayouts = new long[2];
+        long[] searchNanos = new long[2];
+        for (MatchResult result : results) {
+            outcomes[result.outcome.ordinal()]++;
+            totalTicks += result.ticks;
+            shortestTicks = Math.min(shortestTicks, result.ticks);
+            longestTicks = Math.max(longestTicks, result.ticks);
+            for (int side = 0; side < 2; side++) {
+                bombs[side] += result.bombsPlaced[side];
+                for (int cause = 0; cause < deaths[side].length; cause++) {
+                    deaths[side][cause] += result.deaths[side][cause];
+                }
+                searchDecisions[side] += result.searchDecisions[side];
+                searchPlayouts[side] += result.searchPlayouts[side];
+                searchNanos[side] += result.searchNanos[side];
+            }
+        }
+
+        int count = Math.max(1, results.size());
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%d matchs en %.1f s (%.0f matchs/s, %d threads, %.0f ticks/s)%n", results.size(), seconds,
+                results.size() / seconds, threads, totalTicks / seconds);
+        System.out.printf("A (%s) : %.1f%% de victoires%n", parametersA, 100.0 * outcomes[Outcome.A_WINS.ordinal()] / count);
+        System.out.printf("B (%s) : %.1f%% de victoires%n", parametersB, 100.0 * outcomes[Outcome.B_WINS.ordinal()] / count);
+        System.out.printf("Matchs nuls : %.1f%%, sans vainqueur après %d ticks : %.1f%%%n",
+                100.0 * outcomes[Outcome.DRAW.ordinal()] / count, MAX_MATCH_TICKS,
+                100.0 * outcomes[Outcome.TIMEOUT.ordinal()] / count);
+        System.out.printf("Durée des matchs : moyenne %.1f s, min %.1f s, max %.1f s%n",
+                totalTicks * GameSimulation.TICK_MILLIS / 1000.0 / count,
+                (results.isEmpty() ? 0 : shortestTicks) * GameSimulation.TICK_MILLIS / 1000.0,
+                longestTicks * GameSimulation.TICK_MILLIS / 1000.0);
+        for (int side = 0; side < 2; side++) {
+            StringBuilder line = new StringBuilder(side == 0 ? "A" : "B");
+            line.append(String.format(" : %.1f bombes/match, morts :", (double) bombs[side] / count));
+            for (DeathCause cause : DeathCause.values()) {
+                line.append(' ').append(cause).append('=').append(deaths[side][cause.ordinal()]);
+            }
+            System.out.println(line);
+        }
+        for (int side = 0; side < 2; side++) {
+            if (searchDecisions[side] > 0) {
+                System.out.printf("%s : MCTS, %d rollouts par décision, %.0f rollouts/s par thread de recherche%n",
+                        side == 0 ? "A" : "B", searchPlayouts[side] / searchDecisions[side],
+                        searchPlayouts[side] * 1_000_000_000.0 / Math.max(1, searchNanos[side]));
+            }
+        }
+    }
+
+    /**
+     * Réglages d'un bot de la ligne de commande : MCTS dès qu'un budget de rollouts ou de temps est donné
+     */
+    private static AIBot.Parameters parameters(long interval, double bombChance, int playouts, long searchTimeMillis) {
+        if (playouts <= 0 && searchTimeMillis <= 0) {
+            return new AIBot.Parameters(interval, bombChance);
+        }
+        return new AIBot.Parameters(interval, bombChance, AIBot.Difficulty.MCTS, 1, searchTimeMillis,
+                playouts > 0 ? playouts : MctsPlanner.UNLIMITED_PLAYOUTS);
+    }
+
+    /**
+     * Lance un tournoi depuis la ligne de commande (options --nom=valeur, voir la documentation de la classe)
+     * @param args Options du tournoi
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int matches = 1000;
+        long firstSeed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long intervalA = AIBot.Parameters.DEFAULT.getDecisionIntervalMillis();
+        long intervalB = intervalA;
+        double bombChanceA = AIBot.Parameters.DEFAULT.getRandomBombChance();
+        double bombChanceB = bombChanceA;
+        int playoutsA = 0;
+        int playoutsB = 0;
+        long searchTimeA = 0;
+        long searchTimeB = 0;
+        int[] arena = {GameSimulation.GRID_COLUMNS, GameSimulation.GRID_ROWS};
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                System.out.println("Option invalide : " + arg + " (attendu --nom=valeur)");
+                return;
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "matches": matches = Integer.parseInt(value); break;
+                case "first-seed": firstSeed = Long.parseLong(value); break;
+                case "threads": threads = Integer.parseInt(value); break;
+                case "a.interval": intervalA = Long.parseLong(value); break;
+                case "b.interval": intervalB = Long.parseLong(value); break;
+                case "a.bomb-chance": bombChanceA = Double.parseDouble(value); break;
+                case "b.bomb-chance": bombChanceB = Double.parseDouble(value); break;
+                case "a.mcts-playouts": playoutsA = Integer.parseInt(value); break;
+                case "b.mcts-playouts": playoutsB = Integer.parseInt(value); break;
+                case "a.mcts-time": searchTimeA = Long.parseLong(value); break;
+                case "b.mcts-time": searchTimeB = Long.parseLong(value); break;
+                case "arena":
+                    try {
+                        arena = GameSimulation.parseArenaSize(value);
+                    } catch (IllegalArgumentException e) {
+                        System.out.println(e.getMessage());
+                        return;
+                    }
+                    break;
+                default:
+                    System.out.println("Option inconnue : " + name);
+                    return;
+            }
+        }
+
+        GameLog.setLevel(GameLog.Level.WARN);
+        SoundManager.setEffectsEnabled(false);
+
+        TournamentRunner runner = new TournamentRunner(parameters(intervalA, bombChanceA, playoutsA, searchTimeA),
+                parameters(intervalB, bombChanceB, playoutsB, searchTimeB), threads);
+        runner.setArena(arena[0], arena[1]);
+        long start = System.nanoTime();
+        List<MatchResult> results = runner.run(firstSeed, matches);
+        runner.printSummary(results, System.nanoTime() - start);
+        GameLog.flush();
+    }
+}
@@ -0,0 +1,226 @@
+package bomberman.bomberman;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests du Bitboard : gardes de fin de ligne, décalages, lecture de lignes et distances,
+ * comparés case par case à une grille de booléens.
+ *
+ * Les largeurs testées couvrent chaque disposition des couloirs : 15 colonnes (couloirs de 16 bits,
+ * quatre lignes par long), 31 (couloirs de 32 bits, plus grande largeur lisible par getRow),
+ * 32 (couloirs de 64 bits) et 255 (couloirs de 256 bits sur quatre longs).
+ */
+public class BitboardTest {
+
+    private static final int[][] SIZES = {{15, 13}, {31, 7}, {32, 9}, {255, 5}};
+    private static final int[] DIRECTIONS = {Explosion.UP, Explosion.DOWN, Explosion.LEFT, Explosion.RIGHT};
+    private static final int[] DIRECTION_DX = {0, 0, -1, 1};
+    private static final int[] DIRECTION_DY = {-1, 1, 0, 0};
+
+    @Test
+    public void fillSetsOnlyGridCells() {
+        for (int[] size : SIZES) {
+            Bitboard board = new Bitboard(size[0], size[1]);
+            board.fill();
+            assertEquals(size[0] * size[1], board.count(), size[0] + "x" + size[1]);
+            assertFalse(board.get(size[0], 0), "garde de fin de ligne");
+            assertFalse(board.get(-1, 0));
+            assertFalse(board.get(0, size[1]));
+        }
+    }
+
+    @Test
+    public void horizontalShiftsNeverCrossRowEnds() {
+        for (int[] size : SIZES) {
+            int columns = size[0];
+            int rows = size[1];
+            Bitboard board = new Bitboard(columns, rows);
+            for (int row = 0; row < rows; row++) {
+                board.set(columns - 1, row);
+            }
+            board.shift(Explosion.RIGHT);
+            assertTrue(board.isEmpty(), "dernière colonne décalée à droite (" + columns + " colonnes)");
+
+            for (int row = 0; row < rows; row++) {
+                board.set(0, row);
+            }
+            board.shift(Explosion.LEFT);
+            assertTrue(board.isEmpty(), "première colonne décalée à gauche (" + columns + " colonnes)");
+        }
+    }
+
+    @Test
+    public void verticalShiftsMoveToNeighbourRows() {
+        for (int[] size : SIZES) {
+            int columns = size[0];
+            int rows = size[1];
+            Bitboard board = new Bitboard(columns, rows);
+            board.set(columns - 1, 0);
+            board.shift(Explosion.DOWN);
+            assertTrue(board.get(columns - 1, 1));
+            assertEquals(1, board.count());
+            board.shift(Explosion.UP);
+            board.shift(Explosion.UP);
+            assertTrue(board.isEmpty(), "première ligne décalée vers le haut (" + columns + " colonnes)");
+
+            board.set(0, rows - 1);
+            board.shift(Explosion.DOWN);
+            assertTrue(board.isEmpty(), "dernière ligne décalée vers le bas (" + columns + " colonnes)");
+        }
+    }
+
+    @Test
+    public void shiftsMatchCellByCellMove() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int[] size : SIZES) {
+            int columns = size[0];
+            int rows = size[1];
+            for (int trial = 0; trial < 20; trial++) {
+                boolean[][] cells = randomCells(random, columns, rows);
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    Bitboard board = toBitboard(cells);
+                    board.shift(DIRECTIONS[d]);
+                    for (int row = 0; row < rows; row++) {
+                        for (int column = 0; column < columns; column++) {
+                            int fromColumn = column - DIRECTION_DX[d];
+                            int fromRow = row - DIRECTION_DY[d];
+                            boolean expected = fromColumn >= 0 && fromColumn < columns && fromRow >= 0 && fromRow < rows
+                                    && cells[fromRow][fromColumn];
+                            assertEquals(expected, board.get(column, row),
+                                    columns + "x" + rows + " direction " + DIRECTIONS[d] + " case (" + column + ", " + row + ")");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getRowMatchesCells() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int[] size : new int[][] {{15, 13}, {31, 7}}) {
+            boolean[][] cells = randomCells(random, size[0], size[1]);
+            Bitboard board = toBitboard(cells);
+            for (int row = 0; row < size[1]; row++) {
+                assertEquals(rowBits(cells[row]), board.getRow(row), size[0] + " colonnes, ligne " + row);
+            }
+        }
+    }
+
+    @Test
+    public void getRowRejectsWideGrids() {
+        assertThrows(IllegalStateException.class, () -> new Bitboard(32, 9).getRow(0));
+        assertThrows(IllegalStateException.class, () -> new Bitboard(255, 5).getRow(0));
+    }
+
+    @Test
+    public void distancesMatchLinearScan() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int trial = 0; trial < 2000; trial++) {
+            int row = random.nextInt() & 0x7FFFFFFF; // Garde de la colonne 31 toujours vide
+            for (int position = 0; position < Bitboard.MAX_ROW_COLUMNS; position++) {
+                assertEquals(scan(row, position, 1), Bitboard.distanceToNext(row, position), "ligne " + row + " position " + position);
+                assertEquals(scan(row, position, -1), Bitboard.distanceToPrevious(row, position), "ligne " + row + " position " + position);
+            }
+        }
+        assertEquals(0, Bitboard.distanceToNext(0, 0));
+        assertEquals(0, Bitboard.distanceToPrevious(0x7FFFFFFF, 0));
+        assertEquals(0, Bitboard.distanceToNext(0x7FFFFFFF, 30));
+    }
+
+    @Test
+    public void blastArmsFromRowReadsMatchCellByCellWalk() {
+        // Grilles d'au plus 31 colonnes : Grid lit les branches d'explosion dans les lignes de bitboard
+        for (int[] size : new int[][] {{15, 13}, {31, 31}, {29, 17}}) {
+            for (long seed = 1; seed <= 3; seed++) {
+                Grid grid = new Grid(size[0], size[1], (int) seed, false, false, size[0] - 2, size[1] - 2,
+                        new SplittableRandom(seed));
+                for (int row = 0; row < size[1]; row++) {
+                    for (int column = 0; column < size[0]; column++) {
+                        if (grid.getTileType(column, row) != TileType.EMPTY) {
+                            continue;
+                        }
+                        for (int d = 0; d < DIRECTIONS.length; d++) {
+                            for (int range = 1; range <= 8; range++) {
+                                assertEquals(walkArm(grid, column, row, d, range),
+                                        grid.getBlastArmLength(column, row, DIRECTIONS[d], range, null),
+                                        size[0] + "x" + size[1] + " graine " + seed + " case (" + column + ", " + row
+                                                + ") direction " + DIRECTIONS[d] + " portée " + range);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // ========== RÉFÉRENCES ==========
+
+    private static boolean[][] randomCells(SplittableRandom random, int columns, int rows) {
+        boolean[][] cells = new boolean[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                cells[row][column] = random.nextInt(3) == 0;
+            }
+        }
+        return cells;
+    }
+
+    private static Bitboard toBitboard(boolean[][] cells) {
+        Bitboard board = new Bitboard(cells[0].length, cells.length);
+        for (int row = 0; row < cells.length; row++) {
+            for (int column = 0; column < cells[row].length; column++) {
+                if (cells[row][column]) {
+                    board.set(column, row);
+                }
+            }
+        }
+        return board;
+    }
+
+    private static int rowBits(boolean[] row) {
+        int bits = 0;
+        for (int column = 0; column < row.length; column++) {
+            if (row[column]) {
+                bits |= 1 << column;
+            }
+        }
+        return bits;
+    }
+
+    private static int scan(int row, int position, int step) {
+        for (int distance = 1; position + step * distance >= 0 && position + step * distance < Integer.SIZE; distance++) {
+            if ((row & (1 << (position + step * distance))) != 0) {
+                return distance;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Branche d'explosion parcourue case par case : un bloc solide l'arrête avant lui, un bloc destructible sur lui
+     */
+    private static int walkArm(Grid grid, int column, int row, int direction, int range) {
+        for (int i = 1; i <= range; i++) {
+            int x = column + DIRECTION_DX[direction] * i;
+            int y = row + DIRECTION_DY[direction] * i;
+            if (x < 0 || y < 0 || x >= grid.getColumns() || y >= grid.getRows()) {
+                return i - 1;
+            }
+            TileType tile = grid.getTileType(x, y);
+            if (tile == TileType.SOLID) {
+                return i - 1;
+            }
+            if (tile == TileType.DESTRUCTIBLE) {
+                return i;
+            }
+        }
+        return range;
+    }
+}
@@ -0,0 +1,204 @@
+package bomberman.bomberman;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests de GameSnapshot : une partie restaurée depuis un instantané rejoue exactement la même suite de ticks
+ * que la partie d'origine, et un instantané d'une autre version, tronqué ou corrompu est refusé à la lecture.
+ */
+public class GameSnapshotTest {
+
+    private static final KeyCode[] KEYS = {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT, KeyCode.SPACE,
+            KeyCode.Z, KeyCode.S, KeyCode.Q, KeyCode.D, KeyCode.A};
+
+    // Modes de jeu : coopération, battle, VS machine
+    private static final boolean[][] MODES = {{false, false, false}, {true, false, false}, {false, true, false}, {false, true, true}};
+
+    // Position des cases de la grille dans l'instantané : en-tête (8 octets), horloge, états et flux aléatoires
+    // de la simulation, puis dimensions et départs de la grille (12 octets). Suivent les propriétés des cases,
+    // puis les power-ups cachés, chaque couche ligne par ligne.
+    private static final int CELLS_OFFSET = 8 + 8 + 1 + 3 * 8 + 8 + 1 + 1 + 2 + 8 * GameRandom.Stream.values().length + 12;
+
+    private static final int CAPTURE_TICK = 600;
+    private static final int REPLAYED_TICKS = 1800;
+
+    @BeforeEach
+    public void quietLog() {
+        GameLog.setLevel(GameLog.Level.ERROR);
+    }
+
+    @Test
+    public void restoredGameReplaysSameTicks() {
+        for (boolean[] mode : MODES) {
+            for (long seed = 1; seed <= 3; seed++) {
+                GameSimulation original = startedGame(mode, seed);
+                drive(original, 0, CAPTURE_TICK);
+                GameSnapshot snapshot = GameSnapshot.capture(original);
+
+                GameSimulation copy = snapshot.createSimulation(null);
+                assertArrayEquals(snapshot.toByteArray(), GameSnapshot.capture(copy).toByteArray(),
+                        "capture de la copie restaurée, " + Arrays.toString(mode) + " graine " + seed);
+
+                long tick = original.getTickCount();
+                drive(original, tick, tick + REPLAYED_TICKS);
+                drive(copy, tick, tick + REPLAYED_TICKS);
+                assertArrayEquals(GameSnapshot.capture(original).toByteArray(), GameSnapshot.capture(copy).toByteArray(),
+                        "après " + REPLAYED_TICKS + " ticks, " + Arrays.toString(mode) + " graine " + seed);
+            }
+        }
+    }
+
+    @Test
+    public void restoreRollsBackSameSimulation() {
+        GameSimulation game = startedGame(MODES[2], 7);
+        drive(game, 0, CAPTURE_TICK);
+        GameSnapshot snapshot = GameSnapshot.capture(game);
+        long tick = game.getTickCount();
+
+        drive(game, tick, tick + REPLAYED_TICKS);
+        byte[] expected = GameSnapshot.capture(game).toByteArray();
+
+        snapshot.restore(game);
+        drive(game, tick, tick + REPLAYED_TICKS);
+        assertArrayEquals(expected, GameSnapshot.capture(game).toByteArray());
+    }
+
+    @Test
+    public void fileBytesRoundTrip() throws IOException {
+        GameSimulation game = startedGame(MODES[3], 11);
+        drive(game, 0, CAPTURE_TICK);
+        byte[] bytes = GameSnapshot.capture(game).toByteArray();
+
+        GameSnapshot read = GameSnapshot.fromByteArray(bytes);
+        assertEquals(bytes.length, read.size());
+        assertArrayEquals(bytes, read.toByteArray());
+    }
+
+    @Test
+    public void rejectsOtherVersion() {
+        byte[] bytes = GameSnapshot.capture(startedGame(MODES[0], 1)).toByteArray();
+        bytes[4]++;
+        assertThrows(IOException.class, () -> GameSnapshot.fromByteArray(bytes));
+    }
+
+    @Test
+    public void rejectsUnknownSignature() {
+        byte[] bytes = GameSnapshot.capture(startedGame(MODES[0], 1)).toByteArray();
+        bytes[0] = 0;
+        assertThrows(IOException.class, () -> GameSnapshot.fromByteArray(bytes));
+    }
+
+    @Test
+    public void rejectsTruncatedBytes() {
+        GameSimulation game = startedGame(MODES[2], 5);
+        drive(game, 0, CAPTURE_TICK);
+        byte[] bytes = GameSnapshot.capture(game).toByteArray();
+        for (int length : new int[] {0, 3, 5, 8, 40, bytes.length / 2, bytes.length - 1}) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> GameSnapshot.fromByteArray(truncated), length + " octets sur " + bytes.length);
+        }
+    }
+
+    @Test
+    public void rejectsTrailingBytes() {
+        byte[] bytes = GameSnapshot.capture(startedGame(MODES[1], 3)).toByteArray();
+        assertThrows(IOException.class, () -> GameSnapshot.fromByteArray(Arrays.copyOf(bytes, bytes.length + 4)));
+    }
+
+    @Test
+    public void rejectsCorruptTile() throws IOException {
+        GameSimulation game = startedGame(MODES[0], 2);
+        byte[] bytes = GameSnapshot.capture(game).toByteArray();
+        int cell = CELLS_OFFSET + game.getColumns() + 2; // Case (2, 1)
+        assertEquals(game.getGrid().getTileType(2, 1).ordinal(), bytes[cell], "position des cases dans l'instantané");
+        GameSnapshot.fromByteArray(bytes);
+
+        bytes[cell] = (byte) TileType.values().length;
+        assertRejected("Case invalide", bytes);
+        bytes[cell] = (byte) 0xFF;
+        assertRejected("Case invalide", bytes);
+    }
+
+    @Test
+    public void rejectsCorruptHiddenPowerUp() {
+        GameSimulation game = startedGame(MODES[0], 2);
+        Grid grid = game.getGrid();
+        byte[] bytes = GameSnapshot.capture(game).toByteArray();
+        int cellCount = game.getColumns() * game.getRows();
+        int destructibleWithout = -1;
+        int destructibleWith = -1;
+        for (int row = 0; row < game.getRows(); row++) {
+            for (int column = 0; column < game.getColumns(); column++) {
+                if (grid.getTileType(column, row) == TileType.DESTRUCTIBLE) {
+                    int index = row * game.getColumns() + column;
+                    if (grid.hasHiddenPowerUp(column, row)) {
+                        destructibleWith = index;
+                    } else {
+                        destructibleWithout = index;
+                    }
+                }
+            }
+        }
+        assertTrue(destructibleWith >= 0 && destructibleWithout >= 0, "grille avec et sans power-ups cachés");
+        int powerUps = CELLS_OFFSET + 2 * cellCount;
+
+        // Power-up dans une case vide (départ du joueur 1)
+        byte[] onEmpty = bytes.clone();
+        onEmpty[powerUps + grid.getSpawnY(0) * game.getColumns() + grid.getSpawnX(0)] = 1;
+        assertRejected("Power-up hors d'un bloc destructible", onEmpty);
+
+        // Code de power-up inconnu
+        byte[] unknown = bytes.clone();
+        unknown[powerUps + destructibleWith] = (byte) (PowerUpType.values().length + 1);
+        assertRejected("Power-up invalide", unknown);
+
+        // Power-up ajouté sans mettre à jour le compteur
+        byte[] uncounted = bytes.clone();
+        uncounted[powerUps + destructibleWithout] = 1;
+        assertRejected("Nombre de power-ups cachés incohérent", uncounted);
+    }
+
+    // ========== PARTIES ==========
+
+    private static GameSimulation startedGame(boolean[] mode, long seed) {
+        GameSimulation game = new GameSimulation(mode[0], mode[1], mode[2], null, seed);
+        game.newGame();
+        game.startLevel();
+        return game;
+    }
+
+    private static void assertRejected(String expectedMessage, byte[] bytes) {
+        IOException e = assertThrows(IOException.class, () -> GameSnapshot.fromByteArray(bytes));
+        assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+    }
+
+    /**
+     * Joue les ticks [from, to) avec des touches tirées d'après le numéro de tick : deux parties au même tick
+     * reçoivent les mêmes commandes
+     */
+    private static void drive(GameSimulation game, long from, long to) {
+        for (long tick = from; tick < to && game.isTicking(); tick++) {
+            if (tick % 20 == 0) {
+                SplittableRandom input = new SplittableRandom(tick);
+                KeyCode pressed = KEYS[input.nextInt(KEYS.length)];
+                game.keyPressed(pressed);
+                for (KeyCode key : KEYS) {
+                    if (key != pressed && input.nextBoolean()) {
+                        game.keyReleased(key);
+                    }
+                }
+            }
+            game.runTicks(1);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package bomberman.bomberman;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests de Level : aller-retour entre format texte et enregistrement binaire, refus des textes invalides
+ * par parse et des enregistrements incohérents à la construction (et donc à l'ouverture d'un recueil).
+ */
+public class LevelTest {
+
+    // Niveau 7x7 : porte en (3, 3), départs en (1, 1) et (5, 5), ennemis en (5, 1) et (1, 5)
+    private static final List<String> SMALL_LEVEL = List.of(
+            "#######",
+            "#1.+.E#",
+            "#.#B#.#",
+            "#+.D.+#",
+            "#.#.#.#",
+            "#E.F.2#",
+            "#######");
+
+    // Positions dans l'enregistrement binaire du petit niveau (deux ennemis)
+    private static final int EXIT_OFFSET = 2;
+    private static final int SPAWN_OFFSET = 4;
+    private static final int FIRST_ENEMY_OFFSET = 14;
+    private static final int TILES_OFFSET = FIRST_ENEMY_OFFSET + 2 * 2;
+
+    @Test
+    public void parseReadsSymbols() {
+        Level level = Level.parse(SMALL_LEVEL);
+        assertEquals(7, level.getColumns());
+        assertEquals(7, level.getRows());
+        assertTrue(level.hasExitDoor());
+        assertEquals(3, level.getExitDoorX());
+        assertEquals(3, level.getExitDoorY());
+        assertEquals(TileType.DESTRUCTIBLE, level.getTile(3, 3));
+        assertEquals(1, level.getSpawnX(0));
+        assertEquals(5, level.getSpawnY(1));
+        assertFalse(level.hasSpawn(2));
+        assertEquals(2, level.getEnemyCount());
+        assertEquals(5, level.getEnemyX(0));
+        assertEquals(1, level.getEnemyY(0));
+        assertEquals(PowerUpType.values()[0], level.getHiddenPowerUp(3, 2));
+        assertEquals(PowerUpType.values()[1], level.getHiddenPowerUp(3, 5));
+        assertEquals(TileType.SOLID, level.getTile(2, 2));
+        assertEquals(TileType.EMPTY, level.getTile(2, 1));
+    }
+
+    @Test
+    public void textRoundTrip() throws IOException {
+        // Niveau d'exemple livré avec le jeu, relatif au répertoire du projet
+        List<List<String>> texts = List.of(SMALL_LEVEL, Files.readAllLines(Path.of("levels", "exemple-15x13.txt")));
+        for (List<String> lines : texts) {
+            Level level = Level.parse(lines);
+            String text = level.toText();
+            Level reparsed = Level.parse(Arrays.asList(text.split("\n")));
+            assertEquals(text, reparsed.toText());
+            assertArrayEquals(record(level), record(reparsed));
+        }
+        assertEquals(String.join("\n", SMALL_LEVEL) + "\n", Level.parse(SMALL_LEVEL).toText());
+    }
+
+    @Test
+    public void parseSkipsCommentsAndBlankLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("// Commentaire");
+        lines.add("");
+        lines.addAll(SMALL_LEVEL);
+        lines.add("   ");
+        assertArrayEquals(record(Level.parse(SMALL_LEVEL)), record(Level.parse(lines)));
+    }
+
+    @Test
+    public void recordRoundTrip() {
+        byte[] bytes = record(Level.parse(SMALL_LEVEL));
+        Level level = new Level(ByteBuffer.wrap(bytes));
+        assertEquals(bytes.length, level.byteSize());
+        assertEquals(String.join("\n", SMALL_LEVEL) + "\n", level.toText());
+    }
+
+    // ========== TEXTES REFUSÉS ==========
+
+    @Test
+    public void parseRejectsSecondDoor() {
+        assertRejected("deuxième porte de sortie", withRow(3, "#+DD.+#"));
+    }
+
+    @Test
+    public void parseRejectsSecondSpawn() {
+        assertRejected("deuxième départ du joueur 1", withRow(5, "#E.F.1#"));
+    }
+
+    @Test
+    public void parseRejectsUnknownCharacter() {
+        assertRejected("caractère inconnu 'X'", withRow(1, "#1.X.E#"));
+    }
+
+    @Test
+    public void parseRejectsRaggedLine() {
+        assertRejected("caractères au lieu de 7", withRow(4, "#.#.#."));
+        assertRejected("caractères au lieu de 7", withRow(4, "#.#.#.##"));
+    }
+
+    @Test
+    public void parseRejectsEvenDimensions() {
+        List<String> evenRows = new ArrayList<>(SMALL_LEVEL);
+        evenRows.add("#######");
+        assertRejected("Dimensions de niveau invalides", evenRows);
+
+        List<String> evenColumns = new ArrayList<>();
+        for (String line : SMALL_LEVEL) {
+            evenColumns.add(line + "#");
+        }
+        assertRejected("Dimensions de niveau invalides", evenColumns);
+        assertRejected("Dimensions de niveau invalides", List.of("#####", "#1..#", "#...#", "#...#", "#####"));
+    }
+
+    @Test
+    public void parseRejectsEmptyText() {
+        assertRejected("Niveau vide", List.of("// Rien", ""));
+    }
+
+    // ========== ENREGISTREMENTS REFUSÉS ==========
+
+    @Test
+    public void rejectsTruncatedRecord() {
+        byte[] bytes = record(Level.parse(SMALL_LEVEL));
+        for (int length : new int[] {0, 10, TILES_OFFSET, bytes.length - 1}) {
+            ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(bytes, length));
+            assertThrows(IllegalArgumentException.class, () -> new Level(truncated), length + " octets");
+        }
+    }
+
+    @Test
+    public void rejectsInconsistentRecords() {
+        assertInvalid("hors de la grille", FIRST_ENEMY_OFFSET, 7);
+        assertInvalid("sur une case SOLID", FIRST_ENEMY_OFFSET, 2, FIRST_ENEMY_OFFSET + 1, 2);
+        assertInvalid("Case invalide", tile(2, 1), 3);
+        assertInvalid("Power-up hors d'un bloc destructible", tile(2, 1), TileType.EMPTY.ordinal() | (1 << 2));
+        assertInvalid("Power-up invalide", tile(3, 2), TileType.DESTRUCTIBLE.ordinal() | ((PowerUpType.values().length + 1) << 2));
+        assertInvalid("Porte de sortie hors de la grille", EXIT_OFFSET, 9);
+        assertInvalid("Porte de sortie sur une case EMPTY", EXIT_OFFSET, 2);
+        assertInvalid("Départ du joueur 1 sur une case SOLID", SPAWN_OFFSET, 0, SPAWN_OFFSET + 1, 0);
+        assertInvalid("Départ du joueur 3 hors de la grille", SPAWN_OFFSET + 4, 1);
+        assertInvalid("Dimensions de niveau invalides", 0, 8);
+    }
+
+    @Test
+    public void packRejectsInconsistentLevel(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("niveaux.bml");
+        LevelPack.write(file, List.of(Level.parse(SMALL_LEVEL), Level.parse(SMALL_LEVEL)));
+        assertEquals(2, LevelPack.open(file).size());
+
+        // En-tête du recueil : 9 octets, puis une position par niveau ; le second niveau suit le premier
+        byte[] bytes = Files.readAllBytes(file);
+        int secondLevel = 9 + 4 * 2 + record(Level.parse(SMALL_LEVEL)).length;
+        bytes[secondLevel + tile(1, 1)] = (byte) TileType.SOLID.ordinal();
+        Files.write(file, bytes);
+        IOException e = assertThrows(IOException.class, () -> LevelPack.open(file));
+        assertTrue(e.getMessage().startsWith("Niveau 2 : Départ du joueur 1 sur une case SOLID"), e.getMessage());
+    }
+
+    // ========== OUTILS ==========
+
+    private static byte[] record(Level level) {
+        ByteBuffer buffer = ByteBuffer.allocate(level.byteSize());
+        level.write(buffer);
+        return buffer.array();
+    }
+
+    private static int tile(int column, int row) {
+        return TILES_OFFSET + row * SMALL_LEVEL.get(0).length() + column;
+    }
+
+    private static List<String> withRow(int row, String line) {
+        List<String> lines = new ArrayList<>(SMALL_LEVEL);
+        lines.set(row, line);
+        return lines;
+    }
+
+    private static void assertRejected(String expectedMessage, List<String> lines) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Level.parse(lines));
+        assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+    }
+
+    /**
+     * Modifie l'enregistrement du petit niveau (paires position, valeur) et vérifie qu'il est refusé
+     */
+    private static void assertInvalid(String expectedMessage, int... patches) {
+        byte[] bytes = record(Level.parse(SMALL_LEVEL));
+        for (int i = 0; i < patches.length; i += 2) {
+            bytes[patches[i]] = (byte) patches[i + 1];
+        }
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new Level(ByteBuffer.wrap(bytes)));
+        assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+    }
+}